@@ -13,16 +13,13 @@
  *******************************************************************************/
 package com.redhat.devtools.lsp4ij;
 
+import com.redhat.devtools.lsp4ij.features.diagnostics.CompactDiagnostics;
 import org.eclipse.lsp4j.Diagnostic;
-import org.eclipse.lsp4j.DiagnosticSeverity;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 
-import static com.redhat.devtools.lsp4ij.features.diagnostics.LSPDiagnosticUtils.isDiagnosticsChanged;
-
 /**
  * LSP closed document for a given language server.
  *
@@ -30,27 +27,26 @@ import static com.redhat.devtools.lsp4ij.features.diagnostics.LSPDiagnosticUtils
  */
 public class ClosedDocument extends LSPDocumentBase {
 
-    private List<Diagnostic> diagnostics;
-    private boolean hasErrors;
+    // The diagnostics of the closed files are stored in a compact form, because a language server can publish
+    // diagnostics for all files of the workspace
+    private CompactDiagnostics diagnostics = CompactDiagnostics.EMPTY;
 
     @Override
     public boolean updateDiagnostics(@NotNull String identifier,
                                      @NotNull List<Diagnostic> diagnostics) {
-        boolean changed = isDiagnosticsChanged(this.diagnostics != null ? this.diagnostics : Collections.emptyList(), diagnostics);
-        this.diagnostics = diagnostics;
-        hasErrors = diagnostics
-                .stream()
-                .anyMatch(diagnostic -> diagnostic.getSeverity() != null && diagnostic.getSeverity() == DiagnosticSeverity.Error);
+        // Compare the diagnostics in order without inflating the stored diagnostics
+        boolean changed = !this.diagnostics.isSameAs(diagnostics);
+        this.diagnostics = CompactDiagnostics.of(diagnostics);
         return changed;
     }
 
     @Override
     public Collection<Diagnostic> getDiagnostics() {
-        return diagnostics != null ? diagnostics : Collections.emptyList();
+        return diagnostics.inflate();
     }
 
     @Override
     public boolean hasErrors() {
-        return hasErrors;
+        return diagnostics.hasErrors();
     }
 }
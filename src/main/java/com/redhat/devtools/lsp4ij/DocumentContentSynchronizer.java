@@ -20,6 +20,8 @@ import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiDocumentManager;
 import com.intellij.util.Alarm;
 import com.redhat.devtools.lsp4ij.client.features.FileUriSupport;
+import com.redhat.devtools.lsp4ij.internal.LSPRequestScheduler.Priority;
+import com.redhat.devtools.lsp4ij.internal.PositionEncoding;
 import org.eclipse.lsp4j.*;
 import org.eclipse.lsp4j.jsonrpc.messages.Either;
 import org.eclipse.lsp4j.services.LanguageServer;
@@ -207,8 +209,9 @@ public class DocumentContentSynchronizer implements DocumentListener, Disposable
                 int length = event.getOldLength();
                 try {
                     // try to convert the Eclipse start/end offset to LS range.
-                    Range range = new Range(LSPIJUtils.toPosition(offset, document),
-                            LSPIJUtils.toPosition(offset + length, document));
+                    PositionEncoding encoding = languageServerWrapper.getClientFeatures().getPositionEncoding();
+                    Range range = new Range(LSPIJUtils.toPosition(offset, document, encoding),
+                            LSPIJUtils.toPosition(offset + length, document, encoding));
                     changeEvent.setRange(range);
                     changeEvent.setText(newText.toString());
                     changeEvent.setRangeLength(length);
@@ -379,8 +382,9 @@ public class DocumentContentSynchronizer implements DocumentListener, Disposable
         DocumentDiagnosticParams params = new DocumentDiagnosticParams();
         params.setIdentifier(getPullIdentifier());
         params.setTextDocument(new TextDocumentIdentifier(fileUri));
-        ls.getTextDocumentService()
-                .diagnostic(params)
+        // Pull diagnostics are background requests which must not delay the interactive requests (ex: completion)
+        languageServerWrapper.getRequestScheduler()
+                .schedule(Priority.BACKGROUND, () -> ls.getTextDocumentService().diagnostic(params))
                 .thenAcceptAsync(diagnosticReport -> {
                     if (diagnosticReport == null || (version != -1 && version != this.version)) {
                         // The document has changed, do nothing
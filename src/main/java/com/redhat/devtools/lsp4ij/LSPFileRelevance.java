@@ -0,0 +1,111 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.lsp4ij;
+
+import com.intellij.lang.Language;
+import com.intellij.openapi.fileTypes.FileType;
+import com.intellij.openapi.util.Key;
+import com.redhat.devtools.lsp4ij.server.definition.LanguageServerDefinition;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.BitSet;
+
+/**
+ * The LSP relevance of a file: the language server definitions which can possibly handle the file according to the
+ * registered file associations (language, file type, file name pattern).
+ *
+ * <p>
+ * Many extension points (external annotator, breadcrumbs, code vision, inlay hints) are called for all files opened
+ * in the IDE. The relevance is computed once per file, stored in the user data of the virtual file and reused until
+ * the file associations, the language, the file type or the name of the file change, so that those extension points
+ * exit in O(1) for a file which is not associated to a language server.
+ * </p>
+ *
+ * <p>
+ * The relevance doesn't take care of the document matchers and the enabled state of the associations: a relevant
+ * file is a file which <strong>can</strong> be handled by a language server.
+ * </p>
+ */
+@ApiStatus.Internal
+public final class LSPFileRelevance {
+
+    static final Key<LSPFileRelevance> RELEVANCE_KEY = Key.create("lsp.file.relevance");
+
+    static final LSPFileRelevance NOT_RELEVANT = new LSPFileRelevance(-1, null, null, "", new BitSet(0));
+
+    private final long modificationCount;
+    private final @Nullable Language language;
+    private final @Nullable FileType fileType;
+    private final @NotNull String fileName;
+    // bit i is set if the language server definition with the index i can handle the file
+    private final @NotNull BitSet serverDefinitions;
+
+    LSPFileRelevance(long modificationCount,
+                     @Nullable Language language,
+                     @Nullable FileType fileType,
+                     @NotNull String fileName,
+                     @NotNull BitSet serverDefinitions) {
+        this.modificationCount = modificationCount;
+        this.language = language;
+        this.fileType = fileType;
+        this.fileName = fileName;
+        this.serverDefinitions = serverDefinitions;
+    }
+
+    /**
+     * Returns true if the relevance has been computed with the given associations modification count, language, file
+     * type and file name and false otherwise.
+     */
+    boolean isUpToDate(long modificationCount,
+                       @Nullable Language language,
+                       @Nullable FileType fileType,
+                       @NotNull String fileName) {
+        return this.modificationCount == modificationCount &&
+                this.language == language &&
+                this.fileType == fileType &&
+                this.fileName.equals(fileName);
+    }
+
+    /**
+     * Returns true if at least one language server can handle the file and false otherwise.
+     *
+     * @return true if at least one language server can handle the file and false otherwise.
+     */
+    public boolean isRelevant() {
+        return !serverDefinitions.isEmpty();
+    }
+
+    /**
+     * Returns true if the given language server can handle the file and false otherwise.
+     *
+     * @param serverDefinition the language server definition.
+     * @return true if the given language server can handle the file and false otherwise.
+     */
+    public boolean isRelevant(@NotNull LanguageServerDefinition serverDefinition) {
+        if (serverDefinitions.isEmpty()) {
+            return false;
+        }
+        return serverDefinitions.get(LanguageServersRegistry.getInstance().getServerDefinitionIndex(serverDefinition));
+    }
+
+    @Override
+    public String toString() {
+        return "LSPFileRelevance{" +
+                "fileName='" + fileName + '\'' +
+                ", language=" + (language != null ? language.getID() : null) +
+                ", fileType=" + (fileType != null ? fileType.getName() : null) +
+                ", serverDefinitions=" + serverDefinitions +
+                ", modificationCount=" + modificationCount +
+                '}';
+    }
+}
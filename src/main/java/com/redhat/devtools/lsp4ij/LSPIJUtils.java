@@ -17,6 +17,7 @@ import com.intellij.openapi.application.ApplicationManager;
 import com.intellij.openapi.application.ReadAction;
 import com.intellij.openapi.application.WriteAction;
 import com.intellij.openapi.application.ex.ApplicationInfoEx;
+import com.intellij.openapi.command.CommandProcessor;
 import com.intellij.openapi.editor.Document;
 import com.intellij.openapi.editor.Editor;
 import com.intellij.openapi.editor.EditorFactory;
@@ -41,6 +42,9 @@ import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiManager;
 import com.redhat.devtools.lsp4ij.client.features.FileUriSupport;
+import com.redhat.devtools.lsp4ij.internal.BulkTextEditsApplier;
+import com.redhat.devtools.lsp4ij.internal.PositionEncoding;
+import com.redhat.devtools.lsp4ij.internal.PositionMapper;
 import com.redhat.devtools.lsp4ij.internal.SimpleLanguageUtils;
 import com.redhat.devtools.lsp4ij.internal.StringUtils;
 import com.redhat.devtools.lsp4ij.usages.LocationData;
@@ -665,6 +669,47 @@ public class LSPIJUtils {
         return Math.max(Math.min(lineOffset + character, nextLineOffset), lineOffset);
     }
 
+    /**
+     * Returns the offset of the given LSP position expressed with the given position encoding.
+     *
+     * @param position the LSP position.
+     * @param document the document.
+     * @param encoding the position encoding used by the language server.
+     * @return the offset of the given LSP position.
+     */
+    @ApiStatus.Internal
+    public static int toOffset(@NotNull Position position,
+                               @NotNull Document document,
+                               @NotNull PositionEncoding encoding) {
+        int line = position.getLine();
+        int character = position.getCharacter();
+        if (encoding == PositionEncoding.UTF16 || line < 0 || line >= document.getLineCount() || character == Integer.MAX_VALUE) {
+            return toOffset(line, character, document);
+        }
+        return encoding.toOffset(document.getImmutableCharSequence(), document.getLineStartOffset(line), document.getLineEndOffset(line), character);
+    }
+
+    /**
+     * Returns the LSP position, expressed with the given position encoding, from the given offset in the given document.
+     *
+     * @param offset   the offset.
+     * @param document the document.
+     * @param encoding the position encoding used by the language server.
+     * @return the LSP position.
+     */
+    @ApiStatus.Internal
+    public static Position toPosition(int offset,
+                                      @NotNull Document document,
+                                      @NotNull PositionEncoding encoding) {
+        if (encoding == PositionEncoding.UTF16) {
+            return toPosition(offset, document);
+        }
+        offset = Math.max(Math.min(offset, document.getTextLength()), 0);
+        int line = document.getLineNumber(offset);
+        int character = encoding.toCharacter(document.getImmutableCharSequence(), document.getLineStartOffset(line), offset);
+        return new Position(line, character);
+    }
+
     /**
      * Returns the LSP position from the given offset in the given document.
      *
@@ -779,6 +824,35 @@ public class LSPIJUtils {
         return toTextRange(range, document, file, adjust, -1);
     }
 
+    /**
+     * Returns the IJ {@link TextRange} from the given LSP range and null otherwise by using the given position mapper.
+     *
+     * @param range          the LSP range to convert.
+     * @param document       the document.
+     * @param positionMapper the position mapper of the document.
+     * @param encoding       the position encoding used by the language server.
+     * @param file           the PsiFile or null otherwise.
+     * @param adjust         true if the text range must be adjusted when start/end offset are the same.
+     * @return the IJ {@link TextRange} from the given LSP range and null otherwise.
+     */
+    @ApiStatus.Internal
+    public static @Nullable TextRange toTextRange(@NotNull Range range,
+                                                  @NotNull Document document,
+                                                  @NotNull PositionMapper positionMapper,
+                                                  @NotNull PositionEncoding encoding,
+                                                  @Nullable PsiFile file,
+                                                  boolean adjust) {
+        try {
+            int start = positionMapper.toOffset(range.getStart(), encoding);
+            int end = positionMapper.toOffset(range.getEnd(), encoding);
+            return toTextRange(start, end, range, document, file, adjust, positionMapper.getTextLength());
+        } catch (IndexOutOfBoundsException e) {
+            // Language server reports invalid diagnostic, ignore it.
+            LOGGER.warn("Invalid LSP text range", e);
+            return null;
+        }
+    }
+
     private static @Nullable TextRange toTextRange(@NotNull Range range,
                                                    @NotNull Document document,
                                                    @Nullable PsiFile file,
@@ -788,27 +862,7 @@ public class LSPIJUtils {
             int docLength = docLengthPrefetched >= 0 ? docLengthPrefetched : document.getTextLength();
             int start = LSPIJUtils.toOffset(range.getStart(), document);
             int end = LSPIJUtils.toOffset(range.getEnd(), document);
-            if (start > end || end > docLength) {
-                // Language server reports invalid range, ignore it.
-                return null;
-            }
-            if (start != end) {
-                return new TextRange(start, end);
-            }
-            if (!adjust) {
-                // No adjustment, the TextRange with start/end offset is invalid
-                return null;
-            }
-            // Select token at current offset, if possible
-            TextRange tokenRange = getWordRangeAt(document, file, start);
-            if (tokenRange != null) {
-                return tokenRange;
-            }
-            // Adjust the end offset if the offset is not at the end of the line.
-            if (!isEndOfLine(document, range.getEnd().getLine(), start)) {
-                end++;
-            }
-            return new TextRange(start, end);
+            return toTextRange(start, end, range, document, file, adjust, docLength);
         } catch (IndexOutOfBoundsException e) {
             // Language server reports invalid diagnostic, ignore it.
             LOGGER.warn("Invalid LSP text range", e);
@@ -816,6 +870,36 @@ public class LSPIJUtils {
         }
     }
 
+    private static @Nullable TextRange toTextRange(int start,
+                                                   int end,
+                                                   @NotNull Range range,
+                                                   @NotNull Document document,
+                                                   @Nullable PsiFile file,
+                                                   boolean adjust,
+                                                   int docLength) {
+        if (start > end || end > docLength) {
+            // Language server reports invalid range, ignore it.
+            return null;
+        }
+        if (start != end) {
+            return new TextRange(start, end);
+        }
+        if (!adjust) {
+            // No adjustment, the TextRange with start/end offset is invalid
+            return null;
+        }
+        // Select token at current offset, if possible
+        TextRange tokenRange = getWordRangeAt(document, file, start);
+        if (tokenRange != null) {
+            return tokenRange;
+        }
+        // Adjust the end offset if the offset is not at the end of the line.
+        if (!isEndOfLine(document, range.getEnd().getLine(), start)) {
+            end++;
+        }
+        return new TextRange(start, end);
+    }
+
     private static boolean isEndOfLine(@NotNull Document document, int line, int offset) {
         return offset == document.getLineEndOffset(line);
     }
@@ -932,8 +1016,38 @@ public class LSPIJUtils {
         applyWorkspaceEdit(edit, null);
     }
 
+    /**
+     * Apply the given workspace edit.
+     *
+     * <p>
+     * All the document changes of the workspace edit are applied in one write action and, when it is called
+     * from the EDT outside an existing command, in one undoable command named with the given label.
+     * Large text edit lists are applied with {@link BulkTextEditsApplier}.
+     * </p>
+     *
+     * @param edit  the workspace edit to apply.
+     * @param label the undoable command name and null otherwise.
+     */
     public static void applyWorkspaceEdit(@NotNull WorkspaceEdit edit,
                                           @Nullable String label) {
+        var application = ApplicationManager.getApplication();
+        Runnable apply = () -> {
+            if (application.isWriteAccessAllowed()) {
+                doApplyWorkspaceEdit(edit);
+            } else {
+                WriteAction.run(() -> doApplyWorkspaceEdit(edit));
+            }
+        };
+        var commandProcessor = CommandProcessor.getInstance();
+        if (application.isDispatchThread() && commandProcessor.getCurrentCommand() == null) {
+            // Group all changes of the workspace edit in one undoable command
+            commandProcessor.executeCommand(null, apply, label, null);
+        } else {
+            apply.run();
+        }
+    }
+
+    private static void doApplyWorkspaceEdit(@NotNull WorkspaceEdit edit) {
         if (edit.getDocumentChanges() != null) {
             for (Either<TextDocumentEdit, ResourceOperation> change : edit.getDocumentChanges()) {
                 if (change.isLeft()) {
@@ -1197,6 +1311,12 @@ public class LSPIJUtils {
         if (ownedEdits.isEmpty()) {
             return;
         }
+        if (BulkTextEditsApplier.isBulkModeRequired(ownedEdits)
+                && BulkTextEditsApplier.applyEdits(editor, document, ownedEdits)) {
+            // Large text edit list (ex: whole-file formatting) applied in one bulk update
+            saveDocumentIfNeeded(document, saveDocument);
+            return;
+        }
         // Convert TextEdit positions into RangeMarkers
         final var pairs = new ArrayList<Pair<TextEdit, RangeMarker>>();
         for (var textEdit : ownedEdits) {
@@ -1229,7 +1349,10 @@ public class LSPIJUtils {
         if (newCaretOffset > -1 && oldCaretOffset != newCaretOffset) {
             editor.getCaretModel().moveToOffset(newCaretOffset);
         }
+        saveDocumentIfNeeded(document, saveDocument);
+    }
 
+    private static void saveDocumentIfNeeded(@NotNull Document document, boolean saveDocument) {
         if (saveDocument) {
             // Explicit document save is required to trigger LSPFileListener#contentsChanged immediately for files
             // that are not open in the editor, which will send didChangeWatchedFiles notification to the language server.
@@ -32,12 +32,16 @@ import com.redhat.devtools.lsp4ij.client.LanguageClientImpl;
 import com.redhat.devtools.lsp4ij.client.features.FileUriSupport;
 import com.redhat.devtools.lsp4ij.client.features.LSPClientFeatures;
 import com.redhat.devtools.lsp4ij.console.explorer.TracingMessageConsumer;
+import com.redhat.devtools.lsp4ij.features.codeAction.LSPCodeActionCache;
 import com.redhat.devtools.lsp4ij.features.diagnostics.LSPDiagnosticUtils;
 import com.redhat.devtools.lsp4ij.features.files.operations.FileOperationsManager;
 import com.redhat.devtools.lsp4ij.installation.ServerInstallationContext;
 import com.redhat.devtools.lsp4ij.installation.ServerInstallationStatus;
 import com.redhat.devtools.lsp4ij.installation.ServerInstaller;
 import com.redhat.devtools.lsp4ij.internal.CancellationSupport;
+import com.redhat.devtools.lsp4ij.internal.LSPFeatureCircuitBreaker;
+import com.redhat.devtools.lsp4ij.internal.LSPRequestCoalescer;
+import com.redhat.devtools.lsp4ij.internal.LSPRequestScheduler;
 import com.redhat.devtools.lsp4ij.internal.VirtualFileCancelChecker;
 import com.redhat.devtools.lsp4ij.internal.capabilities.ClientCapabilitiesFactory;
 import com.redhat.devtools.lsp4ij.internal.editor.EditorFeatureManager;
@@ -47,6 +51,8 @@ import com.redhat.devtools.lsp4ij.lifecycle.NullLanguageServerLifecycleManager;
 import com.redhat.devtools.lsp4ij.server.*;
 import com.redhat.devtools.lsp4ij.server.capabilities.TextDocumentServerCapabilityRegistry;
 import com.redhat.devtools.lsp4ij.server.definition.LanguageServerDefinition;
+import com.redhat.devtools.lsp4ij.server.recording.LSPTrafficRecorder;
+import com.redhat.devtools.lsp4ij.settings.LanguageServerSettingsListener;
 import com.redhat.devtools.lsp4ij.settings.ProjectLanguageServerSettings;
 import com.redhat.devtools.lsp4ij.settings.ServerTrace;
 import org.eclipse.lsp4j.*;
@@ -61,7 +67,11 @@ import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URI;
+import java.nio.file.Path;
 import java.util.*;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -113,6 +123,9 @@ public class LanguageServerWrapper implements Disposable {
     Map<String, Runnable> dynamicRegistrations = new HashMap<>();
     private final LSPFileListener fileListener;
     private final AtomicInteger keepAliveCounter = new AtomicInteger();
+    private final LSPRequestCoalescer requestCoalescer = new LSPRequestCoalescer();
+    private final LSPRequestScheduler requestScheduler = new LSPRequestScheduler();
+    private final LSPFeatureCircuitBreaker featureCircuitBreaker = new LSPFeatureCircuitBreaker();
     protected StreamConnectionProvider lspStreamProvider;
     private MessageBusConnection messageBusConnection;
     private Future<?> launcherFuture;
@@ -134,6 +147,13 @@ public class LanguageServerWrapper implements Disposable {
     // error notification displayed when server start fails.
     private @Nullable Notification errorNotification;
     private @Nullable TracingMessageConsumer tracing;
+    // The server trace read from the settings, null when it must be read again
+    private volatile @Nullable ServerTrace cachedServerTrace;
+    private final LanguageServerSettingsListener serverTraceListener = event -> {
+        if (event.serverTraceChanged() && serverDefinition.getId().equals(event.languageServerId())) {
+            cachedServerTrace = null;
+        }
+    };
     private volatile @Nullable ConcurrentLinkedQueue<LSPTrace> traces;
     private @Nullable Alarm traceFlushAlarm;
     private InitializingContext currentInitializingContext;
@@ -170,6 +190,7 @@ public class LanguageServerWrapper implements Disposable {
         this.listener = Executors
                 .newCachedThreadPool(new ThreadFactoryBuilder().setNameFormat(listenerThreadNameFormat).build());
         updateStatus(ServerStatus.none);
+        ProjectLanguageServerSettings.getInstance(project).addSettingsListener(serverTraceListener);
 
         // When project is disposed, we dispose the language server
         // But the language server should be disposed before because when project is closing
@@ -328,6 +349,8 @@ public class LanguageServerWrapper implements Disposable {
                         if (tracing != null) {
                             tracing = null;
                         }
+                        cachedServerTrace = null;
+                        featureCircuitBreaker.reset();
 
                         var provider = serverDefinition.createConnectionProvider(initialProject);
                         initializingContext.provider = provider;
@@ -400,11 +423,21 @@ public class LanguageServerWrapper implements Disposable {
                             }
                         });
 
+                        InputStream input = provider.getInputStream();
+                        OutputStream output = provider.getOutputStream();
+                        var trafficRecorder = createTrafficRecorder();
+                        if (trafficRecorder != null) {
+                            // Record the raw JSON-RPC messages exchanged with the language server
+                            initializingContext.trafficRecorder = trafficRecorder;
+                            input = trafficRecorder.wrapInput(input);
+                            output = trafficRecorder.wrapOutput(output);
+                        }
+
                         Launcher<LanguageServer> launcher = serverDefinition.createLauncherBuilder(getClientFeatures()) //
                                 .setLocalService(languageClient)//
                                 .setRemoteInterface(serverDefinition.getServerInterface())//
-                                .setInput(provider.getInputStream())//
-                                .setOutput(provider.getOutputStream())//
+                                .setInput(input)//
+                                .setOutput(output)//
                                 .setExecutorService(listener)//
                                 .wrapMessages(wrapper)//
                                 .create();
@@ -497,7 +530,7 @@ public class LanguageServerWrapper implements Disposable {
                                                               @NotNull InitializingContext initializingContext) {
         var provider = initializingContext.provider;
         initParams.setCapabilities(ClientCapabilitiesFactory
-                .create(provider.getExperimentalFeaturesPOJO()));
+                .create(provider.getExperimentalFeaturesPOJO(), getClientFeatures().getPositionEncodings()));
         initParams.setClientInfo(getClientInfo());
         initParams.setTrace(provider.getTrace(rootURI));
 
@@ -762,6 +795,8 @@ public class LanguageServerWrapper implements Disposable {
                 synchronizer.getDocument().removeDocumentListener(synchronizer);
                 synchronizer.dispose();
             }
+            // Evict the code actions of the closed file
+            LSPCodeActionCache.evict(openedDocument.getFile(), serverDefinition.getId());
             clearProblem(Collections.singleton(fileUri), getClientFeatures(), getProject());
         }
         if (stopIfNoOpenedFiles) {
@@ -876,6 +911,36 @@ public class LanguageServerWrapper implements Disposable {
         return languageServer;
     }
 
+    /**
+     * Returns the in-flight LSP requests table used to share one LSP request between identical concurrent requests.
+     *
+     * @return the in-flight LSP requests table used to share one LSP request between identical concurrent requests.
+     */
+    @ApiStatus.Internal
+    public @NotNull LSPRequestCoalescer getRequestCoalescer() {
+        return requestCoalescer;
+    }
+
+    /**
+     * Returns the scheduler which prioritizes the LSP requests sent to the language server.
+     *
+     * @return the scheduler which prioritizes the LSP requests sent to the language server.
+     */
+    @ApiStatus.Internal
+    public @NotNull LSPRequestScheduler getRequestScheduler() {
+        return requestScheduler;
+    }
+
+    /**
+     * Returns the circuit breaker which temporarily disables the LSP features which time out or fail repeatedly.
+     *
+     * @return the circuit breaker which temporarily disables the LSP features which time out or fail repeatedly.
+     */
+    @ApiStatus.Internal
+    public @NotNull LSPFeatureCircuitBreaker getFeatureCircuitBreaker() {
+        return featureCircuitBreaker;
+    }
+
     /**
      * Starts the language server and returns a CompletableFuture waiting for the
      * server to be initialized. If done in the UI stream, a job will be created
@@ -1427,10 +1492,28 @@ public class LanguageServerWrapper implements Disposable {
 
     /**
      * Returns the configured server trace.
+     * <p>
+     * This method is called for each LSP message, so the server trace is cached and is read again from the settings
+     * when the server trace settings changes or when the language server is restarted.
      *
      * @return the configured server trace.
      */
     public @NotNull ServerTrace getServerTrace() {
+        ServerTrace serverTrace = cachedServerTrace;
+        if (serverTrace == null) {
+            serverTrace = loadServerTrace();
+            cachedServerTrace = serverTrace;
+        }
+        return serverTrace;
+    }
+
+    /**
+     * Returns the server trace configured in the settings (package-private to count the settings lookups in tests).
+     *
+     * @return the server trace configured in the settings.
+     */
+    @NotNull
+    ServerTrace loadServerTrace() {
         ServerTrace serverTrace = null;
         ProjectLanguageServerSettings.LanguageServerDefinitionSettings settings =
                 ProjectLanguageServerSettings.getInstance(getProject()).getLanguageServerSettings(getServerDefinition().getId());
@@ -1528,6 +1611,7 @@ public class LanguageServerWrapper implements Disposable {
         @Nullable var languageServer = initializingContext != null ? initializingContext.languageServer : null;
         @Nullable var lspStreamProvider = initializingContext != null ? initializingContext.provider : null;
         @Nullable var launcherFuture = initializingContext != null ? initializingContext.launcherFuture : null;
+        @Nullable var trafficRecorder = initializingContext != null ? initializingContext.trafficRecorder : null;
         boolean current = initializingContext != null && initializingContext.equals(currentInitializingContext);
         try {
             updateStatus(ServerStatus.stopping);
@@ -1547,13 +1631,13 @@ public class LanguageServerWrapper implements Disposable {
 
             if (isDisposed()) {
                 // When project is closing we shutdown everything in synch mode
-                shutdownAll(languageServer, lspStreamProvider, launcherFuture);
+                shutdownAll(languageServer, lspStreamProvider, launcherFuture, trafficRecorder);
                 return CompletableFuture.completedFuture(null);
             } else {
                 // We need to shutdown, kill and stop the process in a thread to avoid for instance
                 // stopping the new process created with a new start.
                 return CompletableFuture.runAsync(() -> {
-                    shutdownAll(languageServer, lspStreamProvider, launcherFuture);
+                    shutdownAll(languageServer, lspStreamProvider, launcherFuture, trafficRecorder);
                     boolean delayedCurrent = currentInitializingContext == null || initializingContext.equals(currentInitializingContext);
                     if (delayedCurrent) {
                         updateStatus(ServerStatus.stopped);
@@ -1582,7 +1666,10 @@ public class LanguageServerWrapper implements Disposable {
         }
     }
 
-    private void shutdownAll(LanguageServer languageServerInstance, StreamConnectionProvider provider, Future<?> serverFuture) {
+    private void shutdownAll(LanguageServer languageServerInstance,
+                             StreamConnectionProvider provider,
+                             Future<?> serverFuture,
+                             @Nullable LSPTrafficRecorder trafficRecorder) {
         if (languageServerInstance != null && provider != null && provider.isAlive()) {
             // The LSP language server instance and the process which starts the language server is alive. Process
             // - shutdown
@@ -1613,6 +1700,26 @@ public class LanguageServerWrapper implements Disposable {
             provider.stop();
         }
 
+        if (trafficRecorder != null) {
+            try {
+                trafficRecorder.close();
+            } catch (IOException e) {
+                LOGGER.warn("Error while closing the LSP traffic recording of the language server '" + serverDefinition.getId() + "'", e);
+            }
+        }
+    }
+
+    private @Nullable LSPTrafficRecorder createTrafficRecorder() {
+        Path recordingFile = getClientFeatures().getTrafficRecordingFile();
+        if (recordingFile == null) {
+            return null;
+        }
+        try {
+            return new LSPTrafficRecorder(recordingFile);
+        } catch (IOException e) {
+            LOGGER.warn("Cannot record the LSP traffic of the language server '" + serverDefinition.getId() + "' in '" + recordingFile + "'", e);
+            return null;
+        }
     }
 
     private void shutdownLanguageServerInstance(LanguageServer languageServerInstance) throws Exception {
@@ -1654,6 +1761,9 @@ public class LanguageServerWrapper implements Disposable {
             return;
         }
         this.disposed = true;
+        if (!getProject().isDisposed()) {
+            ProjectLanguageServerSettings.getInstance(getProject()).removeSettingsListener(serverTraceListener);
+        }
         stopAndRefreshEditorFeature(refreshEditorFeature, false);
         stopDispatcher();
         if (clientFeatures != null) {
@@ -1695,6 +1805,7 @@ public class LanguageServerWrapper implements Disposable {
         public LanguageServer languageServer;
         public Future<?> launcherFuture;
         public InitializeResult initializeResult;
+        public LSPTrafficRecorder trafficRecorder;
     }
 
 
@@ -19,6 +19,7 @@ import com.intellij.openapi.application.ApplicationManager;
 import com.intellij.openapi.fileTypes.*;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.util.Pair;
+import com.intellij.openapi.util.SimpleModificationTracker;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiFile;
 import com.intellij.testFramework.LightVirtualFile;
@@ -42,7 +43,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import static com.redhat.devtools.lsp4ij.templates.ServerMappingSettings.toServerMappingSettings;
@@ -62,6 +65,13 @@ public class LanguageServersRegistry {
 
     private final List<LanguageServerFileAssociation> fileAssociations = new ArrayList<>();
 
+    // Incremented when the file associations change to invalidate the cached LSP relevance of the files
+    private final SimpleModificationTracker fileAssociationsModificationTracker = new SimpleModificationTracker();
+
+    // Stable index of the server definitions used in the LSP relevance bit set of the files
+    private final Map<String /* server id */, Integer> serverDefinitionIndexes = new ConcurrentHashMap<>();
+    private final AtomicInteger nextServerDefinitionIndex = new AtomicInteger();
+
     private final Map<String /* languageId (ex : typescript) */,
             List<String> /* file extensions (ex : ts) */> languageIdFileExtensionsCache = new HashMap<>();
 
@@ -393,6 +403,7 @@ public class LanguageServersRegistry {
             }
             fileAssociations.add(new LanguageServerFileAssociation(matchers, serverDefinition, mapping.getDocumentMatcher(), languageId));
         }
+        fileAssociationsModificationTracker.incModificationCount();
     }
 
     /**
@@ -523,6 +534,7 @@ public class LanguageServersRegistry {
                 .filter(mapping -> definition.equals(mapping.getServerDefinition()))
                 .toList();
         fileAssociations.removeAll(mappingsToRemove);
+        fileAssociationsModificationTracker.incModificationCount();
         definition.removeAssociations();
     }
 
@@ -647,11 +659,9 @@ public class LanguageServersRegistry {
                                     @Nullable VirtualFile file,
                                     @Nullable PsiFile psiFile,
                                     @NotNull Project project) {
-        if (fileAssociations
-                .stream()
-                .anyMatch(mapping -> mapping.match(language, fileType, filename))) {
-            @Nullable VirtualFile f = file != null ? file : psiFile.getVirtualFile();
-            if (f != null && !f.isInLocalFileSystem()) {
+        VirtualFile f = file != null ? file : psiFile.getVirtualFile();
+        if (getFileRelevance(f, language, fileType, filename).isRelevant()) {
+            if (!f.isInLocalFileSystem()) {
                 if (f instanceof LightVirtualFile) {
                     return false;
                 }
@@ -681,15 +691,59 @@ public class LanguageServersRegistry {
 
         FileType fileType = virtualFile.getFileType();
         String fileName = virtualFile.getName();
-        if (fileAssociations
-                .stream()
-                .anyMatch(mapping -> mapping.match(language, fileType, fileName))) {
+        if (getFileRelevance(virtualFile, language, fileType, fileName).isRelevant()) {
             return virtualFile.isInLocalFileSystem() || !(virtualFile instanceof LightVirtualFile);
         }
 
         return false;
     }
 
+    /**
+     * Returns the LSP relevance of the given file (the language server definitions which can possibly handle the file).
+     *
+     * @param file the file.
+     * @return the LSP relevance of the given file.
+     */
+    @ApiStatus.Internal
+    public @NotNull LSPFileRelevance getFileRelevance(@NotNull PsiFile file) {
+        VirtualFile virtualFile = file.getVirtualFile();
+        if (virtualFile == null) {
+            return LSPFileRelevance.NOT_RELEVANT;
+        }
+        return getFileRelevance(virtualFile, LSPIJUtils.getFileLanguage(file), file.getFileType(), file.getName());
+    }
+
+    private @NotNull LSPFileRelevance getFileRelevance(@NotNull VirtualFile file,
+                                                       @Nullable Language language,
+                                                       @Nullable FileType fileType,
+                                                       @NotNull String fileName) {
+        // Get the modification count before matching the associations to ignore the result if an association changes meanwhile
+        long modificationCount = fileAssociationsModificationTracker.getModificationCount();
+        LSPFileRelevance relevance = file.getUserData(LSPFileRelevance.RELEVANCE_KEY);
+        if (relevance != null && relevance.isUpToDate(modificationCount, language, fileType, fileName)) {
+            return relevance;
+        }
+        BitSet matchedServerDefinitions = new BitSet();
+        for (var association : fileAssociations) {
+            if (association.match(language, fileType, fileName)) {
+                matchedServerDefinitions.set(getServerDefinitionIndex(association.getServerDefinition()));
+            }
+        }
+        relevance = new LSPFileRelevance(modificationCount, language, fileType, fileName, matchedServerDefinitions);
+        file.putUserData(LSPFileRelevance.RELEVANCE_KEY, relevance);
+        return relevance;
+    }
+
+    /**
+     * Returns the index of the given server definition in the LSP relevance bit set of the files.
+     *
+     * @param serverDefinition the server definition.
+     * @return the index of the given server definition in the LSP relevance bit set of the files.
+     */
+    int getServerDefinitionIndex(@NotNull LanguageServerDefinition serverDefinition) {
+        return serverDefinitionIndexes.computeIfAbsent(serverDefinition.getId(), id -> nextServerDefinitionIndex.getAndIncrement());
+    }
+
     /**
      * @return the LSP codeLens / color inlay hint providers for all languages which are associated with a language server.
      */
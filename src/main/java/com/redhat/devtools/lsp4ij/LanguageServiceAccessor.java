@@ -239,7 +239,8 @@ public class LanguageServiceAccessor implements Disposable {
     public boolean hasAny(@NotNull PsiFile file,
                           @NotNull Predicate<LanguageServerWrapper> filter) {
         var startedServers = getStartedServers();
-        if (startedServers.isEmpty()) {
+        if (startedServers.isEmpty() || !LanguageServersRegistry.getInstance().getFileRelevance(file).isRelevant()) {
+            // No started server or the file cannot be handled by a language server
             return false;
         }
         MatchedLanguageServerDefinitions mappings = getMatchedLanguageServerDefinitions(file, true);
@@ -265,7 +266,8 @@ public class LanguageServiceAccessor implements Disposable {
     public void processLanguageServers(@NotNull PsiFile file,
                                        @NotNull Consumer<LanguageServerWrapper> processor) {
         var startedServers = getStartedServers();
-        if (startedServers.isEmpty()) {
+        if (startedServers.isEmpty() || !LanguageServersRegistry.getInstance().getFileRelevance(file).isRelevant()) {
+            // No started server or the file cannot be handled by a language server
             return;
         }
 
@@ -16,6 +16,7 @@ package com.redhat.devtools.lsp4ij;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiFile;
 import com.redhat.devtools.lsp4ij.features.diagnostics.LSPDiagnosticsForServer;
+import com.redhat.devtools.lsp4ij.internal.LSPModelInterner;
 import org.eclipse.lsp4j.Diagnostic;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -69,6 +70,8 @@ public class OpenedDocument extends LSPDocumentBase {
     public boolean updateDiagnostics(@NotNull String identifier,
                                      @NotNull List<Diagnostic> diagnostics) {
         updatedDiagnosticsTime = System.currentTimeMillis();
+        // Share the repeated messages, sources and codes between the cached diagnostics
+        diagnostics.forEach(LSPModelInterner::intern);
         if (diagnosticsForServer.update(identifier, diagnostics)) {
             // LSP diagnostics has changed
             final PsiFile psiFile = LSPIJUtils.getPsiFile(file, diagnosticsForServer.getClientFeatures().getProject());
@@ -10,15 +10,21 @@
  ******************************************************************************/
 package com.redhat.devtools.lsp4ij.client;
 
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.intellij.openapi.Disposable;
 import com.intellij.openapi.application.ReadAction;
 import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.fileEditor.FileEditorManager;
+import com.intellij.openapi.fileEditor.FileEditorManagerEvent;
+import com.intellij.openapi.fileEditor.FileEditorManagerListener;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiFile;
 import com.intellij.util.concurrency.AppExecutorUtil;
+import com.intellij.util.messages.MessageBusConnection;
 import com.redhat.devtools.lsp4ij.*;
+import com.redhat.devtools.lsp4ij.client.WorkspaceRefreshBatcher.RefreshKind;
 import com.redhat.devtools.lsp4ij.client.features.LSPClientFeatures;
 import com.redhat.devtools.lsp4ij.features.diagnostics.LSPDiagnosticHandler;
 import com.redhat.devtools.lsp4ij.features.progress.LSPProgressManager;
@@ -37,9 +43,12 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 
 /**
@@ -56,11 +65,26 @@ public class LanguageClientImpl implements LanguageClient, Disposable {
 
     private Runnable didChangeConfigurationListener;
 
+    private volatile @Nullable SettingsIndex settingsIndex;
+
+    // Version of the settings, incremented each time the settings can have changed (see sendDidChangeConfiguration)
+    private volatile int settingsVersion;
+
+    // Sections requested by the language server with 'workspace/configuration' and the snapshot of their last returned result
+    private final Map<String, SettingsSnapshot> requestedSections = new ConcurrentHashMap<>();
+
+    // Snapshot of the JSON settings sent with the last 'workspace/didChangeConfiguration' and null otherwise
+    private volatile @Nullable SettingsSnapshot lastSentSettings;
+
     @NotNull
     private final LSPProgressManager progressManager;
 
     private final SettingsLanguageListener languageServerStartedListener;
 
+    // Coalesces the 'workspace/*/refresh' requests and defers the refresh of the files which are not visible
+    private @Nullable WorkspaceRefreshBatcher refreshBatcher;
+    private @Nullable MessageBusConnection refreshBatcherConnection;
+
     public LanguageClientImpl(@NotNull Project project) {
         this.project = project;
         this.progressManager = new LSPProgressManager();
@@ -76,6 +100,34 @@ public class LanguageClientImpl implements LanguageClient, Disposable {
     @ApiStatus.Internal
     public void setServerWrapper(@NotNull LanguageServerWrapper wrapper) {
         this.wrapper = wrapper;
+        this.refreshBatcher = new WorkspaceRefreshBatcher(
+                () -> wrapper.getOpenedDocuments()
+                        .stream()
+                        .map(OpenedDocument::getFile)
+                        .toList(),
+                () -> Arrays.asList(FileEditorManager.getInstance(project).getSelectedFiles()),
+                this::refreshFiles);
+        this.refreshBatcherConnection = project.getMessageBus().connect();
+        this.refreshBatcherConnection.subscribe(FileEditorManagerListener.FILE_EDITOR_MANAGER, new FileEditorManagerListener() {
+
+            @Override
+            public void selectionChanged(@NotNull FileEditorManagerEvent event) {
+                VirtualFile file = event.getNewFile();
+                var batcher = refreshBatcher;
+                if (file != null && batcher != null && batcher.hasDeferredRefresh(file)) {
+                    // Refresh the background tab which is selected
+                    AppExecutorUtil.getAppExecutorService().execute(() -> batcher.fileSelected(file));
+                }
+            }
+
+            @Override
+            public void fileClosed(@NotNull FileEditorManager source, @NotNull VirtualFile file) {
+                var batcher = refreshBatcher;
+                if (batcher != null) {
+                    batcher.fileClosed(file);
+                }
+            }
+        });
     }
 
     public @NotNull LanguageServerDefinition getServerDefinition() {
@@ -155,12 +207,11 @@ public class LanguageClientImpl implements LanguageClient, Disposable {
 
     @Override
     public CompletableFuture<Void> refreshCodeLenses() {
-        return CompletableFuture.runAsync(this::refreshCodeLensForAllOpenedFiles);
+        return scheduleRefresh(RefreshKind.CODE_LENS);
     }
 
-    private void refreshCodeLensForAllOpenedFiles() {
-        for (var openedDocument : wrapper.getOpenedDocuments()) {
-            VirtualFile file = openedDocument.getFile();
+    private void refreshCodeLensFor(@NotNull List<VirtualFile> files) {
+        for (var file : files) {
             EditorFeatureManager.getInstance(getProject())
                     .refreshEditorFeature(file, EditorFeatureType.CODE_VISION, true, new VirtualFileCancelChecker(file));
         }
@@ -168,17 +219,11 @@ public class LanguageClientImpl implements LanguageClient, Disposable {
 
     @Override
     public CompletableFuture<Void> refreshInlayHints() {
-        return CompletableFuture.runAsync(() -> {
-            if (wrapper == null) {
-                return;
-            }
-            refreshInlayHintsForAllOpenedFiles();
-        });
+        return scheduleRefresh(RefreshKind.INLAY_HINT);
     }
 
-    private void refreshInlayHintsForAllOpenedFiles() {
-        for (var openedDocument : wrapper.getOpenedDocuments()) {
-            VirtualFile file = openedDocument.getFile();
+    private void refreshInlayHintsFor(@NotNull List<VirtualFile> files) {
+        for (var file : files) {
             EditorFeatureManager efm = EditorFeatureManager.getInstance(getProject());
             efm.refreshEditorFeature(file, EditorFeatureType.DECLARATIVE_INLAY_HINT, true, new VirtualFileCancelChecker(file));
         }
@@ -186,14 +231,13 @@ public class LanguageClientImpl implements LanguageClient, Disposable {
 
     @Override
     public CompletableFuture<Void> refreshSemanticTokens() {
-        return CompletableFuture.runAsync(this::refreshSemanticTokensForAllOpenedFiles);
+        return scheduleRefresh(RefreshKind.SEMANTIC_TOKENS);
     }
 
-    private void refreshSemanticTokensForAllOpenedFiles() {
+    private void refreshSemanticTokensFor(@NotNull List<VirtualFile> files) {
         // Received request 'workspace/semanticTokens/refresh
         ReadAction.nonBlocking((Callable<Void>) () -> {
-                    for (var openedDocument : wrapper.getOpenedDocuments()) {
-                        VirtualFile file = openedDocument.getFile();
+                    for (var file : files) {
                         PsiFile psiFile = LSPIJUtils.getPsiFile(file, project);
                         if (psiFile != null) {
                             var fileSupport = LSPFileSupport.getSupport(psiFile);
@@ -204,25 +248,46 @@ public class LanguageClientImpl implements LanguageClient, Disposable {
                         }
                     }
                     return null;
-                }).coalesceBy(this)
+                }).coalesceBy(this, files)
                 .submit(AppExecutorUtil.getAppExecutorService());
     }
 
     @Override
     public CompletableFuture<Void> refreshDiagnostics() {
-        return CompletableFuture.runAsync(this::refreshDiagnosticsForAllOpenedFiles);
+        return scheduleRefresh(RefreshKind.DIAGNOSTIC);
     }
 
-    private void refreshDiagnosticsForAllOpenedFiles() {
+    private void refreshDiagnosticsFor(@NotNull List<VirtualFile> files) {
         // Received request 'workspace/diagnostic/refresh
-        for (var openedDocument : wrapper.getOpenedDocuments()) {
-            if (openedDocument.getSynchronizer() != null) {
+        for (var file : files) {
+            var openedDocument = wrapper.getOpenedDocument(LSPIJUtils.toUri(file));
+            if (openedDocument != null && openedDocument.getSynchronizer() != null) {
                 openedDocument.getSynchronizer()
                         .refreshPullDiagnostic(DocumentContentSynchronizer.RefreshPullDiagnosticOrigin.ON_WORKSPACE_REFRESH);
             }
         }
     }
 
+    private CompletableFuture<Void> scheduleRefresh(@NotNull RefreshKind kind) {
+        var batcher = refreshBatcher;
+        if (batcher != null && !isDisposed()) {
+            batcher.scheduleRefresh(kind);
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    private void refreshFiles(@NotNull List<VirtualFile> files, @NotNull RefreshKind kind) {
+        if (isDisposed()) {
+            return;
+        }
+        switch (kind) {
+            case CODE_LENS -> refreshCodeLensFor(files);
+            case INLAY_HINT -> refreshInlayHintsFor(files);
+            case SEMANTIC_TOKENS -> refreshSemanticTokensFor(files);
+            case DIAGNOSTIC -> refreshDiagnosticsFor(files);
+        }
+    }
+
     @Override
     public CompletableFuture<Void> createProgress(WorkDoneProgressCreateParams params) {
         return progressManager.createProgress(params);
@@ -241,6 +306,8 @@ public class LanguageClientImpl implements LanguageClient, Disposable {
             for (ConfigurationItem item : params.getItems()) {
                 String section = item.getSection();
                 Object result = findSettings(section);
+                requestedSections.compute(section != null ? section : "",
+                        (key, snapshot) -> snapshot != null && snapshot.isSameAs(result) ? snapshot : SettingsSnapshot.of(result));
                 // The response is the configuration setting or null, according to the spec:
                 //  - If a scope URI is provided the client should return the setting scoped to the provided resource.
                 //  - If the client can’t provide a configuration setting for a given scope then null needs to be present in the returned array.
@@ -268,11 +335,27 @@ public class LanguageClientImpl implements LanguageClient, Disposable {
             if (section == null || section.isEmpty()) {
                 return config;
             }
-            return findSettings(section, json);
+            return getSettingsIndex(json).findSettings(section);
         }
         return null;
     }
 
+    /**
+     * Returns the index of the given settings, built again when the settings instance or the settings version changes.
+     *
+     * @param settings the settings.
+     * @return the index of the given settings.
+     */
+    private @NotNull SettingsIndex getSettingsIndex(@NotNull JsonObject settings) {
+        var index = settingsIndex;
+        int version = settingsVersion;
+        if (index == null || !index.isIndexing(settings, version)) {
+            index = new SettingsIndex(settings, version);
+            settingsIndex = index;
+        }
+        return index;
+    }
+
     protected static Object findSettings(String section, JsonObject jsonObject) {
         return SettingsHelper.findSettings(section, jsonObject);
     }
@@ -295,24 +378,82 @@ public class LanguageClientImpl implements LanguageClient, Disposable {
         if (didChangeConfigurationListener != null) {
             return didChangeConfigurationListener;
         }
-        didChangeConfigurationListener = this::triggerChangeConfiguration;
+        didChangeConfigurationListener = this::triggerChangeConfigurationIfChanged;
         return didChangeConfigurationListener;
     }
 
+    /**
+     * Sends the settings created by {@link #createSettings()} with 'workspace/didChangeConfiguration'.
+     */
     public void triggerChangeConfiguration() {
+        sendDidChangeConfiguration(true);
+    }
+
+    /**
+     * Sends the settings created by {@link #createSettings()} with 'workspace/didChangeConfiguration' only if their
+     * content has changed since the last sent settings (see {@link #isConfigurationChanged(Object)}).
+     */
+    void triggerChangeConfigurationIfChanged() {
+        sendDidChangeConfiguration(false);
+    }
+
+    private void sendDidChangeConfiguration(boolean force) {
         LanguageServer languageServer = getLanguageServer();
         if (languageServer == null) {
             return;
         }
+        // The settings can have been updated in place, the settings index must be built again
+        settingsVersion++;
         Object settings = createSettings();
         if (settings == null) {
             // LSP DidChangeConfigurationParams requires a non-null settings
             settings = new JsonObject();
         }
+        if (!force && !isConfigurationChanged(settings)) {
+            return;
+        }
+        // The settings are compared by content, as createSettings() can return the same instance updated in place
+        lastSentSettings = settings instanceof JsonElement ? SettingsSnapshot.of(settings) : null;
         DidChangeConfigurationParams params = new DidChangeConfigurationParams(settings);
         languageServer.getWorkspaceService().didChangeConfiguration(params);
     }
 
+    /**
+     * Returns true if the given settings must be sent with 'workspace/didChangeConfiguration' and false otherwise.
+     *
+     * <p>
+     * Only JSON settings are compared, by their content. When the language server pulls its configuration
+     * with 'workspace/configuration', only the sections it has requested are compared, otherwise the whole settings
+     * are compared with the last sent settings.
+     * </p>
+     *
+     * @param settings the new settings.
+     * @return true if the given settings must be sent with 'workspace/didChangeConfiguration' and false otherwise.
+     */
+    private boolean isConfigurationChanged(@NotNull Object settings) {
+        SettingsSnapshot lastSettings = lastSentSettings;
+        if (lastSettings == null || !(settings instanceof JsonElement)) {
+            // First notification (ex: when the language server is started) or settings which cannot be compared
+            return true;
+        }
+        if (lastSettings.isSameAs(settings)) {
+            return false;
+        }
+        if (requestedSections.isEmpty()) {
+            return true;
+        }
+        boolean changed = false;
+        for (var entry : requestedSections.entrySet()) {
+            String section = entry.getKey();
+            Object result = findSettings(section.isEmpty() ? null : section);
+            if (!entry.getValue().isSameAs(result)) {
+                entry.setValue(SettingsSnapshot.of(result));
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
 
     /**
      * Callback invoked when language server status changed.
@@ -344,6 +485,10 @@ public class LanguageClientImpl implements LanguageClient, Disposable {
     public void dispose() {
         this.disposed = true;
         this.progressManager.dispose();
+        if (refreshBatcherConnection != null) {
+            refreshBatcherConnection.disconnect();
+            refreshBatcherConnection = null;
+        }
         GlobalLanguageServerSettings.getInstance().removeSettingsListener(languageServerStartedListener);
         ProjectLanguageServerSettings.getInstance(getProject()).removeSettingsListener(languageServerStartedListener);
     }
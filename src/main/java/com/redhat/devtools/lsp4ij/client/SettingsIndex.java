@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package com.redhat.devtools.lsp4ij.client;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Index of the settings of a language server used to answer 'workspace/configuration' section lookups.
+ *
+ * <p>
+ * The index is built once per settings instance and version and gives the same result as
+ * {@link SettingsHelper#findSettings(String, JsonObject)}, without copying the settings:
+ *
+ * <ul>
+ *     <li>the top-level keys are stored in a trie by their dot-separated segments, so the fallback lookup
+ *     (ex: section "a.b" matching the keys "a.b.c" and "a.b.d") doesn't need to split and compare all keys.</li>
+ *     <li>the resolved sections are memoized, as language servers request the same sections for each file.</li>
+ * </ul>
+ * <p>
+ * The returned JSON elements are shared with the settings and must not be modified.
+ * </p>
+ */
+class SettingsIndex {
+
+    private static final int MAX_CACHED_SECTIONS = 1024;
+
+    // Marker used to memoize sections which are not found (ConcurrentHashMap doesn't support null values)
+    private static final JsonElement NOT_FOUND = new JsonObject();
+
+    private static class Node {
+        private final Map<String, Node> children = new HashMap<>();
+        // Top-level keys whose dot-separated segments start with the path of this node
+        private final List<String> keys = new ArrayList<>();
+    }
+
+    private final @NotNull JsonObject settings;
+    // Version of the settings when the index has been built, to detect settings updated in place
+    private final int settingsVersion;
+    private final @NotNull Node root = new Node();
+    private final Map<String, JsonElement> resolvedSections = new ConcurrentHashMap<>();
+
+    SettingsIndex(@NotNull JsonObject settings, int settingsVersion) {
+        this.settings = settings;
+        this.settingsVersion = settingsVersion;
+        for (String key : settings.keySet()) {
+            Node node = root;
+            node.keys.add(key);
+            for (String segment : key.split("[.]")) {
+                node = node.children.computeIfAbsent(segment, k -> new Node());
+                node.keys.add(key);
+            }
+        }
+    }
+
+    /**
+     * Returns true if this index has been built for the given settings instance and version and false otherwise.
+     *
+     * @param settings        the settings.
+     * @param settingsVersion the version of the settings, changed when the settings can have been updated in place.
+     * @return true if this index has been built for the given settings instance and version and false otherwise.
+     */
+    boolean isIndexing(@Nullable Object settings, int settingsVersion) {
+        return this.settings == settings && this.settingsVersion == settingsVersion;
+    }
+
+    /**
+     * Returns the settings retrieved by the given section and null otherwise.
+     *
+     * @param section path to the JSON element to retrieve (e.g., "a.b.c")
+     * @return the JSON element found at the specified path, or null if not found
+     */
+    @Nullable
+    JsonElement findSettings(@NotNull String section) {
+        JsonElement result = resolvedSections.get(section);
+        if (result == null) {
+            result = doFindSettings(section);
+            if (resolvedSections.size() >= MAX_CACHED_SECTIONS) {
+                resolvedSections.clear();
+            }
+            resolvedSections.put(section, result != null ? result : NOT_FOUND);
+        }
+        return result == NOT_FOUND ? null : result;
+    }
+
+    private @Nullable JsonElement doFindSettings(@NotNull String section) {
+        if (settings.has(section)) {
+            return settings.get(section);
+        }
+
+        // Traverse nested structure using dot-separated keys
+        final var sections = section.split("[.]");
+        JsonElement current = sections.length > 0 ? settings : null;
+        for (var split : sections) {
+            if (current instanceof JsonObject currentObject && currentObject.has(split)) {
+                current = currentObject.get(split);
+            } else {
+                current = null;
+                break;
+            }
+        }
+        if (current != null) {
+            return current;
+        }
+
+        // Fallback: collect the top-level keys which start with the section segments
+        Node node = root;
+        for (var split : sections) {
+            node = node.children.get(split);
+            if (node == null) {
+                return null;
+            }
+        }
+        JsonObject result = new JsonObject();
+        for (String key : node.keys) {
+            result.add(key, settings.get(key));
+        }
+        return result.isEmpty() ? null : result;
+    }
+}
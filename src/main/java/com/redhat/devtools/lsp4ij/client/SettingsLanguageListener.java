@@ -53,7 +53,7 @@ public class SettingsLanguageListener implements LanguageServerSettingsListener
                 var configurationFeature = client.getClientFeatures().getConfigurationFeature();
                 switch (configurationFeature.getOnConfigurationChanged()) {
                     case RESTART_LANGUAGE_SERVER -> restartLanguageServer();
-                    case CALL_DID_CHANGE_CONFIGURATION -> client.triggerChangeConfiguration();
+                    case CALL_DID_CHANGE_CONFIGURATION -> client.triggerChangeConfigurationIfChanged();
                     case IGNORE -> {
                         // Do nothing
                     }
@@ -0,0 +1,59 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package com.redhat.devtools.lsp4ij.client;
+
+import com.google.gson.JsonElement;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+
+/**
+ * Snapshot of settings sent to a language server, used to check if new settings have changed.
+ *
+ * <p>
+ * JSON settings are copied, as a language client can update and return the same settings instance. The structural
+ * hash is only used to detect different settings quickly: settings with the same hash are compared by content.
+ * </p>
+ */
+final class SettingsSnapshot {
+
+    private final @Nullable Object settings;
+    private final int settingsHash;
+
+    private SettingsSnapshot(@Nullable Object settings) {
+        this.settings = settings instanceof JsonElement json ? json.deepCopy() : settings;
+        this.settingsHash = Objects.hashCode(settings);
+    }
+
+    /**
+     * Returns the snapshot of the given settings.
+     *
+     * @param settings the settings.
+     * @return the snapshot of the given settings.
+     */
+    static @NotNull SettingsSnapshot of(@Nullable Object settings) {
+        return new SettingsSnapshot(settings);
+    }
+
+    /**
+     * Returns true if the given settings have the same content as this snapshot and false otherwise.
+     *
+     * @param settings the settings.
+     * @return true if the given settings have the same content as this snapshot and false otherwise.
+     */
+    boolean isSameAs(@Nullable Object settings) {
+        return settingsHash == Objects.hashCode(settings) && Objects.equals(this.settings, settings);
+    }
+}
@@ -0,0 +1,183 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.lsp4ij.client;
+
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Batches the workspace refresh requests ('workspace/codeLens/refresh', 'workspace/inlayHint/refresh',
+ * 'workspace/semanticTokens/refresh', 'workspace/diagnostic/refresh') sent by a language server.
+ *
+ * <p>
+ * Each refresh request refreshes all files opened by the language server, and some language servers (ex: jdtls) send
+ * those requests in bursts (ex: during a build). To avoid sending LSP requests for each refresh request and each opened file:
+ * </p>
+ *
+ * <ul>
+ *     <li>the refresh requests received during {@link #REFRESH_DELAY} ms are coalesced in one refresh per kind.</li>
+ *     <li>the opened files visible in an editor are refreshed first.</li>
+ *     <li>the other opened files (ex: background tabs) are refreshed when they are selected.</li>
+ * </ul>
+ */
+@ApiStatus.Internal
+public class WorkspaceRefreshBatcher {
+
+    static final long REFRESH_DELAY = 200L;
+
+    /**
+     * The kind of workspace refresh.
+     */
+    public enum RefreshKind {
+        CODE_LENS,
+        INLAY_HINT,
+        SEMANTIC_TOKENS,
+        DIAGNOSTIC
+    }
+
+    /**
+     * Refreshes the given files.
+     */
+    @FunctionalInterface
+    public interface RefreshHandler {
+
+        /**
+         * Refreshes the given files for the given refresh kind.
+         *
+         * @param files the files to refresh.
+         * @param kind  the refresh kind.
+         */
+        void refresh(@NotNull List<VirtualFile> files, @NotNull RefreshKind kind);
+    }
+
+    private final @NotNull Supplier<Collection<VirtualFile>> openedFiles;
+    private final @NotNull Supplier<Collection<VirtualFile>> visibleFiles;
+    private final @NotNull RefreshHandler refreshHandler;
+
+    private final Set<RefreshKind> pendingRefreshes = EnumSet.noneOf(RefreshKind.class);
+    // Refreshes of the files which were not visible, applied when the file is selected
+    private final Map<VirtualFile, Set<RefreshKind>> deferredRefreshes = new HashMap<>();
+    private boolean refreshScheduled;
+
+    /**
+     * Creates a workspace refresh batcher.
+     *
+     * @param openedFiles    the supplier of the files opened by the language server.
+     * @param visibleFiles   the supplier of the files visible in an editor.
+     * @param refreshHandler the handler which refreshes the files.
+     */
+    public WorkspaceRefreshBatcher(@NotNull Supplier<Collection<VirtualFile>> openedFiles,
+                                   @NotNull Supplier<Collection<VirtualFile>> visibleFiles,
+                                   @NotNull RefreshHandler refreshHandler) {
+        this.openedFiles = openedFiles;
+        this.visibleFiles = visibleFiles;
+        this.refreshHandler = refreshHandler;
+    }
+
+    /**
+     * Schedules the refresh of the opened files for the given refresh kind.
+     *
+     * @param kind the refresh kind.
+     */
+    public void scheduleRefresh(@NotNull RefreshKind kind) {
+        synchronized (this) {
+            pendingRefreshes.add(kind);
+            if (refreshScheduled) {
+                // The refresh will be done with the scheduled refresh
+                return;
+            }
+            refreshScheduled = true;
+        }
+        AppExecutorUtil.getAppScheduledExecutorService()
+                .schedule(this::refreshPendingKinds, REFRESH_DELAY, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Refreshes the opened files visible in an editor and defers the refresh of the other opened files.
+     */
+    void refreshPendingKinds() {
+        Set<RefreshKind> kinds;
+        synchronized (this) {
+            refreshScheduled = false;
+            if (pendingRefreshes.isEmpty()) {
+                return;
+            }
+            kinds = EnumSet.copyOf(pendingRefreshes);
+            pendingRefreshes.clear();
+        }
+        Set<VirtualFile> visible = new HashSet<>(visibleFiles.get());
+        List<VirtualFile> filesToRefresh = new ArrayList<>();
+        synchronized (this) {
+            for (var file : openedFiles.get()) {
+                if (visible.contains(file)) {
+                    filesToRefresh.add(file);
+                    // The deferred refreshes are done with this refresh
+                    var deferredKinds = deferredRefreshes.get(file);
+                    if (deferredKinds != null) {
+                        deferredKinds.removeAll(kinds);
+                        if (deferredKinds.isEmpty()) {
+                            deferredRefreshes.remove(file);
+                        }
+                    }
+                } else {
+                    deferredRefreshes.computeIfAbsent(file, k -> EnumSet.noneOf(RefreshKind.class)).addAll(kinds);
+                }
+            }
+        }
+        if (!filesToRefresh.isEmpty()) {
+            for (var kind : kinds) {
+                refreshHandler.refresh(filesToRefresh, kind);
+            }
+        }
+    }
+
+    /**
+     * Applies the deferred refreshes of the given file when it is selected in an editor.
+     *
+     * @param file the selected file.
+     */
+    public void fileSelected(@NotNull VirtualFile file) {
+        Set<RefreshKind> kinds;
+        synchronized (this) {
+            kinds = deferredRefreshes.remove(file);
+        }
+        if (kinds != null) {
+            for (var kind : kinds) {
+                refreshHandler.refresh(List.of(file), kind);
+            }
+        }
+    }
+
+    /**
+     * Forgets the deferred refreshes of the given file when it is closed.
+     *
+     * @param file the closed file.
+     */
+    public synchronized void fileClosed(@NotNull VirtualFile file) {
+        deferredRefreshes.remove(file);
+    }
+
+    /**
+     * Returns true if a refresh of the given file is deferred until it is selected and false otherwise.
+     *
+     * @param file the file.
+     * @return true if a refresh of the given file is deferred until it is selected and false otherwise.
+     */
+    public synchronized boolean hasDeferredRefresh(@NotNull VirtualFile file) {
+        return deferredRefreshes.containsKey(file);
+    }
+}
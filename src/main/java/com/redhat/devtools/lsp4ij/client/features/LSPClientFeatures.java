@@ -19,9 +19,11 @@ import com.redhat.devtools.lsp4ij.LanguageServerWrapper;
 import com.redhat.devtools.lsp4ij.ServerStatus;
 import com.redhat.devtools.lsp4ij.installation.ServerInstallationStatus;
 import com.redhat.devtools.lsp4ij.installation.ServerInstaller;
+import com.redhat.devtools.lsp4ij.internal.PositionEncoding;
 import com.redhat.devtools.lsp4ij.server.capabilities.TextDocumentServerCapabilityRegistry;
 import com.redhat.devtools.lsp4ij.server.definition.LanguageServerDefinition;
 import org.eclipse.lsp4j.InitializeParams;
+import org.eclipse.lsp4j.PositionEncodingKind;
 import org.eclipse.lsp4j.ServerCapabilities;
 import org.eclipse.lsp4j.TextDocumentRegistrationOptions;
 import org.eclipse.lsp4j.services.LanguageServer;
@@ -30,6 +32,8 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.net.URI;
+import java.nio.file.Path;
+import java.util.List;
 
 /**
  * LSP  client features.
@@ -103,6 +107,8 @@ public class LSPClientFeatures implements Disposable, FileUriSupport {
     
     private EditorBehaviorFeature editorBehaviorFeature;
 
+    private @NotNull PositionEncoding positionEncoding = PositionEncoding.UTF16;
+
     public LSPClientFeatures() {
         setFileUriSupport(FileUriSupport.DEFAULT);
     }
@@ -310,6 +316,44 @@ public class LSPClientFeatures implements Disposable, FileUriSupport {
         return false;
     }
 
+    /**
+     * Returns the file where the raw JSON-RPC messages exchanged with the language server are recorded and null if the
+     * traffic must not be recorded.
+     * <p>
+     * The recording can be played back without the language server with
+     * {@link com.redhat.devtools.lsp4ij.server.recording.LSPTrafficReplayConnectionProvider}.
+     *
+     * @return the file where the raw JSON-RPC messages exchanged with the language server are recorded and null if the
+     * traffic must not be recorded.
+     */
+    public @Nullable Path getTrafficRecordingFile() {
+        return null;
+    }
+
+    /**
+     * Returns the timeout (in milliseconds) of the LSP requests of the given method and 0 if the requests never time out.
+     * <p>
+     * The timeout starts when the LSP request is sent to the language server. When the timeout is reached, the LSP
+     * request is cancelled (with '$/cancelRequest') and the feature behaves as if the language server returned no result.
+     *
+     * @param method the LSP method (ex: 'textDocument/codeLens').
+     * @return the timeout (in milliseconds) of the LSP requests of the given method and 0 if the requests never time out.
+     */
+    public long getRequestTimeout(@NotNull String method) {
+        return 0;
+    }
+
+    /**
+     * Returns the number of timeouts or errors in a row of an LSP method which temporarily disables the LSP method for the
+     * language server and 0 if the LSP method must never be disabled (default).
+     *
+     * @return the number of timeouts or errors in a row which temporarily disables an LSP method and 0 if the LSP
+     * method must never be disabled.
+     */
+    public int getCircuitBreakerFailureThreshold() {
+        return 0;
+    }
+
     /**
      * Returns true if the user can stop the language server in LSP console from the context menu and false otherwise.
      * <p>
@@ -322,6 +366,33 @@ public class LSPClientFeatures implements Disposable, FileUriSupport {
         return true;
     }
 
+    /**
+     * Returns the position encodings advertised to the language server with the 'general.positionEncodings' client capability,
+     * in the order of preference.
+     * <p>
+     * By default, only UTF-16 is advertised. A language server which works natively with UTF-8 or UTF-32
+     * (ex: rust-analyzer, clangd, gopls) can advertise them to avoid converting each position to UTF-16.
+     * LSP4IJ translates the positions of the text document synchronization, diagnostics, semantic tokens
+     * and inlay hints with the position encoding chosen by the language server.
+     * </p>
+     *
+     * @return the position encodings advertised to the language server (see {@link org.eclipse.lsp4j.PositionEncodingKind}).
+     */
+    public @NotNull List<String> getPositionEncodings() {
+        return List.of(PositionEncodingKind.UTF16);
+    }
+
+    /**
+     * Returns the position encoding chosen by the language server in the 'positionEncoding' server capability
+     * and UTF-16 otherwise.
+     *
+     * @return the position encoding chosen by the language server and UTF-16 otherwise.
+     */
+    @ApiStatus.Internal
+    public final @NotNull PositionEncoding getPositionEncoding() {
+        return positionEncoding;
+    }
+
     /**
      * Returns the project.
      *
@@ -1425,6 +1496,7 @@ public class LSPClientFeatures implements Disposable, FileUriSupport {
     }
 
     public void setServerCapabilities(@NotNull ServerCapabilities serverCapabilities) {
+        positionEncoding = PositionEncoding.get(serverCapabilities.getPositionEncoding());
         if (callHierarchyFeature != null) {
             callHierarchyFeature.setServerCapabilities(serverCapabilities);
         }
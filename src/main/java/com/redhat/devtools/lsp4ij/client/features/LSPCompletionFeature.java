@@ -15,7 +15,9 @@ import com.intellij.codeInsight.completion.CompletionResultSet;
 import com.intellij.codeInsight.completion.PrioritizedLookupElement;
 import com.intellij.codeInsight.lookup.LookupElement;
 import com.intellij.codeInsight.lookup.LookupElementPresentation;
+import com.intellij.openapi.util.TextRange;
 import com.intellij.psi.PsiFile;
+import com.redhat.devtools.lsp4ij.LSPIJUtils;
 import com.redhat.devtools.lsp4ij.LanguageServerItem;
 import com.redhat.devtools.lsp4ij.features.completion.CompletionPrefix;
 import com.redhat.devtools.lsp4ij.internal.StringUtils;
@@ -45,6 +47,8 @@ public class LSPCompletionFeature extends AbstractLSPDocumentFeature {
         private final @NotNull LanguageServerItem languageServer;
         private Boolean signatureHelpSupported;
         private Boolean resolveCompletionSupported;
+        private TextRange wordRangeAtCompletionOffset;
+        private boolean wordRangeAtCompletionOffsetComputed;
 
         public LSPCompletionContext(@NotNull CompletionParameters parameters, @NotNull LanguageServerItem languageServer) {
             this.parameters = parameters;
@@ -74,6 +78,27 @@ public class LSPCompletionFeature extends AbstractLSPDocumentFeature {
         LanguageServerItem getLanguageServer() {
             return languageServer;
         }
+
+        /**
+         * Returns the word range at the completion offset and null otherwise.
+         *
+         * <p>
+         * The word range is computed once for all completion items which don't define a text edit.
+         * </p>
+         *
+         * @return the word range at the completion offset and null otherwise.
+         */
+        @Nullable
+        @ApiStatus.Internal
+        TextRange getWordRangeAtCompletionOffset() {
+            if (!wordRangeAtCompletionOffsetComputed) {
+                wordRangeAtCompletionOffset = LSPIJUtils.getWordRangeAt(parameters.getEditor().getDocument(),
+                        parameters.getOriginalFile(),
+                        parameters.getOffset());
+                wordRangeAtCompletionOffsetComputed = true;
+            }
+            return wordRangeAtCompletionOffset;
+        }
     }
 
     @Override
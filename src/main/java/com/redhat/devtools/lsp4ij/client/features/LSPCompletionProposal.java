@@ -43,6 +43,7 @@ import com.redhat.devtools.lsp4ij.commands.LSPCommandContext;
 import com.redhat.devtools.lsp4ij.features.completion.CompletionProposalTools;
 import com.redhat.devtools.lsp4ij.features.completion.SnippetTemplateFactory;
 import com.redhat.devtools.lsp4ij.features.completion.snippet.LspSnippetIndentOptions;
+import com.redhat.devtools.lsp4ij.internal.LSPRequestScheduler.Priority;
 import com.redhat.devtools.lsp4ij.internal.StringUtils;
 import org.eclipse.lsp4j.*;
 import org.eclipse.lsp4j.jsonrpc.messages.Either;
@@ -63,7 +64,7 @@ import static com.redhat.devtools.lsp4ij.features.documentation.LSPDocumentation
 import static com.redhat.devtools.lsp4ij.features.documentation.LSPDocumentationHelper.getValidMarkupContents;
 import static com.redhat.devtools.lsp4ij.internal.CompletableFutures.isDoneNormally;
 import static com.redhat.devtools.lsp4ij.internal.CompletableFutures.waitUntilDone;
-import static com.redhat.devtools.lsp4ij.internal.CompletionUtils.computePrefixStartFromInsertText;
+import static com.redhat.devtools.lsp4ij.internal.CompletionUtils.computePrefixStartFromWordRange;
 
 /**
  * LSP completion lookup element.
@@ -88,7 +89,10 @@ public class LSPCompletionProposal extends LookupElement implements Pointer<LSPC
 
     private final Editor editor;
 
-    private CompletableFuture<CompletionItem> resolvedCompletionItemFuture;
+    private volatile CompletableFuture<CompletionItem> resolvedCompletionItemFuture;
+
+    // The priority of the LSP 'completionItem/resolve' request of resolvedCompletionItemFuture
+    private @Nullable Priority resolvedCompletionItemPriority;
 
     public LSPCompletionProposal(@NotNull CompletionItem item,
                                  @NotNull LSPCompletionFeature.LSPCompletionContext completionContext,
@@ -491,14 +495,10 @@ public class LSPCompletionProposal extends LookupElement implements Pointer<LSPC
      * @return the resolved completion item and null otherwise.
      */
     private CompletionItem getResolvedCompletionItem() {
-        if (resolvedCompletionItemFuture == null) {
-            resolvedCompletionItemFuture = completionContext.getLanguageServer().getServer()
-                    .getTextDocumentService()
-                    .resolveCompletionItem(item);
-        }
+        var future = getResolvedCompletionItemFuture(Priority.INTERACTIVE);
         try {
             // Wait until the future is finished and stop the wait if there are some ProcessCanceledException.
-            waitUntilDone(resolvedCompletionItemFuture, file);
+            waitUntilDone(future, file);
         } catch (
                 ProcessCanceledException e) {//Since 2024.2 ProcessCanceledException extends CancellationException so we can't use multicatch to keep backward compatibility
             //TODO delete block when minimum required version is 2024.2
@@ -511,12 +511,57 @@ public class LSPCompletionProposal extends LookupElement implements Pointer<LSPC
         }
 
         ProgressManager.checkCanceled();
-        if (isDoneNormally(resolvedCompletionItemFuture)) {
-            return resolvedCompletionItemFuture.getNow(null);
+        if (isDoneNormally(future)) {
+            return future.getNow(null);
         }
         return null;
     }
 
+    private synchronized @NotNull CompletableFuture<CompletionItem> getResolvedCompletionItemFuture(@NotNull Priority priority) {
+        var languageServer = completionContext.getLanguageServer();
+        var requestScheduler = languageServer.getServerWrapper().getRequestScheduler();
+        if (resolvedCompletionItemFuture == null || resolvedCompletionItemFuture.isCancelled()) {
+            resolvedCompletionItemFuture = requestScheduler
+                    .schedule(priority, () -> languageServer.getServer()
+                            .getTextDocumentService()
+                            .resolveCompletionItem(item));
+            resolvedCompletionItemPriority = priority;
+        } else if (resolvedCompletionItemPriority != null && priority.compareTo(resolvedCompletionItemPriority) < 0) {
+            // The request has been prefetched with a lower priority (ex: the completion item is now selected or applied),
+            // promote it if it is still queued, to not wait for the queued requests
+            requestScheduler.promote(resolvedCompletionItemFuture, priority);
+            resolvedCompletionItemPriority = priority;
+        }
+        return resolvedCompletionItemFuture;
+    }
+
+    /**
+     * Sends the LSP 'completionItem/resolve' request ahead of time for a completion item which is visible in the
+     * completion popup, so that its detail, documentation and additional text edits are available when it is
+     * selected or applied.
+     *
+     * @param selected true if the completion item is the selected item and false otherwise.
+     */
+    public void prefetchResolvedCompletionItem(boolean selected) {
+        if (!completionContext.isResolveCompletionSupported()) {
+            return;
+        }
+        getResolvedCompletionItemFuture(selected ? Priority.INTERACTIVE : Priority.VISIBLE_EDITOR);
+    }
+
+    /**
+     * Cancels the prefetched LSP 'completionItem/resolve' request if it is not done
+     * (ex : the completion item is no longer visible in the completion popup).
+     */
+    public synchronized void cancelPrefetchedResolvedCompletionItem() {
+        if (resolvedCompletionItemFuture != null && !resolvedCompletionItemFuture.isDone()) {
+            // Cancel the LSP request (or remove it from the request queue), it will be sent again if needed
+            resolvedCompletionItemFuture.cancel(true);
+            resolvedCompletionItemFuture = null;
+            resolvedCompletionItemPriority = null;
+        }
+    }
+
     /**
      * Returns true if the LSP completion item is selected and false otherwise.
      *
@@ -543,8 +588,9 @@ public class LSPCompletionProposal extends LookupElement implements Pointer<LSPC
         }
 
         // case 2: text edit is undefined, try to compute the prefix start offset by using insertText
+        // and the word range at the completion offset shared by all completion items
         String insertText = getInsertText();
-        Integer prefixStartOffset = computePrefixStartFromInsertText(document, file, completionOffset, insertText);
+        Integer prefixStartOffset = computePrefixStartFromWordRange(document, completionContext.getWordRangeAtCompletionOffset(), completionOffset, insertText);
         return Objects.requireNonNullElse(prefixStartOffset, completionOffset);
     }
 
@@ -615,6 +661,21 @@ public class LSPCompletionProposal extends LookupElement implements Pointer<LSPC
         return null;
     }
 
+    /**
+     * Render the already available documentation of the completion item to fill the HTML cache of the
+     * {@link com.redhat.devtools.lsp4ij.features.documentation.MarkdownConverter},
+     * so that the documentation popup is shown immediately when the item is selected.
+     */
+    public void prefetchDocumentation() {
+        if (item.getDocumentation() == null) {
+            return;
+        }
+        var contents = getValidMarkupContents(item);
+        if (!contents.isEmpty()) {
+            convertToHtml(contents, null, file);
+        }
+    }
+
     @NotNull
     @Override
     public TargetPresentation computePresentation() {
@@ -24,6 +24,7 @@ import com.intellij.psi.PsiFile;
 import com.redhat.devtools.lsp4ij.LSPIJUtils;
 import com.redhat.devtools.lsp4ij.features.diagnostics.SeverityMapping;
 import com.redhat.devtools.lsp4ij.hint.LSPNavigationLinkHandler;
+import com.redhat.devtools.lsp4ij.internal.PositionMapper;
 import com.redhat.devtools.lsp4ij.internal.StringUtils;
 import com.redhat.devtools.lsp4ij.server.capabilities.DiagnosticCapabilityRegistry;
 import org.eclipse.lsp4j.*;
@@ -33,6 +34,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
+import java.util.function.Supplier;
 
 import static com.redhat.devtools.lsp4ij.inspections.LSPLocalInspectionTool.ID;
 
@@ -81,23 +83,64 @@ public class LSPDiagnosticFeature extends AbstractLSPDocumentFeature {
                                  @NotNull Document document,
                                  @NotNull List<IntentionAction> fixes,
                                  @NotNull AnnotationHolder holder) {
+        AnnotationBuilder builder = newAnnotation(diagnostic, document, holder);
+        if (builder == null) {
+            return;
+        }
+
+        // Register quick fixes
+        for (IntentionAction fix : fixes) {
+            builder.withFix(fix);
+        }
+        builder.create();
+    }
 
+    /**
+     * Create an IntelliJ annotation in the given holder by using given LSP diagnostic and lazy fixes.
+     *
+     * <p>
+     * The fixes are only created when the quick fixes of the annotation are requested (ex: with Alt+Enter), and not
+     * each time the annotations of the file are created.
+     * </p>
+     *
+     * @param diagnostic the LSP diagnostic.
+     * @param document   the document.
+     * @param lazyFixes  the supplier of the fixes coming from LSP CodeAction.
+     * @param holder     the annotation holder where annotation must be registered.
+     */
+    public void createAnnotation(@NotNull Diagnostic diagnostic,
+                                 @NotNull Document document,
+                                 @NotNull Supplier<List<IntentionAction>> lazyFixes,
+                                 @NotNull AnnotationHolder holder) {
+        AnnotationBuilder builder = newAnnotation(diagnostic, document, holder);
+        if (builder == null) {
+            return;
+        }
+
+        // Register lazy quick fixes
+        builder.withLazyQuickFix(registrar -> lazyFixes.get().forEach(registrar::register));
+        builder.create();
+    }
+
+    private @Nullable AnnotationBuilder newAnnotation(@NotNull Diagnostic diagnostic,
+                                                      @NotNull Document document,
+                                                      @NotNull AnnotationHolder holder) {
         // Get the text range from the given LSP diagnostic range.
         // Since IJ cannot highlight an error when the start/end range offset are the same
         // the method LSPIJUtils.toTextRange is called with adjust, in other words when start/end range offset are the same:
         // - when the offset is at the end of the line, the method returns a text range with the same  offset,
         // and annotation must be created with Annotation#setAfterEndOfLine(true).
         // - when the offset is inside the line, the end offset is incremented.
-        TextRange range = LSPIJUtils.toTextRange(diagnostic.getRange(), document, null, true);
+        TextRange range = LSPIJUtils.toTextRange(diagnostic.getRange(), document, PositionMapper.getInstance(document), getClientFeatures().getPositionEncoding(), null, true);
         if (range == null) {
             // Language server reports invalid diagnostic, ignore it.
-            return;
+            return null;
         }
 
         HighlightSeverity severity = getHighlightSeverity(diagnostic);
         if (severity == null) {
             // Ignore the diagnostic
-            return;
+            return null;
         }
 
         // Collect information required to create Intellij Annotations
@@ -118,12 +161,7 @@ public class LSPDiagnosticFeature extends AbstractLSPDocumentFeature {
         if (highlightType != null) {
             builder.highlightType(highlightType);
         }
-
-        // Register lazy quick fixes
-        for (IntentionAction fix : fixes) {
-            builder.withFix(fix);
-        }
-        builder.create();
+        return builder;
     }
 
     /**
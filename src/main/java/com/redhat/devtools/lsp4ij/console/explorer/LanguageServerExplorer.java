@@ -36,11 +36,11 @@ import org.jetbrains.annotations.Nullable;
 import javax.swing.event.TreeSelectionListener;
 import javax.swing.tree.DefaultMutableTreeNode;
 import javax.swing.tree.DefaultTreeModel;
-import javax.swing.tree.TreeNode;
 import javax.swing.tree.TreePath;
 import java.awt.*;
 import java.util.*;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Language server explorer which shows language servers and their process.
@@ -53,6 +53,8 @@ public class LanguageServerExplorer extends SimpleToolWindowPanel implements Dis
 
     private final Tree tree;
     private final LanguageServerExplorerLifecycleListener listener;
+    // Language server nodes indexed by server definition, updated with the server definition listener
+    private final Map<LanguageServerDefinition, LanguageServerTreeNode> serverNodes = new ConcurrentHashMap<>();
     private final LanguageServerDefinitionListener definitionListener = new LanguageServerDefinitionListener() {
 
         @Override
@@ -61,7 +63,7 @@ public class LanguageServerExplorer extends SimpleToolWindowPanel implements Dis
             DefaultTreeModel treeModel = (DefaultTreeModel) tree.getModel();
             DefaultMutableTreeNode root = (DefaultMutableTreeNode) treeModel.getRoot();
             for (var serverDefinition : event.serverDefinitions) {
-                root.add(new LanguageServerTreeNode(serverDefinition));
+                root.add(createServerNode(serverDefinition));
             }
             treeModel.reload(root);
             // Select the new language server node
@@ -74,7 +76,7 @@ public class LanguageServerExplorer extends SimpleToolWindowPanel implements Dis
             DefaultTreeModel treeModel = (DefaultTreeModel) tree.getModel();
             DefaultMutableTreeNode root = (DefaultMutableTreeNode) treeModel.getRoot();
             for (var serverDefinition : event.serverDefinitions) {
-                LanguageServerTreeNode node = findNodeForServer(serverDefinition);
+                LanguageServerTreeNode node = serverNodes.remove(serverDefinition);
                 if (node != null) {
                     // Remove the language server definition from the tree
                     root.remove(node);
@@ -105,18 +107,13 @@ public class LanguageServerExplorer extends SimpleToolWindowPanel implements Dis
 
 
     public @Nullable LanguageServerTreeNode findNodeForServer(@NotNull LanguageServerDefinition serverDefinition) {
-        DefaultTreeModel treeModel = (DefaultTreeModel) tree.getModel();
-        DefaultMutableTreeNode root = (DefaultMutableTreeNode) treeModel.getRoot();
-        Enumeration<TreeNode> children = root.children();
-        while (children.hasMoreElements()) {
-            TreeNode child = children.nextElement();
-            if (child instanceof LanguageServerTreeNode serverTreeNode) {
-                if (serverDefinition.equals(serverTreeNode.getServerDefinition())) {
-                    return serverTreeNode;
-                }
-            }
-        }
-        return null;
+        return serverNodes.get(serverDefinition);
+    }
+
+    private @NotNull LanguageServerTreeNode createServerNode(@NotNull LanguageServerDefinition serverDefinition) {
+        var node = new LanguageServerTreeNode(serverDefinition);
+        serverNodes.put(serverDefinition, node);
+        return node;
     }
 
     private boolean disposed;
@@ -293,12 +290,12 @@ public class LanguageServerExplorer extends SimpleToolWindowPanel implements Dis
 
     }
 
-    private static void loadLanguageServerDefinitions(DefaultMutableTreeNode top) {
+    private void loadLanguageServerDefinitions(DefaultMutableTreeNode top) {
         LanguageServersRegistry.getInstance()
                 .getServerDefinitions()
                 .stream()
                 .sorted(Comparator.comparing(LanguageServerDefinition::getDisplayName))
-                .map(LanguageServerTreeNode::new)
+                .map(this::createServerNode)
                 .forEach(top::add);
     }
 
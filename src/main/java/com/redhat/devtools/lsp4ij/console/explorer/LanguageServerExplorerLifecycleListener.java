@@ -13,16 +13,20 @@
  *******************************************************************************/
 package com.redhat.devtools.lsp4ij.console.explorer;
 
+import com.intellij.util.concurrency.AppExecutorUtil;
 import com.redhat.devtools.lsp4ij.LanguageServerWrapper;
 import com.redhat.devtools.lsp4ij.ServerStatus;
 import com.redhat.devtools.lsp4ij.lifecycle.LanguageServerLifecycleListener;
+import com.redhat.devtools.lsp4ij.settings.ServerTrace;
 import org.eclipse.lsp4j.jsonrpc.MessageConsumer;
 import org.eclipse.lsp4j.jsonrpc.messages.Message;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Objects;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
 
 import static com.redhat.devtools.lsp4ij.internal.ApplicationUtils.invokeLaterIfNeeded;
 
@@ -35,6 +39,7 @@ import static com.redhat.devtools.lsp4ij.internal.ApplicationUtils.invokeLaterIf
 public class LanguageServerExplorerLifecycleListener implements LanguageServerLifecycleListener {
 
     private static final long TRACE_FLUSH_DELAY_MS = 500L; // Debounce delay before flushing LSP traces
+    private static final long REQUESTS_QUEUE_STATE_REFRESH_DELAY_MS = 500L; // Throttle delay of the LSP requests queue state refresh
     private final LanguageServerExplorer explorer;
     private boolean disposed;
 
@@ -53,12 +58,15 @@ public class LanguageServerExplorerLifecycleListener implements LanguageServerLi
     public void handleLSPMessage(@NotNull Message message,
                                  @NotNull MessageConsumer messageConsumer,
                                  @NotNull LanguageServerWrapper languageServer) {
-        if (explorer.isDisposed()) {
+        // This method is called for each LSP message: when traces are off, the only cost is
+        // the read of the cached server trace.
+        // The process node is created and updated by the status changes and the requests queue state
+        // is refreshed by the requests scheduler.
+        if (languageServer.getServerTrace() == ServerTrace.off || explorer.isDisposed()) {
             return;
         }
 
-        // Update UI server status
-        @Nullable LanguageServerProcessTreeNode processTreeNode = updateServerStatus(languageServer, null, false);
+        @Nullable LanguageServerProcessTreeNode processTreeNode = getOrCreateProcessTreeNode(languageServer);
         if (processTreeNode != null && languageServer.addTrace(message, messageConsumer)) {
             // Display traces in LSP console
             scheduleFlushLogs(languageServer, processTreeNode);
@@ -104,6 +112,19 @@ public class LanguageServerExplorerLifecycleListener implements LanguageServerLi
         invokeLaterIfNeeded(() -> showError(processTreeNode, exception));
     }
 
+    private @Nullable LanguageServerProcessTreeNode getOrCreateProcessTreeNode(@NotNull LanguageServerWrapper languageServer) {
+        LanguageServerTreeNode serverNode = explorer.findNodeForServer(languageServer.getServerDefinition());
+        if (serverNode == null) {
+            // Should never occur.
+            return null;
+        }
+        var processTreeNode = serverNode.getActiveProcessTreeNode();
+        if (processTreeNode != null) {
+            return processTreeNode;
+        }
+        return updateServerStatus(languageServer, null, false);
+    }
+
     private @Nullable LanguageServerProcessTreeNode updateServerStatus(@NotNull LanguageServerWrapper languageServer,
                                                                        @Nullable ServerStatus serverStatus,
                                                                        boolean selectProcess) {
@@ -122,6 +143,12 @@ public class LanguageServerExplorerLifecycleListener implements LanguageServerLi
             }
             selectProcess = true;
             serverNode.add(processTreeNode);
+            // Refresh the requests queue state when the requests scheduler or the circuit breaker state changes
+            final var node = processTreeNode;
+            languageServer.getRequestScheduler()
+                    .setQueueStateChangedHandler(() -> scheduleRequestsQueueStateRefresh(languageServer, node));
+            languageServer.getFeatureCircuitBreaker()
+                    .setStateChangedHandler(() -> scheduleRequestsQueueStateRefresh(languageServer, node));
         }
         boolean serverStatusChanged = serverStatus != null && serverStatus != processTreeNode.getServerStatus();
         boolean updateUI = serverStatusChanged || selectProcess;
@@ -145,6 +172,31 @@ public class LanguageServerExplorerLifecycleListener implements LanguageServerLi
         return processTreeNode;
     }
 
+    private void scheduleRequestsQueueStateRefresh(@NotNull LanguageServerWrapper languageServer,
+                                                   @NotNull LanguageServerProcessTreeNode node) {
+        if (disposed || !node.markRequestsQueueStateRefreshScheduled()) {
+            // A refresh is already scheduled, it will display the last queue state
+            return;
+        }
+        AppExecutorUtil.getAppScheduledExecutorService().schedule(() -> {
+            node.unmarkRequestsQueueStateRefreshScheduled();
+            if (disposed || explorer.isDisposed()) {
+                return;
+            }
+            String requestsQueueState = languageServer.getRequestScheduler().getQueueState();
+            String circuitBreakerState = languageServer.getFeatureCircuitBreaker().getState();
+            if (!Objects.equals(requestsQueueState, node.getRequestsQueueState())
+                    || !Objects.equals(circuitBreakerState, node.getCircuitBreakerState())) {
+                invokeLaterIfNeeded(() -> {
+                    if (!explorer.isDisposed()) {
+                        node.setRequestsQueueState(requestsQueueState);
+                        node.setCircuitBreakerState(circuitBreakerState);
+                    }
+                });
+            }
+        }, REQUESTS_QUEUE_STATE_REFRESH_DELAY_MS, TimeUnit.MILLISECONDS);
+    }
+
     private void showTrace(LanguageServerProcessTreeNode processTreeNode, String message) {
         if (explorer.isDisposed()) {
             return;
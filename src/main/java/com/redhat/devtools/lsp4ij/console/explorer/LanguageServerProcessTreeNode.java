@@ -24,6 +24,7 @@ import org.jetbrains.annotations.Nullable;
 import javax.swing.*;
 import javax.swing.tree.DefaultMutableTreeNode;
 import javax.swing.tree.DefaultTreeModel;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Language server process node.
@@ -42,6 +43,12 @@ public class LanguageServerProcessTreeNode extends DefaultMutableTreeNode {
 
     private String displayName;
 
+    private @Nullable String requestsQueueState;
+
+    private @Nullable String circuitBreakerState;
+
+    private final AtomicBoolean requestsQueueStateRefreshScheduled = new AtomicBoolean();
+
     public LanguageServerProcessTreeNode(LanguageServerWrapper languageServer, DefaultTreeModel treeModel) {
         this.languageServer = languageServer;
         this.treeModel = treeModel;
@@ -142,6 +149,47 @@ public class LanguageServerProcessTreeNode extends DefaultMutableTreeNode {
         return displayName;
     }
 
+    /**
+     * Returns the state of the LSP requests queue (ex: 'requests: 3 running, 5 queued') and null if there is no running request.
+     *
+     * @return the state of the LSP requests queue and null if there is no running request.
+     */
+    public @Nullable String getRequestsQueueState() {
+        return requestsQueueState;
+    }
+
+    public void setRequestsQueueState(@Nullable String requestsQueueState) {
+        this.requestsQueueState = requestsQueueState;
+        treeModel.nodeChanged(this);
+    }
+
+    /**
+     * Returns the LSP features disabled by the circuit breaker (ex: 'disabled: textDocument/codeLens') and null if no feature is disabled.
+     *
+     * @return the LSP features disabled by the circuit breaker and null if no feature is disabled.
+     */
+    public @Nullable String getCircuitBreakerState() {
+        return circuitBreakerState;
+    }
+
+    public void setCircuitBreakerState(@Nullable String circuitBreakerState) {
+        this.circuitBreakerState = circuitBreakerState;
+        treeModel.nodeChanged(this);
+    }
+
+    /**
+     * Marks the LSP requests queue state as scheduled for refresh.
+     *
+     * @return true if the refresh was not already scheduled and false otherwise.
+     */
+    boolean markRequestsQueueStateRefreshScheduled() {
+        return requestsQueueStateRefreshScheduled.compareAndSet(false, true);
+    }
+
+    void unmarkRequestsQueueStateRefreshScheduled() {
+        requestsQueueStateRefreshScheduled.set(false);
+    }
+
     public @Nullable String getElapsedTime() {
         if (!languageServer.isEnabled()) {
             return null;
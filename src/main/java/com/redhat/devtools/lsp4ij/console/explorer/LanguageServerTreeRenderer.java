@@ -63,6 +63,16 @@ public class LanguageServerTreeRenderer extends ColoredTreeCellRenderer {
             // Render of language server process
             setIcon(languageProcessTreeNode.getIcon());
             append(languageProcessTreeNode.getDisplayName());
+            String requestsQueueState = languageProcessTreeNode.getRequestsQueueState();
+            if (requestsQueueState != null) {
+                // Display the running / queued LSP requests
+                append(SPACE_STRING + requestsQueueState, SimpleTextAttributes.GRAYED_ATTRIBUTES);
+            }
+            String circuitBreakerState = languageProcessTreeNode.getCircuitBreakerState();
+            if (circuitBreakerState != null) {
+                // Display the LSP features disabled because they time out or fail
+                append(SPACE_STRING + circuitBreakerState, SimpleTextAttributes.ERROR_ATTRIBUTES);
+            }
 
             if (languageProcessTreeNode.getServerStatus() == ServerStatus.starting
                     || languageProcessTreeNode.getServerStatus() == ServerStatus.stopping
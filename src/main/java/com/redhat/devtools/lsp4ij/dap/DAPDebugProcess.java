@@ -43,6 +43,7 @@ import com.redhat.devtools.lsp4ij.dap.client.DAPStackFrame;
 import com.redhat.devtools.lsp4ij.dap.client.DAPSuspendContext;
 import com.redhat.devtools.lsp4ij.dap.client.files.DAPFileRegistry;
 import com.redhat.devtools.lsp4ij.dap.configurations.DAPCommandLineState;
+import com.redhat.devtools.lsp4ij.dap.console.DAPOutputBuffer;
 import com.redhat.devtools.lsp4ij.dap.descriptors.DebugAdapterDescriptor;
 import com.redhat.devtools.lsp4ij.dap.disassembly.DAPAlternativeSourceHandler;
 import com.redhat.devtools.lsp4ij.dap.disassembly.DisassemblyFile;
@@ -63,6 +64,7 @@ import javax.swing.*;
 import java.io.IOException;
 import java.net.InetAddress;
 import java.util.HashMap;
+import java.util.List;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
@@ -86,6 +88,9 @@ public class DAPDebugProcess extends XDebugProcess implements Disposable {
     private final @NotNull DAPAlternativeSourceHandler alternativeSourceHandler;
     private final long sessionId;
 
+    // Buffer of the text printed in the debug console
+    private final @NotNull DAPOutputBuffer outputBuffer;
+
     private @Nullable CompletableFuture<Void> connectToServerFuture;
     private Status status;
     private Supplier<TransportStreams> streamsSupplier;
@@ -106,6 +111,7 @@ public class DAPDebugProcess extends XDebugProcess implements Disposable {
         this.disassemblyBreakpointHandler = serverDescriptor.createDisassemblyBreakpointHandler(session, project);
         this.alternativeSourceHandler = new DAPAlternativeSourceHandler(this);
         this.threadsPanel = new ThreadsPanel(this);
+        this.outputBuffer = new DAPOutputBuffer(this::printInConsole, serverDescriptor.getMaxOutputLinesPerSecond());
         this.status = Status.NONE;
 
         // At this step, the DAP server process is launched (but we don't know if the process is started correctly)
@@ -354,17 +360,44 @@ public class DAPDebugProcess extends XDebugProcess implements Disposable {
         if (message == null || StringUtils.isBlank(message)) {
             return;
         }
+        outputBuffer.append(withNewLine(message), type);
+    }
+
+    /**
+     * Print the given output of the debuggee in the console.
+     *
+     * <p>
+     * The output is buffered and the lines which exceed the max output lines per second
+     * of the debug adapter descriptor are dropped.
+     * </p>
+     *
+     * @param output the output of the debuggee.
+     * @param type   the console content type.
+     */
+    public void printOutput(@Nullable String output, @NotNull ConsoleViewContentType type) {
+        if (output == null || StringUtils.isBlank(output)) {
+            return;
+        }
+        outputBuffer.appendOutput(withNewLine(output), type);
+    }
+
+    private static @NotNull String withNewLine(@NotNull String message) {
         if (message.charAt(message.length() - 1) != '\n') {
-            message += "\n";
+            return message + "\n";
         }
-        final String text = message;
+        return message;
+    }
+
+    private void printInConsole(@NotNull List<DAPOutputBuffer.Chunk> chunks) {
+        // One EDT dispatch for all the buffered text
         AppUIUtil.invokeOnEdt(() -> {
             var consoleView = getSession().getConsoleView();
             if (consoleView == null) {
                 return;
-
             }
-            consoleView.print(text, type);
+            for (var chunk : chunks) {
+                consoleView.print(chunk.text(), chunk.type());
+            }
         });
     }
 
@@ -506,6 +539,8 @@ public class DAPDebugProcess extends XDebugProcess implements Disposable {
 
     @Override
     public void dispose() {
+        // Print the buffered text
+        outputBuffer.dispose();
         CancellationSupport.cancel(serverReadyFuture);
         CancellationSupport.cancel(connectToServerFuture);
         if (parentClient != null) {
@@ -518,6 +553,7 @@ public class DAPDebugProcess extends XDebugProcess implements Disposable {
         if (disassemblyFile != null) {
             disassemblyFile.dispose();
         }
+        DAPFileRegistry.getInstance().releaseSession(getProject(), getConfigName(), sessionId);
     }
 
     public long getSessionId() {
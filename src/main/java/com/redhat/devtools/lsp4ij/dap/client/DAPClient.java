@@ -299,7 +299,7 @@ public class DAPClient implements IDebugProtocolClient, Disposable {
     public void output(OutputEventArguments args) {
         String output = args.getOutput();
         if (StringUtils.isNotBlank(output)) {
-            debugProcess.print(output, getContentType(args.getCategory()));
+            debugProcess.printOutput(output, getContentType(args.getCategory()));
         }
     }
 
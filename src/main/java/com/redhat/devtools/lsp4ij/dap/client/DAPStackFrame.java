@@ -93,7 +93,8 @@ public class DAPStackFrame extends XStackFrame {
             // the SourceRequest (even if a path is specified).
             var file = DAPFileRegistry.getInstance().getOrCreateDAPFile(client.getConfigName(), getValidSourceName(source), client.getProject());
             if (file.shouldReload(getClient().getSessionId())) {
-                return new DAPSourceReferencePosition(file, sourceReference, line, client);
+                var contentKey = DAPFileRegistry.SourceContentKey.of(client.getServerDescriptor().getId(), source);
+                return new DAPSourceReferencePosition(file, sourceReference, contentKey, line, client);
             }
             return XDebuggerUtil.getInstance().createPosition(file, line);
         }
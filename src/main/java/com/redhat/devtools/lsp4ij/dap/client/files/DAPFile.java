@@ -76,6 +76,15 @@ public abstract class DAPFile extends LightVirtualFile {
         return true;
     }
 
+    /**
+     * Returns the id of the last debug session which has loaded the file content and 0 otherwise.
+     *
+     * @return the id of the last debug session which has loaded the file content and 0 otherwise.
+     */
+    public long getSessionId() {
+        return sessionId;
+    }
+
     @Override
     public boolean isWritable() {
         return true;
@@ -12,12 +12,20 @@
 package com.redhat.devtools.lsp4ij.dap.client.files;
 
 import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.fileEditor.FileEditorManager;
 import com.intellij.openapi.project.Project;
 import com.redhat.devtools.lsp4ij.dap.disassembly.DisassemblyFile;
+import org.eclipse.lsp4j.debug.Checksum;
+import org.eclipse.lsp4j.debug.Source;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * Registry of {@link DAPFile} instances for all projects and run/debug configurations.
@@ -31,13 +39,69 @@ import java.util.Map;
  * </pre>
  * where {@code $projectLocationHash} is a unique identifier of the project location,
  * and {@code $configName} is the name of the run/debug configuration.
+ * <p>
+ * The registry is bounded:
+ * <ul>
+ *     <li>the source reference files which are not opened in an editor are released when their debug session ends
+ *     (see {@link #releaseSession(Project, String, long)}).</li>
+ *     <li>when the registry contains more than {@link #MAX_SOURCE_REFERENCE_FILES} source reference files,
+ *     the least recently used files which are not opened in an editor are evicted.</li>
+ * </ul>
+ * <p>
+ * It hosts too a bounded cache of the source contents returned by the DAP 'source' request, keyed by
+ * (debug adapter, sourceReference, checksums), so that an unchanged source is not downloaded again
+ * by the next debug sessions.
  */
 public class DAPFileRegistry {
 
+    static final int MAX_SOURCE_REFERENCE_FILES = 200;
+
+    static final int MAX_SOURCE_CONTENTS_SIZE = 8 * 1024 * 1024;
+
+    /**
+     * Key of a source content in the cache.
+     *
+     * @param adapterId       the debug adapter id.
+     * @param sourceReference the DAP sourceReference.
+     * @param checksums       the checksums of the source.
+     */
+    public record SourceContentKey(@NotNull String adapterId, int sourceReference, @NotNull String checksums) {
+
+        /**
+         * Returns the key of the content of the given source and null if the content cannot be cached.
+         * <p>
+         * A sourceReference is only valid for a debug session, so the content is cached only when the source
+         * provides checksums which guarantee that the content is the same.
+         *
+         * @param adapterId the debug adapter id.
+         * @param source    the DAP source.
+         * @return the key of the content of the given source and null if the content cannot be cached.
+         */
+        public static @Nullable SourceContentKey of(@Nullable String adapterId, @NotNull Source source) {
+            Integer sourceReference = source.getSourceReference();
+            Checksum[] checksums = source.getChecksums();
+            if (adapterId == null || sourceReference == null || sourceReference <= 0 || checksums == null || checksums.length == 0) {
+                return null;
+            }
+            String checksumsKey = Arrays.stream(checksums)
+                    .map(checksum -> checksum.getAlgorithm() + ":" + checksum.getChecksum())
+                    .sorted(Comparator.naturalOrder())
+                    .collect(Collectors.joining(","));
+            return new SourceContentKey(adapterId, sourceReference, checksumsKey);
+        }
+    }
+
     /**
-     * Cache mapping virtual paths to DisassemblyFile instances.
+     * Cache mapping virtual paths to DAPFile instances (in access order).
      */
-    private static final Map<String, DAPFile> dapFilesCache = new HashMap<>();
+    private final Map<String, DAPFile> dapFilesCache = new LinkedHashMap<>(16, 0.75f, true);
+    private int sourceReferenceFilesCount;
+
+    /**
+     * Cache of the source contents (in access order).
+     */
+    private final Map<SourceContentKey, String> sourceContentsCache = new LinkedHashMap<>(16, 0.75f, true);
+    private long sourceContentsSize;
 
     /**
      * Returns the singleton instance of this registry for the current application.
@@ -53,7 +117,7 @@ public class DAPFileRegistry {
      * or creates a new one if it does not exist.
      *
      * @param configName the name of the run/debug configuration
-     * @param configName the name of the run/debug configuration
+     * @param sourceName the source name
      * @param project    the project owning this disassembly file
      * @return the corresponding DisassemblyFile instance
      */
@@ -61,26 +125,115 @@ public class DAPFileRegistry {
                                                @NotNull String sourceName,
                                                @NotNull Project project) {
         // Construct the virtual path used as key in the cache
-        String path = project.getLocationHash() + "/" + configName + "/" + sourceName;
-
-        // First attempt to get from cache without synchronization (fast path)
-        var file = dapFilesCache.get(path);
-        if (file != null) {
-            return file;
-        }
+        String path = getConfigPath(configName, project) + sourceName;
 
         // Synchronize on cache to avoid creating duplicates in multithreaded environment
+        // (a get updates the access order of the cache)
         synchronized (dapFilesCache) {
-            file = dapFilesCache.get(path);
+            var file = dapFilesCache.get(path);
             if (file != null) {
                 return file;
             }
 
             // Create a new DisassemblyFile and put it into the cache
-            file = DisassemblyFile.FILE_NAME.equals(sourceName) ?  new DisassemblyFile(configName, path, project) : new SourceReferenceFile(sourceName, path, project);
+            if (DisassemblyFile.FILE_NAME.equals(sourceName)) {
+                file = new DisassemblyFile(configName, path, project);
+            } else {
+                file = new SourceReferenceFile(sourceName, path, project);
+                sourceReferenceFilesCount++;
+            }
             dapFilesCache.put(file.getPath(), file);
+            if (sourceReferenceFilesCount > MAX_SOURCE_REFERENCE_FILES) {
+                evictSourceReferenceFiles();
+            }
             return file;
         }
     }
 
+    /**
+     * Releases the source reference files loaded by the given debug session which are not opened in an editor.
+     *
+     * @param project    the project.
+     * @param configName the name of the run/debug configuration.
+     * @param sessionId  the debug session id.
+     */
+    public void releaseSession(@NotNull Project project,
+                               @NotNull String configName,
+                               long sessionId) {
+        String configPath = getConfigPath(configName, project);
+        synchronized (dapFilesCache) {
+            Iterator<DAPFile> it = dapFilesCache.values().iterator();
+            while (it.hasNext()) {
+                DAPFile file = it.next();
+                if (file instanceof SourceReferenceFile &&
+                        file.getSessionId() == sessionId &&
+                        file.getPath().startsWith(configPath) &&
+                        !isOpened(file)) {
+                    it.remove();
+                    sourceReferenceFilesCount--;
+                }
+            }
+        }
+    }
+
+    /**
+     * Evicts the least recently used source reference files which are not opened in an editor.
+     */
+    private void evictSourceReferenceFiles() {
+        Iterator<DAPFile> it = dapFilesCache.values().iterator();
+        while (it.hasNext() && sourceReferenceFilesCount > MAX_SOURCE_REFERENCE_FILES) {
+            DAPFile file = it.next();
+            if (file instanceof SourceReferenceFile && !isOpened(file)) {
+                it.remove();
+                sourceReferenceFilesCount--;
+            }
+        }
+    }
+
+    private static boolean isOpened(@NotNull DAPFile file) {
+        Project project = file.getProject();
+        return !project.isDisposed() && FileEditorManager.getInstance(project).isFileOpen(file);
+    }
+
+    private static @NotNull String getConfigPath(@NotNull String configName, @NotNull Project project) {
+        return project.getLocationHash() + "/" + configName + "/";
+    }
+
+    /**
+     * Returns the cached content of the source identified by the given key and null otherwise.
+     *
+     * @param key the source content key.
+     * @return the cached content of the source identified by the given key and null otherwise.
+     */
+    public @Nullable String getSourceContent(@NotNull SourceContentKey key) {
+        synchronized (sourceContentsCache) {
+            return sourceContentsCache.get(key);
+        }
+    }
+
+    /**
+     * Caches the content of the source identified by the given key.
+     *
+     * @param key     the source content key.
+     * @param content the source content.
+     */
+    public void putSourceContent(@NotNull SourceContentKey key, @NotNull String content) {
+        if (content.length() > MAX_SOURCE_CONTENTS_SIZE) {
+            return;
+        }
+        synchronized (sourceContentsCache) {
+            String oldContent = sourceContentsCache.put(key, content);
+            if (oldContent != null) {
+                sourceContentsSize -= oldContent.length();
+            }
+            sourceContentsSize += content.length();
+            // Evict the least recently used contents
+            Iterator<String> it = sourceContentsCache.values().iterator();
+            while (sourceContentsSize > MAX_SOURCE_CONTENTS_SIZE && it.hasNext()) {
+                sourceContentsSize -= it.next().length();
+                it.remove();
+            }
+        }
+    }
+
 }
@@ -15,6 +15,7 @@ import com.intellij.openapi.fileEditor.FileDocumentManager;
 import com.redhat.devtools.lsp4ij.dap.client.DAPClient;
 import org.eclipse.lsp4j.debug.SourceArguments;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.concurrent.CompletableFuture;
 
@@ -31,9 +32,10 @@ public class DAPSourceReferencePosition extends DeferredSourcePosition<DAPSource
      * Encapsulates the parameters required to resolve a DAP source reference.
      *
      * @param sourceReference the DAP sourceReference identifier
+     * @param contentKey      the key of the source content in the {@link DAPFileRegistry} cache and null if the content cannot be cached
      * @param line            the initial line number to navigate to after loading
      */
-    public record SourceParams(@NotNull int sourceReference, int line) {}
+    public record SourceParams(@NotNull int sourceReference, @Nullable DAPFileRegistry.SourceContentKey contentKey, int line) {}
 
     /**
      * Creates a deferred source position based on a DAP sourceReference.
@@ -47,15 +49,35 @@ public class DAPSourceReferencePosition extends DeferredSourcePosition<DAPSource
                                       int sourceReference,
                                       int line,
                                       @NotNull DAPClient client) {
-        super(new SourceParams(sourceReference, line), file, client);
+        this(file, sourceReference, null, line, client);
+    }
+
+    /**
+     * Creates a deferred source position based on a DAP sourceReference.
+     *
+     * @param file            the file associated with this position
+     * @param sourceReference the DAP sourceReference to fetch content
+     * @param contentKey      the key of the source content in the {@link DAPFileRegistry} cache and null if the content cannot be cached
+     * @param line            the target line number in the source
+     * @param client          the DAP client used to communicate with the debug adapter
+     */
+    public DAPSourceReferencePosition(@NotNull DAPFile file,
+                                      int sourceReference,
+                                      @Nullable DAPFileRegistry.SourceContentKey contentKey,
+                                      int line,
+                                      @NotNull DAPClient client) {
+        super(new SourceParams(sourceReference, contentKey, line), file, client);
     }
 
     /**
      * Asynchronously loads the source content and resolves the line number.
      * <p>
+     * The content is taken from the {@link DAPFileRegistry} cache when the source has not changed since a previous
+     * debug session, otherwise it is fetched from the debug adapter.
      * If the server returns content, the editor document is updated in a write command action:
      * <ul>
      *     <li>Line endings are normalized to LF.</li>
+     *     <li>The document is not modified when it has already the content.</li>
      *     <li>The document is set to read-only.</li>
      *     <li>The requested line number is returned.</li>
      * </ul>
@@ -70,6 +92,15 @@ public class DAPSourceReferencePosition extends DeferredSourcePosition<DAPSource
     protected CompletableFuture<Integer> loadAndResolveLineAsync(@NotNull SourceParams params,
                                                                  @NotNull DAPFile file,
                                                                  @NotNull DAPClient client) {
+        var contentKey = params.contentKey();
+        if (contentKey != null) {
+            String cachedContent = DAPFileRegistry.getInstance().getSourceContent(contentKey);
+            if (cachedContent != null) {
+                // The source has not changed since a previous debug session
+                return updateDocument(cachedContent, params.line(), client);
+            }
+        }
+
         var args = new SourceArguments();
         args.setSourceReference(params.sourceReference);
 
@@ -79,28 +110,36 @@ public class DAPSourceReferencePosition extends DeferredSourcePosition<DAPSource
                 .thenCompose(sourceResponse -> {
                     if (sourceResponse != null) {
                         String content = sourceResponse.getContent() != null ? sourceResponse.getContent() : "";
-
-                        // CompletableFuture that completes once the document is updated
-                        CompletableFuture<Integer> updatedDoc = new CompletableFuture<>();
-
-                        // Update the editor document inside a write command action
-                        WriteCommandAction.runWriteCommandAction(client.getProject(), () -> {
-                            var doc = FileDocumentManager.getInstance().getDocument(getFile());
-                            if (doc != null && doc.isWritable()) {
-                                // Normalize line endings to LF
-                                String normalized = content.replace("\r\n", "\n");
-                                doc.setText(normalized);
-                                doc.setReadOnly(true); // Make the document read-only
-                            }
-                            // Complete the future with the requested line number
-                            updatedDoc.complete(params.line());
-                        });
-
-                        return updatedDoc;
+                        // Normalize line endings to LF
+                        String normalized = content.replace("\r\n", "\n");
+                        if (contentKey != null) {
+                            DAPFileRegistry.getInstance().putSourceContent(contentKey, normalized);
+                        }
+                        return updateDocument(normalized, params.line(), client);
                     }
 
                     // If no content returned, just return the provided line
                     return CompletableFuture.completedFuture(params.line());
                 });
     }
+
+    private CompletableFuture<Integer> updateDocument(@NotNull String content,
+                                                      int line,
+                                                      @NotNull DAPClient client) {
+        // CompletableFuture that completes once the document is updated
+        CompletableFuture<Integer> updatedDoc = new CompletableFuture<>();
+
+        // Update the editor document inside a write command action
+        WriteCommandAction.runWriteCommandAction(client.getProject(), () -> {
+            var doc = FileDocumentManager.getInstance().getDocument(getFile());
+            if (doc != null && doc.isWritable() && !content.contentEquals(doc.getImmutableCharSequence())) {
+                doc.setText(content);
+                doc.setReadOnly(true); // Make the document read-only
+            }
+            // Complete the future with the requested line number
+            updatedDoc.complete(line);
+        });
+
+        return updatedDoc;
+    }
 }
@@ -0,0 +1,257 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.lsp4ij.dap.console;
+
+import com.intellij.execution.ui.ConsoleViewContentType;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Buffer of the text printed in the debug console of a DAP session.
+ *
+ * <p>
+ * A debuggee can write thousands of lines per second ('output' DAP events). Printing each event in the console with
+ * one EDT dispatch freezes the IDE, so the buffer:
+ * </p>
+ *
+ * <ul>
+ *     <li>groups the consecutive text which has the same content type in one chunk.</li>
+ *     <li>flushes the chunks {@link #FLUSH_DELAY} ms after the first buffered text, or as soon as
+ *     {@link #FLUSH_SIZE_THRESHOLD} characters are buffered. The printer is called once per flush with all chunks.</li>
+ *     <li>drops the debuggee output lines which exceed the max lines per second and prints a
+ *     'N lines dropped' marker where they have been dropped (before the next printed text, or on flush when no text
+ *     is printed after them).</li>
+ * </ul>
+ *
+ * <p>
+ * Once disposed, the buffer ignores the appended text and the pending delayed flush.
+ * </p>
+ */
+@ApiStatus.Internal
+public class DAPOutputBuffer {
+
+    /**
+     * Default max number of debuggee output lines printed per second.
+     */
+    public static final int DEFAULT_MAX_LINES_PER_SECOND = 10_000;
+
+    static final long FLUSH_DELAY = 50L;
+    static final int FLUSH_SIZE_THRESHOLD = 64 * 1024;
+    private static final long RATE_WINDOW = 1000L;
+
+    /**
+     * Text of the same content type printed in one call.
+     *
+     * @param text the text.
+     * @param type the content type.
+     */
+    public record Chunk(@NotNull String text, @NotNull ConsoleViewContentType type) {
+    }
+
+    private final @NotNull Consumer<List<Chunk>> printer;
+    private final int maxLinesPerSecond;
+    private final @NotNull Executor flushExecutor;
+
+    // Lock which keeps the order of the printed chunks when several flushes occur at the same time
+    private final Object printLock = new Object();
+    private final List<Chunk> chunks = new ArrayList<>();
+    // Text of the last chunk which is being built
+    private final StringBuilder currentText = new StringBuilder();
+    private ConsoleViewContentType currentType;
+    private int bufferedSize;
+    private boolean flushScheduled;
+    private boolean disposed;
+
+    // Rate limit of the debuggee output lines
+    private long windowStart;
+    private int windowLines;
+    private int droppedLines;
+
+    /**
+     * Creates a buffer.
+     *
+     * @param printer           the printer called on flush with the chunks to print (ex: prints them in the console on the EDT).
+     * @param maxLinesPerSecond the max number of debuggee output lines printed per second (0 or negative means no limit).
+     */
+    public DAPOutputBuffer(@NotNull Consumer<List<Chunk>> printer, int maxLinesPerSecond) {
+        this(printer, maxLinesPerSecond, CompletableFuture.delayedExecutor(FLUSH_DELAY, TimeUnit.MILLISECONDS));
+    }
+
+    /**
+     * Creates a buffer.
+     *
+     * @param printer           the printer called on flush with the chunks to print.
+     * @param maxLinesPerSecond the max number of debuggee output lines printed per second (0 or negative means no limit).
+     * @param flushExecutor     the executor which runs the delayed flush.
+     */
+    DAPOutputBuffer(@NotNull Consumer<List<Chunk>> printer, int maxLinesPerSecond, @NotNull Executor flushExecutor) {
+        this.printer = printer;
+        this.maxLinesPerSecond = maxLinesPerSecond;
+        this.flushExecutor = flushExecutor;
+    }
+
+    /**
+     * Buffers the given text which is never dropped (ex: messages of the debug process).
+     *
+     * @param text the text to print.
+     * @param type the content type.
+     */
+    public void append(@NotNull String text, @NotNull ConsoleViewContentType type) {
+        append(text, type, false);
+    }
+
+    /**
+     * Buffers the given debuggee output, the lines which exceed the max lines per second are dropped.
+     *
+     * @param text the debuggee output to print.
+     * @param type the content type.
+     */
+    public void appendOutput(@NotNull String text, @NotNull ConsoleViewContentType type) {
+        append(text, type, true);
+    }
+
+    private void append(@NotNull String text, @NotNull ConsoleViewContentType type, boolean rateLimited) {
+        boolean flushNow;
+        synchronized (this) {
+            if (disposed) {
+                return;
+            }
+            // Lines dropped before the given text
+            int previouslyDroppedLines = droppedLines;
+            if (rateLimited && maxLinesPerSecond > 0) {
+                text = applyRateLimit(text);
+            }
+            if (!text.isEmpty()) {
+                if (previouslyDroppedLines > 0) {
+                    addDroppedLinesMarker(previouslyDroppedLines);
+                }
+                addText(text, type);
+            }
+            flushNow = bufferedSize >= FLUSH_SIZE_THRESHOLD;
+            if (!flushNow) {
+                if (flushScheduled) {
+                    return;
+                }
+                flushScheduled = true;
+            }
+        }
+        if (flushNow) {
+            flush();
+        } else {
+            flushExecutor.execute(this::flush);
+        }
+    }
+
+    /**
+     * Returns the part of the given text which can be printed according to the max lines per second
+     * and counts the dropped lines.
+     */
+    private @NotNull String applyRateLimit(@NotNull String text) {
+        long now = System.currentTimeMillis();
+        if (now - windowStart >= RATE_WINDOW) {
+            windowStart = now;
+            windowLines = 0;
+        }
+        int remainingLines = maxLinesPerSecond - windowLines;
+        int end = 0;
+        int lines = 0;
+        while (end < text.length() && lines < remainingLines) {
+            int index = text.indexOf('\n', end);
+            end = index == -1 ? text.length() : index + 1;
+            lines++;
+        }
+        windowLines += lines;
+        if (end < text.length()) {
+            droppedLines += countLines(text, end);
+            return text.substring(0, end);
+        }
+        return text;
+    }
+
+    private static int countLines(@NotNull String text, int start) {
+        int lines = 0;
+        int index = start;
+        while (index < text.length()) {
+            int newLine = text.indexOf('\n', index);
+            index = newLine == -1 ? text.length() : newLine + 1;
+            lines++;
+        }
+        return lines;
+    }
+
+    private void addDroppedLinesMarker(int lines) {
+        addText("... " + lines + " lines dropped ...\n", ConsoleViewContentType.SYSTEM_OUTPUT);
+        droppedLines -= lines;
+    }
+
+    private void addText(@NotNull String text, @NotNull ConsoleViewContentType type) {
+        if (currentType != type) {
+            addCurrentChunk();
+            currentType = type;
+        }
+        currentText.append(text);
+        bufferedSize += text.length();
+    }
+
+    private void addCurrentChunk() {
+        if (currentType != null && !currentText.isEmpty()) {
+            chunks.add(new Chunk(currentText.toString(), currentType));
+        }
+        currentText.setLength(0);
+        currentType = null;
+    }
+
+    /**
+     * Calls the printer with the buffered chunks.
+     */
+    public void flush() {
+        flush(false);
+    }
+
+    /**
+     * Calls the printer with the buffered chunks and disposes the buffer.
+     */
+    public void dispose() {
+        flush(true);
+    }
+
+    private void flush(boolean dispose) {
+        synchronized (printLock) {
+            List<Chunk> chunksToPrint;
+            synchronized (this) {
+                if (disposed) {
+                    return;
+                }
+                disposed = dispose;
+                flushScheduled = false;
+                if (droppedLines > 0) {
+                    // No text has been printed after the dropped lines
+                    addDroppedLinesMarker(droppedLines);
+                }
+                addCurrentChunk();
+                if (chunks.isEmpty()) {
+                    return;
+                }
+                chunksToPrint = new ArrayList<>(chunks);
+                chunks.clear();
+                bufferedSize = 0;
+            }
+            printer.accept(chunksToPrint);
+        }
+    }
+}
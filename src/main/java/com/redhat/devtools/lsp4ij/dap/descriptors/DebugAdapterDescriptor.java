@@ -35,6 +35,7 @@ import com.redhat.devtools.lsp4ij.dap.client.LaunchUtils;
 import com.redhat.devtools.lsp4ij.dap.configurations.DAPRunConfigurationOptions;
 import com.redhat.devtools.lsp4ij.dap.configurations.DebuggableFile;
 import com.redhat.devtools.lsp4ij.dap.configurations.options.AttachConfigurable;
+import com.redhat.devtools.lsp4ij.dap.console.DAPOutputBuffer;
 import com.redhat.devtools.lsp4ij.dap.definitions.DebugAdapterServerDefinition;
 import com.redhat.devtools.lsp4ij.dap.disassembly.breakpoints.DisassemblyBreakpointHandler;
 import com.redhat.devtools.lsp4ij.dap.disassembly.breakpoints.DisassemblyBreakpointHandlerBase;
@@ -292,6 +293,16 @@ public abstract class DebugAdapterDescriptor implements DebuggableFile {
         return new DAPDebuggerEditorsProvider(fileType, debugProcess);
     }
 
+    /**
+     * Returns the max number of debuggee output lines printed per second in the debug console
+     * (0 or negative means no limit). The exceeding lines are dropped.
+     *
+     * @return the max number of debuggee output lines printed per second in the debug console.
+     */
+    public int getMaxOutputLinesPerSecond() {
+        return DAPOutputBuffer.DEFAULT_MAX_LINES_PER_SECOND;
+    }
+
     /**
      * Returns true if "Installer" tab must be shown and false otherwise.
      *
@@ -10,18 +10,29 @@
  ******************************************************************************/
 package com.redhat.devtools.lsp4ij.features;
 
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.util.TextRange;
 import com.intellij.psi.PsiFile;
+import com.redhat.devtools.lsp4ij.LSPFileSupport;
+import com.redhat.devtools.lsp4ij.LSPIJUtils;
 import com.redhat.devtools.lsp4ij.LanguageServerItem;
 import com.redhat.devtools.lsp4ij.LanguageServiceAccessor;
 import com.redhat.devtools.lsp4ij.client.features.FileUriSupport;
 import com.redhat.devtools.lsp4ij.client.features.LSPClientFeatures;
+import com.redhat.devtools.lsp4ij.internal.CancellationSupport;
+import com.redhat.devtools.lsp4ij.internal.DocumentEditsLog;
+import com.redhat.devtools.lsp4ij.internal.PositionMapper;
+import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.TextDocumentIdentifier;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 /**
  * Base class to consume LSP requests (ex : textDocument/codeLens) from all language servers applying to a given Psi file.
@@ -39,6 +50,33 @@ public abstract class AbstractLSPDocumentFeatureSupport<Params, Result> extends
     // true if the future must be canceled when the Psi file is modified and false otherwise.
     private final boolean cancelWhenFileModified;
 
+    // true if the current LSP requests have been loaded because the Psi file has been modified and false otherwise.
+    private volatile boolean loadedAfterModification;
+
+    // The last successful LSP response results and the document snapshot they have been computed for (stale-while-revalidate mode)
+    private record StaleResult<Result>(@NotNull Result result, @NotNull PositionMapper mapper) {
+    }
+
+    private volatile @Nullable StaleResult<Result> staleResult;
+
+    // The LSP requests future which refreshes the UI when it is done, after a stale result has been served
+    private volatile @Nullable CompletableFuture<Result> revalidatingFuture;
+
+    /**
+     * Shifts an LSP range of a stale result to the current version of the document.
+     */
+    protected interface RangeShifter {
+
+        /**
+         * Returns the given LSP range shifted by the document edits and null if an edit overlaps the range.
+         *
+         * @param range the LSP range of the stale result.
+         * @return the given LSP range shifted by the document edits and null if an edit overlaps the range.
+         */
+        @Nullable
+        Range shift(@NotNull Range range);
+    }
+
     public AbstractLSPDocumentFeatureSupport(@NotNull PsiFile file) {
         this(file, true);
     }
@@ -58,6 +96,106 @@ public abstract class AbstractLSPDocumentFeatureSupport<Params, Result> extends
         return file;
     }
 
+    /**
+     * Returns the (cached or not) LSP requests for all language servers applying to the Psi file.
+     *
+     * <p>
+     * When the stale-while-revalidate mode is enabled (see {@link #isStaleWhileRevalidateEnabled()}) and the LSP requests
+     * loaded after a modification of the Psi file are not done, the last successful result shifted to the current
+     * document is returned immediately and the UI is refreshed when the LSP requests are done.
+     * </p>
+     *
+     * @param params the LSP parameters expected to execute LSP requests.
+     * @return the (cached or not) LSP requests for all language servers applying to the Psi file.
+     */
+    @Override
+    public @Nullable CompletableFuture<Result> getFeatureData(Params params) {
+        CompletableFuture<Result> future = super.getFeatureData(params);
+        if (future == null || future.isDone() || !isStaleWhileRevalidateEnabled()) {
+            return future;
+        }
+        Result result = getShiftedStaleResult();
+        if (result == null) {
+            return future;
+        }
+        // Refresh the UI when the LSP requests are done (see storeStaleResultWhenDone)
+        revalidatingFuture = future;
+        if (future.isDone()) {
+            // The LSP requests have been done in the meantime
+            return future;
+        }
+        return CompletableFuture.completedFuture(result);
+    }
+
+    private @Nullable Result getShiftedStaleResult() {
+        var stale = staleResult;
+        if (stale == null) {
+            return null;
+        }
+        Document document = LSPIJUtils.getDocument(file.getVirtualFile());
+        if (document == null) {
+            return null;
+        }
+        PositionMapper oldMapper = stale.mapper();
+        PositionMapper currentMapper = PositionMapper.getInstance(document);
+        long oldStamp = oldMapper.getModificationStamp();
+        long currentStamp = currentMapper.getModificationStamp();
+        if (oldStamp == currentStamp) {
+            // The stale result has been computed for the current document, the LSP requests are waited for
+            // (ex : the LSP requests have been cancelled to get up-to-date results)
+            return null;
+        }
+        DocumentEditsLog editsLog = DocumentEditsLog.getInstance(document);
+        if (!editsLog.canMap(oldStamp, currentStamp)) {
+            return null;
+        }
+        return shiftStaleResult(stale.result(), range -> {
+            TextRange oldRange = oldMapper.toTextRange(range);
+            if (oldRange == null) {
+                return null;
+            }
+            TextRange newRange = editsLog.mapRange(oldStamp, currentStamp, oldRange.getStartOffset(), oldRange.getEndOffset());
+            if (newRange == null) {
+                // An edit overlaps the range
+                return null;
+            }
+            return new Range(currentMapper.toPosition(newRange.getStartOffset()), currentMapper.toPosition(newRange.getEndOffset()));
+        });
+    }
+
+    /**
+     * Returns true if the last successful result must be served (shifted to the current document) while the LSP requests
+     * loaded after a modification of the Psi file are in flight and false otherwise.
+     *
+     * <p>
+     * The feature supports which enable this mode must implement {@link #shiftStaleResult(Object, RangeShifter)}.
+     * </p>
+     *
+     * @return true if the stale-while-revalidate mode is enabled and false otherwise.
+     */
+    protected boolean isStaleWhileRevalidateEnabled() {
+        return false;
+    }
+
+    /**
+     * Returns a copy of the given stale result with the LSP ranges shifted by the given shifter, without the items
+     * overlapped by an edit, and null if the stale result cannot be served.
+     *
+     * @param staleResult the last successful result.
+     * @param shifter     the range shifter.
+     * @return the shifted stale result and null if the stale result cannot be served.
+     */
+    protected @Nullable Result shiftStaleResult(@NotNull Result staleResult, @NotNull RangeShifter shifter) {
+        return null;
+    }
+
+    /**
+     * Refreshes the UI when the LSP requests are done after a stale result has been served.
+     */
+    protected void refreshWhenRevalidated() {
+        LSPFileSupport.getSupport(file).restartDaemonCodeAnalyzerWithDebounce();
+    }
+
     @Override
     protected boolean checkValid() {
         return !cancelWhenFileModified || this.file.getModificationStamp() == modificationStamp;
@@ -70,12 +208,65 @@ public abstract class AbstractLSPDocumentFeatureSupport<Params, Result> extends
      * @return the LSP response results.
      */
     protected synchronized CompletableFuture<Result> load(Params params) {
+        // The previous LSP requests have been invalidated by a modification of the Psi file (ex: the user is typing)
+        loadedAfterModification = modificationStamp != -1 && this.file.getModificationStamp() != modificationStamp;
         CompletableFuture<Result> future = super.load(params);
         // Update the modification stamp with the current modification stamp of the Psi file
         this.modificationStamp = this.file.getModificationStamp();
+        if (isStaleWhileRevalidateEnabled()) {
+            storeStaleResultWhenDone(future);
+        }
         return future;
     }
 
+    private void storeStaleResultWhenDone(@NotNull CompletableFuture<Result> future) {
+        Document document = LSPIJUtils.getDocument(file.getVirtualFile());
+        if (document == null) {
+            return;
+        }
+        // Record the document edits to shift the result when the document will be modified
+        DocumentEditsLog.getInstance(document);
+        PositionMapper mapper = PositionMapper.getInstance(document);
+        future.whenComplete((result, error) -> {
+            if (result != null) {
+                staleResult = new StaleResult<>(result, mapper);
+            }
+            if (revalidatingFuture == future) {
+                revalidatingFuture = null;
+                if (!future.isCancelled()) {
+                    // A stale result has been served, replace it with the fresh result
+                    refreshWhenRevalidated();
+                }
+            }
+        });
+    }
+
+    /**
+     * Returns the LSP requests future created by the given loader, delayed by the given debounce delay when the LSP requests
+     * are loaded because the Psi file has been modified (ex: the user is typing).
+     *
+     * <p>
+     * As each modification of the Psi file cancels the current LSP requests, a typing burst consumes only one LSP request
+     * (the one which is loaded after the last modification) instead of one LSP request per keystroke.
+     * </p>
+     *
+     * @param loader              the loader which consumes the LSP requests.
+     * @param debounceDelay       the debounce delay in milliseconds.
+     * @param cancellationSupport the cancellation support.
+     * @param <T>                 the LSP response results.
+     * @return the LSP requests future created by the given loader.
+     */
+    protected <T> CompletableFuture<T> loadWithDebounce(@NotNull Supplier<CompletableFuture<T>> loader,
+                                                        long debounceDelay,
+                                                        @NotNull CancellationSupport cancellationSupport) {
+        if (!loadedAfterModification || debounceDelay <= 0 || ApplicationManager.getApplication().isUnitTestMode()) {
+            return loader.get();
+        }
+        CompletableFuture<Void> delay = cancellationSupport.execute(CompletableFuture.runAsync(() -> {},
+                CompletableFuture.delayedExecutor(debounceDelay, TimeUnit.MILLISECONDS)));
+        return delay.thenCompose(unused -> loader.get());
+    }
+
     protected static CompletableFuture<List<LanguageServerItem>> getLanguageServers(@NotNull PsiFile file,
                                                                   @Nullable Predicate<LSPClientFeatures> beforeStartingServerFilter,
                                                                   @Nullable Predicate<LSPClientFeatures> afterStartingServerFilter) {
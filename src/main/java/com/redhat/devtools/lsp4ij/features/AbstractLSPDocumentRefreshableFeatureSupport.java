@@ -15,8 +15,10 @@ import com.redhat.devtools.lsp4ij.internal.CancellationSupport;
 import com.redhat.devtools.lsp4ij.internal.PsiFileCancelChecker;
 import com.redhat.devtools.lsp4ij.internal.editor.EditorFeatureManager;
 import com.redhat.devtools.lsp4ij.internal.editor.EditorFeatureType;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.TestOnly;
 
 import java.util.concurrent.CompletableFuture;
 
@@ -44,7 +46,7 @@ public abstract class AbstractLSPDocumentRefreshableFeatureSupport<Params, Resul
      */
     public void refreshEditorFeatureWhenReady() {
         var future = getValidLSPFuture();
-        if (refreshEditorFeatureFuture != null || future == null) {
+        if ((refreshEditorFeatureFuture != null && !canRefreshEditorFeatureAgain(refreshEditorFeatureFuture)) || future == null) {
             return;
         }
         var file = getFile();
@@ -56,6 +58,29 @@ public abstract class AbstractLSPDocumentRefreshableFeatureSupport<Params, Resul
                                 new PsiFileCancelChecker(file));
     }
 
+    /**
+     * Returns true if the editor feature can be refreshed again when the given refresh has already been scheduled
+     * and false otherwise.
+     *
+     * @param refreshEditorFeatureFuture the refresh already scheduled.
+     * @return true if the editor feature can be refreshed again and false otherwise.
+     */
+    protected boolean canRefreshEditorFeatureAgain(@NotNull CompletableFuture<Void> refreshEditorFeatureFuture) {
+        // By default, the editor feature is refreshed once when LSP request data are ready
+        return false;
+    }
+
+    @ApiStatus.Internal
+    @TestOnly
+    public @Nullable CompletableFuture<Void> getRefreshEditorFeatureFuture() {
+        return refreshEditorFeatureFuture;
+    }
+
+    @Override
+    protected void refreshWhenRevalidated() {
+        refreshEditorFeatureWhenReady();
+    }
+
     @Override
     public void cancel() {
         super.cancel();
@@ -13,10 +13,12 @@ package com.redhat.devtools.lsp4ij.features;
 import com.intellij.openapi.application.ApplicationManager;
 import com.intellij.openapi.application.ReadAction;
 import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.progress.ProgressManager;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.util.TextRange;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiFile;
+import com.intellij.util.Processor;
 import com.redhat.devtools.lsp4ij.LSPIJUtils;
 import com.redhat.devtools.lsp4ij.client.features.FileUriSupport;
 import org.eclipse.lsp4j.Location;
@@ -25,6 +27,12 @@ import org.eclipse.lsp4j.Range;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * LSP Psi element factory.
  *
@@ -112,6 +120,98 @@ public interface LSPPsiElementFactory<T extends LSPPsiElement> {
         });
     }
 
+    /**
+     * Create the instances of {@link LSPPsiElement} by using the given factory from the given LSP locations.
+     *
+     * @param locations      the LSP locations.
+     * @param fileUriSupport the file Uri support.
+     * @param project        the project.
+     * @param factory        the LSP Psi element factory.
+     * @return the instances of {@link LSPPsiElement} from the given LSP locations which can be resolved.
+     * @see #processPsiElements(List, FileUriSupport, Project, LSPPsiElementFactory, Processor)
+     */
+    @NotNull
+    public static <T extends LSPPsiElement> List<T> toPsiElements(@NotNull List<? extends Location> locations,
+                                                                  @Nullable FileUriSupport fileUriSupport,
+                                                                  @NotNull Project project,
+                                                                  @NotNull LSPPsiElementFactory<T> factory) {
+        List<T> elements = new ArrayList<>(locations.size());
+        processPsiElements(locations, fileUriSupport, project, factory, fileElements -> {
+            elements.addAll(fileElements);
+            return true;
+        });
+        return elements;
+    }
+
+    /**
+     * Create the instances of {@link LSPPsiElement} by using the given factory from the given LSP locations and
+     * process them file by file.
+     *
+     * <p>
+     * The locations are grouped by file Uri, so that the file, document and Psi file are resolved once per file,
+     * in one read action.
+     * </p>
+     *
+     * @param locations      the LSP locations.
+     * @param fileUriSupport the file Uri support.
+     * @param project        the project.
+     * @param factory        the LSP Psi element factory.
+     * @param processor      the processor called with the Psi elements of each file.
+     * @return false if the processor has stopped the process and true otherwise.
+     */
+    public static <T extends LSPPsiElement> boolean processPsiElements(@NotNull List<? extends Location> locations,
+                                                                       @Nullable FileUriSupport fileUriSupport,
+                                                                       @NotNull Project project,
+                                                                       @NotNull LSPPsiElementFactory<T> factory,
+                                                                       @NotNull Processor<? super List<T>> processor) {
+        Map<String, List<Range>> rangesByUri = new LinkedHashMap<>();
+        for (var location : locations) {
+            if (location != null && location.getUri() != null && location.getRange() != null) {
+                rangesByUri.computeIfAbsent(location.getUri(), k -> new ArrayList<>()).add(location.getRange());
+            }
+        }
+        for (var entry : rangesByUri.entrySet()) {
+            ProgressManager.checkCanceled();
+            String uri = entry.getKey();
+            List<Range> ranges = entry.getValue();
+            List<T> elements = ApplicationManager.getApplication().isReadAccessAllowed() ?
+                    doToPsiElements(uri, ranges, fileUriSupport, project, factory) :
+                    ReadAction.compute(() -> doToPsiElements(uri, ranges, fileUriSupport, project, factory));
+            if (!elements.isEmpty() && !processor.process(elements)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @NotNull
+    private static <T extends LSPPsiElement> List<T> doToPsiElements(@NotNull String uri,
+                                                                     @NotNull List<Range> ranges,
+                                                                     @Nullable FileUriSupport fileUriSupport,
+                                                                     @NotNull Project project,
+                                                                     @NotNull LSPPsiElementFactory<T> factory) {
+        VirtualFile file = FileUriSupport.findFileByUri(uri, fileUriSupport);
+        if (file == null) {
+            return Collections.emptyList();
+        }
+        Document document = LSPIJUtils.getDocument(file);
+        if (document == null) {
+            return Collections.emptyList();
+        }
+        PsiFile psiFile = LSPIJUtils.getPsiFile(file, project);
+        if (psiFile == null) {
+            return Collections.emptyList();
+        }
+        List<T> elements = new ArrayList<>(ranges.size());
+        for (var range : ranges) {
+            TextRange textRange = LSPIJUtils.toTextRange(range, document, psiFile, true);
+            if (textRange != null) {
+                elements.add(factory.createPsiElement(psiFile, textRange));
+            }
+        }
+        return elements;
+    }
+
     @Nullable
     private static <T extends LSPPsiElement> T doToPsiElement(@Nullable String uri,
                                                               @Nullable Range range,
@@ -0,0 +1,220 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.lsp4ij.features.codeAction;
+
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.fileEditor.FileDocumentManager;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.redhat.devtools.lsp4ij.LanguageServerItem;
+import com.redhat.devtools.lsp4ij.internal.CancellationSupport;
+import org.eclipse.lsp4j.CodeAction;
+import org.eclipse.lsp4j.CodeActionContext;
+import org.eclipse.lsp4j.CodeActionParams;
+import org.eclipse.lsp4j.Command;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Per document cache of LSP 'textDocument/codeAction' and 'codeAction/resolve' responses shared by the quick fixes
+ * and the intentions.
+ *
+ * <p>
+ * Code actions are cached by language server, range, diagnostics, 'only' kinds and document modification stamp.
+ * The cache keeps the {@link #MAX_ENTRIES} most recently used responses. Requests with the same key share the same
+ * in-flight LSP request, and the resolved code actions are reused across popups until the document is modified.
+ * </p>
+ *
+ * <p>
+ * The futures returned by this cache are dependent futures: cancelling them doesn't cancel the shared LSP request,
+ * which is only cancelled when it is evicted from the cache or when the document is modified.
+ * </p>
+ */
+public class LSPCodeActionCache {
+
+    private static final Key<LSPCodeActionCache> CODE_ACTION_CACHE_KEY = Key.create("lsp.codeAction.cache");
+
+    static final int MAX_ENTRIES = 32;
+
+    private static final int MAX_RESOLVED_CODE_ACTIONS = 128;
+
+    // The language server is identified by its id to avoid holding the language server wrapper in the user data of the file
+    private record CacheKey(@NotNull String languageServerId,
+                            @Nullable Range range,
+                            @Nullable List<Diagnostic> diagnostics,
+                            @Nullable List<String> only) {
+    }
+
+    private final @NotNull VirtualFile file;
+
+    // LRU cache of the LSP textDocument/codeAction requests
+    private final LinkedHashMap<CacheKey, CompletableFuture<List<Either<Command, CodeAction>>>> codeActions = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<CacheKey, CompletableFuture<List<Either<Command, CodeAction>>>> eldest) {
+            if (size() > MAX_ENTRIES) {
+                CancellationSupport.cancel(eldest.getValue());
+                return true;
+            }
+            return false;
+        }
+    };
+
+    // LSP codeAction/resolve requests, the code action instance (coming from the cached responses) is the key
+    private final Map<CodeAction, CompletableFuture<CodeAction>> resolvedCodeActions = new IdentityHashMap<>();
+
+    // The document modification stamp of the cached responses
+    private long modificationStamp = -1;
+
+    private LSPCodeActionCache(@NotNull VirtualFile file) {
+        this.file = file;
+    }
+
+    /**
+     * Returns the code action cache of the given file.
+     *
+     * @param file the file.
+     * @return the code action cache of the given file.
+     */
+    public static @NotNull LSPCodeActionCache getCache(@NotNull VirtualFile file) {
+        LSPCodeActionCache cache = file.getUserData(CODE_ACTION_CACHE_KEY);
+        if (cache != null) {
+            return cache;
+        }
+        return file.putUserDataIfAbsent(CODE_ACTION_CACHE_KEY, new LSPCodeActionCache(file));
+    }
+
+    /**
+     * Evicts the cached code actions of the given language server for the given file and removes the cache from the
+     * user data of the file when it is empty.
+     *
+     * <p>
+     * This method is called when the file is closed for the language server, to avoid keeping the LSP responses
+     * in the user data of the file.
+     * </p>
+     *
+     * @param file             the file.
+     * @param languageServerId the language server id.
+     */
+    public static void evict(@NotNull VirtualFile file, @NotNull String languageServerId) {
+        LSPCodeActionCache cache = file.getUserData(CODE_ACTION_CACHE_KEY);
+        if (cache == null) {
+            return;
+        }
+        synchronized (cache) {
+            cache.codeActions.entrySet().removeIf(entry -> {
+                if (entry.getKey().languageServerId().equals(languageServerId)) {
+                    CancellationSupport.cancel(entry.getValue());
+                    return true;
+                }
+                return false;
+            });
+            if (cache.codeActions.isEmpty()) {
+                cache.clear();
+                file.replace(CODE_ACTION_CACHE_KEY, cache, null);
+            }
+        }
+    }
+
+    /**
+     * Returns the (cached or not) code actions of the given language server for the given parameters.
+     *
+     * @param params         the LSP code action parameters.
+     * @param languageServer the language server.
+     * @param loader         the loader used to consume the LSP 'textDocument/codeAction' request when the code actions are not cached.
+     * @return the (cached or not) code actions of the given language server for the given parameters.
+     */
+    public @NotNull CompletableFuture<List<Either<Command, CodeAction>>> getCodeActions(@NotNull CodeActionParams params,
+                                                                                        @NotNull LanguageServerItem languageServer,
+                                                                                        @NotNull Function<CodeActionParams, CompletableFuture<List<Either<Command, CodeAction>>>> loader) {
+        return getCodeActions(params, languageServer.getServerDefinition().getId(), loader);
+    }
+
+    @NotNull
+    CompletableFuture<List<Either<Command, CodeAction>>> getCodeActions(@NotNull CodeActionParams params,
+                                                                        @NotNull String languageServerId,
+                                                                        @NotNull Function<CodeActionParams, CompletableFuture<List<Either<Command, CodeAction>>>> loader) {
+        CodeActionContext context = params.getContext();
+        var key = new CacheKey(languageServerId,
+                params.getRange(),
+                context != null ? context.getDiagnostics() : null,
+                context != null ? context.getOnly() : null);
+        CompletableFuture<List<Either<Command, CodeAction>>> future;
+        synchronized (this) {
+            invalidateIfModified();
+            future = codeActions.get(key);
+            if (future == null || future.isCompletedExceptionally()) {
+                // - the code actions have never been loaded for the key
+                // - or the LSP request has failed or has been cancelled (ex: language server stopped)
+                future = loader.apply(params);
+                codeActions.put(key, future);
+            }
+        }
+        // Return a dependent future to prevent a consumer from cancelling the shared LSP request
+        return future.thenApply(Function.identity());
+    }
+
+    /**
+     * Returns the (cached or not) resolved code action of the given code action.
+     *
+     * @param codeAction the unresolved code action.
+     * @param loader     the loader used to consume the LSP 'codeAction/resolve' request when the code action has not been resolved.
+     * @return the (cached or not) resolved code action of the given code action.
+     */
+    public @NotNull CompletableFuture<CodeAction> resolveCodeAction(@NotNull CodeAction codeAction,
+                                                                    @NotNull Supplier<CompletableFuture<CodeAction>> loader) {
+        CompletableFuture<CodeAction> future;
+        synchronized (this) {
+            invalidateIfModified();
+            future = resolvedCodeActions.get(codeAction);
+            if (future == null || future.isCompletedExceptionally()) {
+                if (resolvedCodeActions.size() >= MAX_RESOLVED_CODE_ACTIONS) {
+                    resolvedCodeActions.clear();
+                }
+                future = loader.get();
+                resolvedCodeActions.put(codeAction, future);
+            }
+        }
+        return future.thenApply(Function.identity());
+    }
+
+    /**
+     * Evict all cached code actions.
+     */
+    public synchronized void clear() {
+        codeActions.values().forEach(CancellationSupport::cancel);
+        codeActions.clear();
+        resolvedCodeActions.values().forEach(CancellationSupport::cancel);
+        resolvedCodeActions.clear();
+    }
+
+    private void invalidateIfModified() {
+        long currentModificationStamp = getModificationStamp(file);
+        if (currentModificationStamp != modificationStamp) {
+            // The document has been modified, the cached code actions are obsolete
+            clear();
+            modificationStamp = currentModificationStamp;
+        }
+    }
+
+    private static long getModificationStamp(@NotNull VirtualFile file) {
+        Document document = FileDocumentManager.getInstance().getCachedDocument(file);
+        return document != null ? document.getModificationStamp() : file.getModificationStamp();
+    }
+
+}
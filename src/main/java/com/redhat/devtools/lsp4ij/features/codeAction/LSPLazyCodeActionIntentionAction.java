@@ -92,7 +92,8 @@ public class LSPLazyCodeActionIntentionAction implements IntentionAction {
                 if (ApplicationManager.getApplication().isUnitTestMode()) {
                     // In Test mode, collect the resolve code actions synchronously, otherwise tests will fail
                     try {
-                        var resolved = languageServer.getServer().getTextDocumentService().resolveCodeAction(codeAction)
+                        var resolved = LSPCodeActionCache.getCache(file.getVirtualFile())
+                                .resolveCodeAction(codeAction, () -> languageServer.getServer().getTextDocumentService().resolveCodeAction(codeAction))
                                 .get(10000, TimeUnit.MILLISECONDS);
                         ApplicationManager.getApplication().invokeLater(() -> {
                             DocumentUtil.writeInRunUndoTransparentAction(() -> {
@@ -106,18 +107,18 @@ public class LSPLazyCodeActionIntentionAction implements IntentionAction {
                     }
                 } else {
                     // In runtime mode, collect the resolve code action asynchronously to avoid freezing the IDE.
-                    languageServer
-                            .getInitializedServer()
-                            .thenApply(ls ->
-                                    ls.getTextDocumentService().resolveCodeAction(codeAction)
-                                            .thenAccept(resolved -> {
-                                                ApplicationManager.getApplication().invokeLater(() -> {
-                                                    DocumentUtil.writeInRunUndoTransparentAction(() -> {
-                                                        apply(resolved != null ? resolved : codeAction, file, editor, languageServer);
-                                                    });
-                                                });
-                                            })
-                            );
+                    // The resolved code action is cached to reuse it if the code action is applied again from another popup.
+                    LSPCodeActionCache.getCache(file.getVirtualFile())
+                            .resolveCodeAction(codeAction, () -> languageServer
+                                    .getInitializedServer()
+                                    .thenCompose(ls -> ls.getTextDocumentService().resolveCodeAction(codeAction)))
+                            .thenAccept(resolved -> {
+                                ApplicationManager.getApplication().invokeLater(() -> {
+                                    DocumentUtil.writeInRunUndoTransparentAction(() -> {
+                                        apply(resolved != null ? resolved : codeAction, file, editor, languageServer);
+                                    });
+                                });
+                            });
                 }
             } else {
                 apply(codeAction, file, editor, languageServer);
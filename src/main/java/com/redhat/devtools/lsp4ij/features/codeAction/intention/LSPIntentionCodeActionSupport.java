@@ -15,6 +15,7 @@ import com.redhat.devtools.lsp4ij.LSPRequestConstants;
 import com.redhat.devtools.lsp4ij.LanguageServerItem;
 import com.redhat.devtools.lsp4ij.features.AbstractLSPDocumentFeatureSupport;
 import com.redhat.devtools.lsp4ij.features.codeAction.CodeActionData;
+import com.redhat.devtools.lsp4ij.features.codeAction.LSPCodeActionCache;
 import com.redhat.devtools.lsp4ij.features.codeAction.LSPLazyCodeActionProvider;
 import com.redhat.devtools.lsp4ij.internal.CancellationSupport;
 import com.redhat.devtools.lsp4ij.internal.CompletableFutures;
@@ -92,9 +93,12 @@ public class LSPIntentionCodeActionSupport extends AbstractLSPDocumentFeatureSup
                                                                              @NotNull CancellationSupport cancellationSupport) {
         // Update textDocument Uri with custom file Uri if needed
         updateTextDocumentUri(params.getTextDocument(), file, languageServer);
-        return cancellationSupport.execute(languageServer
+        // Get the code actions from the code action cache of the file which is shared with the quick fixes
+        var codeActionsFuture = LSPCodeActionCache.getCache(file.getVirtualFile())
+                .getCodeActions(params, languageServer, p -> languageServer
                         .getTextDocumentService()
-                        .codeAction(params), languageServer, LSPRequestConstants.TEXT_DOCUMENT_CODE_ACTION)
+                        .codeAction(p));
+        return cancellationSupport.execute(codeActionsFuture, languageServer, LSPRequestConstants.TEXT_DOCUMENT_CODE_ACTION)
                 .thenApplyAsync(codeActions -> {
                     if (codeActions == null) {
                         // textDocument/codeAction may return null
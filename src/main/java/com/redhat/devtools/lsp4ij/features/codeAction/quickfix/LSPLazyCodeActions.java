@@ -19,6 +19,7 @@ import com.intellij.openapi.vfs.VirtualFile;
 import com.redhat.devtools.lsp4ij.LanguageServerItem;
 import com.redhat.devtools.lsp4ij.client.features.FileUriSupport;
 import com.redhat.devtools.lsp4ij.features.codeAction.CodeActionData;
+import com.redhat.devtools.lsp4ij.features.codeAction.LSPCodeActionCache;
 import com.redhat.devtools.lsp4ij.features.codeAction.LSPLazyCodeActionIntentionAction;
 import com.redhat.devtools.lsp4ij.features.codeAction.LSPLazyCodeActionProvider;
 import com.redhat.devtools.lsp4ij.internal.CancellationSupport;
@@ -41,6 +42,7 @@ import static com.redhat.devtools.lsp4ij.internal.CompletableFutures.waitUntilDo
 /**
  * This class returns 20 IJ {@link LSPLazyCodeActionIntentionAction} which does nothing. It loads the LSP code actions
  * for the given diagnostic only when user triggers the quick fixes for the diagnostic.
+ * The LSP code actions are shared with the {@link LSPCodeActionCache} of the file.
  *
  * @author Angelo ZERR
  */
@@ -57,11 +59,11 @@ public class LSPLazyCodeActions implements LSPLazyCodeActionProvider {
     // The language server which has reported the diagnostic
     private final LanguageServerItem languageServer;
 
-    // List of lazy code actions
-    private final List<IntentionAction> codeActions;
+    // List of lazy code actions, created the first time the quick fixes are requested
+    private volatile List<IntentionAction> codeActions;
 
     // LSP code actions request used to load code action for the diagnostic.
-    private CompletableFuture<List<CodeActionData>> lspCodeActionRequest = null;
+    private volatile CompletableFuture<List<CodeActionData>> lspCodeActionRequest = null;
 
     public LSPLazyCodeActions(@NotNull List<Diagnostic> diagnostics,
                               @NotNull VirtualFile file,
@@ -69,11 +71,6 @@ public class LSPLazyCodeActions implements LSPLazyCodeActionProvider {
         this.diagnostics = diagnostics;
         this.file = file;
         this.languageServer = languageServer;
-        // Create 20 lazy IJ quick fixes which does nothing (IntentAction#isAvailable returns false)
-        codeActions = new ArrayList<>(NB_LAZY_CODE_ACTIONS);
-        for (int i = 0; i < NB_LAZY_CODE_ACTIONS; i++) {
-            codeActions.add(new LSPQuickFixIntentionAction(this, i));
-        }
     }
 
     /**
@@ -96,10 +93,7 @@ public class LSPLazyCodeActions implements LSPLazyCodeActionProvider {
     }
 
     private List<CodeActionData> getOrLoadCodeActions() {
-        if (lspCodeActionRequest == null) {
-            // Create LSP textDocument/codeAction request
-            lspCodeActionRequest = loadCodeActionsFor(diagnostics);
-        }
+        var lspCodeActionRequest = getOrCreateCodeActionRequest();
         // Get the response of the LSP textDocument/codeAction request.
         List<CodeActionData> codeActions = null;
         try {
@@ -116,6 +110,14 @@ public class LSPLazyCodeActions implements LSPLazyCodeActionProvider {
         return codeActions;
     }
 
+    private synchronized CompletableFuture<List<CodeActionData>> getOrCreateCodeActionRequest() {
+        if (lspCodeActionRequest == null || lspCodeActionRequest.isCancelled()) {
+            // Create LSP textDocument/codeAction request (or get it from the code action cache of the file)
+            lspCodeActionRequest = loadCodeActionsFor(diagnostics);
+        }
+        return lspCodeActionRequest;
+    }
+
     /**
      * load code actions for the given diagnostic.
      *
@@ -123,38 +125,42 @@ public class LSPLazyCodeActions implements LSPLazyCodeActionProvider {
      * @return list of Intellij {@link IntentionAction} which are used to create Intellij QuickFix.
      */
     private CompletableFuture<List<CodeActionData>> loadCodeActionsFor(@NotNull List<Diagnostic> diagnostics) {
-        return CompletableFutures
-                .computeAsyncCompose(cancelChecker -> languageServer
-                        .getInitializedServer()
-                        .thenCompose(ls -> {
-                            // Language server is initialized here
-                            cancelChecker.checkCanceled();
-
-                            // Collect code action for the given file by using the language server
-                            CodeActionParams params = createCodeActionParams(diagnostics, file, languageServer.getClientFeatures());
-                            return ls.getTextDocumentService()
-                                    .codeAction(params)
-                                    .thenApply(codeActions -> {
-                                        // Code action are collected here
-                                        cancelChecker.checkCanceled();
-                                        if (codeActions == null || codeActions.isEmpty()) {
-                                            return Collections.emptyList();
-                                        }
-                                        return codeActions
-                                                .stream()
-                                                .filter(ca -> {
-                                                    if (ca.isRight()) {
-                                                        CodeAction codeAction = ca.getRight();
-                                                        return codeAction.getKind() == null ||
-                                                                codeAction.getKind().isEmpty() ||
-                                                                CodeActionKind.QuickFix.equals(codeAction.getKind());
-                                                    }
-                                                    return true;
-                                                })
-                                                .map(ca -> new CodeActionData(ca, languageServer))
-                                                .toList();
-                                    });
-                        }));
+        CodeActionParams params = createCodeActionParams(diagnostics, file, languageServer.getClientFeatures());
+        return LSPCodeActionCache.getCache(file)
+                .getCodeActions(params, languageServer, p -> CompletableFutures
+                        .computeAsyncCompose(cancelChecker -> languageServer
+                                .getInitializedServer()
+                                .thenCompose(ls -> {
+                                    // Language server is initialized here
+                                    cancelChecker.checkCanceled();
+
+                                    // Collect code action for the given file by using the language server
+                                    return ls.getTextDocumentService()
+                                            .codeAction(p)
+                                            .thenApply(codeActions -> {
+                                                // Code action are collected here
+                                                cancelChecker.checkCanceled();
+                                                return codeActions;
+                                            });
+                                })))
+                .thenApply(codeActions -> {
+                    if (codeActions == null || codeActions.isEmpty()) {
+                        return Collections.emptyList();
+                    }
+                    return codeActions
+                            .stream()
+                            .filter(ca -> {
+                                if (ca.isRight()) {
+                                    CodeAction codeAction = ca.getRight();
+                                    return codeAction.getKind() == null ||
+                                            codeAction.getKind().isEmpty() ||
+                                            CodeActionKind.QuickFix.equals(codeAction.getKind());
+                                }
+                                return true;
+                            })
+                            .map(ca -> new CodeActionData(ca, languageServer))
+                            .toList();
+                });
     }
 
     /**
@@ -188,11 +194,27 @@ public class LSPLazyCodeActions implements LSPLazyCodeActionProvider {
      * @return the list of lazy code actions.
      */
     public List<IntentionAction> getCodeActions() {
+        if (codeActions == null) {
+            synchronized (this) {
+                if (codeActions == null) {
+                    codeActions = createLazyCodeActions();
+                }
+            }
+        }
+        return codeActions;
+    }
+
+    private List<IntentionAction> createLazyCodeActions() {
+        // Create 20 lazy IJ quick fixes which does nothing (IntentAction#isAvailable returns false)
+        List<IntentionAction> codeActions = new ArrayList<>(NB_LAZY_CODE_ACTIONS);
+        for (int i = 0; i < NB_LAZY_CODE_ACTIONS; i++) {
+            codeActions.add(new LSPQuickFixIntentionAction(this, i));
+        }
         return codeActions;
     }
 
     /**
-     * Cancel if needed the LSP request textDocument/codeAction
+     * Cancel if needed the LSP request textDocument/codeAction (the shared LSP request of the code action cache is not cancelled).
      */
     public void cancel() {
         CancellationSupport.cancel(lspCodeActionRequest);
@@ -56,9 +56,13 @@ public class CodeLensData {
         // Use a CancellationSupport to catch errors like ResponseErrorException
         // and ignore theme
         CancellationSupport cancellationSupport = new CancellationSupport();
+        // Share the LSP request with the identical in-flight code lens resolve requests (ex: code lens reloaded while resolving)
+        final CodeLens codeLensToResolve = codeLens;
         resolveCodeLensFuture = cancellationSupport.execute(languageServer
-                        .getTextDocumentService()
-                        .resolveCodeLens(codeLens),
+                        .getServerWrapper()
+                        .getRequestCoalescer()
+                        .execute(LSPRequestConstants.CODE_LENS_RESOLVE, codeLensToResolve, null,
+                                () -> languageServer.getTextDocumentService().resolveCodeLens(codeLensToResolve)),
                 languageServer,
                 LSPRequestConstants.CODE_LENS_RESOLVE);
         resolveCodeLensFuture
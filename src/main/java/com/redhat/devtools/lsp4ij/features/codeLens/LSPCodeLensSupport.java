@@ -16,6 +16,7 @@ import com.redhat.devtools.lsp4ij.LanguageServerItem;
 import com.redhat.devtools.lsp4ij.features.AbstractLSPDocumentFeatureSupport;
 import com.redhat.devtools.lsp4ij.internal.CancellationSupport;
 import com.redhat.devtools.lsp4ij.internal.CompletableFutures;
+import com.redhat.devtools.lsp4ij.internal.LSPRequestScheduler.Priority;
 import org.eclipse.lsp4j.CodeLens;
 import org.eclipse.lsp4j.CodeLensParams;
 import org.jetbrains.annotations.NotNull;
@@ -89,8 +90,9 @@ public class LSPCodeLensSupport extends AbstractLSPDocumentFeatureSupport<CodeLe
         // Update textDocument Uri with custom file Uri if needed
         updateTextDocumentUri(params.getTextDocument(), file, languageServer);
         return cancellationSupport.execute(languageServer
-                        .getTextDocumentService()
-                        .codeLens(params), languageServer, LSPRequestConstants.TEXT_DOCUMENT_CODE_LENS)
+                        .getServerWrapper()
+                        .getRequestScheduler()
+                        .schedule(Priority.BACKGROUND, () -> languageServer.getTextDocumentService().codeLens(params)), languageServer, LSPRequestConstants.TEXT_DOCUMENT_CODE_LENS)
                 .thenApplyAsync(codeLenses -> {
                     if (codeLenses == null) {
                         // textDocument/codeLens may return null
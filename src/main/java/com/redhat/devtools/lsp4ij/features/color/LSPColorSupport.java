@@ -17,9 +17,13 @@ import com.redhat.devtools.lsp4ij.features.AbstractLSPDocumentRefreshableFeature
 import com.redhat.devtools.lsp4ij.internal.CancellationSupport;
 import com.redhat.devtools.lsp4ij.internal.CompletableFutures;
 import com.redhat.devtools.lsp4ij.internal.editor.EditorFeatureType;
+import org.eclipse.lsp4j.ColorInformation;
 import org.eclipse.lsp4j.DocumentColorParams;
+import org.eclipse.lsp4j.Range;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
@@ -49,6 +53,24 @@ public class LSPColorSupport extends AbstractLSPDocumentRefreshableFeatureSuppor
         return getColors(file, params, cancellationSupport);
     }
 
+    @Override
+    protected boolean isStaleWhileRevalidateEnabled() {
+        return true;
+    }
+
+    @Override
+    protected @Nullable List<ColorData> shiftStaleResult(@NotNull List<ColorData> staleResult,
+                                                         @NotNull RangeShifter shifter) {
+        List<ColorData> colors = new ArrayList<>(staleResult.size());
+        for (var data : staleResult) {
+            Range range = shifter.shift(data.color().getRange());
+            if (range != null) {
+                colors.add(new ColorData(new ColorInformation(range, data.color().getColor()), data.languageServer()));
+            }
+        }
+        return colors;
+    }
+
     private static @NotNull CompletableFuture<List<ColorData>> getColors(@NotNull PsiFile file,
                                                                          @NotNull DocumentColorParams params,
                                                                          @NotNull CancellationSupport cancellationSupport) {
@@ -12,10 +12,11 @@ package com.redhat.devtools.lsp4ij.features.completion;
 
 import com.intellij.codeInsight.completion.PrefixMatcher;
 import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.util.containers.ContainerUtil;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Comparator;
+import java.util.*;
 
 /**
  * Compares LSP CompletionItems / DAP CompletionItems by their sortText property (falls back to comparing labels)
@@ -42,27 +43,121 @@ public abstract class AbstractCompletionItemComparator<T> implements Comparator<
 		} else if (item2 == null) {
 			return 1;
 		}
+		return compare(new SortKey(item1, 0), new SortKey(item2, 0));
+	}
 
-		// If one is a better match for the current word than the other, sort it higher
-		int comparison = compareAgainstCurrentWord(item1, item2);
-		if (comparison != 0) {
-			return comparison;
+	/**
+	 * Returns an iterator over the given items ordered by this comparator (null items are ignored).
+	 *
+	 * <p>
+	 * The sort key of each item (match against the current word and the prefix, sortText, label) is computed once
+	 * instead of for each comparison. The {@code topK} best items are selected with a bounded heap and are sorted first,
+	 * the other items are sorted only when the iterator reaches them, so the best items can be added to the completion
+	 * result without waiting for the sort of a large completion list.
+	 * </p>
+	 *
+	 * @param items the items to rank.
+	 * @param topK  the number of best items which are sorted first.
+	 * @return an iterator over the given items ordered by this comparator.
+	 */
+	public @NotNull Iterator<T> rank(@NotNull Collection<T> items, int topK) {
+		List<SortKey> keys = new ArrayList<>(items.size());
+		for (T item : items) {
+			if (item != null) {
+				keys.add(new SortKey(item, keys.size()));
+			}
+		}
+		// Items with the same sort key keep their original order, like with a stable sort
+		Comparator<SortKey> keyComparator = (key1, key2) -> {
+			int comparison = compare(key1, key2);
+			return comparison != 0 ? comparison : Integer.compare(key1.index, key2.index);
+		};
+		if (keys.size() <= topK) {
+			keys.sort(keyComparator);
+			return ContainerUtil.map(keys, key -> key.item).iterator();
 		}
 
-		// If one is a better completion for the current prefix than the other, sort it higher
-		comparison = compareAgainstPrefix(item1, item2);
-		if (comparison != 0) {
-			return comparison;
+		// Select the topK best items with a heap which has the worst selected item at its head
+		PriorityQueue<SortKey> heap = new PriorityQueue<>(topK + 1, keyComparator.reversed());
+		for (SortKey key : keys) {
+			if (heap.size() < topK) {
+				heap.add(key);
+			} else if (keyComparator.compare(key, heap.peek()) < 0) {
+				heap.poll();
+				heap.add(key);
+			}
+		}
+		List<SortKey> best = new ArrayList<>(heap);
+		best.sort(keyComparator);
+		best.forEach(key -> key.selected = true);
+		return new Iterator<>() {
+
+			private Iterator<SortKey> current = best.iterator();
+			private boolean restSorted;
+
+			@Override
+			public boolean hasNext() {
+				if (!current.hasNext() && !restSorted) {
+					// Sort the other items only when they are consumed
+					restSorted = true;
+					List<SortKey> rest = new ArrayList<>(keys.size() - best.size());
+					for (SortKey key : keys) {
+						if (!key.selected) {
+							rest.add(key);
+						}
+					}
+					rest.sort(keyComparator);
+					current = rest.iterator();
+				}
+				return current.hasNext();
+			}
+
+			@Override
+			public T next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				return current.next().item;
+			}
+		};
+	}
+
+	private int compare(@NotNull SortKey key1, @NotNull SortKey key2) {
+		// Don't rank against the current word and the prefix the completion offerings that are quoted strings
+		if (!key1.quoted && !key2.quoted) {
+			// If one is a better match for the current word than the other, sort it higher
+			int comparison = Integer.compare(key1.currentWordMatch, key2.currentWordMatch);
+			if (comparison != 0) {
+				return comparison;
+			}
+
+			// If one is a better completion for the current prefix than the other, sort it higher
+			comparison = Integer.compare(key1.prefixMatch, key2.prefixMatch);
+			if (comparison != 0) {
+				return comparison;
+			}
+			// If one is a start match for the current prefix and the other is not, sort it higher
+			comparison = Boolean.compare(key2.startMatch, key1.startMatch);
+			if (comparison != 0) {
+				return comparison;
+			}
+			if (key1.startMatch && key2.startMatch) {
+				// Better matches are ranked higher and we want those ordered earlier
+				comparison = key2.getMatchingDegree() - key1.getMatchingDegree();
+				if (comparison != 0) {
+					return comparison;
+				}
+			}
 		}
 
 		// Order by language server-provided sort text
-		comparison = compare(getSortText(item1), getSortText(item2));
+		int comparison = compare(key1.sortText, key2.sortText);
 		if (comparison != 0) {
 			return comparison;
 		}
 
 		// If sortText is equal, fall back to comparing labels
-		return compare(getLabel(item1), getLabel(item2));
+		return compare(key1.label, key2.label);
 	}
 
 	private int compare(@Nullable String string1, @Nullable String string2) {
@@ -80,68 +175,59 @@ public abstract class AbstractCompletionItemComparator<T> implements Comparator<
 		return caseSensitive ? StringUtil.startsWith(string, prefix) : StringUtil.startsWithIgnoreCase(string, prefix);
 	}
 
-	private int compareAgainstCurrentWord(@NotNull T item1, @NotNull T item2) {
-		if (currentWord != null) {
-			String label1 = getLabel(item1);
-			String label2 = getLabel(item2);
-			// Don't do this for completion offerings that are quoted strings
-			if (((label1 == null) || !StringUtil.isQuotedString(label1)) &&
-				((label2 == null) || !StringUtil.isQuotedString(label2))) {
-				// Exact match
-				if (equals(currentWord, label1) &&
-					((label2 == null) || !equals(currentWord, label2))) {
-					return -1;
-				} else if (equals(currentWord, label2) &&
-						   ((label1 == null) || !equals(currentWord, label1))) {
-					return 1;
-				}
-
-				// Starts with
-				else if ((startsWith(currentWord, label1) || startsWith(label1, currentWord)) &&
-						 ((label2 == null) || !(startsWith(currentWord, label2) || startsWith(label2, currentWord)))) {
-					return -1;
-				} else if ((startsWith(currentWord, label2) || startsWith(label2, currentWord)) &&
-						   ((label1 == null) || !(startsWith(currentWord, label1) || startsWith(label1, currentWord)))) {
-					return 1;
-				}
+	/**
+	 * Sort key of an item, computed once to avoid the string operations for each comparison.
+	 */
+	private class SortKey {
+
+		private final @NotNull T item;
+		// The index of the item in the ranked items
+		private final int index;
+		private final @Nullable String label;
+		private final @Nullable String sortText;
+		private final boolean quoted;
+		// 0: the label is the current word, 1: the label and the current word start with each other, 2: otherwise
+		private final int currentWordMatch;
+		// 0: the label starts with the prefix, 1: otherwise
+		private final int prefixMatch;
+		// true if the label is a loose/camel-hump start match of the prefix
+		private final boolean startMatch;
+		private int matchingDegree;
+		private boolean matchingDegreeComputed;
+		// true if the item has been selected in the best items
+		private boolean selected;
+
+		private SortKey(@NotNull T item, int index) {
+			this.item = item;
+			this.index = index;
+			this.label = getLabel(item);
+			this.sortText = getSortText(item);
+			this.quoted = label != null && StringUtil.isQuotedString(label);
+			if (currentWord == null || quoted) {
+				this.currentWordMatch = 2;
+			} else if (AbstractCompletionItemComparator.this.equals(currentWord, label)) {
+				this.currentWordMatch = 0;
+			} else if (startsWith(currentWord, label) || startsWith(label, currentWord)) {
+				this.currentWordMatch = 1;
+			} else {
+				this.currentWordMatch = 2;
+			}
+			if (prefixMatcher == null || quoted) {
+				this.prefixMatch = 1;
+				this.startMatch = false;
+			} else {
+				this.prefixMatch = startsWith(label, prefixMatcher.getPrefix()) ? 0 : 1;
+				this.startMatch = label != null && prefixMatcher.isStartMatch(label);
 			}
 		}
 
-		return 0;
-	}
-
-	private int compareAgainstPrefix(@NotNull T item1, @NotNull T item2) {
-		if (prefixMatcher != null) {
-			String prefix = prefixMatcher.getPrefix();
-			String label1 = getLabel(item1);
-			String label2 = getLabel(item2);
-			// Don't do this for completion offerings that are quoted strings
-			if (((label1 == null) || !StringUtil.isQuotedString(label1)) &&
-				((label2 == null) || !StringUtil.isQuotedString(label2))) {
-				// Start starts with
-				if (startsWith(label1, prefix) &&
-					(!startsWith(label2, prefix))) {
-					return -1;
-				} else if (startsWith(label2, prefix) &&
-						   (!startsWith(label1, prefix))) {
-					return 1;
-				}
-				// Loose/camel-hump starts with
-				else if ((label1 != null) && prefixMatcher.isStartMatch(label1) &&
-						 ((label2 == null) || !prefixMatcher.isStartMatch(label2))) {
-					return -1;
-				} else if ((label2 != null) && prefixMatcher.isStartMatch(label2) &&
-						   ((label1 == null) || !prefixMatcher.isStartMatch(label1))) {
-					return 1;
-				} else if ((label1 != null) && prefixMatcher.isStartMatch(label1) &&
-						   ((label2 != null) && prefixMatcher.isStartMatch(label2))) {
-					// Better matches are ranked higher and we want those ordered earlier
-					return prefixMatcher.matchingDegree(label2) - prefixMatcher.matchingDegree(label1);
-				}
+		private int getMatchingDegree() {
+			if (!matchingDegreeComputed) {
+				matchingDegree = prefixMatcher.matchingDegree(label);
+				matchingDegreeComputed = true;
 			}
+			return matchingDegree;
 		}
-
-		return 0;
 	}
 
 	protected abstract String getLabel(@NotNull T item);
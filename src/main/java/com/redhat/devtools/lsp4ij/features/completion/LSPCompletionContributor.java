@@ -13,6 +13,7 @@ package com.redhat.devtools.lsp4ij.features.completion;
 import com.intellij.codeInsight.completion.*;
 import com.intellij.codeInsight.lookup.*;
 import com.intellij.codeInsight.lookup.impl.LookupImpl;
+import com.intellij.openapi.application.ReadAction;
 import com.intellij.openapi.editor.Document;
 import com.intellij.openapi.editor.Editor;
 import com.intellij.openapi.progress.ProcessCanceledException;
@@ -22,6 +23,7 @@ import com.intellij.openapi.util.UserDataHolder;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.patterns.StandardPatterns;
 import com.intellij.psi.PsiFile;
+import com.intellij.util.concurrency.AppExecutorUtil;
 import com.intellij.util.containers.ContainerUtil;
 import com.redhat.devtools.lsp4ij.LSPFileSupport;
 import com.redhat.devtools.lsp4ij.LSPIJUtils;
@@ -52,6 +54,9 @@ import static com.redhat.devtools.lsp4ij.internal.CompletableFutures.waitUntilDo
 public class LSPCompletionContributor extends CompletionContributor {
     private static final Logger LOGGER = LoggerFactory.getLogger(LSPCompletionContributor.class);
 
+    // Number of best completion items which are sorted and added first to the completion result
+    private static final int TOP_COMPLETION_ITEMS = 200;
+
     @Override
     public void fillCompletionVariants(@NotNull CompletionParameters parameters, @NotNull CompletionResultSet result) {
         PsiFile psiFile = parameters.getOriginalFile();
@@ -111,13 +116,16 @@ public class LSPCompletionContributor extends CompletionContributor {
                                     @NotNull LanguageServerItem languageServer,
                                     @NotNull CompletionResultSet result) {
         CompletionItemDefaults itemDefaults = null;
-        List<CompletionItem> items = new ArrayList<>();
+        List<CompletionItem> items;
         if (completion.isLeft()) {
-            items.addAll(completion.getLeft());
+            items = completion.getLeft();
         } else {
             CompletionList completionList = completion.getRight();
             itemDefaults = completionList.getItemDefaults();
-            items.addAll(completionList.getItems());
+            items = completionList.getItems();
+        }
+        if (items == null) {
+            return;
         }
 
         PsiFile originalFile = parameters.getOriginalFile();
@@ -132,15 +140,17 @@ public class LSPCompletionContributor extends CompletionContributor {
         PrefixMatcher prefixMatcher = useContextAwareSorting ? result.getPrefixMatcher() : null;
         String currentWord = useContextAwareSorting ? getCurrentWord(parameters) : null;
         boolean caseSensitive = clientFeatures.isCaseSensitive(originalFile);
-        items.sort(new LSPCompletionItemComparator(prefixMatcher, currentWord, caseSensitive));
+        // Rank the items: the best items are added first, the other items are sorted only when they are added
+        Iterator<CompletionItem> rankedItems = new LSPCompletionItemComparator(prefixMatcher, currentWord, caseSensitive)
+                .rank(items, TOP_COMPLETION_ITEMS);
         int size = items.size();
 
         Set<String> addedLookupStrings = new HashSet<>();
         var completionFeature = clientFeatures.getCompletionFeature();
         LSPCompletionFeature.LSPCompletionContext context = new LSPCompletionFeature.LSPCompletionContext(parameters, languageServer);
         // Items now sorted by priority, low index == high priority
-        for (int i = 0; i < size; i++) {
-            var item = items.get(i);
+        for (int i = 0; rankedItems.hasNext(); i++) {
+            var item = rankedItems.next();
             ProgressManager.checkCanceled();
             // Update text edit range, commitCharacters, ... with item defaults if needed
             updateWithItemDefaults(item, itemDefaults);
@@ -260,28 +270,140 @@ public class LSPCompletionContributor extends CompletionContributor {
      */
     public static class LSPLookupManagerListener implements LookupManagerListener {
 
+        /**
+         * Number of items after the selected item for which the documentation is rendered ahead of time.
+         */
+        private static final int DOCUMENTATION_PREFETCH_COUNT = 3;
+
+        /**
+         * Number of items after the selected item for which 'completionItem/resolve' is sent ahead of time.
+         */
+        private static final int RESOLVE_PREFETCH_COUNT = 3;
+
         @Override
         public void activeLookupChanged(@Nullable Lookup oldLookup, @Nullable Lookup newLookup) {
             if (newLookup == null) {
                 return;
             }
-            newLookup.addLookupListener(new LookupListener() {
-                @Override
-                public void currentItemChanged(@NotNull LookupEvent event) {
-                    var item = event.getItem();
-                    if (item == null) {
-                        return;
-                    }
-                    if (item.getObject() instanceof LSPCompletionProposal lspCompletionProposal) {
-                        // It is an LSP completion proposal
-                        if (newLookup instanceof LookupImpl lookupImpl && lspCompletionProposal.needToResolveCompletionDetail()) {
-                            // The LSP completion item requires to resolve completionItem to get the detail
-                            // Refresh the lookup item
-                            lookupImpl.scheduleItemUpdate(item);
+            newLookup.addLookupListener(new LSPLookupListener(newLookup));
+        }
+
+        /**
+         * Render in background the documentation of the selected item and the next few items
+         * to show it without delay when the user scrolls through the completion list.
+         *
+         * @param lookup the lookup.
+         */
+        private static void prefetchDocumentation(@NotNull LookupImpl lookup) {
+            List<LSPCompletionProposal> proposals = getProposalsFromSelectedItem(lookup, DOCUMENTATION_PREFETCH_COUNT);
+            if (proposals.isEmpty()) {
+                return;
+            }
+            ReadAction.nonBlocking(() -> {
+                        for (var proposal : proposals) {
+                            ProgressManager.checkCanceled();
+                            proposal.prefetchDocumentation();
                         }
+                    })
+                    .expireWhen(lookup::isLookupDisposed)
+                    .submit(AppExecutorUtil.getAppExecutorService());
+        }
+
+        /**
+         * Returns the LSP completion proposals of the selected item and of the given number of items after it.
+         *
+         * @param lookup the lookup.
+         * @param count  the number of items after the selected item.
+         * @return the LSP completion proposals of the selected item and of the given number of items after it.
+         */
+        private static @NotNull List<LSPCompletionProposal> getProposalsFromSelectedItem(@NotNull LookupImpl lookup, int count) {
+            var list = lookup.getList();
+            int selectedIndex = list.getSelectedIndex();
+            if (selectedIndex < 0) {
+                return Collections.emptyList();
+            }
+            var model = list.getModel();
+            int end = Math.min(model.getSize(), selectedIndex + 1 + count);
+            List<LSPCompletionProposal> proposals = new ArrayList<>(end - selectedIndex);
+            for (int i = selectedIndex; i < end; i++) {
+                if (model.getElementAt(i).getObject() instanceof LSPCompletionProposal proposal) {
+                    proposals.add(proposal);
+                }
+            }
+            return proposals;
+        }
+
+        /**
+         * LSP lookup listener which resolves in background the LSP completion items around the selected item.
+         */
+        static class LSPLookupListener implements LookupListener {
+
+            private final @NotNull Lookup lookup;
+
+            // The proposals for which 'completionItem/resolve' has been prefetched
+            private List<LSPCompletionProposal> prefetchedProposals = Collections.emptyList();
+
+            LSPLookupListener(@NotNull Lookup lookup) {
+                this.lookup = lookup;
+            }
+
+            @Override
+            public void currentItemChanged(@NotNull LookupEvent event) {
+                var item = event.getItem();
+                if (item == null) {
+                    return;
+                }
+                if (item.getObject() instanceof LSPCompletionProposal lspCompletionProposal) {
+                    // It is an LSP completion proposal
+                    if (lookup instanceof LookupImpl lookupImpl && lspCompletionProposal.needToResolveCompletionDetail()) {
+                        // The LSP completion item requires to resolve completionItem to get the detail
+                        // Refresh the lookup item
+                        lookupImpl.scheduleItemUpdate(item);
+                    }
+                    if (lookup instanceof LookupImpl lookupImpl) {
+                        prefetchResolvedCompletionItems(lookupImpl);
+                        prefetchDocumentation(lookupImpl);
+                    }
+                }
+            }
+
+            @Override
+            public void itemSelected(@NotNull LookupEvent event) {
+                // Keep the resolve of the selected proposal, it is used to apply the completion item
+                var item = event.getItem();
+                cancelPrefetchedResolvedCompletionItems(item != null && item.getObject() instanceof LSPCompletionProposal selectedProposal ?
+                        List.of(selectedProposal) : Collections.emptyList());
+            }
+
+            @Override
+            public void lookupCanceled(@NotNull LookupEvent event) {
+                cancelPrefetchedResolvedCompletionItems(Collections.emptyList());
+            }
+
+            /**
+             * Resolve in background the selected item and the next few items and cancel the resolve
+             * of the items which are no longer around the selected item.
+             *
+             * @param lookup the lookup.
+             */
+            private void prefetchResolvedCompletionItems(@NotNull LookupImpl lookup) {
+                List<LSPCompletionProposal> proposals = getProposalsFromSelectedItem(lookup, RESOLVE_PREFETCH_COUNT);
+                cancelPrefetchedResolvedCompletionItems(proposals);
+                var selectedItem = lookup.getCurrentItem();
+                for (var proposal : proposals) {
+                    proposal.prefetchResolvedCompletionItem(selectedItem != null && selectedItem.getObject() == proposal);
+                }
+                prefetchedProposals = proposals;
+            }
+
+            private void cancelPrefetchedResolvedCompletionItems(@NotNull List<LSPCompletionProposal> proposalsToKeep) {
+                for (var proposal : prefetchedProposals) {
+                    if (!proposalsToKeep.contains(proposal)) {
+                        proposal.cancelPrefetchedResolvedCompletionItem();
                     }
                 }
-            });
+                prefetchedProposals = Collections.emptyList();
+            }
         }
     }
 
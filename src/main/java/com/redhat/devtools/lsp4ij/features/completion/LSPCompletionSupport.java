@@ -16,6 +16,7 @@ import com.redhat.devtools.lsp4ij.LanguageServerItem;
 import com.redhat.devtools.lsp4ij.features.AbstractLSPDocumentFeatureSupport;
 import com.redhat.devtools.lsp4ij.internal.CancellationSupport;
 import com.redhat.devtools.lsp4ij.internal.CompletableFutures;
+import com.redhat.devtools.lsp4ij.internal.LSPRequestScheduler.Priority;
 import org.eclipse.lsp4j.CompletionContext;
 import org.eclipse.lsp4j.CompletionTriggerKind;
 import org.jetbrains.annotations.NotNull;
@@ -89,8 +90,9 @@ public class LSPCompletionSupport extends AbstractLSPDocumentFeatureSupport<LSPC
         updateTextDocumentUri(params.getTextDocument(), file, languageServer);
         params.setContext(createCompletionContext(params, file, languageServer));
         return cancellationSupport.execute(languageServer
-                        .getTextDocumentService()
-                        .completion(params), languageServer, LSPRequestConstants.TEXT_DOCUMENT_COMPLETION)
+                        .getServerWrapper()
+                        .getRequestScheduler()
+                        .schedule(Priority.INTERACTIVE, () -> languageServer.getTextDocumentService().completion(params)), languageServer, LSPRequestConstants.TEXT_DOCUMENT_COMPLETION)
                 .thenApplyAsync(result -> {
                     if (result == null) {
                         // textDocument/completion may return null
@@ -0,0 +1,286 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.lsp4ij.features.diagnostics;
+
+import com.redhat.devtools.lsp4ij.internal.LSPModelInterner;
+import org.eclipse.lsp4j.*;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Compact representation of LSP diagnostics stored in a long-lived cache (ex: the diagnostics published by a language
+ * server for all files of the workspace, which are not opened).
+ *
+ * <p>
+ * A lsp4j {@link Diagnostic} is an object graph (a {@link Range}, two {@link Position}, an {@link Either} code, and the
+ * strings deserialized for each diagnostic). The compact representation stores:
+ * </p>
+ *
+ * <ul>
+ *     <li>the ranges packed in an int array.</li>
+ *     <li>the severities and tags in byte arrays.</li>
+ *     <li>the messages, sources and codes interned with {@link LSPModelInterner}.</li>
+ * </ul>
+ *
+ * <p>
+ * The lsp4j diagnostics are created again when a consumer needs them (see {@link #inflate()}). A diagnostic with
+ * related information or a code description is rare and is stored as is.
+ * </p>
+ */
+@ApiStatus.Internal
+public final class CompactDiagnostics {
+
+    public static final CompactDiagnostics EMPTY = new CompactDiagnostics(0);
+
+    private static final byte NO_TAGS = 0;
+    private static final byte EMPTY_TAGS = 3;
+
+    private final int size;
+    // 4 ints per diagnostic: start line, start character, end line, end character
+    private final int[] ranges;
+    // DiagnosticSeverity value and 0 if the severity is not set
+    private final byte[] severities;
+    // DiagnosticTag value for one tag, NO_TAGS if the tags are not set and EMPTY_TAGS for an empty list
+    private final byte[] tags;
+    private final String[] messages;
+    private final String[] sources;
+    // String, Integer or null
+    private final Object[] codes;
+    // The diagnostics data, null if no diagnostic has data
+    private Object[] data;
+    // The diagnostics which are stored as is, null if all diagnostics are compacted
+    private Diagnostic[] originals;
+    private boolean hasErrors;
+
+    private CompactDiagnostics(int size) {
+        this.size = size;
+        this.ranges = new int[size * 4];
+        this.severities = new byte[size];
+        this.tags = new byte[size];
+        this.messages = new String[size];
+        this.sources = new String[size];
+        this.codes = new Object[size];
+    }
+
+    /**
+     * Returns the compact representation of the given diagnostics.
+     *
+     * @param diagnostics the lsp4j diagnostics.
+     * @return the compact representation of the given diagnostics.
+     */
+    public static @NotNull CompactDiagnostics of(@NotNull List<Diagnostic> diagnostics) {
+        if (diagnostics.isEmpty()) {
+            return EMPTY;
+        }
+        var compact = new CompactDiagnostics(diagnostics.size());
+        for (int i = 0; i < diagnostics.size(); i++) {
+            compact.set(i, diagnostics.get(i));
+        }
+        return compact;
+    }
+
+    private void set(int index, @NotNull Diagnostic diagnostic) {
+        DiagnosticSeverity severity = diagnostic.getSeverity();
+        if (severity == DiagnosticSeverity.Error) {
+            hasErrors = true;
+        }
+        Range range = diagnostic.getRange();
+        byte tag = toTag(diagnostic.getTags());
+        if (range == null || range.getStart() == null || range.getEnd() == null || diagnostic.getMessage() == null || tag == -1
+                || diagnostic.getRelatedInformation() != null || diagnostic.getCodeDescription() != null) {
+            // Rare case, the diagnostic is stored as is
+            if (originals == null) {
+                originals = new Diagnostic[size];
+            }
+            originals[index] = diagnostic;
+            return;
+        }
+        int offset = index * 4;
+        ranges[offset] = range.getStart().getLine();
+        ranges[offset + 1] = range.getStart().getCharacter();
+        ranges[offset + 2] = range.getEnd().getLine();
+        ranges[offset + 3] = range.getEnd().getCharacter();
+        severities[index] = severity != null ? (byte) severity.getValue() : 0;
+        tags[index] = tag;
+        messages[index] = LSPModelInterner.intern(diagnostic.getMessage());
+        sources[index] = LSPModelInterner.intern(diagnostic.getSource());
+        Either<String, Integer> code = diagnostic.getCode();
+        if (code != null) {
+            codes[index] = code.isLeft() ? LSPModelInterner.intern(code.getLeft()) : code.getRight();
+        }
+        if (diagnostic.getData() != null) {
+            if (data == null) {
+                data = new Object[size];
+            }
+            data[index] = diagnostic.getData();
+        }
+    }
+
+    private static byte toTag(@Nullable List<DiagnosticTag> tags) {
+        if (tags == null) {
+            return NO_TAGS;
+        }
+        if (tags.isEmpty()) {
+            return EMPTY_TAGS;
+        }
+        if (tags.size() == 1 && tags.get(0) != null) {
+            return (byte) tags.get(0).getValue();
+        }
+        // Several tags, the diagnostic is stored as is to keep the order of the tags
+        return -1;
+    }
+
+    /**
+     * Returns the number of diagnostics.
+     *
+     * @return the number of diagnostics.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns true if a diagnostic has the error severity and false otherwise.
+     *
+     * @return true if a diagnostic has the error severity and false otherwise.
+     */
+    public boolean hasErrors() {
+        return hasErrors;
+    }
+
+    /**
+     * Returns true if the given diagnostics are equal to these diagnostics, in any order, and false otherwise.
+     * <p>
+     * The diagnostics are compared in order without inflating them. If they differ, a language server can have
+     * published the same diagnostics in another order: the remaining diagnostics are inflated and compared
+     * regardless of their order.
+     *
+     * @param diagnostics the lsp4j diagnostics.
+     * @return true if the given diagnostics are equal to these diagnostics, in any order, and false otherwise.
+     */
+    public boolean isSameAs(@NotNull List<Diagnostic> diagnostics) {
+        if (diagnostics.size() != size) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            if (!isSameAs(i, diagnostics.get(i))) {
+                return isSameAsInAnyOrder(i, diagnostics);
+            }
+        }
+        return true;
+    }
+
+    private boolean isSameAsInAnyOrder(int start, @NotNull List<Diagnostic> diagnostics) {
+        // Count the occurrences of the given diagnostics, a diagnostic can be published several times
+        Map<Diagnostic, Integer> counts = new HashMap<>();
+        for (int i = start; i < size; i++) {
+            counts.merge(diagnostics.get(i), 1, Integer::sum);
+        }
+        for (int i = start; i < size; i++) {
+            Diagnostic diagnostic = inflate(i);
+            Integer count = counts.get(diagnostic);
+            if (count == null) {
+                return false;
+            }
+            if (count == 1) {
+                counts.remove(diagnostic);
+            } else {
+                counts.put(diagnostic, count - 1);
+            }
+        }
+        return true;
+    }
+
+    private boolean isSameAs(int index, @NotNull Diagnostic diagnostic) {
+        if (originals != null && originals[index] != null) {
+            return originals[index].equals(diagnostic);
+        }
+        Range range = diagnostic.getRange();
+        if (range == null || range.getStart() == null || range.getEnd() == null
+                || diagnostic.getRelatedInformation() != null || diagnostic.getCodeDescription() != null) {
+            return false;
+        }
+        int offset = index * 4;
+        if (ranges[offset] != range.getStart().getLine()
+                || ranges[offset + 1] != range.getStart().getCharacter()
+                || ranges[offset + 2] != range.getEnd().getLine()
+                || ranges[offset + 3] != range.getEnd().getCharacter()) {
+            return false;
+        }
+        DiagnosticSeverity severity = diagnostic.getSeverity();
+        if (severities[index] != (severity != null ? severity.getValue() : 0)
+                || tags[index] != toTag(diagnostic.getTags())) {
+            return false;
+        }
+        Either<String, Integer> code = diagnostic.getCode();
+        Object codeValue = code != null ? code.get() : null;
+        return Objects.equals(messages[index], diagnostic.getMessage())
+                && Objects.equals(sources[index], diagnostic.getSource())
+                && Objects.equals(codes[index], codeValue)
+                && Objects.equals(data != null ? data[index] : null, diagnostic.getData());
+    }
+
+    /**
+     * Returns the lsp4j diagnostics.
+     *
+     * @return the lsp4j diagnostics.
+     */
+    public @NotNull List<Diagnostic> inflate() {
+        if (size == 0) {
+            return Collections.emptyList();
+        }
+        List<Diagnostic> diagnostics = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            diagnostics.add(inflate(i));
+        }
+        return diagnostics;
+    }
+
+    private @NotNull Diagnostic inflate(int index) {
+        if (originals != null && originals[index] != null) {
+            return originals[index];
+        }
+        int offset = index * 4;
+        var diagnostic = new Diagnostic();
+        diagnostic.setRange(new Range(new Position(ranges[offset], ranges[offset + 1]),
+                new Position(ranges[offset + 2], ranges[offset + 3])));
+        if (severities[index] != 0) {
+            diagnostic.setSeverity(DiagnosticSeverity.forValue(severities[index]));
+        }
+        byte tag = tags[index];
+        if (tag == EMPTY_TAGS) {
+            diagnostic.setTags(new ArrayList<>());
+        } else if (tag != NO_TAGS) {
+            diagnostic.setTags(new ArrayList<>(List.of(DiagnosticTag.forValue(tag))));
+        }
+        diagnostic.setMessage(messages[index]);
+        diagnostic.setSource(sources[index]);
+        Object code = codes[index];
+        if (code instanceof String stringCode) {
+            diagnostic.setCode(stringCode);
+        } else if (code instanceof Integer intCode) {
+            diagnostic.setCode(intCode);
+        }
+        if (data != null) {
+            diagnostic.setData(data[index]);
+        }
+        return diagnostic;
+    }
+}
@@ -23,6 +23,7 @@ import com.intellij.openapi.util.Key;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiFile;
 import com.redhat.devtools.lsp4ij.LSPIJUtils;
+import com.redhat.devtools.lsp4ij.LanguageServersRegistry;
 import com.redhat.devtools.lsp4ij.LanguageServiceAccessor;
 import com.redhat.devtools.lsp4ij.OpenedDocument;
 import com.redhat.devtools.lsp4ij.client.features.FileUriSupport;
@@ -33,7 +34,6 @@ import org.jetbrains.annotations.Nullable;
 
 import java.net.URI;
 import java.util.Collections;
-import java.util.List;
 
 /**
  * Intellij {@link ExternalAnnotator} implementation which get the current LSP diagnostics for a given file and translate
@@ -57,8 +57,17 @@ public class LSPDiagnosticAnnotator extends AbstractLSPExternalAnnotator<Boolean
         if (servers.isEmpty()) {
             return Boolean.FALSE;
         }
+        var relevance = LanguageServersRegistry.getInstance().getFileRelevance(file);
+        if (!relevance.isRelevant()) {
+            // The file cannot be handled by a language server
+            return Boolean.FALSE;
+        }
         boolean hasOpenedDocument = false;
         for (var ls : servers) {
+            if (!relevance.isRelevant(ls.getServerDefinition())) {
+                // The language server cannot handle the file, avoid computing the file URI
+                continue;
+            }
             URI fileUri = FileUriSupport.getFileUri(file.getVirtualFile(), ls.getClientFeatures());
             OpenedDocument openedDocument = ls.getOpenedDocument(fileUri);
             if (openedDocument != null) {
@@ -93,8 +102,12 @@ public class LSPDiagnosticAnnotator extends AbstractLSPExternalAnnotator<Boolean
         if (document == null) {
             return;
         }
+        var relevance = LanguageServersRegistry.getInstance().getFileRelevance(psiFile);
         // Loop for language server which report diagnostics for the given file
         for (var ls : servers) {
+            if (!relevance.isRelevant(ls.getServerDefinition())) {
+                continue;
+            }
             URI fileUri = FileUriSupport.getFileUri(file, ls.getClientFeatures());
             OpenedDocument openedDocument = ls.getOpenedDocument(fileUri);
             if (openedDocument != null) {
@@ -119,12 +132,13 @@ public class LSPDiagnosticAnnotator extends AbstractLSPExternalAnnotator<Boolean
         if (!diagnosticSupport.isEnabled(file)) {
             return;
         }
-        List<IntentionAction> fixes = Collections.emptyList();
         var codeActionFeature = clientFeatures.getCodeActionFeature();
         if (codeActionFeature.isQuickFixesEnabled(file)) {
-            fixes = diagnosticsForServer.getQuickFixesFor(diagnostic, file);
+            // The quick fixes are created only when they are requested for the annotation
+            diagnosticSupport.createAnnotation(diagnostic, document, () -> diagnosticsForServer.getQuickFixesFor(diagnostic, file), holder);
+        } else {
+            diagnosticSupport.createAnnotation(diagnostic, document, Collections.<IntentionAction>emptyList(), holder);
         }
-        diagnosticSupport.createAnnotation(diagnostic, document, fixes, holder);
     }
 
 }
\ No newline at end of file
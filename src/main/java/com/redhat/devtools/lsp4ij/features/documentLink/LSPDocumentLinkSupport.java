@@ -16,9 +16,13 @@ import com.redhat.devtools.lsp4ij.LanguageServerItem;
 import com.redhat.devtools.lsp4ij.features.AbstractLSPDocumentFeatureSupport;
 import com.redhat.devtools.lsp4ij.internal.CancellationSupport;
 import com.redhat.devtools.lsp4ij.internal.CompletableFutures;
+import org.eclipse.lsp4j.DocumentLink;
 import org.eclipse.lsp4j.DocumentLinkParams;
+import org.eclipse.lsp4j.Range;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
@@ -48,6 +52,28 @@ public class LSPDocumentLinkSupport extends AbstractLSPDocumentFeatureSupport<Do
         return getDocumentLinks(file, params, cancellationSupport);
     }
 
+    @Override
+    protected boolean isStaleWhileRevalidateEnabled() {
+        return true;
+    }
+
+    @Override
+    protected @Nullable List<DocumentLinkData> shiftStaleResult(@NotNull List<DocumentLinkData> staleResult,
+                                                                @NotNull RangeShifter shifter) {
+        List<DocumentLinkData> documentLinks = new ArrayList<>(staleResult.size());
+        for (var data : staleResult) {
+            DocumentLink documentLink = data.documentLink();
+            Range range = shifter.shift(documentLink.getRange());
+            if (range != null) {
+                var shifted = new DocumentLink(range, documentLink.getTarget());
+                shifted.setTooltip(documentLink.getTooltip());
+                shifted.setData(documentLink.getData());
+                documentLinks.add(new DocumentLinkData(shifted, data.languageServer()));
+            }
+        }
+        return documentLinks;
+    }
+
     private static @NotNull CompletableFuture<List<DocumentLinkData>> getDocumentLinks(@NotNull PsiFile file,
                                                                                        @NotNull DocumentLinkParams params,
                                                                                        @NotNull CancellationSupport cancellationSupport) {
@@ -18,14 +18,17 @@ import com.intellij.psi.PsiFile;
 import com.intellij.psi.impl.FakePsiElement;
 import com.redhat.devtools.lsp4ij.LSPIJUtils;
 import com.redhat.devtools.lsp4ij.LanguageServerItem;
+import com.redhat.devtools.lsp4ij.LanguageServerWrapper;
 import com.redhat.devtools.lsp4ij.client.features.LSPClientFeatures;
 import org.eclipse.lsp4j.DocumentSymbol;
 import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.SymbolKind;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import javax.swing.Icon;
-
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * LSP document symbol data.
@@ -34,12 +37,24 @@ public class DocumentSymbolData extends FakePsiElement {
 
     private static final DocumentSymbolData[] EMPTY_ARRAY = new DocumentSymbolData[0];
 
-    private final @NotNull DocumentSymbol documentSymbol;
+    /**
+     * Immutable state of the document symbol data. The state is replaced as a whole when the document symbol data is
+     * reconciled with a new LSP response, so a thread which reads the PSI element never sees the range or the
+     * children of another LSP document symbol.
+     *
+     * @param documentSymbol the LSP document symbol.
+     * @param textRange      the text range of the document symbol and null if it is not computed yet.
+     * @param children       the children of the document symbol and null if they are not computed yet.
+     */
+    private record State(@NotNull DocumentSymbol documentSymbol,
+                         @Nullable TextRange textRange,
+                         DocumentSymbolData @Nullable [] children) {
+    }
+
+    private final @NotNull AtomicReference<State> state;
     private final @NotNull PsiFile psiFile;
     private final DocumentSymbolData parent;
     private final @NotNull LanguageServerItem languageServer;
-    private volatile TextRange textRange = null;
-    private DocumentSymbolData[] cachedChildren;
 
     public DocumentSymbolData(@NotNull DocumentSymbol documentSymbol,
                               @NotNull PsiFile psiFile,
@@ -51,58 +66,58 @@ public class DocumentSymbolData extends FakePsiElement {
                               @NotNull PsiFile psiFile,
                               @NotNull LanguageServerItem languageServer,
                               @Nullable DocumentSymbolData parent) {
-        this.documentSymbol = documentSymbol;
+        this.state = new AtomicReference<>(new State(documentSymbol, null, null));
         this.psiFile = psiFile;
         this.languageServer = languageServer;
         this.parent = parent;
     }
 
     public @NotNull DocumentSymbol getDocumentSymbol() {
-        return documentSymbol;
+        return state.get().documentSymbol();
     }
 
     @Override
     public @Nullable String getPresentableText() {
-        return getClientFeatures().getDocumentSymbolFeature().getPresentableText(documentSymbol, psiFile);
+        return getClientFeatures().getDocumentSymbolFeature().getPresentableText(getDocumentSymbol(), psiFile);
     }
 
     @Override
     public @Nullable Icon getIcon(boolean unused) {
-        return getClientFeatures().getDocumentSymbolFeature().getIcon(documentSymbol, psiFile, unused);
+        return getClientFeatures().getDocumentSymbolFeature().getIcon(getDocumentSymbol(), psiFile, unused);
     }
 
     @Override
     public @Nullable String getLocationString() {
-        return getClientFeatures().getDocumentSymbolFeature().getLocationString(documentSymbol, psiFile);
+        return getClientFeatures().getDocumentSymbolFeature().getLocationString(getDocumentSymbol(), psiFile);
     }
 
     @Override
     public int getTextOffset() {
-        return getClientFeatures().getDocumentSymbolFeature().getTextOffset(documentSymbol, psiFile);
+        return getClientFeatures().getDocumentSymbolFeature().getTextOffset(getDocumentSymbol(), psiFile);
     }
 
     @Override
     public TextRange getTextRange() {
-        if (textRange == null) {
-            synchronized (this) {
-                if (textRange == null) {
-                    Range range = documentSymbol.getRange();
-                    Document document = LSPIJUtils.getDocument(psiFile);
-                    this.textRange = (range != null) && (document != null) ? LSPIJUtils.toTextRange(range, document) : psiFile.getTextRange();
-                }
-            }
+        var current = state.get();
+        if (current.textRange() != null) {
+            return current.textRange();
         }
+        Range range = current.documentSymbol().getRange();
+        Document document = LSPIJUtils.getDocument(psiFile);
+        TextRange textRange = (range != null) && (document != null) ? LSPIJUtils.toTextRange(range, document) : psiFile.getTextRange();
+        // Cache the text range only if the document symbol data has not been reconciled in the meantime
+        state.compareAndSet(current, new State(current.documentSymbol(), textRange, current.children()));
         return textRange;
     }
 
     @Override
     public void navigate(boolean requestFocus) {
-        getClientFeatures().getDocumentSymbolFeature().navigate(documentSymbol, psiFile, requestFocus);
+        getClientFeatures().getDocumentSymbolFeature().navigate(getDocumentSymbol(), psiFile, requestFocus);
     }
 
     @Override
     public boolean canNavigate() {
-        return getClientFeatures().getDocumentSymbolFeature().canNavigate(documentSymbol, psiFile);
+        return getClientFeatures().getDocumentSymbolFeature().canNavigate(getDocumentSymbol(), psiFile);
     }
 
     @Override
@@ -112,18 +127,121 @@ public class DocumentSymbolData extends FakePsiElement {
 
     @Override
     public DocumentSymbolData @NotNull [] getChildren() {
-        var children = getDocumentSymbol().getChildren();
+        var current = state.get();
+        if (current.children() != null) {
+            return current.children();
+        }
+        var children = current.documentSymbol().getChildren();
         if (children == null || children.isEmpty()) {
             return DocumentSymbolData.EMPTY_ARRAY;
         }
-        if (cachedChildren == null) {
-            cachedChildren = children.stream()
-                    .map(child -> new DocumentSymbolData(child, psiFile,  languageServer,this))
-                    .toArray(DocumentSymbolData[]::new);
+        var cachedChildren = children.stream()
+                .map(child -> new DocumentSymbolData(child, psiFile, languageServer, this))
+                .toArray(DocumentSymbolData[]::new);
+        while (!state.compareAndSet(current, new State(current.documentSymbol(), current.textRange(), cachedChildren))) {
+            var updated = state.get();
+            if (updated.documentSymbol() != current.documentSymbol()) {
+                // The document symbol data has been reconciled by another thread, don't cache the obsolete children
+                return cachedChildren;
+            }
+            if (updated.children() != null) {
+                // The children have been computed by another thread
+                return updated.children();
+            }
+            current = updated;
         }
         return cachedChildren;
     }
 
+    /**
+     * Returns the given new document symbols where the document symbol data which match a document symbol data of the
+     * given old document symbols are replaced with the old instance, updated with the new LSP document symbol.
+     *
+     * <p>
+     * A new document symbol matches an old one when they come from the same language server and have the same kind,
+     * the same name and the same position among the sibling symbols having this kind and name. The range is not a part of
+     * the match since typing above a symbol shifts its range. Reusing the PSI elements of the unchanged symbols keeps
+     * the state (expanded nodes, selection) of the structure view and the breadcrumbs when the document symbols are
+     * refreshed, and the children of a reused symbol are reconciled the same way.
+     * </p>
+     *
+     * @param oldSymbols the document symbols of the previous LSP response.
+     * @param newSymbols the document symbols of the current LSP response.
+     * @return the reconciled document symbols.
+     */
+    static @NotNull List<DocumentSymbolData> reconcile(@NotNull List<DocumentSymbolData> oldSymbols,
+                                                       @NotNull List<DocumentSymbolData> newSymbols) {
+        if (oldSymbols.isEmpty() || newSymbols.isEmpty()) {
+            return newSymbols;
+        }
+        var oldSymbolsByKey = groupByKey(oldSymbols);
+        List<DocumentSymbolData> result = new ArrayList<>(newSymbols.size());
+        for (var newSymbol : newSymbols) {
+            var oldSymbol = pollMatchingSymbol(oldSymbolsByKey, newSymbol.languageServer, newSymbol.getDocumentSymbol());
+            if (oldSymbol != null) {
+                oldSymbol.update(newSymbol.getDocumentSymbol());
+                result.add(oldSymbol);
+            } else {
+                result.add(newSymbol);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Updates this document symbol data with the given LSP document symbol which matches the current one.
+     *
+     * <p>
+     * The new state (LSP document symbol, text range and reconciled children) is published at once, so the threads
+     * which read this PSI element see either the old state or the new state.
+     * </p>
+     *
+     * @param newDocumentSymbol the new LSP document symbol.
+     */
+    private synchronized void update(@NotNull DocumentSymbol newDocumentSymbol) {
+        var oldChildren = state.get().children();
+        var children = newDocumentSymbol.getChildren();
+        if (oldChildren == null || children == null || children.isEmpty()) {
+            // - the children have never been computed, they will be created from the new document symbol
+            // - or the new document symbol has no children
+            state.set(new State(newDocumentSymbol, null, null));
+            return;
+        }
+        var oldChildrenByKey = groupByKey(Arrays.asList(oldChildren));
+        var newChildren = children.stream()
+                .map(child -> {
+                    var oldChild = pollMatchingSymbol(oldChildrenByKey, languageServer, child);
+                    if (oldChild != null) {
+                        oldChild.update(child);
+                        return oldChild;
+                    }
+                    return new DocumentSymbolData(child, psiFile, languageServer, this);
+                })
+                .toArray(DocumentSymbolData[]::new);
+        state.set(new State(newDocumentSymbol, null, newChildren));
+    }
+
+    private record SymbolKey(@NotNull LanguageServerWrapper languageServer,
+                             @Nullable SymbolKind kind,
+                             @Nullable String name) {
+    }
+
+    private static @NotNull Map<SymbolKey, Deque<DocumentSymbolData>> groupByKey(@NotNull List<DocumentSymbolData> symbols) {
+        Map<SymbolKey, Deque<DocumentSymbolData>> symbolsByKey = new HashMap<>();
+        for (var symbol : symbols) {
+            var key = new SymbolKey(symbol.languageServer.getServerWrapper(), symbol.getDocumentSymbol().getKind(), symbol.getDocumentSymbol().getName());
+            symbolsByKey.computeIfAbsent(key, k -> new ArrayDeque<>()).add(symbol);
+        }
+        return symbolsByKey;
+    }
+
+    private static @Nullable DocumentSymbolData pollMatchingSymbol(@NotNull Map<SymbolKey, Deque<DocumentSymbolData>> symbolsByKey,
+                                                                   @NotNull LanguageServerItem languageServer,
+                                                                   @NotNull DocumentSymbol documentSymbol) {
+        var symbols = symbolsByKey.get(new SymbolKey(languageServer.getServerWrapper(), documentSymbol.getKind(), documentSymbol.getName()));
+        return symbols != null ? symbols.poll() : null;
+    }
+
     public @NotNull LSPClientFeatures getClientFeatures() {
         return languageServer.getClientFeatures();
     }
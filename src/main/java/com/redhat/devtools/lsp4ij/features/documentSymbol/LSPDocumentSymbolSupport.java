@@ -34,6 +34,13 @@ import java.util.concurrent.CompletableFuture;
  * </ul>
  */
 public class LSPDocumentSymbolSupport extends AbstractLSPDocumentFeatureSupport<DocumentSymbolParams, List<DocumentSymbolData>> {
+
+    // Debounce delay (in milliseconds) of the LSP 'textDocument/documentSymbol' requests while the user is typing
+    private static final long DEBOUNCE_DELAY = 300L;
+
+    // The document symbols of the last LSP response, used to reuse the PSI elements of the unchanged symbols
+    private volatile @NotNull List<DocumentSymbolData> lastDocumentSymbols = Collections.emptyList();
+
     public LSPDocumentSymbolSupport(@NotNull PsiFile file) {
         super(file);
     }
@@ -45,7 +52,13 @@ public class LSPDocumentSymbolSupport extends AbstractLSPDocumentFeatureSupport<
     @Override
     protected CompletableFuture<List<DocumentSymbolData>> doLoad(DocumentSymbolParams documentSymbolParams, CancellationSupport cancellationSupport) {
         PsiFile file = super.getFile();
-        return getDocumentSymbols(file, documentSymbolParams, cancellationSupport);
+        return loadWithDebounce(() -> getDocumentSymbols(file, documentSymbolParams, cancellationSupport), DEBOUNCE_DELAY, cancellationSupport)
+                .thenApply(documentSymbols -> {
+                    // Reuse the document symbol data of the previous response for the unchanged symbols
+                    var reconciledSymbols = DocumentSymbolData.reconcile(lastDocumentSymbols, documentSymbols);
+                    lastDocumentSymbols = reconciledSymbols;
+                    return reconciledSymbols;
+                });
     }
 
     private static @NotNull CompletableFuture<List<DocumentSymbolData>> getDocumentSymbols(@NotNull PsiFile file,
@@ -15,6 +15,7 @@ import com.redhat.devtools.lsp4ij.LSPRequestConstants;
 import com.redhat.devtools.lsp4ij.LanguageServerItem;
 import com.redhat.devtools.lsp4ij.features.AbstractLSPDocumentFeatureSupport;
 import com.redhat.devtools.lsp4ij.internal.CancellationSupport;
+import com.redhat.devtools.lsp4ij.internal.LSPRequestScheduler.Priority;
 import org.eclipse.lsp4j.HoverParams;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -100,9 +101,14 @@ public class LSPHoverSupport extends AbstractLSPDocumentFeatureSupport<HoverPara
                                                                       @NotNull CancellationSupport cancellationSupport) {
         // Update textDocument Uri with custom file Uri if needed
         updateTextDocumentUri(params.getTextDocument(), file, languageServer);
+        // Share the LSP request with the identical in-flight hover requests (ex: quick documentation and documentation target)
         return cancellationSupport.execute(languageServer
-                        .getTextDocumentService()
-                        .hover(params), languageServer, LSPRequestConstants.TEXT_DOCUMENT_HOVER)
+                        .getServerWrapper()
+                        .getRequestCoalescer()
+                        .execute(LSPRequestConstants.TEXT_DOCUMENT_HOVER, params, file.getVirtualFile(),
+                                () -> languageServer.getServerWrapper()
+                                        .getRequestScheduler()
+                                        .schedule(Priority.INTERACTIVE, () -> languageServer.getTextDocumentService().hover(params))), languageServer, LSPRequestConstants.TEXT_DOCUMENT_HOVER)
                 .thenApply(hover -> hover != null ? new HoverData(hover, languageServer) : null);
     }
 
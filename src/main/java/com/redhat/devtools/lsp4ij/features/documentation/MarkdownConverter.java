@@ -11,6 +11,8 @@
 package com.redhat.devtools.lsp4ij.features.documentation;
 
 import com.intellij.lang.Language;
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.editor.colors.EditorColorsManager;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.util.Key;
 import com.intellij.psi.PsiFile;
@@ -35,7 +37,7 @@ import java.util.Arrays;
  * Converts Markdown to HTML
  */
 @ApiStatus.Internal
-public class MarkdownConverter {
+public class MarkdownConverter implements Disposable {
 
     private static final Key<HtmlRenderer> HTML_RENDERER_KEY = Key.create("lsp.html.renderer");
 
@@ -48,6 +50,7 @@ public class MarkdownConverter {
     private final Parser htmlParser;
     private final HtmlRenderer htmlRenderer;
     private final MutableDataSet options;
+    private final MarkdownHtmlCache htmlCache = new MarkdownHtmlCache();
 
     public static MarkdownConverter getInstance(@NotNull Project project) {
         return project.getService(MarkdownConverter.class);
@@ -76,6 +79,14 @@ public class MarkdownConverter {
         options.set(PROJECT_CONTEXT, project);
         htmlRenderer = createHtmlRenderer(options);
         htmlParser = Parser.builder(options).build();
+
+        // The code blocks are highlighted with the colors of the current scheme, evict the rendered HTML when it changes.
+        project.getMessageBus().connect(this).subscribe(EditorColorsManager.TOPIC, scheme -> htmlCache.clear());
+    }
+
+    @Override
+    public void dispose() {
+        htmlCache.clear();
     }
 
     @NotNull
@@ -106,6 +117,29 @@ public class MarkdownConverter {
      */
     public @NotNull String toHtml(@NotNull String markdown,
                                   @Nullable PsiFile file) {
+        // Parsing and highlighting code blocks with TextMate is expensive,
+        // the same documentation is rendered several times (ex: when scrolling the completion list).
+        var key = createCacheKey(markdown, file);
+        String html = htmlCache.get(key);
+        if (html != null) {
+            return html;
+        }
+        html = doToHtml(markdown, file);
+        htmlCache.put(key, html);
+        return html;
+    }
+
+    private static @NotNull MarkdownHtmlCache.Key createCacheKey(@NotNull String markdown,
+                                                                 @Nullable PsiFile file) {
+        if (file == null) {
+            return MarkdownHtmlCache.Key.create(markdown, null, null, null);
+        }
+        var parent = file.getVirtualFile() != null ? file.getVirtualFile().getParent() : null;
+        return MarkdownHtmlCache.Key.create(markdown, file.getLanguage(), file.getName(), parent != null ? parent.getPath() : null);
+    }
+
+    private @NotNull String doToHtml(@NotNull String markdown,
+                                     @Nullable PsiFile file) {
         var htmlRenderer = this.htmlRenderer;
         if (file != null) {
             // The HtmlRenderer is stored in LSPFileSupport instead of PsiFile
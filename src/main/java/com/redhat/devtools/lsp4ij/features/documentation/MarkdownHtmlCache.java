@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.lsp4ij.features.documentation;
+
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import com.intellij.lang.Language;
+import com.intellij.openapi.editor.colors.EditorColorsManager;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.SoftReference;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded, memory-sensitive LRU cache of the HTML rendered by {@link MarkdownConverter}.
+ *
+ * <p>
+ * The rendered HTML depends on the markdown content, the language / file name used to highlight code blocks,
+ * the base directory used to resolve links and the color scheme used by the syntax coloration,
+ * so all of them are part of the cache key. Values are stored with {@link SoftReference} so that
+ * the cache can be reclaimed under memory pressure.
+ * </p>
+ */
+@ApiStatus.Internal
+class MarkdownHtmlCache {
+
+    static final int MAX_ENTRIES = 256;
+
+    /**
+     * Cache key.
+     *
+     * <p>
+     * The key doesn't retain the markdown content (which can be large, ex: the documentation of a completion item)
+     * but its 128-bit hash and its length.
+     * </p>
+     *
+     * @param markdownHash   the 128-bit hash of the markdown content.
+     * @param markdownLength the length of the markdown content.
+     * @param language   the language used to highlight code blocks and null otherwise.
+     * @param fileName   the file name used to highlight code blocks with TextMate and null otherwise.
+     * @param baseDir    the base directory used to resolve relative links and null otherwise.
+     * @param schemeName the color scheme name.
+     */
+    record Key(@NotNull HashCode markdownHash,
+               int markdownLength,
+               @Nullable Language language,
+               @Nullable String fileName,
+               @Nullable String baseDir,
+               @NotNull String schemeName) {
+
+        static Key create(@NotNull String markdown,
+                          @Nullable Language language,
+                          @Nullable String fileName,
+                          @Nullable String baseDir) {
+            return create(markdown, language, fileName, baseDir,
+                    EditorColorsManager.getInstance().getGlobalScheme().getName());
+        }
+
+        static Key create(@NotNull String markdown,
+                          @Nullable Language language,
+                          @Nullable String fileName,
+                          @Nullable String baseDir,
+                          @NotNull String schemeName) {
+            return new Key(Hashing.murmur3_128().hashString(markdown, StandardCharsets.UTF_8), markdown.length(),
+                    language, fileName, baseDir, schemeName);
+        }
+    }
+
+    private final Map<Key, SoftReference<String>> cache = new LinkedHashMap<>(MAX_ENTRIES, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, SoftReference<String>> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    /**
+     * Returns the cached HTML for the given key and null otherwise.
+     *
+     * @param key the cache key.
+     * @return the cached HTML for the given key and null otherwise.
+     */
+    synchronized @Nullable String get(@NotNull Key key) {
+        var ref = cache.get(key);
+        if (ref == null) {
+            return null;
+        }
+        String html = ref.get();
+        if (html == null) {
+            // The HTML has been garbage collected
+            cache.remove(key);
+        }
+        return html;
+    }
+
+    /**
+     * Caches the given HTML for the given key.
+     *
+     * @param key  the cache key.
+     * @param html the rendered HTML.
+     */
+    synchronized void put(@NotNull Key key, @NotNull String html) {
+        cache.put(key, new SoftReference<>(html));
+    }
+
+    /**
+     * Clears the cache.
+     */
+    synchronized void clear() {
+        cache.clear();
+    }
+}
@@ -17,19 +17,19 @@ import com.intellij.lang.folding.FoldingDescriptor;
 import com.intellij.openapi.application.ApplicationManager;
 import com.intellij.openapi.editor.Document;
 import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.util.Key;
 import com.intellij.openapi.util.TextRange;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiFile;
 import com.intellij.util.containers.ContainerUtil;
 import com.redhat.devtools.lsp4ij.LSPFileSupport;
 import com.redhat.devtools.lsp4ij.LSPIJEditorUtils;
-import com.redhat.devtools.lsp4ij.LSPIJUtils;
 import com.redhat.devtools.lsp4ij.LanguageServiceAccessor;
 import com.redhat.devtools.lsp4ij.client.ExecuteLSPFeatureStatus;
 import com.redhat.devtools.lsp4ij.client.indexing.ProjectIndexingManager;
+import com.redhat.devtools.lsp4ij.internal.PositionMapper;
 import org.eclipse.lsp4j.FoldingRange;
 import org.eclipse.lsp4j.FoldingRangeRequestParams;
-import org.eclipse.lsp4j.Position;
 import org.eclipse.lsp4j.TextDocumentIdentifier;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
@@ -37,6 +37,7 @@ import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CancellationException;
@@ -54,6 +55,21 @@ public class LSPFoldingRangeBuilder extends CustomFoldingBuilder {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(LSPFoldingRangeBuilder.class);
 
+    private static final Key<CachedFoldingDescriptors> FOLDING_DESCRIPTORS_KEY = Key.create("lsp.folding.descriptors");
+
+    /**
+     * The folding descriptors built for a given LSP folding ranges response, root node and document version.
+     */
+    private record CachedFoldingDescriptors(@NotNull List<FoldingRange> foldingRanges,
+                                            @NotNull ASTNode root,
+                                            long modificationStamp,
+                                            @NotNull List<FoldingDescriptor> descriptors) {
+
+        boolean isValid(@NotNull List<FoldingRange> foldingRanges, @NotNull ASTNode root, @NotNull Document document) {
+            return this.foldingRanges == foldingRanges && this.root == root && this.modificationStamp == document.getModificationStamp();
+        }
+    }
+
     @Override
     protected void buildLanguageFoldRegions(@NotNull List<FoldingDescriptor> descriptors,
                                             @NotNull PsiElement root,
@@ -67,11 +83,20 @@ public class LSPFoldingRangeBuilder extends CustomFoldingBuilder {
         PsiFile file = root.getContainingFile();
         List<FoldingRange> foldingRanges = getFoldingRanges(file);
         if (!ContainerUtil.isEmpty(foldingRanges)) {
+            // The folding pass is executed each time the daemon code analyzer is restarted (ex: when diagnostics are published),
+            // reuse the folding descriptors when neither the LSP folding ranges nor the document have changed.
+            ASTNode rootNode = root.getNode();
+            CachedFoldingDescriptors cached = file.getUserData(FOLDING_DESCRIPTORS_KEY);
+            if (cached != null && cached.isValid(foldingRanges, rootNode, document)) {
+                descriptors.addAll(cached.descriptors());
+                return;
+            }
+            List<FoldingDescriptor> foldingDescriptors = new ArrayList<>(foldingRanges.size());
             for (FoldingRange foldingRange : foldingRanges) {
                 TextRange textRange = getTextRange(foldingRange, file, document);
                 if ((textRange != null) && (textRange.getLength() > 0)) {
-                    descriptors.add(new FoldingDescriptor(
-                            root.getNode(),
+                    foldingDescriptors.add(new FoldingDescriptor(
+                            rootNode,
                             textRange,
                             null,
                             Collections.emptySet(),
@@ -81,6 +106,8 @@ public class LSPFoldingRangeBuilder extends CustomFoldingBuilder {
                     ));
                 }
             }
+            file.putUserData(FOLDING_DESCRIPTORS_KEY, new CachedFoldingDescriptors(foldingRanges, rootNode, document.getModificationStamp(), foldingDescriptors));
+            descriptors.addAll(foldingDescriptors);
         }
     }
 
@@ -175,7 +202,8 @@ public class LSPFoldingRangeBuilder extends CustomFoldingBuilder {
         CharSequence documentChars = document.getCharsSequence();
         int documentLength = documentChars.length();
 
-        int start = getStartOffset(foldingRange, document);
+        PositionMapper positionMapper = PositionMapper.getInstance(document);
+        int start = getStartOffset(foldingRange, positionMapper);
         Character startChar = start > 0 ? documentChars.charAt(start - 1) : null;
         if ((startChar != null) && ((openBraceChar == null) || (startChar == openBraceChar))) {
             // If necessary, infer the braces for this block
@@ -184,7 +212,7 @@ public class LSPFoldingRangeBuilder extends CustomFoldingBuilder {
                 closeBraceChar = LSPIJEditorUtils.getCloseBraceCharacter(file, openBraceChar);
             }
 
-            int end = getEndOffset(foldingRange, document);
+            int end = getEndOffset(foldingRange, positionMapper);
             // The end offsets can fall a bit short, so look for the closing brace character
             if (closeBraceChar != null) {
                 while ((end < documentLength) && (documentChars.charAt(end) != closeBraceChar)) {
@@ -202,20 +230,20 @@ public class LSPFoldingRangeBuilder extends CustomFoldingBuilder {
         return textRange;
     }
 
-    private static int getStartOffset(@NotNull FoldingRange foldingRange, @NotNull Document document) {
+    private static int getStartOffset(@NotNull FoldingRange foldingRange, @NotNull PositionMapper positionMapper) {
         if (foldingRange.getStartCharacter() == null) {
             // Be defensive against language servers that return lines that are out of bounds for the document
-            return document.getLineEndOffset(Math.max(foldingRange.getStartLine(), 0));
+            return positionMapper.getLineEndOffset(Math.max(foldingRange.getStartLine(), 0));
         }
-        return LSPIJUtils.toOffset(new Position(foldingRange.getStartLine(), foldingRange.getStartCharacter()), document);
+        return positionMapper.toOffset(foldingRange.getStartLine(), foldingRange.getStartCharacter());
     }
 
-    private static int getEndOffset(@NotNull FoldingRange foldingRange, @NotNull Document document) {
+    private static int getEndOffset(@NotNull FoldingRange foldingRange, @NotNull PositionMapper positionMapper) {
         if (foldingRange.getEndCharacter() == null) {
             // Be defensive against language servers that return lines that are out of bounds for the document
-            return document.getLineEndOffset(Math.min(foldingRange.getEndLine(), document.getLineCount() - 1));
+            return positionMapper.getLineEndOffset(Math.min(foldingRange.getEndLine(), positionMapper.getLineCount() - 1));
         }
-        return LSPIJUtils.toOffset(new Position(foldingRange.getEndLine(), foldingRange.getEndCharacter()), document);
+        return positionMapper.toOffset(foldingRange.getEndLine(), foldingRange.getEndCharacter());
     }
 
     @Override
@@ -17,6 +17,7 @@ import com.redhat.devtools.lsp4ij.client.features.LSPFoldingRangeFeature;
 import com.redhat.devtools.lsp4ij.features.AbstractLSPDocumentFeatureSupport;
 import com.redhat.devtools.lsp4ij.internal.CancellationSupport;
 import com.redhat.devtools.lsp4ij.internal.CompletableFutures;
+import com.redhat.devtools.lsp4ij.internal.LSPRequestScheduler.Priority;
 import org.eclipse.lsp4j.FoldingRange;
 import org.eclipse.lsp4j.FoldingRangeRequestParams;
 import org.jetbrains.annotations.NotNull;
@@ -35,6 +36,9 @@ import java.util.concurrent.CompletableFuture;
  */
 public class LSPFoldingRangeSupport extends AbstractLSPDocumentFeatureSupport<FoldingRangeRequestParams, List<FoldingRange>> {
 
+    // Debounce delay (in milliseconds) of the LSP 'textDocument/foldingRange' requests while the user is typing
+    private static final long DEBOUNCE_DELAY = 300L;
+
     public LSPFoldingRangeSupport(@NotNull PsiFile file) {
         super(file);
     }
@@ -46,7 +50,7 @@ public class LSPFoldingRangeSupport extends AbstractLSPDocumentFeatureSupport<Fo
     @Override
     protected CompletableFuture<List<FoldingRange>> doLoad(FoldingRangeRequestParams params, CancellationSupport cancellationSupport) {
         PsiFile file = super.getFile();
-        return getFoldingRanges(file, params, cancellationSupport);
+        return loadWithDebounce(() -> getFoldingRanges(file, params, cancellationSupport), DEBOUNCE_DELAY, cancellationSupport);
     }
 
     private static @NotNull CompletableFuture<List<FoldingRange>> getFoldingRanges(@NotNull PsiFile file,
@@ -81,8 +85,9 @@ public class LSPFoldingRangeSupport extends AbstractLSPDocumentFeatureSupport<Fo
         // Update textDocument Uri with custom file Uri if needed
         updateTextDocumentUri(params.getTextDocument(), file, languageServer);
         return cancellationSupport.execute(languageServer
-                        .getTextDocumentService()
-                        .foldingRange(params), languageServer, LSPRequestConstants.TEXT_DOCUMENT_FOLDING_RANGE)
+                        .getServerWrapper()
+                        .getRequestScheduler()
+                        .schedule(Priority.VISIBLE_EDITOR, () -> languageServer.getTextDocumentService().foldingRange(params)), languageServer, LSPRequestConstants.TEXT_DOCUMENT_FOLDING_RANGE)
                 .thenApplyAsync(foldingRanges -> {
                     if (foldingRanges == null) {
                         // textDocument/foldingRange may return null
@@ -85,9 +85,12 @@ public class LSPHighlightSupport extends AbstractLSPDocumentFeatureSupport<Docum
                                                                                                            @NotNull CancellationSupport cancellationSupport) {
         // Update textDocument Uri with custom file Uri if needed
         updateTextDocumentUri(params.getTextDocument(), file, languageServer);
+        // Share the LSP request with the identical in-flight document highlight requests
         return cancellationSupport.execute(languageServer
-                        .getTextDocumentService()
-                        .documentHighlight(params), languageServer, LSPRequestConstants.TEXT_DOCUMENT_DOCUMENT_HIGHLIGHT)
+                        .getServerWrapper()
+                        .getRequestCoalescer()
+                        .execute(LSPRequestConstants.TEXT_DOCUMENT_DOCUMENT_HIGHLIGHT, params, file.getVirtualFile(),
+                                () -> languageServer.getTextDocumentService().documentHighlight(params)), languageServer, LSPRequestConstants.TEXT_DOCUMENT_DOCUMENT_HIGHLIGHT)
                 .thenApplyAsync(highlights -> {
                     if (highlights == null) {
                         // textDocument/highlight may return null
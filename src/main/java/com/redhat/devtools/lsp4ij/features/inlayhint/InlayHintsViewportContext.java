@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.lsp4ij.features.inlayhint;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.editor.Editor;
+import com.intellij.openapi.editor.VisualPosition;
+import com.intellij.util.Alarm;
+import com.redhat.devtools.lsp4ij.internal.PsiFileCancelChecker;
+import com.redhat.devtools.lsp4ij.internal.editor.EditorFeatureManager;
+import com.redhat.devtools.lsp4ij.internal.editor.EditorFeatureType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.awt.*;
+
+/**
+ * Tracks the viewport of an editor to load the inlay hints tiles which become visible when the editor is scrolled.
+ *
+ * <p>
+ * The declarative inlay hints pass is not executed when the editor is scrolling, so when some visible lines
+ * are not covered by loaded tiles, the inlay hints are refreshed once the scroll stops.
+ * </p>
+ */
+class InlayHintsViewportContext implements Disposable {
+
+    private static final long VIEWPORT_CHANGE_DELAY_MS = 500L; // Debounce delay before processing viewport changes
+
+    private final @NotNull Editor editor;
+    private volatile int firstViewportLine = -1;
+    private volatile int lastViewportLine = -1;
+    private volatile @Nullable LSPInlayHintsSupport inlayHintsSupport;
+    private volatile Alarm scrollStopAlarm = null;
+
+    InlayHintsViewportContext(@NotNull Editor editor) {
+        this.editor = editor;
+    }
+
+    /**
+     * Updates the range of visible lines in the viewport based on the given visible area.
+     *
+     * @param visibleArea The visible rectangle in the editor used to calculate the viewport line range.
+     */
+    void updateViewportLines(@NotNull Rectangle visibleArea) {
+        int firstVisualLine = editor.yToVisualLine(visibleArea.y);
+        int lastVisualLine = editor.yToVisualLine(visibleArea.y + visibleArea.height);
+        firstViewportLine = editor.visualToLogicalPosition(new VisualPosition(firstVisualLine, 0)).line;
+        lastViewportLine = editor.visualToLogicalPosition(new VisualPosition(lastVisualLine, 0)).line;
+    }
+
+    /**
+     * Returns the first visible line in the editor's viewport and -1 if the viewport is not known yet.
+     *
+     * @return the first visible line in the editor's viewport and -1 if the viewport is not known yet.
+     */
+    int getFirstViewportLine() {
+        return firstViewportLine;
+    }
+
+    /**
+     * Returns the last visible line in the editor's viewport and -1 if the viewport is not known yet.
+     *
+     * @return the last visible line in the editor's viewport and -1 if the viewport is not known yet.
+     */
+    int getLastViewportLine() {
+        return lastViewportLine;
+    }
+
+    void setInlayHintsSupport(@NotNull LSPInlayHintsSupport inlayHintsSupport) {
+        this.inlayHintsSupport = inlayHintsSupport;
+    }
+
+    /**
+     * Refreshes the inlay hints once the scroll stops if some visible lines are not covered by loaded tiles.
+     */
+    void refreshInlayHintsIfNeeded() {
+        var inlayHintsSupport = this.inlayHintsSupport;
+        if (inlayHintsSupport == null) {
+            // The file is not linked to a language server which have LSP inlay hint support.
+            return;
+        }
+        final int firstViewportLine = getFirstViewportLine();
+        final int lastViewportLine = getLastViewportLine();
+        if (!inlayHintsSupport.hasTilesToLoad(editor.getDocument(), firstViewportLine, lastViewportLine)) {
+            return;
+        }
+        var scrollStopAlarm = getScrollStopAlarm();
+        scrollStopAlarm.cancelAllRequests();
+        scrollStopAlarm.addRequest(() -> {
+            if (firstViewportLine == getFirstViewportLine() && lastViewportLine == getLastViewportLine()
+                    && inlayHintsSupport.hasTilesToLoad(editor.getDocument(), firstViewportLine, lastViewportLine)) {
+                // The viewport hasn't changed (no scrolling occurred) and some visible lines are not loaded
+                var file = inlayHintsSupport.getFile();
+                EditorFeatureManager.getInstance(file.getProject())
+                        .refreshEditorFeature(file, EditorFeatureType.DECLARATIVE_INLAY_HINT, false, new PsiFileCancelChecker(file));
+            }
+        }, VIEWPORT_CHANGE_DELAY_MS);
+    }
+
+    private Alarm getScrollStopAlarm() {
+        if (scrollStopAlarm == null) {
+            synchronized (this) {
+                if (scrollStopAlarm == null) {
+                    scrollStopAlarm = new Alarm(Alarm.ThreadToUse.POOLED_THREAD, this);
+                }
+            }
+        }
+        return scrollStopAlarm;
+    }
+
+    @Override
+    public void dispose() {
+        inlayHintsSupport = null;
+    }
+}
@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.lsp4ij.features.inlayhint;
+
+import com.intellij.openapi.editor.Editor;
+import com.intellij.openapi.editor.event.EditorFactoryEvent;
+import com.intellij.openapi.editor.event.EditorFactoryListener;
+import com.intellij.openapi.util.Disposer;
+import com.intellij.openapi.util.Key;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Listens to editor events to track the viewport used to load the LSP inlay hints tiles.
+ */
+public class LSPInlayHintsEditorFactoryListener implements EditorFactoryListener {
+
+    // Key used to store and retrieve the inlay hints viewport context for each editor
+    private static final Key<InlayHintsViewportContext> INLAY_HINTS_VIEWPORT_CONTEXT_KEY = Key.create("inlayhints.viewport.context");
+
+    @Override
+    public void editorCreated(@NotNull EditorFactoryEvent event) {
+        Editor editor = event.getEditor();
+        if (editor.getProject() != null) {
+            attachScrollListener(editor);
+        }
+    }
+
+    @Override
+    public void editorReleased(@NotNull EditorFactoryEvent event) {
+        Editor editor = event.getEditor();
+        InlayHintsViewportContext context = editor.getUserData(INLAY_HINTS_VIEWPORT_CONTEXT_KEY);
+        if (context != null) {
+            Disposer.dispose(context);
+            editor.putUserData(INLAY_HINTS_VIEWPORT_CONTEXT_KEY, null);
+        }
+    }
+
+    /**
+     * Attaches a listener to the editor's scrolling model to track the visible area changes.
+     * When the visible area changes, it updates the viewport context and loads the inlay hints of the new visible lines.
+     *
+     * @param editor The editor to which the scroll listener is attached.
+     */
+    private static void attachScrollListener(@NotNull Editor editor) {
+        // Initialize context
+        final var context = getViewportContext(editor);
+        // Adding a listener for visible area changes
+        editor.getScrollingModel().addVisibleAreaListener(e -> {
+            if (e.getNewRectangle().equals(e.getOldRectangle())) {
+                // View port range has no changed
+                return;
+            }
+            // Update the first/last visible lines from the viewport
+            context.updateViewportLines(e.getNewRectangle());
+            context.refreshInlayHintsIfNeeded();
+        });
+    }
+
+    /**
+     * Retrieves the inlay hints viewport context for the given editor.
+     * If no context exists, it synchronously creates and stores a new one.
+     *
+     * @param editor The editor for which the context is retrieved.
+     * @return The inlay hints viewport context for the editor.
+     */
+    @NotNull
+    static InlayHintsViewportContext getViewportContext(@NotNull Editor editor) {
+        InlayHintsViewportContext context = editor.getUserData(INLAY_HINTS_VIEWPORT_CONTEXT_KEY);
+        if (context != null) {
+            return context;
+        }
+        return createViewportContextSync(editor);
+    }
+
+    @NotNull
+    private synchronized static InlayHintsViewportContext createViewportContextSync(@NotNull Editor editor) {
+        InlayHintsViewportContext context = editor.getUserData(INLAY_HINTS_VIEWPORT_CONTEXT_KEY);
+        if (context != null) {
+            return context;
+        }
+        context = new InlayHintsViewportContext(editor);
+        editor.putUserData(INLAY_HINTS_VIEWPORT_CONTEXT_KEY, context);
+        return context;
+    }
+}
@@ -18,9 +18,9 @@ import com.intellij.openapi.progress.ProcessCanceledException;
 import com.intellij.openapi.util.Pair;
 import com.intellij.psi.PsiFile;
 import com.redhat.devtools.lsp4ij.LSPFileSupport;
-import com.redhat.devtools.lsp4ij.LSPIJUtils;
 import com.redhat.devtools.lsp4ij.LanguageServerItem;
 import com.redhat.devtools.lsp4ij.features.AbstractLSPDeclarativeInlayHintsProvider;
+import com.redhat.devtools.lsp4ij.internal.PositionMapper;
 import com.redhat.devtools.lsp4ij.internal.PsiFileChangedException;
 import org.eclipse.lsp4j.*;
 import org.eclipse.lsp4j.jsonrpc.messages.Either;
@@ -30,7 +30,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
@@ -56,19 +55,30 @@ public class LSPInlayHintsProvider extends AbstractLSPDeclarativeInlayHintsProvi
                              @NotNull InlayTreeSink inlayHintsSink) {
         // Get LSP inlay hints from cache or create them
         LSPInlayHintsSupport inlayHintSupport = LSPFileSupport.getSupport(psiFile).getInlayHintsSupport();
-        Range viewPortRange = getViewPortRange(editor);
-        InlayHintParams params = new InlayHintParams(new TextDocumentIdentifier(), viewPortRange);
-        CompletableFuture<List<InlayHintData>> future = inlayHintSupport.getInlayHints(params);
+        // Track the viewport of the editor to load the inlay hints of the new visible lines when the editor is scrolled.
+        var viewportContext = LSPInlayHintsEditorFactoryListener.getViewportContext(editor);
+        viewportContext.setInlayHintsSupport(inlayHintSupport);
+        Document document = editor.getDocument();
+        int firstViewportLine = viewportContext.getFirstViewportLine();
+        int lastViewportLine = viewportContext.getLastViewportLine();
+        if (firstViewportLine < 0) {
+            // The viewport is not known yet (the editor is opening), load the inlay hints around the caret
+            int caretLine = document.getLineNumber(Math.min(editor.getCaretModel().getOffset(), document.getTextLength()));
+            firstViewportLine = Math.max(0, caretLine - LSPInlayHintsSupport.TILE_LINE_COUNT / 2);
+            lastViewportLine = caretLine + LSPInlayHintsSupport.TILE_LINE_COUNT / 2;
+        }
+        CompletableFuture<List<InlayHintData>> future = inlayHintSupport.getInlayHints(document, firstViewportLine, lastViewportLine);
 
         try {
             // Wait until the future and stop the wait if there are some ProcessCanceledException.
             waitUntilDone(future, psiFile);
             if (isDoneNormally(future)) {
 
-                // Collect inlay hints
+                // Collect inlay hints of all loaded tiles (visible or not), as the inlay hints which are not
+                // collected are removed from the editor.
                 List<Pair<Integer, InlayHintData>> inlayHints = new ArrayList<>();
-                List<InlayHintData> data = future.getNow(Collections.emptyList());
-                fillInlayHints(editor.getDocument(), data, inlayHints);
+                List<InlayHintData> data = inlayHintSupport.getLoadedInlayHints();
+                fillInlayHints(document, data, inlayHints);
 
                 // Render inlay hints and collect all unfinished inlayHint/resolve futures
                 inlayHints.stream()
@@ -92,23 +102,14 @@ public class LSPInlayHintsProvider extends AbstractLSPDeclarativeInlayHintsProvi
     }
 
     private static void fillInlayHints(Document document, List<InlayHintData> data, List<Pair<Integer, InlayHintData>> inlayHints) {
+        PositionMapper positionMapper = PositionMapper.getInstance(document);
         for (var inlayHintData : data) {
-            int offset = LSPIJUtils.toOffset(inlayHintData.inlayHint().getPosition(), document);
+            var encoding = inlayHintData.languageServer().getClientFeatures().getPositionEncoding();
+            int offset = positionMapper.toOffset(inlayHintData.inlayHint().getPosition(), encoding);
             inlayHints.add(Pair.create(offset, inlayHintData));
         }
     }
 
-    @NotNull
-    private static Range getViewPortRange(Editor editor) {
-        // LSP textDocument/inlayHint request parameter expects to fill the visible view port range.
-        // As Intellij inlay hint provider is refreshed just only when editor is opened or editor content changed
-        // and not when editor is scrolling, the view port range must be created with full text document offsets.
-        Position start = new Position(0, 0);
-        Document document = editor.getDocument();
-        Position end = LSPIJUtils.toPosition(document.getTextLength(), document);
-        return new Range(start, end);
-    }
-
     private void buildInlayHints(@NotNull PsiFile psiFile,
                                  @NotNull List<Pair<Integer, InlayHintData>> elements,
                                  @NotNull InlayPosition position,
@@ -10,20 +10,29 @@
  ******************************************************************************/
 package com.redhat.devtools.lsp4ij.features.inlayhint;
 
+import com.intellij.openapi.editor.Document;
 import com.intellij.psi.PsiFile;
 import com.redhat.devtools.lsp4ij.LSPRequestConstants;
 import com.redhat.devtools.lsp4ij.LanguageServerItem;
 import com.redhat.devtools.lsp4ij.features.AbstractLSPDocumentRefreshableFeatureSupport;
 import com.redhat.devtools.lsp4ij.internal.CancellationSupport;
 import com.redhat.devtools.lsp4ij.internal.CompletableFutures;
+import com.redhat.devtools.lsp4ij.internal.LSPRequestScheduler.Priority;
+import com.redhat.devtools.lsp4ij.internal.PositionMapper;
 import com.redhat.devtools.lsp4ij.internal.editor.EditorFeatureType;
 import org.eclipse.lsp4j.InlayHint;
 import org.eclipse.lsp4j.InlayHintParams;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextDocumentIdentifier;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 
@@ -34,9 +43,25 @@ import java.util.concurrent.CompletableFuture;
  *     <li>LSP 'textDocument/inlayHint' requests</li>
  *     <li>LSP 'inlayHint/resolve' requests</li>
  * </ul>
+ *
+ * <p>
+ * Inlay hints are loaded by tiles of {@link #TILE_LINE_COUNT} lines: only the tiles of the visible lines
+ * (plus a prefetch margin) are requested, and the loaded tiles are cached until the Psi file is modified.
+ * </p>
  */
 public class LSPInlayHintsSupport extends AbstractLSPDocumentRefreshableFeatureSupport<InlayHintParams, List<InlayHintData>> {
 
+    static final int TILE_LINE_COUNT = 200;
+
+    // Number of lines loaded before and after the visible lines
+    static final int PREFETCH_LINE_COUNT = 100;
+
+    // Loaded tiles for the current modification stamp of the Psi file, by tile index
+    private final Map<Integer, CompletableFuture<List<InlayHintData>>> tiles = new HashMap<>();
+    private long tilesModificationStamp = -1;
+    private @Nullable CancellationSupport tilesCancellationSupport;
+    private @Nullable CompletableFuture<List<InlayHintData>> visibleTilesFuture;
+
     public LSPInlayHintsSupport(@NotNull PsiFile file) {
         super(file, EditorFeatureType.DECLARATIVE_INLAY_HINT);
     }
@@ -45,6 +70,147 @@ public class LSPInlayHintsSupport extends AbstractLSPDocumentRefreshableFeatureS
         return super.getFeatureData(params);
     }
 
+    /**
+     * Returns the inlay hints of the tiles which cover the given visible lines and the prefetch margin,
+     * loading the tiles which are not loaded yet.
+     *
+     * @param document         the document of the Psi file.
+     * @param firstVisibleLine the first visible line.
+     * @param lastVisibleLine  the last visible line.
+     * @return the inlay hints of the tiles which cover the given visible lines and the prefetch margin.
+     */
+    public synchronized CompletableFuture<List<InlayHintData>> getInlayHints(@NotNull Document document,
+                                                                             int firstVisibleLine,
+                                                                             int lastVisibleLine) {
+        checkTilesValid();
+        var cancellationSupport = tilesCancellationSupport;
+        if (cancellationSupport == null) {
+            cancellationSupport = new CancellationSupport();
+            tilesCancellationSupport = cancellationSupport;
+        }
+        int lastTile = getLastTile(document);
+        int firstTile = Math.max(0, (firstVisibleLine - PREFETCH_LINE_COUNT) / TILE_LINE_COUNT);
+        int endTile = Math.min(lastTile, (lastVisibleLine + PREFETCH_LINE_COUNT) / TILE_LINE_COUNT);
+        List<CompletableFuture<List<InlayHintData>>> futures = new ArrayList<>();
+        for (int tile = firstTile; tile <= endTile; tile++) {
+            var future = tiles.get(tile);
+            if (future == null || future.isCompletedExceptionally()) {
+                future = loadTile(tile, tile == lastTile, document, cancellationSupport);
+                tiles.put(tile, future);
+            }
+            futures.add(future);
+        }
+        visibleTilesFuture = CompletableFutures.mergeInOneFuture(futures, cancellationSupport);
+        return visibleTilesFuture;
+    }
+
+    /**
+     * Returns the inlay hints of all tiles loaded for the current content of the Psi file.
+     *
+     * @return the inlay hints of all tiles loaded for the current content of the Psi file.
+     */
+    public synchronized @NotNull List<InlayHintData> getLoadedInlayHints() {
+        checkTilesValid();
+        List<InlayHintData> inlayHints = new ArrayList<>();
+        for (var future : tiles.values()) {
+            if (CompletableFutures.isDoneNormally(future)) {
+                inlayHints.addAll(future.getNow(Collections.emptyList()));
+            }
+        }
+        return inlayHints;
+    }
+
+    /**
+     * Returns true if some tiles which cover the given visible lines are not loaded and false otherwise.
+     *
+     * @param document         the document of the Psi file.
+     * @param firstVisibleLine the first visible line.
+     * @param lastVisibleLine  the last visible line.
+     * @return true if some tiles which cover the given visible lines are not loaded and false otherwise.
+     */
+    public synchronized boolean hasTilesToLoad(@NotNull Document document,
+                                               int firstVisibleLine,
+                                               int lastVisibleLine) {
+        if (tilesModificationStamp != getFile().getModificationStamp()) {
+            // The tiles will be reloaded by the next inlay hints pass triggered by the file modification
+            return false;
+        }
+        int lastTile = Math.min(getLastTile(document), lastVisibleLine / TILE_LINE_COUNT);
+        for (int tile = Math.max(0, firstVisibleLine / TILE_LINE_COUNT); tile <= lastTile; tile++) {
+            if (!tiles.containsKey(tile)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int getLastTile(@NotNull Document document) {
+        return Math.max(0, document.getLineCount() - 1) / TILE_LINE_COUNT;
+    }
+
+    private void checkTilesValid() {
+        long modificationStamp = getFile().getModificationStamp();
+        if (tilesModificationStamp != modificationStamp) {
+            // The Psi file has been modified, the positions of the cached inlay hints are obsolete.
+            cancelTiles();
+            tilesModificationStamp = modificationStamp;
+        }
+    }
+
+    private @NotNull CompletableFuture<List<InlayHintData>> loadTile(int tile,
+                                                                    boolean lastTile,
+                                                                    @NotNull Document document,
+                                                                    @NotNull CancellationSupport cancellationSupport) {
+        int startLine = tile * TILE_LINE_COUNT;
+        int endLine = startLine + TILE_LINE_COUNT;
+        Position start = new Position(startLine, 0);
+        Position end = lastTile ? PositionMapper.getInstance(document).toPosition(document.getTextLength()) : new Position(endLine, 0);
+        var params = new InlayHintParams(new TextDocumentIdentifier(), new Range(start, end));
+        return getInlayHints(getFile(), params, cancellationSupport)
+                .thenApply(inlayHints -> inlayHints
+                        .stream()
+                        // Some language servers ignore the range, keep only the inlay hints of the tile
+                        // to avoid duplicate inlay hints between tiles.
+                        .filter(data -> {
+                            int line = data.inlayHint().getPosition().getLine();
+                            return line >= startLine && (lastTile || line < endLine);
+                        })
+                        .toList());
+    }
+
+    @Override
+    public synchronized @Nullable CompletableFuture<List<InlayHintData>> getValidLSPFuture() {
+        if (visibleTilesFuture != null && tilesModificationStamp == getFile().getModificationStamp()) {
+            return visibleTilesFuture;
+        }
+        return super.getValidLSPFuture();
+    }
+
+    @Override
+    protected boolean canRefreshEditorFeatureAgain(@NotNull CompletableFuture<Void> refreshEditorFeatureFuture) {
+        // The tiles which become visible when the editor is scrolled are loaded after the first refresh,
+        // the inlay hints must be refreshed again when those tiles are loaded.
+        return refreshEditorFeatureFuture.isDone();
+    }
+
+    @Override
+    public void cancel() {
+        super.cancel();
+        synchronized (this) {
+            cancelTiles();
+        }
+    }
+
+    private void cancelTiles() {
+        if (tilesCancellationSupport != null) {
+            tilesCancellationSupport.cancel();
+            tilesCancellationSupport = null;
+        }
+        tiles.clear();
+        visibleTilesFuture = null;
+        tilesModificationStamp = -1;
+    }
+
     @Override
     protected CompletableFuture<List<InlayHintData>> doLoad(InlayHintParams params, CancellationSupport cancellationSupport) {
         PsiFile file = super.getFile();
@@ -83,8 +249,9 @@ public class LSPInlayHintsSupport extends AbstractLSPDocumentRefreshableFeatureS
         // Update textDocument Uri with custom file Uri if needed
         updateTextDocumentUri(params.getTextDocument(), file, languageServer);
         return cancellationSupport.execute(languageServer
-                        .getTextDocumentService()
-                        .inlayHint(params), languageServer, LSPRequestConstants.TEXT_DOCUMENT_INLAY_HINT)
+                        .getServerWrapper()
+                        .getRequestScheduler()
+                        .schedule(Priority.VISIBLE_EDITOR, () -> languageServer.getTextDocumentService().inlayHint(params)), languageServer, LSPRequestConstants.TEXT_DOCUMENT_INLAY_HINT)
                 .thenApplyAsync(inlayHints -> {
                     if (inlayHints == null) {
                         // textDocument/inlayHint may return null
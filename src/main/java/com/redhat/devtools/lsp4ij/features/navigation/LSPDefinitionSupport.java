@@ -83,9 +83,12 @@ public class LSPDefinitionSupport extends AbstractLSPDocumentFeatureSupport<LSPD
                                                                       @NotNull CancellationSupport cancellationSupport) {
         // Update textDocument Uri with custom file Uri if needed
         updateTextDocumentUri(params.getTextDocument(), file, languageServer);
+        // Share the LSP request with the identical in-flight definition requests (ex: ctrl-hover and goto declaration)
         return cancellationSupport.execute(languageServer
-                        .getTextDocumentService()
-                        .definition(params), languageServer, LSPRequestConstants.TEXT_DOCUMENT_DECLARATION)
+                        .getServerWrapper()
+                        .getRequestCoalescer()
+                        .execute(LSPRequestConstants.TEXT_DOCUMENT_DEFINITION, params, file.getVirtualFile(),
+                                () -> languageServer.getTextDocumentService().definition(params)), languageServer, LSPRequestConstants.TEXT_DOCUMENT_DECLARATION)
                 .thenApplyAsync(locations -> LSPIJUtils.getLocations(locations, languageServer));
     }
 }
@@ -15,6 +15,7 @@ import com.redhat.devtools.lsp4ij.LSPRequestConstants;
 import com.redhat.devtools.lsp4ij.LanguageServerItem;
 import com.redhat.devtools.lsp4ij.features.AbstractLSPDocumentFeatureSupport;
 import com.redhat.devtools.lsp4ij.internal.CancellationSupport;
+import com.redhat.devtools.lsp4ij.internal.LSPRequestScheduler.Priority;
 import org.eclipse.lsp4j.SemanticTokensLegend;
 import org.eclipse.lsp4j.SemanticTokensParams;
 import org.jetbrains.annotations.NotNull;
@@ -88,8 +89,9 @@ public class LSPSemanticTokensSupport extends AbstractLSPDocumentFeatureSupport<
         // Update textDocument Uri with custom file Uri if needed
         updateTextDocumentUri(params.getTextDocument(), file, languageServer);
         return cancellationSupport.execute(languageServer
-                        .getTextDocumentService()
-                        .semanticTokensFull(params), languageServer, LSPRequestConstants.TEXT_DOCUMENT_SEMANTIC_TOKENS_FULL)
+                        .getServerWrapper()
+                        .getRequestScheduler()
+                        .schedule(Priority.VISIBLE_EDITOR, () -> languageServer.getTextDocumentService().semanticTokensFull(params)), languageServer, LSPRequestConstants.TEXT_DOCUMENT_SEMANTIC_TOKENS_FULL)
                 .thenApplyAsync(semanticTokens -> {
                     if (semanticTokens == null) {
                         // textDocument/semanticTokens/full may return null
@@ -15,15 +15,16 @@ import com.intellij.codeInsight.daemon.impl.HighlightInfo;
 import com.intellij.openapi.editor.Document;
 import com.intellij.openapi.editor.colors.TextAttributesKey;
 import com.intellij.openapi.progress.ProgressManager;
-import com.intellij.openapi.util.TextRange;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiFile;
-import com.redhat.devtools.lsp4ij.LSPIJUtils;
 import com.redhat.devtools.lsp4ij.client.features.LSPSemanticTokensFeature;
 import com.redhat.devtools.lsp4ij.features.semanticTokens.inspector.SemanticTokensHighlightInfo;
 import com.redhat.devtools.lsp4ij.features.semanticTokens.inspector.SemanticTokensInspectorData;
 import com.redhat.devtools.lsp4ij.features.semanticTokens.inspector.SemanticTokensInspectorManager;
 import com.redhat.devtools.lsp4ij.features.semanticTokens.viewProvider.LSPSemanticTokensFileViewProvider;
+import com.redhat.devtools.lsp4ij.features.semanticTokens.viewProvider.LSPSemanticTokensIndex;
+import com.redhat.devtools.lsp4ij.internal.PositionEncoding;
+import com.redhat.devtools.lsp4ij.internal.PositionMapper;
 import org.eclipse.lsp4j.SemanticTokens;
 import org.eclipse.lsp4j.SemanticTokensLegend;
 import org.jetbrains.annotations.NotNull;
@@ -70,6 +71,7 @@ public class SemanticTokensData {
                           @NotNull LazyHighlightInfo.Consumer addInfo) {
         // Try to populate the file's view provider with these tokens if possible
         LSPSemanticTokensFileViewProvider semanticTokensFileViewProvider = LSPSemanticTokensFileViewProvider.getInstance(file);
+        LSPSemanticTokensIndex.Builder semanticTokensIndex = semanticTokensFileViewProvider != null ? new LSPSemanticTokensIndex.Builder() : null;
 
         var inspector = SemanticTokensInspectorManager.getInstance(file.getProject());
         boolean notifyInspector = inspector.hasSemanticTokensInspectorListener();
@@ -81,9 +83,16 @@ public class SemanticTokensData {
                 return;
             }
 
+            // Convert the LSP line/character of the tokens to offsets without accessing the document for each token
+            PositionMapper positionMapper = PositionMapper.getInstance(document);
+            PositionEncoding encoding = semanticTokensFeature.getClientFeatures().getPositionEncoding();
+            boolean utf16 = encoding == PositionEncoding.UTF16;
+            // Tokens are sorted, the UTF-8 / UTF-32 characters are translated by walking each line once
+            PositionMapper.Cursor cursor = utf16 ? null : positionMapper.newCursor(encoding);
             int idx = 0;
             int prevLine = 0;
             int line = 0;
+            int character = 0;
             int offset = 0;
             int length = 0;
             String tokenType = null;
@@ -102,9 +111,15 @@ public class SemanticTokensData {
                         break;
                     case 1: // offset
                         if (line == prevLine) {
-                            offset += data;
+                            character += data;
                         } else {
-                            offset = LSPIJUtils.toOffset(line, data, document);
+                            character = data;
+                        }
+                        if (utf16) {
+                            offset = line == prevLine ? offset + data : positionMapper.toOffset(line, data);
+                        } else {
+                            // The character is counted in UTF-8 / UTF-32 code units, translate it to UTF-16 offset
+                            offset = cursor.toOffset(line, character);
                         }
                         break;
                     case 2: // length
@@ -117,15 +132,15 @@ public class SemanticTokensData {
                         prevLine = line;
                         List<String> tokenModifiers = tokenModifiers(data, semanticTokensLegend.getTokenModifiers());
                         int start = offset;
-                        int end = offset + length;
+                        int end = utf16 ? offset + length : cursor.toOffset(line, character + length);
                         TextAttributesKey colorKey = tokenType != null ? semanticTokensColorsProvider.getTextAttributesKey(tokenType, tokenModifiers, file) : null;
                         if (colorKey != null) {
                             addInfo.accept(start, end, colorKey);
                         }
 
                         // If this file uses a view provider based on semantic tokens, add this one
-                        if (semanticTokensFileViewProvider != null) {
-                            semanticTokensFileViewProvider.addSemanticToken(TextRange.create(start, end), tokenType, tokenModifiers);
+                        if (semanticTokensIndex != null) {
+                            semanticTokensIndex.addSemanticToken(start, end, tokenType, tokenModifiers);
                         }
 
                         if (notifyInspector) {
@@ -135,6 +150,11 @@ public class SemanticTokensData {
                 }
                 idx++;
             }
+
+            // Swap the semantic tokens of the view provider once all tokens have been collected
+            if (semanticTokensFileViewProvider != null) {
+                semanticTokensFileViewProvider.setSemanticTokens(semanticTokensIndex.build());
+            }
         } finally {
             if (notifyInspector) {
                 inspector.notify(new SemanticTokensInspectorData(document, file, highlightInfos));
@@ -187,6 +187,11 @@ class LSPSemanticToken {
 
     @NotNull
     ThreeState isIdentifier() {
+        return isIdentifier(tokenType);
+    }
+
+    @NotNull
+    static ThreeState isIdentifier(@Nullable String tokenType) {
         if (tokenType != null) {
             if (IDENTIFIER_TOKEN_TYPES.contains(tokenType)) {
                 return ThreeState.YES;
@@ -199,6 +204,11 @@ class LSPSemanticToken {
 
     @NotNull
     ThreeState isType() {
+        return isType(tokenType);
+    }
+
+    @NotNull
+    static ThreeState isType(@Nullable String tokenType) {
         if (tokenType != null) {
             if (TYPE_TOKEN_TYPES.contains(tokenType)) {
                 return ThreeState.YES;
@@ -224,8 +234,8 @@ class LSPSemanticToken {
     }
 
     @NotNull
-    private static LSPSemanticTokenElementType getElementType(@Nullable String tokenType,
-                                                              @NotNull List<String> tokenModifiers) {
+    static LSPSemanticTokenElementType getElementType(@Nullable String tokenType,
+                                                      @NotNull List<String> tokenModifiers) {
         if (tokenType != null) {
             // If this is an identifier token, see if it's a declaration or a reference
             if (IDENTIFIER_TOKEN_TYPES.contains(tokenType)) {
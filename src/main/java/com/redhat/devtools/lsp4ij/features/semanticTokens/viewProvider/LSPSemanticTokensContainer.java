@@ -141,6 +141,13 @@ interface LSPSemanticTokensContainer {
     @Nullable
     TextRange getSemanticTokenTextRange(int offset);
 
+    /**
+     * Replaces the semantic tokens of the file view provider with the semantic tokens collected by a highlighting pass.
+     *
+     * @param semanticTokens the semantic tokens index
+     */
+    void setSemanticTokens(@NotNull LSPSemanticTokensIndex semanticTokens);
+
     /**
      * Adds a semantic token to the file view provider.
      *
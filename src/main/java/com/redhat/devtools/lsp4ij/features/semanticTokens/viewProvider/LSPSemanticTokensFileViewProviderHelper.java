@@ -25,14 +25,16 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Helper class for {@link LSPSemanticTokensFileViewProvider} implementations to help fulfill its interface.
  */
 public class LSPSemanticTokensFileViewProviderHelper implements LSPSemanticTokensContainer {
 
+    private static final int NO_TOKEN = -1;
+    private static final int FILE_LEVEL_TOKEN = -2;
+
     private final LSPSemanticTokensFileViewProvider fileViewProvider;
     private final ThreadLocal<Integer> effectiveOffsetPtr = new InheritableThreadLocal<>();
 
@@ -60,71 +62,71 @@ public class LSPSemanticTokensFileViewProviderHelper implements LSPSemanticToken
 
     @Override
     public boolean isKeyword(int offset) {
-        LSPSemanticToken semanticToken = getSemanticToken(offset);
-        return (semanticToken != null) && (semanticToken.getElementType() == LSPSemanticTokenElementType.KEYWORD);
+        return getElementType(offset) == LSPSemanticTokenElementType.KEYWORD;
     }
 
     @Override
     public boolean isOperator(int offset) {
-        LSPSemanticToken semanticToken = getSemanticToken(offset);
-        return (semanticToken != null) && (semanticToken.getElementType() == LSPSemanticTokenElementType.OPERATOR);
+        return getElementType(offset) == LSPSemanticTokenElementType.OPERATOR;
     }
 
     @Override
     public boolean isStringLiteral(int offset) {
-        LSPSemanticToken semanticToken = getSemanticToken(offset);
-        return (semanticToken != null) && (semanticToken.getElementType() == LSPSemanticTokenElementType.STRING);
+        return getElementType(offset) == LSPSemanticTokenElementType.STRING;
     }
 
     @Override
     public boolean isNumericLiteral(int offset) {
-        LSPSemanticToken semanticToken = getSemanticToken(offset);
-        return (semanticToken != null) && (semanticToken.getElementType() == LSPSemanticTokenElementType.NUMBER);
+        return getElementType(offset) == LSPSemanticTokenElementType.NUMBER;
     }
 
     @Override
     public boolean isRegularExpression(int offset) {
-        LSPSemanticToken semanticToken = getSemanticToken(offset);
-        return (semanticToken != null) && (semanticToken.getElementType() == LSPSemanticTokenElementType.REGEXP);
+        return getElementType(offset) == LSPSemanticTokenElementType.REGEXP;
     }
 
     @Override
     public boolean isComment(int offset) {
-        LSPSemanticToken semanticToken = getSemanticToken(offset);
-        return (semanticToken != null) && (semanticToken.getElementType() == LSPSemanticTokenElementType.COMMENT);
+        return getElementType(offset) == LSPSemanticTokenElementType.COMMENT;
     }
 
     @Override
     public boolean isDeclaration(int offset) {
-        LSPSemanticToken semanticToken = getSemanticToken(offset);
-        return (semanticToken != null) && (semanticToken.getElementType() == LSPSemanticTokenElementType.DECLARATION);
+        return getElementType(offset) == LSPSemanticTokenElementType.DECLARATION;
     }
 
     @Override
     public boolean isReference(int offset) {
-        LSPSemanticToken semanticToken = getSemanticToken(offset);
-        return (semanticToken != null) && (semanticToken.getElementType() == LSPSemanticTokenElementType.REFERENCE);
+        return getElementType(offset) == LSPSemanticTokenElementType.REFERENCE;
     }
 
     @Override
     public boolean isUnknown(int offset) {
-        LSPSemanticToken semanticToken = getSemanticToken(offset);
-        return (semanticToken != null) && (semanticToken.getElementType() == LSPSemanticTokenElementType.UNKNOWN);
+        return getElementType(offset) == LSPSemanticTokenElementType.UNKNOWN;
     }
 
     @NotNull
     public ThreeState isIdentifier(int offset) {
-        LSPSemanticToken semanticToken = getSemanticToken(offset);
-        return (semanticToken != null) ? semanticToken.isIdentifier() :
-                isWhitespace(offset) ? ThreeState.NO :
-                        ThreeState.UNSURE;
+        PsiFile file = getFile();
+        LSPSemanticTokensIndex index = file != null ? getSemanticTokensIndex(file) : null;
+        int token = index != null ? findToken(file, index, offset) : NO_TOKEN;
+        return switch (token) {
+            case NO_TOKEN -> isWhitespace(offset) ? ThreeState.NO : ThreeState.UNSURE;
+            case FILE_LEVEL_TOKEN -> ThreeState.UNSURE;
+            default -> LSPSemanticToken.isIdentifier(index.getTokenType(token));
+        };
     }
 
     @Override
     @NotNull
     public ThreeState isType(int offset) {
-        LSPSemanticToken semanticToken = getSemanticToken(offset);
-        return (semanticToken != null) ? semanticToken.isType() : ThreeState.UNSURE;
+        PsiFile file = getFile();
+        LSPSemanticTokensIndex index = file != null ? getSemanticTokensIndex(file) : null;
+        int token = index != null ? findToken(file, index, offset) : NO_TOKEN;
+        return switch (token) {
+            case NO_TOKEN, FILE_LEVEL_TOKEN -> ThreeState.UNSURE;
+            default -> LSPSemanticToken.isType(index.getTokenType(token));
+        };
     }
 
     @Override
@@ -137,27 +139,47 @@ public class LSPSemanticTokensFileViewProviderHelper implements LSPSemanticToken
     @Nullable
     @Override
     public TextRange getSemanticTokenTextRange(int offset) {
-        LSPSemanticToken semanticToken = getSemanticToken(offset);
-        return semanticToken != null ? semanticToken.getTextRange() : null;
-    }
-
-    // Store the file's semantic tokens so that we have constant-time lookup of an element for a given offset
-    @Nullable
-    private Map<Integer, LSPSemanticToken> getSemanticTokensByOffset() {
         PsiFile file = getFile();
         if (file == null) return null;
 
+        LSPSemanticTokensIndex index = getSemanticTokensIndex(file);
+        int token = findToken(file, index, offset);
+        return switch (token) {
+            case NO_TOKEN -> null;
+            case FILE_LEVEL_TOKEN -> file.getTextRange();
+            default -> index.getTextRange(token);
+        };
+    }
+
+    // Store the file's semantic tokens in a compact index so that we have logarithmic-time lookup of a semantic token
+    // for a given offset. The index is built once per highlighting pass and swapped atomically, the semantic tokens
+    // added outside a highlighting pass are stored in the overlay of the index.
+    @NotNull
+    private AtomicReference<LSPSemanticTokensIndex> getSemanticTokensIndexRef(@NotNull PsiFile file) {
         // By caching the storage on the file this way, it's automatically evicted when the file changes
         return CachedValuesManager.getCachedValue(file, new CachedValueProvider<>() {
             @Override
             @NotNull
-            public Result<Map<Integer, LSPSemanticToken>> compute() {
-                Map<Integer, LSPSemanticToken> semanticTokensByOffset = new ConcurrentHashMap<>();
-                return Result.create(semanticTokensByOffset, file);
+            public Result<AtomicReference<LSPSemanticTokensIndex>> compute() {
+                return Result.create(new AtomicReference<>(LSPSemanticTokensIndex.EMPTY), file);
             }
         });
     }
 
+    @NotNull
+    private LSPSemanticTokensIndex getSemanticTokensIndex(@NotNull PsiFile file) {
+        return getSemanticTokensIndexRef(file).get();
+    }
+
+    @Override
+    public void setSemanticTokens(@NotNull LSPSemanticTokensIndex semanticTokens) {
+        PsiFile file = getFile();
+        if (file == null) return;
+
+        // Keep the semantic tokens added outside the highlighting pass (ex: by the goto declaration handler)
+        getSemanticTokensIndexRef(file).updateAndGet(previous -> semanticTokens.withOverlayOf(previous));
+    }
+
     @Override
     public void addSemanticToken(@NotNull TextRange textRange,
                                  @Nullable String tokenType,
@@ -165,20 +187,54 @@ public class LSPSemanticTokensFileViewProviderHelper implements LSPSemanticToken
         PsiFile file = getFile();
         if (file == null) return;
 
-        Map<Integer, LSPSemanticToken> semanticTokensByOffset = getSemanticTokensByOffset();
-        if (semanticTokensByOffset != null) {
-            LSPSemanticToken semanticToken = new LSPSemanticToken(file, textRange, tokenType, tokenModifiers);
+        getSemanticTokensIndexRef(file).updateAndGet(index -> index.withSemanticToken(textRange, tokenType, tokenModifiers));
+    }
 
-            // Index the token for its text range up to but not including the end offset
-            for (int offset = textRange.getStartOffset(); offset < textRange.getEndOffset(); offset++) {
-                semanticTokensByOffset.put(offset, semanticToken);
-            }
+    /**
+     * Returns the index of the semantic token for the offset.
+     *
+     * @param file   the file
+     * @param index  the semantic tokens index of the file
+     * @param offset the offset
+     * @return the index of the semantic token for the offset, {@link #NO_TOKEN} if no semantic token exists at the offset
+     * or {@link #FILE_LEVEL_TOKEN} if the file has no semantic tokens.
+     */
+    private int findToken(@NotNull PsiFile file,
+                          @NotNull LSPSemanticTokensIndex index,
+                          int offset) {
+        // If this file has semantic tokens, use them
+        if (!index.isEmpty()) {
+            int token = index.findToken(offset);
+            // Update the view provider's effective offset as appropriate
+            setEffectiveOffset(token == NO_TOKEN ? offset : -1);
+            return token;
         }
+        // Otherwise the file-level semantic token is used; update its requested offset
+        getFileLevelSemanticToken(file).setLastRequestedOffset(offset);
+        return FILE_LEVEL_TOKEN;
+    }
+
+    @Nullable
+    private LSPSemanticTokenElementType getElementType(int offset) {
+        PsiFile file = getFile();
+        if (file == null) return null;
+
+        LSPSemanticTokensIndex index = getSemanticTokensIndex(file);
+        int token = findToken(file, index, offset);
+        return switch (token) {
+            case NO_TOKEN -> null;
+            case FILE_LEVEL_TOKEN -> LSPSemanticTokenElementType.UNKNOWN;
+            default -> index.getElementType(token);
+        };
     }
 
     /**
      * Returns the semantic token for the offset.
      *
+     * <p>
+     * The semantic token is created lazily, only when it is requested (ex: to get its PSI element).
+     * </p>
+     *
      * @param offset the offset
      * @return the semantic token or null if no semantic token exists at the offset
      */
@@ -187,29 +243,27 @@ public class LSPSemanticTokensFileViewProviderHelper implements LSPSemanticToken
         PsiFile file = getFile();
         if (file == null) return null;
 
-        // If this file has semantic tokens, use them
-        Map<Integer, LSPSemanticToken> semanticTokensByOffset = getSemanticTokensByOffset();
-        if (!ContainerUtil.isEmpty(semanticTokensByOffset)) {
-            LSPSemanticToken semanticToken = semanticTokensByOffset.get(offset);
-            // Update the view provider's effective offset as appropriate
-            setEffectiveOffset(semanticToken == null ? offset : -1);
-            return semanticToken;
-        }
-        // Otherwise stub a semantic token for the entire file so that it won't highlight as a link on mouse hover
-        else {
-            // By caching the stub on the file this way, it's automatically evicted when the file changes
-            LSPSemanticToken fileLevelSemanticToken = CachedValuesManager.getCachedValue(file, new CachedValueProvider<>() {
-                @Override
-                @NotNull
-                public Result<LSPSemanticToken> compute() {
-                    LSPSemanticToken stubSemanticToken = new LSPSemanticToken(file, file.getTextRange(), null, null);
-                    return Result.create(stubSemanticToken, file);
-                }
-            });
-            // Update the file-level token's requested offset
-            fileLevelSemanticToken.setLastRequestedOffset(offset);
-            return fileLevelSemanticToken;
-        }
+        LSPSemanticTokensIndex index = getSemanticTokensIndex(file);
+        int token = findToken(file, index, offset);
+        return switch (token) {
+            case NO_TOKEN -> null;
+            case FILE_LEVEL_TOKEN -> getFileLevelSemanticToken(file);
+            default -> index.getSemanticToken(token, file);
+        };
+    }
+
+    // Stub a semantic token for the entire file so that it won't highlight as a link on mouse hover
+    @NotNull
+    private static LSPSemanticToken getFileLevelSemanticToken(@NotNull PsiFile file) {
+        // By caching the stub on the file this way, it's automatically evicted when the file changes
+        return CachedValuesManager.getCachedValue(file, new CachedValueProvider<>() {
+            @Override
+            @NotNull
+            public Result<LSPSemanticToken> compute() {
+                LSPSemanticToken stubSemanticToken = new LSPSemanticToken(file, file.getTextRange(), null, null);
+                return Result.create(stubSemanticToken, file);
+            }
+        });
     }
 
     /**
@@ -0,0 +1,407 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+
+package com.redhat.devtools.lsp4ij.features.semanticTokens.viewProvider;
+
+import com.intellij.openapi.util.TextRange;
+import com.intellij.psi.PsiFile;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Immutable index of the semantic tokens of a file used by {@link LSPSemanticTokensFileViewProvider}.
+ *
+ * <p>
+ * Instead of mapping each character offset to a semantic token, the index stores the non-overlapping segments covered
+ * by the semantic tokens in parallel sorted <code>int</code> arrays and finds the token at a given offset with a
+ * binary search. The element type of each token is computed when the index is built, and {@link LSPSemanticToken}
+ * instances (and their PSI elements) are only created when they are requested.
+ * </p>
+ *
+ * <p>
+ * The semantic tokens added outside a highlighting pass (ex: the word stubbed as a reference by the goto declaration
+ * handler) are stored in a small overlay index which wins over the semantic tokens of the pass. Adding such a token
+ * only rebuilds the overlay, and the overlay is carried over to the index of the next highlighting pass, except the
+ * tokens overlapped by the semantic tokens of that pass.
+ * </p>
+ */
+public final class LSPSemanticTokensIndex {
+
+    static final LSPSemanticTokensIndex EMPTY = new Builder().build();
+
+    private static final LSPSemanticTokenElementType[] ELEMENT_TYPES = LSPSemanticTokenElementType.values();
+
+    // Tokens, in the order they were added
+    private final int[] tokenStarts;
+    private final int[] tokenEnds;
+    private final String[] tokenTypes;
+    private final List<String>[] tokenModifiers;
+    private final byte[] elementTypes;
+
+    // Sorted, non-overlapping segments and the index of the token which covers each of them
+    private final int[] segmentStarts;
+    private final int[] segmentEnds;
+    // null when each token is a segment
+    private final int[] segmentTokens;
+
+    // Shared by the indexes which have the same tokens and a different overlay
+    private final MaterializedTokens materializedTokens;
+
+    // Semantic tokens added outside a highlighting pass, null if there is none.
+    // The token index of an overlay token is shifted by the number of tokens of this index.
+    private final @Nullable LSPSemanticTokensIndex overlay;
+
+    private LSPSemanticTokensIndex(int[] tokenStarts,
+                                   int[] tokenEnds,
+                                   String[] tokenTypes,
+                                   List<String>[] tokenModifiers,
+                                   byte[] elementTypes,
+                                   int[] segmentStarts,
+                                   int[] segmentEnds,
+                                   int[] segmentTokens) {
+        this.tokenStarts = tokenStarts;
+        this.tokenEnds = tokenEnds;
+        this.tokenTypes = tokenTypes;
+        this.tokenModifiers = tokenModifiers;
+        this.elementTypes = elementTypes;
+        this.segmentStarts = segmentStarts;
+        this.segmentEnds = segmentEnds;
+        this.segmentTokens = segmentTokens;
+        this.materializedTokens = new MaterializedTokens();
+        this.overlay = null;
+    }
+
+    private LSPSemanticTokensIndex(@NotNull LSPSemanticTokensIndex tokens,
+                                   @Nullable LSPSemanticTokensIndex overlay) {
+        this.tokenStarts = tokens.tokenStarts;
+        this.tokenEnds = tokens.tokenEnds;
+        this.tokenTypes = tokens.tokenTypes;
+        this.tokenModifiers = tokens.tokenModifiers;
+        this.elementTypes = tokens.elementTypes;
+        this.segmentStarts = tokens.segmentStarts;
+        this.segmentEnds = tokens.segmentEnds;
+        this.segmentTokens = tokens.segmentTokens;
+        this.materializedTokens = tokens.materializedTokens;
+        this.overlay = overlay;
+    }
+
+    /**
+     * Returns true if the index contains no semantic token and false otherwise.
+     *
+     * @return true if the index contains no semantic token and false otherwise.
+     */
+    boolean isEmpty() {
+        return tokenStarts.length == 0 && overlay == null;
+    }
+
+    /**
+     * Returns the index of the semantic token at the given offset and -1 if no semantic token exists at the offset.
+     *
+     * @param offset the offset
+     * @return the index of the semantic token at the given offset and -1 if no semantic token exists at the offset.
+     */
+    int findToken(int offset) {
+        if (overlay != null) {
+            int overlayToken = overlay.findToken(offset);
+            if (overlayToken != -1) {
+                return tokenStarts.length + overlayToken;
+            }
+        }
+        int segment = findSegment(offset);
+        if (segment < 0 || offset >= segmentEnds[segment]) {
+            return -1;
+        }
+        return segmentTokens != null ? segmentTokens[segment] : segment;
+    }
+
+    /**
+     * Returns the last segment which starts before or at the given offset and -1 if there is none.
+     */
+    private int findSegment(int offset) {
+        int low = 0;
+        int high = segmentStarts.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (segmentStarts[mid] <= offset) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return high;
+    }
+
+    /**
+     * Returns true if a semantic token of this index (without the overlay) covers an offset of the given range and false otherwise.
+     */
+    private boolean intersects(int start, int end) {
+        int segment = findSegment(end - 1);
+        return segment >= 0 && segmentEnds[segment] > start;
+    }
+
+    @NotNull
+    LSPSemanticTokenElementType getElementType(int token) {
+        if (token >= tokenStarts.length) {
+            return overlay.getElementType(token - tokenStarts.length);
+        }
+        return ELEMENT_TYPES[elementTypes[token]];
+    }
+
+    @Nullable
+    String getTokenType(int token) {
+        if (token >= tokenStarts.length) {
+            return overlay.getTokenType(token - tokenStarts.length);
+        }
+        return tokenTypes[token];
+    }
+
+    @NotNull
+    TextRange getTextRange(int token) {
+        if (token >= tokenStarts.length) {
+            return overlay.getTextRange(token - tokenStarts.length);
+        }
+        return new TextRange(tokenStarts[token], tokenEnds[token]);
+    }
+
+    /**
+     * Returns the semantic token for the given token index, creating it the first time it is requested.
+     *
+     * @param token the token index
+     * @param file  the file which owns the index
+     * @return the semantic token for the given token index.
+     */
+    @NotNull
+    LSPSemanticToken getSemanticToken(int token, @NotNull PsiFile file) {
+        if (token >= tokenStarts.length) {
+            return overlay.getSemanticToken(token - tokenStarts.length, file);
+        }
+        var tokens = materializedTokens.get(tokenStarts.length);
+        LSPSemanticToken semanticToken = tokens.get(token);
+        if (semanticToken == null) {
+            semanticToken = new LSPSemanticToken(file, getTextRange(token), tokenTypes[token], tokenModifiers[token]);
+            if (!tokens.compareAndSet(token, null, semanticToken)) {
+                // Another thread has created the semantic token, use it to keep a single PSI element per token
+                semanticToken = tokens.get(token);
+            }
+        }
+        return semanticToken;
+    }
+
+    /**
+     * Returns a new index with the semantic tokens of this index and the given semantic token added in the overlay.
+     *
+     * <p>
+     * The semantic tokens of this index are shared, only the overlay (which contains a few tokens) is rebuilt.
+     * </p>
+     *
+     * @param textRange      the semantic token's text range
+     * @param tokenType      the optional semantic token type
+     * @param tokenModifiers the optional semantic token modifiers
+     * @return a new index with the semantic tokens of this index and the given semantic token.
+     */
+    @NotNull
+    LSPSemanticTokensIndex withSemanticToken(@NotNull TextRange textRange,
+                                             @Nullable String tokenType,
+                                             @Nullable List<String> tokenModifiers) {
+        int overlaySize = overlay != null ? overlay.tokenStarts.length : 0;
+        Builder builder = new Builder(overlaySize + 1);
+        for (int i = 0; i < overlaySize; i++) {
+            builder.addSemanticToken(overlay.tokenStarts[i], overlay.tokenEnds[i], overlay.tokenTypes[i], overlay.tokenModifiers[i]);
+        }
+        builder.addSemanticToken(textRange.getStartOffset(), textRange.getEndOffset(), tokenType, tokenModifiers);
+        LSPSemanticTokensIndex newOverlay = builder.build();
+        return new LSPSemanticTokensIndex(this, newOverlay.tokenStarts.length > 0 ? newOverlay : null);
+    }
+
+    /**
+     * Returns a new index with the semantic tokens of this index and the overlay tokens of the given previous index
+     * which are not overlapped by a semantic token of this index.
+     *
+     * @param previous the index of the previous highlighting pass.
+     * @return a new index with the semantic tokens of this index and the overlay tokens of the given previous index.
+     */
+    @NotNull
+    LSPSemanticTokensIndex withOverlayOf(@NotNull LSPSemanticTokensIndex previous) {
+        var previousOverlay = previous.overlay;
+        if (previousOverlay == null) {
+            return this;
+        }
+        Builder builder = new Builder(previousOverlay.tokenStarts.length);
+        for (int i = 0; i < previousOverlay.tokenStarts.length; i++) {
+            int start = previousOverlay.tokenStarts[i];
+            int end = previousOverlay.tokenEnds[i];
+            if (!intersects(start, end)) {
+                // The semantic tokens of this pass don't cover the token, keep it
+                builder.addSemanticToken(start, end, previousOverlay.tokenTypes[i], previousOverlay.tokenModifiers[i]);
+            }
+        }
+        LSPSemanticTokensIndex newOverlay = builder.build();
+        return new LSPSemanticTokensIndex(this, newOverlay.tokenStarts.length > 0 ? newOverlay : null);
+    }
+
+    /**
+     * The semantic tokens created when they are requested, allocated on the first request.
+     */
+    private static final class MaterializedTokens {
+
+        private volatile AtomicReferenceArray<LSPSemanticToken> tokens;
+
+        @NotNull
+        AtomicReferenceArray<LSPSemanticToken> get(int size) {
+            var result = tokens;
+            if (result == null) {
+                synchronized (this) {
+                    result = tokens;
+                    if (result == null) {
+                        result = new AtomicReferenceArray<>(size);
+                        tokens = result;
+                    }
+                }
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Builder used to collect the semantic tokens of a highlighting pass.
+     *
+     * <p>
+     * When semantic tokens overlap, the last added semantic token wins for the overlapped offsets.
+     * </p>
+     */
+    public static final class Builder {
+
+        private int size;
+        private int[] starts;
+        private int[] ends;
+        private String[] tokenTypes;
+        private List<String>[] tokenModifiers;
+        // true while the added tokens are sorted and don't overlap, which is the case for LSP semantic tokens
+        private boolean sorted = true;
+
+        public Builder() {
+            this(64);
+        }
+
+        @SuppressWarnings("unchecked")
+        private Builder(int initialCapacity) {
+            starts = new int[initialCapacity];
+            ends = new int[initialCapacity];
+            tokenTypes = new String[initialCapacity];
+            tokenModifiers = new List[initialCapacity];
+        }
+
+        /**
+         * Adds a semantic token.
+         *
+         * @param start          the semantic token start offset
+         * @param end            the semantic token end offset (exclusive)
+         * @param tokenType      the optional semantic token type
+         * @param tokenModifiers the optional semantic token modifiers
+         */
+        public void addSemanticToken(int start,
+                                     int end,
+                                     @Nullable String tokenType,
+                                     @Nullable List<String> tokenModifiers) {
+            if (end <= start) {
+                // Empty semantic tokens cover no offset
+                return;
+            }
+            if (size == starts.length) {
+                int newCapacity = Math.max(8, size * 2);
+                starts = Arrays.copyOf(starts, newCapacity);
+                ends = Arrays.copyOf(ends, newCapacity);
+                tokenTypes = Arrays.copyOf(tokenTypes, newCapacity);
+                this.tokenModifiers = Arrays.copyOf(this.tokenModifiers, newCapacity);
+            }
+            if (size > 0 && start < ends[size - 1]) {
+                sorted = false;
+            }
+            starts[size] = start;
+            ends[size] = end;
+            tokenTypes[size] = tokenType;
+            this.tokenModifiers[size] = tokenModifiers;
+            size++;
+        }
+
+        /**
+         * Returns the index of the added semantic tokens.
+         *
+         * @return the index of the added semantic tokens.
+         */
+        @NotNull
+        public LSPSemanticTokensIndex build() {
+            int[] tokenStarts = Arrays.copyOf(starts, size);
+            int[] tokenEnds = Arrays.copyOf(ends, size);
+            byte[] elementTypes = new byte[size];
+            for (int i = 0; i < size; i++) {
+                List<String> modifiers = tokenModifiers[i] != null ? tokenModifiers[i] : Collections.emptyList();
+                elementTypes[i] = (byte) LSPSemanticToken.getElementType(tokenTypes[i], modifiers).ordinal();
+            }
+            if (sorted) {
+                // Each token is a segment
+                return new LSPSemanticTokensIndex(tokenStarts, tokenEnds,
+                        Arrays.copyOf(tokenTypes, size), Arrays.copyOf(tokenModifiers, size), elementTypes,
+                        tokenStarts, tokenEnds, null);
+            }
+            return buildSegments(tokenStarts, tokenEnds, elementTypes);
+        }
+
+        @NotNull
+        private LSPSemanticTokensIndex buildSegments(int[] tokenStarts,
+                                                     int[] tokenEnds,
+                                                     byte[] elementTypes) {
+            // Paint the token indexes over the covered offsets so that the last added token wins, then compute
+            // the segments with the same token. This temporary array is only needed for unsorted / overlapping tokens.
+            int min = Integer.MAX_VALUE;
+            int max = 0;
+            for (int i = 0; i < size; i++) {
+                min = Math.min(min, tokenStarts[i]);
+                max = Math.max(max, tokenEnds[i]);
+            }
+            int[] owners = new int[max - min];
+            Arrays.fill(owners, -1);
+            for (int i = 0; i < size; i++) {
+                Arrays.fill(owners, tokenStarts[i] - min, tokenEnds[i] - min, i);
+            }
+            List<int[]> segments = new ArrayList<>();
+            int offset = 0;
+            while (offset < owners.length) {
+                int owner = owners[offset];
+                int segmentStart = offset;
+                while (offset < owners.length && owners[offset] == owner) {
+                    offset++;
+                }
+                if (owner != -1) {
+                    segments.add(new int[]{segmentStart + min, offset + min, owner});
+                }
+            }
+            int[] segmentStarts = new int[segments.size()];
+            int[] segmentEnds = new int[segments.size()];
+            int[] segmentTokens = new int[segments.size()];
+            for (int i = 0; i < segments.size(); i++) {
+                int[] segment = segments.get(i);
+                segmentStarts[i] = segment[0];
+                segmentEnds[i] = segment[1];
+                segmentTokens[i] = segment[2];
+            }
+            return new LSPSemanticTokensIndex(tokenStarts, tokenEnds,
+                    Arrays.copyOf(tokenTypes, size), Arrays.copyOf(tokenModifiers, size), elementTypes,
+                    segmentStarts, segmentEnds, segmentTokens);
+        }
+    }
+}
@@ -140,6 +140,11 @@ public class LSPSemanticTokensSingleRootFileViewProvider
         return helper.getSemanticTokenTextRange(offset);
     }
 
+    @Override
+    public void setSemanticTokens(@NotNull LSPSemanticTokensIndex semanticTokens) {
+        helper.setSemanticTokens(semanticTokens);
+    }
+
     @Override
     public void addSemanticToken(@NotNull TextRange textRange,
                                  @Nullable String tokenType,
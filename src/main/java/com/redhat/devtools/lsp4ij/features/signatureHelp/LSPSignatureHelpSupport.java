@@ -15,6 +15,7 @@ import com.redhat.devtools.lsp4ij.LSPRequestConstants;
 import com.redhat.devtools.lsp4ij.LanguageServerItem;
 import com.redhat.devtools.lsp4ij.features.AbstractLSPDocumentFeatureSupport;
 import com.redhat.devtools.lsp4ij.internal.CancellationSupport;
+import com.redhat.devtools.lsp4ij.internal.LSPRequestScheduler.Priority;
 import org.eclipse.lsp4j.SignatureHelp;
 import org.eclipse.lsp4j.SignatureHelpParams;
 import org.jetbrains.annotations.NotNull;
@@ -69,9 +70,14 @@ public class LSPSignatureHelpSupport extends AbstractLSPDocumentFeatureSupport<S
                                                                         @NotNull CancellationSupport cancellationSupport) {
         // Update textDocument Uri with custom file Uri if needed
         updateTextDocumentUri(params.getTextDocument(), file, languageServer);
+        // Share the LSP request with the identical in-flight signature help requests
         return cancellationSupport.execute(languageServer
-                .getTextDocumentService()
-                .signatureHelp(params), languageServer, LSPRequestConstants.TEXT_DOCUMENT_SIGNATURE_HELP);
+                .getServerWrapper()
+                .getRequestCoalescer()
+                .execute(LSPRequestConstants.TEXT_DOCUMENT_SIGNATURE_HELP, params, file.getVirtualFile(),
+                        () -> languageServer.getServerWrapper()
+                                .getRequestScheduler()
+                                .schedule(Priority.INTERACTIVE, () -> languageServer.getTextDocumentService().signatureHelp(params))), languageServer, LSPRequestConstants.TEXT_DOCUMENT_SIGNATURE_HELP);
     }
 
 
@@ -25,6 +25,7 @@ import com.intellij.psi.PsiManager;
 import com.intellij.psi.impl.light.LightElement;
 import com.redhat.devtools.lsp4ij.LSPIJUtils;
 import com.redhat.devtools.lsp4ij.client.features.FileUriSupport;
+import com.redhat.devtools.lsp4ij.internal.LSPModelInterner;
 import com.redhat.devtools.lsp4ij.ui.IconMapper;
 import org.eclipse.lsp4j.Location;
 import org.eclipse.lsp4j.Position;
@@ -70,7 +71,8 @@ public class WorkspaceSymbolData extends LightElement implements NavigationItem,
         super(PsiManager.getInstance(project), Language.ANY);
         this.name = name;
         this.symbolKind = symbolKind;
-        this.fileUri = fileUri;
+        // The file URI is shared by all symbols of the file
+        this.fileUri = LSPModelInterner.intern(fileUri);
         this.position = position;
         this.fileUriSupport = fileUriSupport;
         this.project = project;
@@ -0,0 +1,260 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package com.redhat.devtools.lsp4ij.internal;
+
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.editor.Editor;
+import com.intellij.util.DocumentUtil;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextEdit;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Bulk application engine for large {@link TextEdit} lists.
+ *
+ * <p>
+ * Instead of creating one {@link com.intellij.openapi.editor.RangeMarker} per text edit and mutating the document
+ * for each edit, this engine:
+ *
+ * <ul>
+ *     <li>converts all LSP ranges to offsets against the original document text,</li>
+ *     <li>sorts them (stable, so inserts at the same position keep the LSP array order) and validates that they don't overlap,</li>
+ *     <li>merges the edits in one pass into replacement buffers, grouping edits which are close together,</li>
+ *     <li>trims the unchanged prefix/suffix of each group to compute a minimal diff,</li>
+ *     <li>applies the resulting replacements in descending order inside a document bulk update.</li>
+ * </ul>
+ * </p>
+ */
+@ApiStatus.Internal
+public class BulkTextEditsApplier {
+
+    /**
+     * Minimal number of text edits to use the bulk mode.
+     */
+    public static final int BULK_MODE_THRESHOLD = 64;
+
+    /**
+     * Edits separated by less than this number of unchanged characters are merged in the same replacement.
+     */
+    private static final int MERGE_GAP = 128;
+
+    private static final Comparator<OffsetEdit> OFFSET_EDITS_COMPARATOR = Comparator
+            .comparingInt(OffsetEdit::start)
+            .thenComparingInt(OffsetEdit::end);
+
+    /**
+     * Text edit converted to offsets of the original document.
+     *
+     * @param start   the start offset.
+     * @param end     the end offset.
+     * @param newText the new text without '\r'.
+     */
+    record OffsetEdit(int start, int end, @NotNull String newText) {
+    }
+
+    /**
+     * Replacement to apply to the document.
+     *
+     * @param start   the start offset.
+     * @param end     the end offset.
+     * @param newText the new text.
+     */
+    record Replacement(int start, int end, @NotNull CharSequence newText) {
+    }
+
+    private BulkTextEditsApplier() {
+
+    }
+
+    /**
+     * Returns true if the given text edits should be applied with the bulk mode and false otherwise.
+     *
+     * @param edits the text edits.
+     * @return true if the given text edits should be applied with the bulk mode and false otherwise.
+     */
+    public static boolean isBulkModeRequired(@NotNull List<? extends TextEdit> edits) {
+        return edits.size() >= BULK_MODE_THRESHOLD;
+    }
+
+    /**
+     * Apply the given text edits to the given document in bulk mode and move the caret offset of the given editor if needed.
+     *
+     * <p>
+     * This method must be called in a Write Action.
+     * </p>
+     *
+     * @param editor   the editor used to update the caret offset after the apply edits and null otherwise.
+     * @param document the document to update.
+     * @param edits    the text edit list to apply to the given document.
+     * @return true if the text edits have been applied and false if the text edits overlap and must be applied one by one.
+     */
+    public static boolean applyEdits(@Nullable Editor editor,
+                                     @NotNull Document document,
+                                     @NotNull List<? extends TextEdit> edits) {
+        var offsetEdits = toSortedOffsetEdits(edits, document);
+        if (offsetEdits == null) {
+            // Overlapping edits, the caller must fall back to the edit-by-edit mode.
+            return false;
+        }
+        if (offsetEdits.isEmpty()) {
+            return true;
+        }
+
+        final int oldCaretOffset = editor != null ? editor.getCaretModel().getOffset() : -1;
+        int newCaretOffset = oldCaretOffset;
+        if (oldCaretOffset != -1) {
+            for (var edit : offsetEdits) {
+                newCaretOffset += getCaretIncrement(edit, oldCaretOffset);
+            }
+        }
+
+        List<Replacement> replacements = computeReplacements(document.getImmutableCharSequence(), offsetEdits);
+        if (!replacements.isEmpty()) {
+            Runnable apply = () -> {
+                // Apply replacements from the end of the document to keep the offsets valid
+                for (int i = replacements.size() - 1; i >= 0; i--) {
+                    var replacement = replacements.get(i);
+                    document.replaceString(replacement.start(), replacement.end(), replacement.newText());
+                }
+            };
+            if (replacements.size() > 1) {
+                DocumentUtil.executeInBulk(document, apply);
+            } else {
+                apply.run();
+            }
+        }
+
+        if (newCaretOffset > -1 && oldCaretOffset != newCaretOffset) {
+            editor.getCaretModel().moveToOffset(Math.min(newCaretOffset, document.getTextLength()));
+        }
+        return true;
+    }
+
+    /**
+     * Returns the text edits converted to offsets and sorted by start offset, or null if some edits overlap.
+     *
+     * @param edits    the text edits.
+     * @param document the document.
+     * @return the text edits converted to offsets and sorted by start offset, or null if some edits overlap.
+     */
+    static @Nullable List<OffsetEdit> toSortedOffsetEdits(@NotNull List<? extends TextEdit> edits,
+                                                         @NotNull Document document) {
+        List<OffsetEdit> offsetEdits = new ArrayList<>(edits.size());
+        PositionMapper positionMapper = PositionMapper.getInstance(document);
+        for (var textEdit : edits) {
+            Range range = textEdit.getRange();
+            if (range != null) {
+                int start = positionMapper.toOffset(range.getStart());
+                int end = positionMapper.toOffset(range.getEnd());
+                // Range is valid, add it to the converted list
+                if (end >= start) {
+                    offsetEdits.add(new OffsetEdit(start, end, normalizeNewText(textEdit.getNewText())));
+                }
+            }
+        }
+        // List.sort is stable: inserts at the same position keep the order of the LSP array
+        offsetEdits.sort(OFFSET_EDITS_COMPARATOR);
+        int lastEnd = 0;
+        for (var edit : offsetEdits) {
+            if (edit.start() < lastEnd) {
+                return null;
+            }
+            lastEnd = edit.end();
+        }
+        return offsetEdits;
+    }
+
+    /**
+     * Merge the sorted edits into replacements in one pass over the original text.
+     *
+     * @param text  the original text.
+     * @param edits the sorted, non-overlapping edits.
+     * @return the replacements to apply, sorted by start offset.
+     */
+    static @NotNull List<Replacement> computeReplacements(@NotNull CharSequence text,
+                                                          @NotNull List<OffsetEdit> edits) {
+        List<Replacement> replacements = new ArrayList<>();
+        int groupStart = -1;
+        int groupEnd = -1;
+        StringBuilder groupText = null;
+        for (var edit : edits) {
+            if (groupText != null && edit.start() - groupEnd <= MERGE_GAP) {
+                // Close enough to the current group, copy the unchanged gap and the new text
+                groupText.append(text, groupEnd, edit.start());
+            } else {
+                if (groupText != null) {
+                    addReplacement(text, groupStart, groupEnd, groupText, replacements);
+                }
+                groupStart = edit.start();
+                groupText = new StringBuilder();
+            }
+            groupText.append(edit.newText());
+            groupEnd = edit.end();
+        }
+        if (groupText != null) {
+            addReplacement(text, groupStart, groupEnd, groupText, replacements);
+        }
+        return replacements;
+    }
+
+    private static void addReplacement(@NotNull CharSequence text,
+                                       int start,
+                                       int end,
+                                       @NotNull CharSequence newText,
+                                       @NotNull List<Replacement> replacements) {
+        // Trim the common prefix/suffix to compute the minimal diff
+        int oldLength = end - start;
+        int newLength = newText.length();
+        int prefix = 0;
+        int maxPrefix = Math.min(oldLength, newLength);
+        while (prefix < maxPrefix && text.charAt(start + prefix) == newText.charAt(prefix)) {
+            prefix++;
+        }
+        int suffix = 0;
+        int maxSuffix = maxPrefix - prefix;
+        while (suffix < maxSuffix && text.charAt(end - 1 - suffix) == newText.charAt(newLength - 1 - suffix)) {
+            suffix++;
+        }
+        if (prefix == oldLength && prefix == newLength) {
+            // No change
+            return;
+        }
+        replacements.add(new Replacement(start + prefix, end - suffix, newText.subSequence(prefix, newLength - suffix)));
+    }
+
+    private static int getCaretIncrement(@NotNull OffsetEdit edit, int caret) {
+        int start = edit.start();
+        int end = edit.end();
+        if (start > caret) {
+            // <caret>...<start>foo<end>
+            // The text edit doesn't impact the caret offset
+            return 0;
+        }
+        int removed = caret > end ? end - start : caret - start;
+        return edit.newText().length() - removed;
+    }
+
+    private static @NotNull String normalizeNewText(@Nullable String newText) {
+        if (newText == null) {
+            return "";
+        }
+        return newText.indexOf('\r') != -1 ? newText.replace("\r", "") : newText;
+    }
+}
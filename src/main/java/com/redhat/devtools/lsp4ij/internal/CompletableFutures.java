@@ -18,6 +18,7 @@ import com.intellij.openapi.progress.ProcessCanceledException;
 import com.intellij.openapi.progress.ProgressIndicator;
 import com.intellij.openapi.progress.ProgressManager;
 import com.intellij.openapi.progress.Task;
+import com.intellij.openapi.util.Disposer;
 import com.intellij.psi.PsiFile;
 import com.redhat.devtools.lsp4ij.client.indexing.ProjectIndexingManager;
 import com.redhat.devtools.lsp4ij.server.LanguageServerException;
@@ -128,10 +129,18 @@ public class CompletableFutures {
         if (future == null) {
             return;
         }
+        if (future.isDone()) {
+            // Fast path: no need to register listeners
+            checkDone(future);
+            return;
+        }
         long start = System.currentTimeMillis();
         final long modificationStamp = file != null ? file.getModificationStamp() : -1;
-        while (!future.isDone()) {
-            try {
+        // The waiter parks the thread until the future is done, the progress is canceled or the file changes
+        // instead of polling the future with a fixed interval.
+        FutureWaiter waiter = new FutureWaiter(future, file);
+        try {
+            while (!future.isDone()) {
                 // check progress canceled
                 ProgressManager.checkCanceled();
                 // check psi file
@@ -140,17 +149,11 @@ public class CompletableFutures {
                         throw new PsiFileChangedException();
                     }
                 }
-                // wait for 25 ms
-                future.get(25, TimeUnit.MILLISECONDS);
-            } catch (CancellationException e) {
-                // race condition, a cancel has occurred when future.get(...) is called.
-                throw e;
-            } catch (TimeoutException ignore) {
                 long time = System.currentTimeMillis() - start;
                 if (timeout != null && time > timeout) {
-                    throw ignore;
+                    throw new TimeoutException();
                 }
-                if (file != null && !future.isDone() && System.currentTimeMillis() - start > 5000 &&
+                if (file != null && time > 5000 &&
                         (ProjectIndexingManager.isIndexingAll() || ApplicationManager.getApplication().isDispatchThread())) {
                     // When some projects are being indexed,
                     // the language server startup can take a long time
@@ -159,23 +162,35 @@ public class CompletableFutures {
                     // This wait can block IJ, here we stop the wait (and we could lose some LSP feature)
                     throw new CancellationException("Some projects are indexing");
                 }
-                // Ignore timeout
-            } catch (ExecutionException | CompletionException e) {
-                Throwable cause = e.getCause();
-                if (cause instanceof ProcessCanceledException pce) {
-                    throw pce;
-                }
-                if (cause instanceof LanguageServerException) {
-                    // Server cannot be started, throws a ProcessCanceledException to ignore the error.
-                    throw new ProcessCanceledException(cause);
-                }
-                if (cause instanceof CancellationException ce) {
-                    throw ce;
-                }
-                throw e;
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
+                waiter.await(timeout != null ? TimeUnit.MILLISECONDS.toNanos(timeout - time) : -1);
+            }
+        } finally {
+            Disposer.dispose(waiter);
+        }
+        checkDone(future);
+    }
+
+    private static void checkDone(@NotNull CompletableFuture<?> future) throws ExecutionException {
+        try {
+            future.get();
+        } catch (CancellationException e) {
+            // race condition, a cancel has occurred when future.get(...) is called.
+            throw e;
+        } catch (ExecutionException | CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof ProcessCanceledException pce) {
+                throw pce;
+            }
+            if (cause instanceof LanguageServerException) {
+                // Server cannot be started, throws a ProcessCanceledException to ignore the error.
+                throw new ProcessCanceledException(cause);
+            }
+            if (cause instanceof CancellationException ce) {
+                throw ce;
             }
+            throw e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         }
     }
 
@@ -219,4 +234,4 @@ public class CompletableFutures {
         CancellationSupport.forwardCancellation(allOff, cfs);
         return allOff;
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -27,6 +27,25 @@ public class CompletionUtils {
                                                            @Nullable PsiFile file,
                                                            int completionOffset,
                                                            String insertText) {
+        TextRange wordRange = LSPIJUtils.getWordRangeAt(document, file, completionOffset);
+        return computePrefixStartFromWordRange(document, wordRange, completionOffset, insertText);
+    }
+
+    /**
+     * Returns the prefix start offset of the given insert text by using the given word range at the completion offset
+     * (which can be computed once for all completion items) and null otherwise.
+     *
+     * @param document         the document.
+     * @param wordRange        the word range at the completion offset and null otherwise.
+     * @param completionOffset the completion offset.
+     * @param insertText       the insert text.
+     * @return the prefix start offset of the given insert text and null otherwise.
+     */
+    @Nullable
+    public static Integer computePrefixStartFromWordRange(@NotNull Document document,
+                                                          @Nullable TextRange wordRange,
+                                                          int completionOffset,
+                                                          String insertText) {
 
         // case 2.1: first strategy, we collect word range at
         // ex :
@@ -34,7 +53,6 @@ public class CompletionUtils {
         // document= le
         // we have to return |le as prefix start offset
 
-        TextRange wordRange = LSPIJUtils.getWordRangeAt(document, file, completionOffset);
         if (wordRange != null) {
             return wordRange.getStartOffset();
         }
@@ -0,0 +1,168 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package com.redhat.devtools.lsp4ij.internal;
+
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.util.TextRange;
+import com.intellij.openapi.util.UserDataHolderEx;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+
+/**
+ * Bounded log of the last edits of a document, used to map a text range computed for an old version of the document
+ * (identified by its modification stamp) to the current version of the document.
+ *
+ * <p>
+ * The log is created on demand for a document with {@link #getInstance(Document)} and is filled by
+ * {@link DocumentEditsLogListener}. Only the {@link #MAX_EDITS} last edits are kept: a text range computed for an older
+ * version of the document cannot be mapped.
+ * </p>
+ */
+@ApiStatus.Internal
+public class DocumentEditsLog {
+
+    private static final Key<DocumentEditsLog> DOCUMENT_EDITS_LOG_KEY = Key.create("lsp.document.edits.log");
+
+    static final int MAX_EDITS = 256;
+
+    /**
+     * A document edit which replaces the text at [offset, offset + oldLength[ with a text of newLength characters.
+     */
+    private record Edit(long stampBefore, long stampAfter, int offset, int oldLength, int newLength) {
+    }
+
+    private final Deque<Edit> edits = new ArrayDeque<>();
+
+    DocumentEditsLog() {
+    }
+
+    /**
+     * Returns the edits log of the given document, created on demand.
+     *
+     * @param document the document.
+     * @return the edits log of the given document.
+     */
+    public static @NotNull DocumentEditsLog getInstance(@NotNull Document document) {
+        DocumentEditsLog log = document.getUserData(DOCUMENT_EDITS_LOG_KEY);
+        if (log != null) {
+            return log;
+        }
+        if (document instanceof UserDataHolderEx holder) {
+            return holder.putUserDataIfAbsent(DOCUMENT_EDITS_LOG_KEY, new DocumentEditsLog());
+        }
+        synchronized (DocumentEditsLog.class) {
+            log = document.getUserData(DOCUMENT_EDITS_LOG_KEY);
+            if (log == null) {
+                log = new DocumentEditsLog();
+                document.putUserData(DOCUMENT_EDITS_LOG_KEY, log);
+            }
+            return log;
+        }
+    }
+
+    /**
+     * Returns the edits log of the given document and null if it has not been created.
+     *
+     * @param document the document.
+     * @return the edits log of the given document and null if it has not been created.
+     */
+    static @Nullable DocumentEditsLog getExistingInstance(@NotNull Document document) {
+        return document.getUserData(DOCUMENT_EDITS_LOG_KEY);
+    }
+
+    /**
+     * Records the given edit.
+     *
+     * @param stampBefore the modification stamp of the document before the edit.
+     * @param stampAfter  the modification stamp of the document after the edit.
+     * @param offset      the offset of the edit.
+     * @param oldLength   the length of the replaced text.
+     * @param newLength   the length of the inserted text.
+     */
+    synchronized void addEdit(long stampBefore, long stampAfter, int offset, int oldLength, int newLength) {
+        if (edits.size() >= MAX_EDITS) {
+            edits.removeFirst();
+        }
+        edits.addLast(new Edit(stampBefore, stampAfter, offset, oldLength, newLength));
+    }
+
+    /**
+     * Returns true if the edits between the given document versions are known and false otherwise.
+     *
+     * @param fromStamp the modification stamp of the old document version.
+     * @param toStamp   the current modification stamp of the document.
+     * @return true if the edits between the given document versions are known and false otherwise.
+     */
+    public boolean canMap(long fromStamp, long toStamp) {
+        // An empty range at the start of the document is shifted by all edits and is never overlapped
+        return mapRange(fromStamp, toStamp, 0, 0) != null;
+    }
+
+    /**
+     * Returns the given text range of the document version identified by the given modification stamp, shifted by the
+     * edits which occurred since this version, and null if an edit overlaps the text range or if the edits since this
+     * version are unknown.
+     *
+     * @param fromStamp the modification stamp of the document version of the text range.
+     * @param toStamp   the current modification stamp of the document.
+     * @param start     the start offset of the text range.
+     * @param end       the end offset of the text range.
+     * @return the shifted text range and null if the text range cannot be mapped.
+     */
+    public synchronized @Nullable TextRange mapRange(long fromStamp, long toStamp, int start, int end) {
+        if (fromStamp == toStamp) {
+            return new TextRange(start, end);
+        }
+        Iterator<Edit> it = edits.iterator();
+        // Find the first edit of the document version
+        Edit edit = null;
+        while (it.hasNext()) {
+            Edit current = it.next();
+            if (current.stampBefore() == fromStamp) {
+                edit = current;
+                break;
+            }
+        }
+        if (edit == null) {
+            // The edits since the document version are unknown
+            return null;
+        }
+        while (true) {
+            int editEnd = edit.offset() + edit.oldLength();
+            if (editEnd <= start) {
+                // The edit is before the range (or inserts text at the start of the range), shift the range
+                int delta = edit.newLength() - edit.oldLength();
+                start += delta;
+                end += delta;
+            } else if (edit.offset() < end) {
+                // The edit overlaps the range
+                return null;
+            }
+            if (edit.stampAfter() == toStamp) {
+                return new TextRange(start, end);
+            }
+            if (!it.hasNext()) {
+                // The log doesn't reach the current document version
+                return null;
+            }
+            edit = it.next();
+        }
+    }
+}
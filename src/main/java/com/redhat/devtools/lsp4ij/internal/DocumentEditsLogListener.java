@@ -0,0 +1,39 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package com.redhat.devtools.lsp4ij.internal;
+
+import com.intellij.openapi.editor.event.DocumentEvent;
+import com.intellij.openapi.editor.event.DocumentListener;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Records the edits of the documents which have a {@link DocumentEditsLog}.
+ */
+@ApiStatus.Internal
+public class DocumentEditsLogListener implements DocumentListener {
+
+    @Override
+    public void documentChanged(@NotNull DocumentEvent event) {
+        var document = event.getDocument();
+        DocumentEditsLog log = DocumentEditsLog.getExistingInstance(document);
+        if (log != null) {
+            log.addEdit(event.getOldTimeStamp(),
+                    document.getModificationStamp(),
+                    event.getOffset(),
+                    event.getOldLength(),
+                    event.getNewLength());
+        }
+    }
+}
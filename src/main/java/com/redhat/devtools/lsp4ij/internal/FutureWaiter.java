@@ -0,0 +1,162 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package com.redhat.devtools.lsp4ij.internal;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.editor.event.DocumentEvent;
+import com.intellij.openapi.editor.event.DocumentListener;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.progress.util.AbstractProgressIndicatorExBase;
+import com.intellij.openapi.wm.ex.ProgressIndicatorEx;
+import com.intellij.psi.PsiFile;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Event-driven waiter used by {@link CompletableFutures#waitUntilDone(CompletableFuture, PsiFile, Integer)}.
+ *
+ * <p>
+ * The waiting thread is parked until one of the following events wakes it up:
+ *
+ * <ul>
+ *     <li>the future is done (completion callback),</li>
+ *     <li>the current progress indicator is canceled (state delegate of the indicator),</li>
+ *     <li>the document of the Psi file changes (document listener).</li>
+ * </ul>
+ * <p>
+ * Some cancellation sources cannot be listened (ex: a progress indicator which doesn't implement {@link ProgressIndicatorEx}),
+ * so the thread is also woken up after a safety interval to check cancellation.
+ * </p>
+ */
+class FutureWaiter implements Disposable {
+
+    /**
+     * Safety interval (in ms) used when the cancellation of the current progress indicator is listened.
+     */
+    private static final long LISTENED_CANCEL_CHECK_INTERVAL = 200;
+
+    /**
+     * Safety interval (in ms) used when the cancellation of the current progress indicator cannot be listened.
+     */
+    private static final long POLLED_CANCEL_CHECK_INTERVAL = 25;
+
+    /**
+     * Cancel listeners installed as state delegate of the progress indicators. A progress indicator cannot remove a
+     * state delegate, so only one listener is installed per indicator and the waiters register / unregister in it.
+     */
+    private static final Map<ProgressIndicatorEx, CancelListener> CANCEL_LISTENERS = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final @NotNull Thread waitingThread;
+    private final long cancelCheckIntervalNanos;
+    private final @Nullable CancelListener cancelListener;
+    private volatile boolean signaled;
+    private volatile boolean disposed;
+
+    FutureWaiter(@NotNull CompletableFuture<?> future,
+                 @Nullable PsiFile file) {
+        this.waitingThread = Thread.currentThread();
+        // Wake up the thread when the future is done
+        future.whenComplete((result, error) -> signal());
+        // Wake up the thread when the document of the Psi file changes
+        Document document = file != null ? file.getViewProvider().getDocument() : null;
+        if (document != null) {
+            document.addDocumentListener(new DocumentListener() {
+                @Override
+                public void documentChanged(@NotNull DocumentEvent event) {
+                    signal();
+                }
+            }, this);
+        }
+        // Wake up the thread when the progress indicator is canceled
+        ProgressIndicator indicator = ProgressManager.getGlobalProgressIndicator();
+        if (indicator instanceof ProgressIndicatorEx indicatorEx) {
+            cancelListener = CANCEL_LISTENERS.computeIfAbsent(indicatorEx, k -> {
+                var listener = new CancelListener();
+                k.addStateDelegate(listener);
+                return listener;
+            });
+            cancelListener.waiters.add(this);
+        } else {
+            cancelListener = null;
+        }
+        this.cancelCheckIntervalNanos = TimeUnit.MILLISECONDS.toNanos(cancelListener != null ? LISTENED_CANCEL_CHECK_INTERVAL : POLLED_CANCEL_CHECK_INTERVAL);
+    }
+
+    /**
+     * Park the waiting thread until an event occurs or the safety interval / the given remaining time elapses.
+     *
+     * @param remainingNanos the remaining time to wait in nanoseconds and -1 if there is no timeout.
+     */
+    void await(long remainingNanos) {
+        if (signaled) {
+            signaled = false;
+            return;
+        }
+        long nanos = remainingNanos >= 0 ? Math.min(remainingNanos, cancelCheckIntervalNanos) : cancelCheckIntervalNanos;
+        LockSupport.parkNanos(this, nanos);
+        signaled = false;
+    }
+
+    private void signal() {
+        if (disposed) {
+            return;
+        }
+        signaled = true;
+        LockSupport.unpark(waitingThread);
+    }
+
+    @Override
+    public void dispose() {
+        disposed = true;
+        if (cancelListener != null) {
+            cancelListener.waiters.remove(this);
+        }
+    }
+
+    /**
+     * Returns the number of waiters registered in the cancel listener of the given progress indicator.
+     *
+     * @param indicator the progress indicator.
+     * @return the number of waiters registered in the cancel listener of the given progress indicator.
+     */
+    static int getRegisteredWaiters(@NotNull ProgressIndicatorEx indicator) {
+        var listener = CANCEL_LISTENERS.get(indicator);
+        return listener != null ? listener.waiters.size() : 0;
+    }
+
+    /**
+     * State delegate of a progress indicator which wakes up the registered waiters when the indicator is canceled.
+     */
+    private static class CancelListener extends AbstractProgressIndicatorExBase {
+
+        private final Set<FutureWaiter> waiters = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public void cancel() {
+            super.cancel();
+            waiters.forEach(FutureWaiter::signal);
+        }
+    }
+}
@@ -0,0 +1,265 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.lsp4ij.internal;
+
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import org.eclipse.lsp4j.jsonrpc.ResponseErrorException;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static com.redhat.devtools.lsp4ij.internal.CancellationUtil.isContentModified;
+import static com.redhat.devtools.lsp4ij.internal.CancellationUtil.isRequestCancelled;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Circuit breaker of the LSP features of a language server.
+ *
+ * <p>
+ * When an LSP request (ex: 'textDocument/codeLens') times out or fails several times in a row, the feature is
+ * temporarily disabled for the language server (the circuit is open): the requests of this feature are cancelled
+ * without waiting for the language server, so that a slow feature doesn't pile up requests which delay the other
+ * features of the same language server.
+ * </p>
+ *
+ * <p>
+ * After {@link #OPEN_DURATION} ms, one request of the feature is allowed to check if the language server has recovered:
+ * if it succeeds, the feature is enabled again, otherwise the feature is disabled again for {@link #OPEN_DURATION} ms.
+ * </p>
+ *
+ * <p>
+ * The features are identified by the LSP method of the requests which are sent to the language server.
+ * </p>
+ */
+@ApiStatus.Internal
+public class LSPFeatureCircuitBreaker {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LSPFeatureCircuitBreaker.class);
+
+    static final long OPEN_DURATION = 30_000L;
+
+    private static class FeatureState {
+        // Number of timeouts or errors in a row
+        private int consecutiveFailures;
+        // The time (in milliseconds) until the feature is disabled and 0 if the circuit is closed
+        private long openedUntil;
+        // true if a request is sent to check if the language server has recovered
+        private boolean trialRequestRunning;
+    }
+
+    private final Map<String, FeatureState> features = new HashMap<>();
+    private final @NotNull LongSupplier clock;
+    private volatile @Nullable Runnable stateChangedHandler;
+
+    public LSPFeatureCircuitBreaker() {
+        this(System::currentTimeMillis);
+    }
+
+    LSPFeatureCircuitBreaker(@NotNull LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Sets the handler called when a feature is disabled or enabled again (ex: to refresh the state displayed in the
+     * LSP console).
+     *
+     * @param stateChangedHandler the handler and null to remove it.
+     */
+    public void setStateChangedHandler(@Nullable Runnable stateChangedHandler) {
+        this.stateChangedHandler = stateChangedHandler;
+    }
+
+    private void fireStateChanged() {
+        var handler = stateChangedHandler;
+        if (handler != null) {
+            handler.run();
+        }
+    }
+
+    /**
+     * Sends the LSP request of the given method if the method is not disabled, cancels it (and sends '$/cancelRequest')
+     * when the timeout is reached, and records its result.
+     * <p>
+     * The timeout starts when the request is sent to the language server, not when it is queued. When the method is
+     * disabled, the request is not sent and the returned future is completed with a {@link CancellationException}.
+     *
+     * @param method           the LSP method of the request (ex: 'textDocument/codeLens').
+     * @param timeout          the timeout (in milliseconds) of the request and 0 if the request never times out.
+     * @param failureThreshold the number of failures in a row which disables the method and 0 to never disable it.
+     * @param request          the supplier which sends the LSP request.
+     * @param <T>              the response type.
+     * @return the future of the LSP request.
+     */
+    public <T> @NotNull CompletableFuture<T> send(@NotNull String method,
+                                                  long timeout,
+                                                  int failureThreshold,
+                                                  @NotNull Supplier<CompletableFuture<T>> request) {
+        if (failureThreshold > 0 && !isRequestAllowed(method)) {
+            // The method is disabled because it has timed out or failed several times in a row,
+            // don't send the request to the language server.
+            return CompletableFuture.failedFuture(new CancellationException("'" + method + "' is temporarily disabled"));
+        }
+        CompletableFuture<T> future = request.get();
+        if (timeout <= 0 && failureThreshold <= 0) {
+            return future;
+        }
+        AtomicBoolean timedOut = new AtomicBoolean();
+        ScheduledFuture<?> deadline = timeout > 0 ? AppExecutorUtil.getAppScheduledExecutorService().schedule(() -> {
+            if (!future.isDone()) {
+                timedOut.set(true);
+                CancellationSupport.cancel(future);
+            }
+        }, timeout, MILLISECONDS) : null;
+        future.whenComplete((result, error) -> {
+            if (deadline != null) {
+                deadline.cancel(false);
+            }
+            if (timedOut.get()) {
+                LOGGER.warn("'" + method + "' has timed out after " + timeout + " ms");
+                recordFailure(method, failureThreshold);
+            } else if (error == null) {
+                recordSuccess(method);
+            } else if (isCancelledOrContentModified(error)) {
+                recordCancelled(method);
+            } else {
+                recordFailure(method, failureThreshold);
+            }
+        });
+        return future;
+    }
+
+    private static boolean isCancelledOrContentModified(@NotNull Throwable error) {
+        if (error instanceof CompletionException) {
+            error = error.getCause();
+        }
+        if (error instanceof ResponseErrorException responseError) {
+            return isRequestCancelled(responseError) || isContentModified(responseError);
+        }
+        return error instanceof CancellationException || error instanceof ProcessCanceledException;
+    }
+
+    /**
+     * Returns true if an LSP request of the given feature can be sent to the language server and false if the feature
+     * is disabled.
+     *
+     * @param method the LSP method of the feature (ex: 'textDocument/codeLens').
+     * @return true if an LSP request of the given feature can be sent to the language server and false otherwise.
+     */
+    public synchronized boolean isRequestAllowed(@NotNull String method) {
+        var state = features.get(method);
+        if (state == null || state.openedUntil == 0) {
+            return true;
+        }
+        if (clock.getAsLong() < state.openedUntil || state.trialRequestRunning) {
+            return false;
+        }
+        // Let one request check if the language server has recovered
+        state.trialRequestRunning = true;
+        return true;
+    }
+
+    /**
+     * Records an LSP request of the given feature which has succeeded.
+     *
+     * @param method the LSP method of the feature.
+     */
+    public void recordSuccess(@NotNull String method) {
+        FeatureState state;
+        synchronized (this) {
+            state = features.remove(method);
+        }
+        if (state != null && state.openedUntil != 0) {
+            fireStateChanged();
+        }
+    }
+
+    /**
+     * Records an LSP request of the given feature which has timed out or failed.
+     *
+     * @param method           the LSP method of the feature.
+     * @param failureThreshold the number of failures in a row which disables the feature and 0 to never disable it.
+     */
+    public void recordFailure(@NotNull String method, int failureThreshold) {
+        if (failureThreshold <= 0) {
+            return;
+        }
+        boolean opened;
+        synchronized (this) {
+            var state = features.computeIfAbsent(method, k -> new FeatureState());
+            state.consecutiveFailures++;
+            state.trialRequestRunning = false;
+            if (state.openedUntil == 0 && state.consecutiveFailures < failureThreshold) {
+                return;
+            }
+            opened = state.openedUntil == 0;
+            state.openedUntil = clock.getAsLong() + OPEN_DURATION;
+        }
+        if (opened) {
+            fireStateChanged();
+        }
+    }
+
+    /**
+     * Records an LSP request of the given feature which has been cancelled by the client.
+     *
+     * @param method the LSP method of the feature.
+     */
+    public synchronized void recordCancelled(@NotNull String method) {
+        var state = features.get(method);
+        if (state != null) {
+            // The cancelled request cannot tell if the language server has recovered
+            state.trialRequestRunning = false;
+        }
+    }
+
+    /**
+     * Enables all features (ex: when the language server is restarted).
+     */
+    public void reset() {
+        boolean hadOpenedFeatures;
+        synchronized (this) {
+            hadOpenedFeatures = features.values().stream().anyMatch(state -> state.openedUntil != 0);
+            features.clear();
+        }
+        if (hadOpenedFeatures) {
+            fireStateChanged();
+        }
+    }
+
+    /**
+     * Returns the state of the circuit breaker (ex: 'disabled: textDocument/codeLens') and null if no feature is disabled.
+     *
+     * @return the state of the circuit breaker and null if no feature is disabled.
+     */
+    public synchronized @Nullable String getState() {
+        String disabledFeatures = features.entrySet()
+                .stream()
+                .filter(entry -> entry.getValue().openedUntil != 0)
+                .map(Map.Entry::getKey)
+                .sorted()
+                .collect(Collectors.joining(", "));
+        return disabledFeatures.isEmpty() ? null : "disabled: " + disabledFeatures;
+    }
+}
@@ -0,0 +1,76 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.lsp4ij.internal;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Interns the strings of the LSP model objects stored in long-lived caches (ex: diagnostic messages, sources, codes,
+ * file URIs).
+ *
+ * <p>
+ * Each LSP response is deserialized with new string instances, although the diagnostic messages, sources and codes,
+ * or the file URIs repeat heavily (ex: thousands of 'The import is never used' diagnostics reported by the 'Java'
+ * source). The strings are interned in a weak interner, so an interned string is garbage collected when no cache
+ * uses it.
+ * </p>
+ */
+@ApiStatus.Internal
+public final class LSPModelInterner {
+
+    private static final Interner<String> STRINGS = Interners.newWeakInterner();
+
+    private LSPModelInterner() {
+        // this class shouldn't be instantiated
+    }
+
+    /**
+     * Returns the canonical instance of the given string.
+     *
+     * @param value the string.
+     * @return the canonical instance of the given string.
+     */
+    public static @Nullable String intern(@Nullable String value) {
+        return value != null ? STRINGS.intern(value) : null;
+    }
+
+    /**
+     * Returns the given diagnostic code with the canonical instance of the string code.
+     *
+     * @param code the diagnostic code.
+     * @return the given diagnostic code with the canonical instance of the string code.
+     */
+    public static @Nullable Either<String, Integer> intern(@Nullable Either<String, Integer> code) {
+        if (code == null || !code.isLeft() || code.getLeft() == null) {
+            return code;
+        }
+        return Either.forLeft(intern(code.getLeft()));
+    }
+
+    /**
+     * Replaces the message, the source and the code of the given diagnostic with their canonical instance.
+     *
+     * @param diagnostic the diagnostic.
+     */
+    public static void intern(@NotNull Diagnostic diagnostic) {
+        if (diagnostic.getMessage() != null) {
+            diagnostic.setMessage(intern(diagnostic.getMessage()));
+        }
+        diagnostic.setSource(intern(diagnostic.getSource()));
+        diagnostic.setCode(intern(diagnostic.getCode()));
+    }
+}
@@ -25,7 +25,7 @@ import org.jetbrains.annotations.Nullable;
 
 
 /**
- * Initializes the Telemetry service once the project is opened
+ * Initializes the Telemetry service and pre-warms language servers once the project is opened
  */
 public class LSPPostStartupActivity implements ProjectActivity, DumbAware {
 
@@ -37,6 +37,9 @@ public class LSPPostStartupActivity implements ProjectActivity, DumbAware {
             // we register a LanguageServerDefinitionListener to the LanguageServersRegistry,
             // to report telemetry events for added/removed LanguageServerDefinition.
             TelemetryManager.instance().initialize();
+
+            // Start the language servers which opt in the pre-warm mode.
+            LanguageServerPreWarmer.preWarm(project);
         }
         return null;
     }
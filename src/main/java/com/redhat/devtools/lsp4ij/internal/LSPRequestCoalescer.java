@@ -0,0 +1,155 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package com.redhat.devtools.lsp4ij.internal;
+
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.fileEditor.FileDocumentManager;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.redhat.devtools.lsp4ij.client.CoalesceByKey;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * In-flight LSP requests table of a language server, used to share one server round-trip between identical
+ * concurrent requests.
+ *
+ * <p>
+ * Hover, document highlight, definition, signature help, etc. are often requested several times for the same
+ * document version and position by different IntelliJ extension points (highlight usages, quick documentation,
+ * ctrl-hover navigation, ...). A request is identified by its LSP method, its parameters (normalized with their
+ * string representation) and the modification stamp of the document. A request is shared only while it is in
+ * flight: once the response is received, the next identical request is sent to the language server.
+ * </p>
+ *
+ * <p>
+ * Each consumer receives its own future. Cancelling it releases the consumer, and the shared LSP request is
+ * cancelled only when all its consumers have been cancelled.
+ * </p>
+ */
+@ApiStatus.Internal
+public class LSPRequestCoalescer {
+
+    private static class SharedRequest<T> {
+
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+        private int consumers;
+    }
+
+    private final Map<CoalesceByKey, SharedRequest<?>> inFlightRequests = new HashMap<>();
+
+    /**
+     * Returns a future which completes with the response of the in-flight LSP request identified by the given method,
+     * parameters and file, or with the response of the LSP request created by the given supplier when there is no
+     * such in-flight request.
+     *
+     * @param method  the LSP method (ex: 'textDocument/hover').
+     * @param params  the LSP request parameters.
+     * @param file    the file of the LSP request and null otherwise.
+     * @param request the supplier which sends the LSP request to the language server.
+     * @param <T>     the LSP response type.
+     * @return a future, owned by the caller, which completes with the LSP response.
+     */
+    public <T> @NotNull CompletableFuture<T> execute(@NotNull String method,
+                                                     @NotNull Object params,
+                                                     @Nullable VirtualFile file,
+                                                     @NotNull Supplier<CompletableFuture<T>> request) {
+        var key = new CoalesceByKey(method, params.toString(), getModificationStamp(file));
+        SharedRequest<T> sharedRequest;
+        boolean sendRequest = false;
+        synchronized (this) {
+            @SuppressWarnings("unchecked")
+            SharedRequest<T> inFlightRequest = (SharedRequest<T>) inFlightRequests.get(key);
+            if (inFlightRequest == null || inFlightRequest.future.isDone()) {
+                inFlightRequest = new SharedRequest<>();
+                inFlightRequests.put(key, inFlightRequest);
+                sendRequest = true;
+            }
+            inFlightRequest.consumers++;
+            sharedRequest = inFlightRequest;
+        }
+
+        if (sendRequest) {
+            // Send the LSP request outside the lock
+            sendRequest(key, sharedRequest, request);
+        }
+
+        CompletableFuture<T> consumer = new CompletableFuture<>();
+        sharedRequest.future.whenComplete((result, error) -> {
+            if (error != null) {
+                consumer.completeExceptionally(error);
+            } else {
+                consumer.complete(result);
+            }
+        });
+        var released = new AtomicBoolean();
+        consumer.whenComplete((result, error) -> {
+            if (consumer.isCancelled() && released.compareAndSet(false, true)) {
+                release(key, sharedRequest);
+            }
+        });
+        return consumer;
+    }
+
+    private <T> void sendRequest(@NotNull CoalesceByKey key,
+                                 @NotNull SharedRequest<T> sharedRequest,
+                                 @NotNull Supplier<CompletableFuture<T>> request) {
+        CompletableFuture<T> sharedFuture = sharedRequest.future;
+        sharedFuture.whenComplete((result, error) -> {
+            synchronized (this) {
+                inFlightRequests.remove(key, sharedRequest);
+            }
+        });
+        try {
+            CompletableFuture<T> lspFuture = request.get();
+            lspFuture.whenComplete((result, error) -> {
+                if (error != null) {
+                    sharedFuture.completeExceptionally(error);
+                } else {
+                    sharedFuture.complete(result);
+                }
+            });
+            // Cancel the LSP request (and send '$/cancelRequest') when all consumers are cancelled
+            CancellationSupport.forwardCancellation(sharedFuture, lspFuture);
+        } catch (Throwable e) {
+            sharedFuture.completeExceptionally(e);
+        }
+    }
+
+    private void release(@NotNull CoalesceByKey key, @NotNull SharedRequest<?> sharedRequest) {
+        synchronized (this) {
+            sharedRequest.consumers--;
+            if (sharedRequest.consumers > 0 || sharedRequest.future.isDone()) {
+                // The LSP request is still used by another consumer
+                return;
+            }
+            inFlightRequests.remove(key, sharedRequest);
+        }
+        CancellationSupport.cancel(sharedRequest.future);
+    }
+
+    private static long getModificationStamp(@Nullable VirtualFile file) {
+        if (file == null) {
+            return -1;
+        }
+        Document document = FileDocumentManager.getInstance().getCachedDocument(file);
+        return document != null ? document.getModificationStamp() : file.getModificationStamp();
+    }
+}
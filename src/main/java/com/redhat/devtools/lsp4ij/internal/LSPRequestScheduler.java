@@ -0,0 +1,337 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package com.redhat.devtools.lsp4ij.internal;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Client-side scheduler of the LSP requests sent to a language server.
+ *
+ * <p>
+ * All features share the same connection with the language server, so a burst of background requests (ex: code lens
+ * for all opened files after a 'workspace/codeLens/refresh', pull diagnostics) could be queued by the language server
+ * ahead of the completion or the hover the user is waiting for. The scheduler classifies the LSP requests with a
+ * {@link Priority}:
+ * </p>
+ *
+ * <ul>
+ *     <li>{@link Priority#INTERACTIVE} requests are sent immediately.</li>
+ *     <li>{@link Priority#VISIBLE_EDITOR} and {@link Priority#BACKGROUND} requests are sent when the number of non
+ *     interactive running requests is lower than {@link #MAX_CONCURRENT_REQUESTS}, the visible editor requests first.</li>
+ *     <li>{@link Priority#BACKGROUND} requests are capped to {@link #MAX_CONCURRENT_BACKGROUND_REQUESTS} and are held
+ *     while an interactive request is running (for at most {@link #INTERACTIVE_PAUSE_DELAY} ms).</li>
+ * </ul>
+ *
+ * <p>
+ * A queued request which is cancelled (ex: the feature support is cancelled because the user is typing) is removed
+ * from the queue and is never sent to the language server. A queued request can be promoted to a higher priority
+ * (ex: a prefetched completion item which is selected by the user) with {@link #promote(CompletableFuture, Priority)}.
+ * </p>
+ */
+@ApiStatus.Internal
+public class LSPRequestScheduler {
+
+    /**
+     * The priority of an LSP request.
+     */
+    public enum Priority {
+        /**
+         * Requests the user is waiting for (ex: completion, hover, signature help).
+         */
+        INTERACTIVE,
+        /**
+         * Requests which update an editor visible by the user (ex: semantic tokens, inlay hints, folding).
+         */
+        VISIBLE_EDITOR,
+        /**
+         * Requests which can be delayed (ex: code lens, pull diagnostics).
+         */
+        BACKGROUND
+    }
+
+    static final int MAX_CONCURRENT_REQUESTS = 4;
+    static final int MAX_CONCURRENT_BACKGROUND_REQUESTS = 2;
+    static final long INTERACTIVE_PAUSE_DELAY = 500L;
+
+    private static class PendingRequest<T> {
+
+        // The priority can be raised while the request is queued (see promote)
+        private @NotNull Priority priority;
+        private final long sequence;
+        private final @NotNull Supplier<CompletableFuture<T>> request;
+        private final @NotNull CompletableFuture<T> future = new CompletableFuture<>();
+
+        private PendingRequest(@NotNull Priority priority, long sequence, @NotNull Supplier<CompletableFuture<T>> request) {
+            this.priority = priority;
+            this.sequence = sequence;
+            this.request = request;
+        }
+    }
+
+    private final PriorityQueue<PendingRequest<?>> pendingRequests = new PriorityQueue<>((r1, r2) -> {
+        int result = r1.priority.compareTo(r2.priority);
+        return result != 0 ? result : Long.compare(r1.sequence, r2.sequence);
+    });
+
+    private long sequence;
+    private int runningInteractiveRequests;
+    private int runningRequests;
+    private int runningBackgroundRequests;
+    // The time (in milliseconds) when the last interactive request has been sent
+    private long lastInteractiveRequestTime;
+    // true if a dispatch is scheduled to resume the background requests paused by an interactive request
+    private boolean resumeScheduled;
+    private volatile @Nullable Runnable queueStateChangedHandler;
+
+    /**
+     * Sets the handler called when the number of running or queued requests changes (ex: to refresh the queue state
+     * displayed in the LSP console).
+     *
+     * @param queueStateChangedHandler the handler and null to remove it.
+     */
+    public void setQueueStateChangedHandler(@Nullable Runnable queueStateChangedHandler) {
+        this.queueStateChangedHandler = queueStateChangedHandler;
+    }
+
+    private void fireQueueStateChanged() {
+        var handler = queueStateChangedHandler;
+        if (handler != null) {
+            handler.run();
+        }
+    }
+
+    /**
+     * Sends or queues the LSP request created by the given supplier according to the given priority.
+     *
+     * @param priority the priority of the LSP request.
+     * @param request  the supplier which sends the LSP request to the language server.
+     * @param <T>      the LSP response type.
+     * @return the future of the LSP request. Cancelling it cancels the LSP request or removes it from the queue.
+     */
+    public <T> @NotNull CompletableFuture<T> schedule(@NotNull Priority priority,
+                                                      @NotNull Supplier<CompletableFuture<T>> request) {
+        if (priority == Priority.INTERACTIVE) {
+            return sendInteractiveRequest(request);
+        }
+        PendingRequest<T> pendingRequest;
+        synchronized (this) {
+            pendingRequest = new PendingRequest<>(priority, sequence++, request);
+            pendingRequests.add(pendingRequest);
+        }
+        pendingRequest.future.whenComplete((result, error) -> {
+            if (pendingRequest.future.isCancelled()) {
+                // Remove the request from the queue if it has not been sent
+                boolean removed;
+                synchronized (this) {
+                    removed = pendingRequests.remove(pendingRequest);
+                }
+                if (removed) {
+                    fireQueueStateChanged();
+                }
+            }
+        });
+        dispatch();
+        return pendingRequest.future;
+    }
+
+    /**
+     * Raises the priority of the given request if it is queued with a lower priority. A request promoted to
+     * {@link Priority#INTERACTIVE} is sent immediately.
+     *
+     * @param future   the future returned by {@link #schedule(Priority, Supplier)}.
+     * @param priority the new priority of the request.
+     * @return true if the request has been promoted and false otherwise (ex: the request has already been sent).
+     */
+    public boolean promote(@NotNull CompletableFuture<?> future, @NotNull Priority priority) {
+        PendingRequest<?> promotedRequest = null;
+        synchronized (this) {
+            for (var pendingRequest : pendingRequests) {
+                if (pendingRequest.future == future) {
+                    if (priority.compareTo(pendingRequest.priority) < 0) {
+                        promotedRequest = pendingRequest;
+                    }
+                    break;
+                }
+            }
+            if (promotedRequest == null) {
+                return false;
+            }
+            // The request is removed and added again to be sorted with its new priority
+            pendingRequests.remove(promotedRequest);
+            promotedRequest.priority = priority;
+            if (priority != Priority.INTERACTIVE) {
+                pendingRequests.add(promotedRequest);
+            }
+        }
+        if (priority == Priority.INTERACTIVE) {
+            sendInteractiveRequest(promotedRequest);
+        } else {
+            dispatch();
+        }
+        return true;
+    }
+
+    private <T> void sendInteractiveRequest(@NotNull PendingRequest<T> pendingRequest) {
+        var lspFuture = sendInteractiveRequest(pendingRequest.request);
+        lspFuture.whenComplete((result, error) -> {
+            if (error != null) {
+                pendingRequest.future.completeExceptionally(error);
+            } else {
+                pendingRequest.future.complete(result);
+            }
+        });
+        // Cancel the LSP request (and send '$/cancelRequest') when the request future is cancelled
+        CancellationSupport.forwardCancellation(pendingRequest.future, lspFuture);
+    }
+
+    private <T> @NotNull CompletableFuture<T> sendInteractiveRequest(@NotNull Supplier<CompletableFuture<T>> request) {
+        synchronized (this) {
+            runningInteractiveRequests++;
+            lastInteractiveRequestTime = System.currentTimeMillis();
+        }
+        fireQueueStateChanged();
+        CompletableFuture<T> future;
+        try {
+            future = request.get();
+        } catch (Throwable e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        future.whenComplete((result, error) -> {
+            synchronized (this) {
+                runningInteractiveRequests--;
+            }
+            dispatch();
+        });
+        return future;
+    }
+
+    /**
+     * Sends the queued requests which can be sent.
+     */
+    private void dispatch() {
+        List<PendingRequest<?>> requestsToSend = null;
+        boolean backgroundRequestsPaused = false;
+        synchronized (this) {
+            PendingRequest<?> pendingRequest;
+            while ((pendingRequest = pendingRequests.peek()) != null) {
+                if (runningRequests >= MAX_CONCURRENT_REQUESTS) {
+                    break;
+                }
+                if (pendingRequest.priority == Priority.BACKGROUND) {
+                    if (runningBackgroundRequests >= MAX_CONCURRENT_BACKGROUND_REQUESTS) {
+                        break;
+                    }
+                    if (isInteractiveRequestRunning()) {
+                        backgroundRequestsPaused = !resumeScheduled;
+                        resumeScheduled = true;
+                        break;
+                    }
+                    runningBackgroundRequests++;
+                }
+                pendingRequests.poll();
+                runningRequests++;
+                if (requestsToSend == null) {
+                    requestsToSend = new ArrayList<>();
+                }
+                requestsToSend.add(pendingRequest);
+            }
+        }
+        if (backgroundRequestsPaused) {
+            // Resume the background requests even if the interactive request takes a long time
+            CompletableFuture.delayedExecutor(INTERACTIVE_PAUSE_DELAY, TimeUnit.MILLISECONDS)
+                    .execute(() -> {
+                        synchronized (this) {
+                            resumeScheduled = false;
+                        }
+                        dispatch();
+                    });
+        }
+        if (requestsToSend != null) {
+            // Send the LSP requests outside the lock
+            requestsToSend.forEach(this::send);
+        }
+        fireQueueStateChanged();
+    }
+
+    private boolean isInteractiveRequestRunning() {
+        return runningInteractiveRequests > 0
+                && System.currentTimeMillis() - lastInteractiveRequestTime < INTERACTIVE_PAUSE_DELAY;
+    }
+
+    private <T> void send(@NotNull PendingRequest<T> pendingRequest) {
+        CompletableFuture<T> lspFuture;
+        try {
+            lspFuture = pendingRequest.future.isDone() ? CompletableFuture.completedFuture(null) : pendingRequest.request.get();
+        } catch (Throwable e) {
+            lspFuture = CompletableFuture.failedFuture(e);
+        }
+        lspFuture.whenComplete((result, error) -> {
+            synchronized (this) {
+                runningRequests--;
+                if (pendingRequest.priority == Priority.BACKGROUND) {
+                    runningBackgroundRequests--;
+                }
+            }
+            if (error != null) {
+                pendingRequest.future.completeExceptionally(error);
+            } else {
+                pendingRequest.future.complete(result);
+            }
+            dispatch();
+        });
+        // Cancel the LSP request (and send '$/cancelRequest') when the request future is cancelled
+        CancellationSupport.forwardCancellation(pendingRequest.future, lspFuture);
+    }
+
+    /**
+     * Returns the number of queued requests.
+     *
+     * @return the number of queued requests.
+     */
+    public synchronized int getQueuedRequests() {
+        return pendingRequests.size();
+    }
+
+    /**
+     * Returns the number of running requests.
+     *
+     * @return the number of running requests.
+     */
+    public synchronized int getRunningRequests() {
+        return runningRequests + runningInteractiveRequests;
+    }
+
+    /**
+     * Returns the queue state (ex: 'requests: 3 running, 5 queued') and null if there is no running request.
+     *
+     * @return the queue state and null if there is no running request.
+     */
+    public synchronized @Nullable String getQueueState() {
+        int running = runningRequests + runningInteractiveRequests;
+        int queued = pendingRequests.size();
+        if (running == 0 && queued == 0) {
+            return null;
+        }
+        return "requests: " + running + " running, " + queued + " queued";
+    }
+}
@@ -0,0 +1,151 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package com.redhat.devtools.lsp4ij.internal;
+
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.fileTypes.ExactFileNameMatcher;
+import com.intellij.openapi.fileTypes.ExtensionFileNameMatcher;
+import com.intellij.openapi.fileTypes.FileNameMatcher;
+import com.intellij.openapi.fileTypes.FileType;
+import com.intellij.openapi.project.Project;
+import com.intellij.psi.search.FileTypeIndex;
+import com.intellij.psi.search.FilenameIndex;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import com.redhat.devtools.lsp4ij.LanguageServersRegistry;
+import com.redhat.devtools.lsp4ij.LanguageServiceAccessor;
+import com.redhat.devtools.lsp4ij.server.definition.LanguageServerDefinition;
+import com.redhat.devtools.lsp4ij.server.definition.LanguageServerFileAssociation;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+/**
+ * Starts the language servers which opt in the pre-warm mode (see {@link LanguageServerDefinition#isPreWarm()})
+ * when the project is opened, if the project contains some files mapped to the language server.
+ *
+ * <p>
+ * Without pre-warm, a language server is started lazily by the first opened file which matches it, and the start pipeline
+ * (process spawn, 'initialize', 'initialized') runs before any LSP feature can answer.
+ * </p>
+ */
+public class LanguageServerPreWarmer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LanguageServerPreWarmer.class);
+
+    private LanguageServerPreWarmer() {
+
+    }
+
+    /**
+     * Start, once the project indexes are ready, the enabled language servers which opt in the pre-warm mode
+     * and which are mapped to some files of the given project.
+     *
+     * @param project the project.
+     */
+    public static void preWarm(@NotNull Project project) {
+        List<LanguageServerDefinition> serverDefinitions = LanguageServersRegistry.getInstance().getServerDefinitions()
+                .stream()
+                .filter(LanguageServerDefinition::isPreWarm)
+                .toList();
+        if (serverDefinitions.isEmpty()) {
+            return;
+        }
+        for (var serverDefinition : serverDefinitions) {
+            // The file type / file name indexes are used to check if the project contains files mapped to the language server,
+            // the check is done in a non-blocking read action in smart mode, outside the EDT.
+            ReadAction.nonBlocking(() -> serverDefinition.isEnabled(project) && hasMappedFiles(serverDefinition, project))
+                    .inSmartMode(project)
+                    .expireWith(project)
+                    .submit(AppExecutorUtil.getAppExecutorService())
+                    .onSuccess(hasMappedFiles -> {
+                        if (hasMappedFiles) {
+                            startIfNeeded(serverDefinition, project);
+                        }
+                    })
+                    .onError(e -> LOGGER.warn("Error while pre-warming the language server '{}'.", serverDefinition.getDisplayName(), e));
+        }
+    }
+
+    /**
+     * Starts the given language server if no language server wrapper exists for it in the given project.
+     *
+     * <p>
+     * A language server which has already a wrapper (ex: it is starting because the user opened a file,
+     * or it has been stopped by the user) must not be restarted by the pre-warm.
+     * </p>
+     *
+     * @param serverDefinition the language server definition.
+     * @param project          the project.
+     * @return true if the language server has been started by the pre-warm and false otherwise.
+     */
+    static boolean startIfNeeded(@NotNull LanguageServerDefinition serverDefinition,
+                                 @NotNull Project project) {
+        if (project.isDisposed()) {
+            return false;
+        }
+        var accessor = LanguageServiceAccessor.getInstance(project);
+        for (var ls : accessor.getStartedServers()) {
+            if (serverDefinition.equals(ls.getServerDefinition())) {
+                return false;
+            }
+        }
+        accessor.findAndStartLanguageServerIfNeeded(serverDefinition, true, project);
+        return true;
+    }
+
+    static boolean hasMappedFiles(@NotNull LanguageServerDefinition serverDefinition,
+                                  @NotNull Project project) {
+        var scope = GlobalSearchScope.projectScope(project);
+        for (var association : LanguageServersRegistry.getInstance().findLanguageServerDefinitionFor(serverDefinition.getId())) {
+            FileType fileType = getFileType(association);
+            if (fileType != null && FileTypeIndex.containsFileOfType(fileType, scope)) {
+                return true;
+            }
+            var fileNameMatchers = association.getFileNameMatchers();
+            if (fileNameMatchers != null) {
+                for (var matcher : fileNameMatchers) {
+                    if (hasFiles(matcher, project, scope)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private static @Nullable FileType getFileType(@NotNull LanguageServerFileAssociation association) {
+        if (association.getFileType() != null) {
+            return association.getFileType();
+        }
+        var language = association.getLanguage();
+        return language != null ? language.getAssociatedFileType() : null;
+    }
+
+    private static boolean hasFiles(@NotNull FileNameMatcher matcher,
+                                    @NotNull Project project,
+                                    @NotNull GlobalSearchScope scope) {
+        if (matcher instanceof ExtensionFileNameMatcher extensionMatcher) {
+            return !FilenameIndex.getAllFilesByExt(project, extensionMatcher.getExtension(), scope).isEmpty();
+        }
+        if (matcher instanceof ExactFileNameMatcher exactMatcher) {
+            return !FilenameIndex.getVirtualFilesByName(exactMatcher.getFileName(), scope).isEmpty();
+        }
+        // Wildcard patterns would require to scan all file names of the project, ignore them.
+        return false;
+    }
+}
@@ -0,0 +1,145 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package com.redhat.devtools.lsp4ij.internal;
+
+import org.eclipse.lsp4j.PositionEncodingKind;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * LSP position encodings, used to translate the LSP character of a position (counted in UTF-8 code units, UTF-16 code
+ * units or UTF-32 code points) to the UTF-16 column of an IntelliJ document.
+ *
+ * @see <a href="https://microsoft.github.io/language-server-protocol/specifications/lsp/3.17/specification/#positionEncodingKind">PositionEncodingKind</a>
+ */
+@ApiStatus.Internal
+public enum PositionEncoding {
+
+    UTF8(PositionEncodingKind.UTF8),
+    UTF16(PositionEncodingKind.UTF16),
+    UTF32(PositionEncodingKind.UTF32);
+
+    private final @NotNull String kind;
+
+    PositionEncoding(@NotNull String kind) {
+        this.kind = kind;
+    }
+
+    /**
+     * Returns the LSP position encoding kind (ex: 'utf-8').
+     *
+     * @return the LSP position encoding kind (ex: 'utf-8').
+     */
+    public @NotNull String getKind() {
+        return kind;
+    }
+
+    /**
+     * Returns the position encoding of the given LSP position encoding kind and UTF-16 if the kind is null or unknown
+     * (UTF-16 is the default position encoding of the LSP specification).
+     *
+     * @param kind the LSP position encoding kind.
+     * @return the position encoding of the given LSP position encoding kind.
+     */
+    public static @NotNull PositionEncoding get(@Nullable String kind) {
+        if (PositionEncodingKind.UTF8.equals(kind)) {
+            return UTF8;
+        }
+        if (PositionEncodingKind.UTF32.equals(kind)) {
+            return UTF32;
+        }
+        return UTF16;
+    }
+
+    /**
+     * Returns the offset in the given text of the given LSP character of a line.
+     *
+     * <p>
+     * When the character falls in the middle of a code point, the offset of the code point is returned.
+     * </p>
+     *
+     * @param text      the document text.
+     * @param lineStart the line start offset.
+     * @param lineEnd   the line end offset (without the line separator).
+     * @param character the LSP character, counted in the code units of this encoding.
+     * @return the offset in the given text, between lineStart and lineEnd.
+     */
+    public int toOffset(@NotNull CharSequence text, int lineStart, int lineEnd, int character) {
+        if (this == UTF16) {
+            return Math.max(Math.min(lineStart + character, lineEnd), lineStart);
+        }
+        int offset = lineStart;
+        int units = 0;
+        while (offset < lineEnd) {
+            char c = text.charAt(offset);
+            int charCount = 1;
+            int codePointUnits;
+            if (Character.isHighSurrogate(c) && offset + 1 < lineEnd && Character.isLowSurrogate(text.charAt(offset + 1))) {
+                charCount = 2;
+                codePointUnits = this == UTF8 ? 4 : 1;
+            } else {
+                codePointUnits = this == UTF8 ? getUtf8Length(c) : 1;
+            }
+            if (units + codePointUnits > character) {
+                break;
+            }
+            units += codePointUnits;
+            offset += charCount;
+        }
+        return offset;
+    }
+
+    /**
+     * Returns the LSP character, counted in the code units of this encoding, of the given offset.
+     *
+     * @param text      the document text.
+     * @param lineStart the start offset of the line which contains the offset.
+     * @param offset    the offset.
+     * @return the LSP character, counted in the code units of this encoding, of the given offset.
+     */
+    public int toCharacter(@NotNull CharSequence text, int lineStart, int offset) {
+        if (this == UTF16) {
+            return offset - lineStart;
+        }
+        int units = 0;
+        int i = lineStart;
+        while (i < offset) {
+            char c = text.charAt(i);
+            if (Character.isHighSurrogate(c) && i + 1 < text.length() && Character.isLowSurrogate(text.charAt(i + 1))) {
+                if (i + 1 == offset) {
+                    // The offset is in the middle of a surrogate pair, use the offset of the code point
+                    break;
+                }
+                units += this == UTF8 ? 4 : 1;
+                i += 2;
+            } else {
+                units += this == UTF8 ? getUtf8Length(c) : 1;
+                i++;
+            }
+        }
+        return units;
+    }
+
+    private static int getUtf8Length(char c) {
+        if (c < 0x80) {
+            return 1;
+        }
+        if (c < 0x800) {
+            return 2;
+        }
+        // Other BMP characters (unpaired surrogates are encoded as the replacement character which takes 3 bytes)
+        return 3;
+    }
+}
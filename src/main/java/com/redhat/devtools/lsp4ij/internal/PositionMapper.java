@@ -0,0 +1,370 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package com.redhat.devtools.lsp4ij.internal;
+
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.util.TextRange;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Snapshot of the line start offsets of a document used to convert LSP positions to offsets (and vice versa)
+ * on hot paths (semantic tokens, diagnostics, folding ranges, inlay hints, text edits).
+ *
+ * <p>
+ * The snapshot is tied to the document modification stamp and is shared through the document user data,
+ * so it is computed only once per document version. The conversions use the same rules as
+ * {@link com.redhat.devtools.lsp4ij.LSPIJUtils#toOffset(int, int, Document)} and
+ * {@link com.redhat.devtools.lsp4ij.LSPIJUtils#toPosition(int, Document)}, but they operate on ints without
+ * accessing the document.
+ * </p>
+ *
+ * <p>
+ * When the language server uses the UTF-8 or UTF-32 {@link PositionEncoding position encoding}, the LSP characters are
+ * translated to UTF-16 columns. The lines which contain only ASCII characters (computed once per snapshot) skip the
+ * translation since the column is the same for all encodings.
+ * </p>
+ *
+ * <p>
+ * The snapshot must be used under a read action (or in a write action before the document is modified) to
+ * be consistent with the document content.
+ * </p>
+ */
+@ApiStatus.Internal
+public final class PositionMapper {
+
+    private static final Key<PositionMapper> POSITION_MAPPER_KEY = Key.create("lsp.position.mapper");
+
+    private final long modificationStamp;
+    private final int lineCount;
+    private final int textLength;
+    // Start offset of each line, the line separator of an IntelliJ document is always '\n'
+    private final int[] lineStarts;
+    private final @NotNull CharSequence text;
+    // Lines which contain non ASCII characters, computed the first time a position with UTF-8 / UTF-32 encoding is converted
+    private volatile BitSet nonAsciiLines;
+
+    PositionMapper(@NotNull Document document) {
+        this.modificationStamp = document.getModificationStamp();
+        this.textLength = document.getTextLength();
+        this.lineCount = document.getLineCount();
+        this.text = document.getImmutableCharSequence();
+        this.lineStarts = new int[Math.max(lineCount, 1)];
+        for (int line = 1; line < lineCount; line++) {
+            lineStarts[line] = document.getLineStartOffset(line);
+        }
+    }
+
+    /**
+     * Returns the position mapper of the given document for its current modification stamp.
+     *
+     * @param document the document.
+     * @return the position mapper of the given document for its current modification stamp.
+     */
+    public static @NotNull PositionMapper getInstance(@NotNull Document document) {
+        PositionMapper mapper = document.getUserData(POSITION_MAPPER_KEY);
+        if (mapper != null && mapper.modificationStamp == document.getModificationStamp()) {
+            return mapper;
+        }
+        mapper = new PositionMapper(document);
+        document.putUserData(POSITION_MAPPER_KEY, mapper);
+        return mapper;
+    }
+
+    /**
+     * Returns the document modification stamp of this snapshot.
+     *
+     * @return the document modification stamp of this snapshot.
+     */
+    public long getModificationStamp() {
+        return modificationStamp;
+    }
+
+    public int getLineCount() {
+        return lineCount;
+    }
+
+    public int getTextLength() {
+        return textLength;
+    }
+
+    /**
+     * Returns the start offset of the given line.
+     *
+     * @param line the line.
+     * @return the start offset of the given line.
+     * @throws IndexOutOfBoundsException if the line is out of bounds.
+     */
+    public int getLineStartOffset(int line) {
+        return lineStarts[line];
+    }
+
+    /**
+     * Returns the end offset (without the line separator) of the given line.
+     *
+     * @param line the line.
+     * @return the end offset (without the line separator) of the given line.
+     * @throws IndexOutOfBoundsException if the line is out of bounds.
+     */
+    public int getLineEndOffset(int line) {
+        if (line < 0 || line >= lineStarts.length) {
+            throw new IndexOutOfBoundsException("Wrong line: " + line + ". Available lines count: " + lineCount);
+        }
+        return line + 1 < lineCount ? lineStarts[line + 1] - 1 : textLength;
+    }
+
+    /**
+     * Returns the line number of the given offset.
+     *
+     * @param offset the offset, adjusted to the document bounds.
+     * @return the line number of the given offset.
+     */
+    public int getLineNumber(int offset) {
+        offset = Math.max(Math.min(offset, textLength), 0);
+        // Find the last line which starts before or at the offset
+        int low = 0;
+        int high = lineStarts.length - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (lineStarts[mid] <= offset) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the offset of the given LSP position.
+     *
+     * @param position the LSP position.
+     * @return the offset of the given LSP position.
+     */
+    public int toOffset(@NotNull Position position) {
+        return toOffset(position.getLine(), position.getCharacter());
+    }
+
+    /**
+     * Returns the offset of the given LSP line / character.
+     *
+     * @param line      the LSP line.
+     * @param character the LSP character.
+     * @return the offset of the given LSP line / character.
+     * @see com.redhat.devtools.lsp4ij.LSPIJUtils#toOffset(int, int, Document)
+     */
+    public int toOffset(int line, int character) {
+        if (line >= lineCount) {
+            // The line number is greater than the number of lines in a document, it defaults back to the number of lines in the document.
+            return textLength;
+        } else if (line < 0) {
+            // The line number is negative, it defaults to 0.
+            return 0;
+        }
+        int lineOffset = lineStarts[line];
+        int nextLineOffset = getLineEndOffset(line);
+        if (character == Integer.MAX_VALUE) {
+            return nextLineOffset;
+        }
+        return Math.max(Math.min(lineOffset + character, nextLineOffset), lineOffset);
+    }
+
+    /**
+     * Returns the offset of the given LSP position expressed with the given position encoding.
+     *
+     * @param position the LSP position.
+     * @param encoding the position encoding used by the language server.
+     * @return the offset of the given LSP position.
+     */
+    public int toOffset(@NotNull Position position, @NotNull PositionEncoding encoding) {
+        return toOffset(position.getLine(), position.getCharacter(), encoding);
+    }
+
+    /**
+     * Returns the offset of the given LSP line / character expressed with the given position encoding.
+     *
+     * @param line      the LSP line.
+     * @param character the LSP character, counted in the code units of the given encoding.
+     * @param encoding  the position encoding used by the language server.
+     * @return the offset of the given LSP line / character.
+     */
+    public int toOffset(int line, int character, @NotNull PositionEncoding encoding) {
+        if (encoding == PositionEncoding.UTF16 || line < 0 || line >= lineCount
+                || character == Integer.MAX_VALUE || !isNonAsciiLine(line)) {
+            // ASCII fast path: the character is the same for all encodings
+            return toOffset(line, character);
+        }
+        return encoding.toOffset(text, lineStarts[line], getLineEndOffset(line), character);
+    }
+
+    /**
+     * Returns the LSP position, expressed with the given position encoding, of the given offset.
+     *
+     * @param offset   the offset.
+     * @param encoding the position encoding used by the language server.
+     * @return the LSP position of the given offset.
+     */
+    public @NotNull Position toPosition(int offset, @NotNull PositionEncoding encoding) {
+        offset = Math.max(Math.min(offset, textLength), 0);
+        int line = getLineNumber(offset);
+        int lineStart = lineStarts[line];
+        if (encoding == PositionEncoding.UTF16 || !isNonAsciiLine(line)) {
+            return new Position(line, offset - lineStart);
+        }
+        return new Position(line, encoding.toCharacter(text, lineStart, offset));
+    }
+
+    /**
+     * Returns a new cursor which converts the LSP characters, expressed with the given position encoding, of positions
+     * sorted by line and character.
+     *
+     * @param encoding the position encoding used by the language server.
+     * @return a new cursor.
+     */
+    public @NotNull Cursor newCursor(@NotNull PositionEncoding encoding) {
+        return new Cursor(encoding);
+    }
+
+    /**
+     * Converts the LSP characters of sorted positions (ex : semantic tokens) expressed with a UTF-8 / UTF-32 position
+     * encoding to offsets by walking each line once from the last converted position instead of rescanning the line
+     * from its start for each position.
+     */
+    public final class Cursor {
+
+        private final @NotNull PositionEncoding encoding;
+        private int line = -1;
+        // Offset (at a code point boundary) and LSP character of the last converted position
+        private int offset;
+        private int character;
+
+        private Cursor(@NotNull PositionEncoding encoding) {
+            this.encoding = encoding;
+        }
+
+        /**
+         * Returns the offset of the given LSP line / character expressed with the position encoding of this cursor.
+         *
+         * @param line      the LSP line.
+         * @param character the LSP character, counted in the code units of the position encoding.
+         * @return the offset of the given LSP line / character.
+         */
+        public int toOffset(int line, int character) {
+            if (encoding == PositionEncoding.UTF16 || line < 0 || line >= lineCount
+                    || character == Integer.MAX_VALUE || !isNonAsciiLine(line)) {
+                // ASCII fast path: the character is the same for all encodings
+                return PositionMapper.this.toOffset(line, character);
+            }
+            if (line != this.line || character < this.character) {
+                // New line or position before the last converted position, walk the line from its start
+                this.line = line;
+                this.offset = lineStarts[line];
+                this.character = 0;
+            }
+            int newOffset = encoding.toOffset(text, offset, getLineEndOffset(line), character - this.character);
+            this.character += encoding.toCharacter(text, offset, newOffset);
+            this.offset = newOffset;
+            return newOffset;
+        }
+    }
+
+    boolean isNonAsciiLine(int line) {
+        BitSet lines = nonAsciiLines;
+        if (lines == null) {
+            lines = computeNonAsciiLines();
+            nonAsciiLines = lines;
+        }
+        return lines.get(line);
+    }
+
+    private @NotNull BitSet computeNonAsciiLines() {
+        BitSet lines = new BitSet(lineCount);
+        int line = 0;
+        for (int i = 0; i < textLength; i++) {
+            char c = text.charAt(i);
+            if (c == '\n') {
+                line++;
+            } else if (c >= 0x80) {
+                lines.set(line);
+                // Skip to the next line
+                while (i + 1 < textLength && text.charAt(i + 1) != '\n') {
+                    i++;
+                }
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * Returns the LSP character (relative to its line) of the given offset.
+     *
+     * @param offset the offset, adjusted to the document bounds.
+     * @return the LSP character (relative to its line) of the given offset.
+     */
+    public int toCharacter(int offset) {
+        offset = Math.max(Math.min(offset, textLength), 0);
+        return offset - lineStarts[getLineNumber(offset)];
+    }
+
+    /**
+     * Returns the LSP position of the given offset.
+     *
+     * @param offset the offset.
+     * @return the LSP position of the given offset.
+     */
+    public @NotNull Position toPosition(int offset) {
+        offset = Math.max(Math.min(offset, textLength), 0);
+        int line = getLineNumber(offset);
+        return new Position(line, offset - lineStarts[line]);
+    }
+
+    /**
+     * Returns the IJ text range of the given LSP range and null if the range is invalid.
+     *
+     * @param range the LSP range.
+     * @return the IJ text range of the given LSP range and null if the range is invalid.
+     */
+    public @Nullable TextRange toTextRange(@NotNull Range range) {
+        int start = toOffset(range.getStart());
+        int end = toOffset(range.getEnd());
+        if (start > end) {
+            // Language server reports invalid range, ignore it.
+            return null;
+        }
+        return new TextRange(start, end);
+    }
+
+    /**
+     * Converts the given LSP ranges to offsets in one pass.
+     *
+     * @param ranges the LSP ranges.
+     * @return an array which contains the start offset (at 2 * i) and the end offset (at 2 * i + 1) of the range i.
+     */
+    public int[] toOffsets(@NotNull List<? extends Range> ranges) {
+        int[] offsets = new int[ranges.size() * 2];
+        int i = 0;
+        for (Range range : ranges) {
+            offsets[i++] = toOffset(range.getStart());
+            offsets[i++] = toOffset(range.getEnd());
+        }
+        return offsets;
+    }
+}
@@ -15,6 +15,7 @@ package com.redhat.devtools.lsp4ij.internal.capabilities;
 import org.eclipse.lsp4j.*;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -24,21 +25,33 @@ import java.util.List;
 public class ClientCapabilitiesFactory {
 
     public static ClientCapabilities create(Object experimental) {
+        return create(experimental, List.of(PositionEncodingKind.UTF16));
+    }
+
+    public static ClientCapabilities create(Object experimental, @NotNull List<String> positionEncodings) {
         ClientCapabilities clientCapabilities = new ClientCapabilities(
                 getWorkspaceClientCapabilities(),
                 getTextDocumentClientCapabilities(),
                 getWindowClientCapabilities(),
                 experimental);
-        clientCapabilities.setGeneral(getGeneralClientCapabilities());
+        clientCapabilities.setGeneral(getGeneralClientCapabilities(positionEncodings));
         return clientCapabilities;
     }
 
-    private static GeneralClientCapabilities getGeneralClientCapabilities() {
+    private static GeneralClientCapabilities getGeneralClientCapabilities(@NotNull List<String> positionEncodings) {
         GeneralClientCapabilities generalCapabilities = new GeneralClientCapabilities();
         StaleRequestCapabilities staleRequestCapabilities = new StaleRequestCapabilities();
         staleRequestCapabilities.setCancel(true);
         generalCapabilities.setStaleRequestSupport(staleRequestCapabilities);
-        generalCapabilities.setPositionEncodings(List.of(PositionEncodingKind.UTF16));
+        // Position encodings supported by the client, UTF-16 must always be supported
+        // See https://microsoft.github.io/language-server-protocol/specifications/lsp/3.17/specification/#positionEncodingKind
+        if (positionEncodings.contains(PositionEncodingKind.UTF16)) {
+            generalCapabilities.setPositionEncodings(positionEncodings);
+        } else {
+            List<String> encodings = new ArrayList<>(positionEncodings);
+            encodings.add(PositionEncodingKind.UTF16);
+            generalCapabilities.setPositionEncodings(encodings);
+        }
         return generalCapabilities;
     }
 
@@ -52,6 +52,7 @@ import javax.swing.Icon;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
@@ -163,6 +164,21 @@ public abstract class LanguageServerDefinition implements LanguageServerFactory,
         return lastDocumentDisconnectedTimeout;
     }
 
+    /**
+     * Returns true if the language server must be started when the project is opened and contains files
+     * mapped to the language server (pre-warm mode) and false otherwise.
+     *
+     * <p>
+     * The pre-warm mode is an opt-in for language servers with a long startup (ex: jdtls, metals)
+     * to avoid empty completion, hover, etc. while the server is starting after opening the first file.
+     * </p>
+     *
+     * @return true if the language server must be started when the project is opened and false otherwise.
+     */
+    public boolean isPreWarm() {
+        return false;
+    }
+
     /**
      * Returns true if the language server definition is enabled and false otherwise.
      *
@@ -216,25 +232,61 @@ public abstract class LanguageServerDefinition implements LanguageServerFactory,
     }
 
     /**
-     * Custom RemoteEndpoint that uses integer IDs instead of string IDs for JSON-RPC messages.
+     * Custom RemoteEndpoint that:
+     *
+     * <ul>
+     *     <li>uses integer IDs instead of string IDs for JSON-RPC messages if it is configured.</li>
+     *     <li>applies the timeout and the circuit breaker of the LSP method when the LSP request is sent to the
+     *     language server.</li>
+     * </ul>
      */
-    private static class RemoteEndpointWithIdAsInt extends RemoteEndpoint {
+    private static class LSPRemoteEndpoint extends RemoteEndpoint {
+
+        private static final String INITIALIZE_METHOD = "initialize";
+        private static final String SHUTDOWN_METHOD = "shutdown";
 
+        private final @NotNull LSPClientFeatures clientFeatures;
+        private final boolean useIntAsId;
         private final AtomicInteger nextRequestId = new AtomicInteger();
 
-        public RemoteEndpointWithIdAsInt(MessageConsumer out,
-                                         Endpoint localEndpoint,
-                                         Function<Throwable, ResponseError> exceptionHandler) {
+        public LSPRemoteEndpoint(MessageConsumer out,
+                                 Endpoint localEndpoint,
+                                 Function<Throwable, ResponseError> exceptionHandler,
+                                 @NotNull LSPClientFeatures clientFeatures) {
             super(out, localEndpoint, exceptionHandler);
+            this.clientFeatures = clientFeatures;
+            this.useIntAsId = clientFeatures.isUseIntAsJsonRpcId();
         }
 
-        public RemoteEndpointWithIdAsInt(MessageConsumer out,
-                                         Endpoint localEndpoint) {
+        public LSPRemoteEndpoint(MessageConsumer out,
+                                 Endpoint localEndpoint,
+                                 @NotNull LSPClientFeatures clientFeatures) {
             super(out, localEndpoint);
+            this.clientFeatures = clientFeatures;
+            this.useIntAsId = clientFeatures.isUseIntAsJsonRpcId();
+        }
+
+        @Override
+        public CompletableFuture<Object> request(String method, Object parameter) {
+            if (INITIALIZE_METHOD.equals(method) || SHUTDOWN_METHOD.equals(method)) {
+                // The lifecycle requests are never cancelled
+                return super.request(method, parameter);
+            }
+            // The circuit breaker and the timeout are keyed on the LSP method of the request
+            return clientFeatures.getServerWrapper()
+                    .getFeatureCircuitBreaker()
+                    .send(method,
+                            clientFeatures.getRequestTimeout(method),
+                            clientFeatures.getCircuitBreakerFailureThreshold(),
+                            () -> super.request(method, parameter));
         }
 
         @Override
         protected RequestMessage createRequestMessage(String method, Object parameter) {
+            if (!useIntAsId) {
+                // Use JSON-RPC as String (default behavior of LSP4J)
+                return super.createRequestMessage(method, parameter);
+            }
             RequestMessage requestMessage = new RequestMessage();
             // Use int as JSON-RPC id instead of String (by default from LSP4J)
             requestMessage.setId(nextRequestId.incrementAndGet());
@@ -279,22 +331,16 @@ public abstract class LanguageServerDefinition implements LanguageServerFactory,
 
             @Override
             protected RemoteEndpoint createRemoteEndpoint(MessageJsonHandler jsonHandler) {
-
-                boolean useIntAsId = clientFeatures.isUseIntAsJsonRpcId();
-                if (!useIntAsId) {
-                    // Use JSON-RPC as String (default behavior of LSP4J)
-                    return super.createRemoteEndpoint(jsonHandler);
-                }
-
-                // Override the remote endpoint to use JSON-RPC id as int
+                // Override the remote endpoint to use JSON-RPC id as int (if configured)
+                // and to apply the timeouts and the circuit breaker of the LSP requests
                 MessageConsumer outgoingMessageStream = new StreamMessageConsumer(output, jsonHandler);
                 outgoingMessageStream = wrapMessageConsumer(outgoingMessageStream);
                 Endpoint localEndpoint = ServiceEndpoints.toEndpoint(localServices);
                 RemoteEndpoint remoteEndpoint;
                 if (exceptionHandler == null)
-                    remoteEndpoint = new RemoteEndpointWithIdAsInt(outgoingMessageStream, localEndpoint);
+                    remoteEndpoint = new LSPRemoteEndpoint(outgoingMessageStream, localEndpoint, clientFeatures);
                 else
-                    remoteEndpoint = new RemoteEndpointWithIdAsInt(outgoingMessageStream, localEndpoint, exceptionHandler);
+                    remoteEndpoint = new LSPRemoteEndpoint(outgoingMessageStream, localEndpoint, exceptionHandler, clientFeatures);
                 jsonHandler.setMethodProvider(remoteEndpoint);
                 return remoteEndpoint;
             }
@@ -51,6 +51,11 @@ public class ExtensionLanguageServerDefinition extends LanguageServerDefinition
         super.setEnabled(true, null);
     }
 
+    @Override
+    public boolean isPreWarm() {
+        return extension.preWarm;
+    }
+
     @Override
     public @NotNull StreamConnectionProvider createConnectionProvider(@NotNull Project project) {
         try {
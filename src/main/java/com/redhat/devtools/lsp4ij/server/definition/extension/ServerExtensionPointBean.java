@@ -127,6 +127,13 @@ public class ServerExtensionPointBean extends BaseKeyedLazyInstance<LanguageServ
     @Attribute("lastDocumentDisconnectedTimeout")
     public Integer lastDocumentDisconnectedTimeout;
 
+    /**
+     * true if the language server must be started when the project is opened and contains files
+     * mapped to the language server (pre-warm mode) and false otherwise.
+     */
+    @Attribute("preWarm")
+    public boolean preWarm;
+
     @Override
     protected @Nullable String getImplementationClassName() {
         return factoryClass;
@@ -18,6 +18,9 @@ import com.redhat.devtools.lsp4ij.client.features.LSPFormattingFeature.Formattin
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Client-side settings for a user-defined language server configuration.
  */
@@ -204,6 +207,18 @@ public class ClientConfigurationSettings {
          * Whether or not to use integer IDs instead of string IDs for JSON-RPC messages. Defaults to false.
          */
         public boolean useIntegerIds = false;
+        /**
+         * The file where the JSON-RPC messages exchanged with the language server are recorded. Defaults to none.
+         */
+        public @Nullable String recordingFile = null;
+        /**
+         * The timeout (in milliseconds) of the LSP requests, indexed by LSP method (ex: 'textDocument/codeLens'). Defaults to none.
+         */
+        public @NotNull Map<String, Long> requestTimeouts = new HashMap<>();
+        /**
+         * The number of timeouts or errors in a row which temporarily disables an LSP method, 0 to never disable it. Defaults to 0.
+         */
+        public int circuitBreakerFailureThreshold = 0;
     }
 
     /**
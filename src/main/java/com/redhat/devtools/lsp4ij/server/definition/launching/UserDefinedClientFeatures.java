@@ -16,10 +16,13 @@ package com.redhat.devtools.lsp4ij.server.definition.launching;
 import com.intellij.psi.PsiFile;
 import com.redhat.devtools.lsp4ij.client.features.LSPClientFeatures;
 import com.redhat.devtools.lsp4ij.installation.ServerInstaller;
+import com.redhat.devtools.lsp4ij.internal.StringUtils;
 import com.redhat.devtools.lsp4ij.server.definition.ClientConfigurableLanguageServerDefinition;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.nio.file.Path;
+
 /**
  * Adds client-side configuration features.
  */
@@ -77,6 +80,26 @@ public class UserDefinedClientFeatures extends LSPClientFeatures {
         return clientConfiguration != null ? clientConfiguration.jsonRpc.useIntegerIds : super.isUseIntAsJsonRpcId();
     }
 
+    @Override
+    public @Nullable Path getTrafficRecordingFile() {
+        ClientConfigurationSettings clientConfiguration = getClientConfigurationSettings();
+        String recordingFile = clientConfiguration != null ? clientConfiguration.jsonRpc.recordingFile : null;
+        return StringUtils.isNotBlank(recordingFile) ? Path.of(recordingFile) : super.getTrafficRecordingFile();
+    }
+
+    @Override
+    public long getRequestTimeout(@NotNull String method) {
+        ClientConfigurationSettings clientConfiguration = getClientConfigurationSettings();
+        Long timeout = clientConfiguration != null ? clientConfiguration.jsonRpc.requestTimeouts.get(method) : null;
+        return timeout != null ? timeout : super.getRequestTimeout(method);
+    }
+
+    @Override
+    public int getCircuitBreakerFailureThreshold() {
+        ClientConfigurationSettings clientConfiguration = getClientConfigurationSettings();
+        return clientConfiguration != null ? clientConfiguration.jsonRpc.circuitBreakerFailureThreshold : super.getCircuitBreakerFailureThreshold();
+    }
+
     public @Nullable ClientConfigurationSettings getClientConfigurationSettings() {
         ClientConfigurableLanguageServerDefinition serverDefinition = (ClientConfigurableLanguageServerDefinition) getServerDefinition();
         return serverDefinition.getLanguageServerClientConfiguration();
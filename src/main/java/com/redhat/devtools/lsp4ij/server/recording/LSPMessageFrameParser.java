@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.lsp4ij.server.recording;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * Incremental parser of a JSON-RPC stream which uses the LSP base protocol framing:
+ *
+ * <pre>
+ * Content-Length: ...\r\n
+ * \r\n
+ * {"jsonrpc": "2.0", ...}
+ * </pre>
+ * <p>
+ * The bytes of the stream are given with {@link #feed(byte[], int, int)} as they are read/written, and the raw bytes of
+ * the JSON content of each complete message are given to the message handler.
+ */
+class LSPMessageFrameParser {
+
+    private static final String CONTENT_LENGTH_HEADER = "content-length:";
+
+    private final @NotNull Consumer<byte[]> messageHandler;
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    // -1 while the headers are parsed, otherwise the length of the content which is being read
+    private int contentLength = -1;
+    private int headerContentLength = -1;
+
+    LSPMessageFrameParser(@NotNull Consumer<byte[]> messageHandler) {
+        this.messageHandler = messageHandler;
+    }
+
+    /**
+     * Parses the given bytes of the stream.
+     *
+     * @param bytes  the bytes.
+     * @param offset the offset of the first byte to parse.
+     * @param length the number of bytes to parse.
+     */
+    synchronized void feed(byte @NotNull [] bytes, int offset, int length) {
+        int end = offset + length;
+        for (int i = offset; i < end; i++) {
+            if (contentLength >= 0) {
+                // Read the content
+                int count = Math.min(contentLength - buffer.size(), end - i);
+                buffer.write(bytes, i, count);
+                i += count - 1;
+                if (buffer.size() == contentLength) {
+                    byte[] content = buffer.toByteArray();
+                    buffer.reset();
+                    contentLength = -1;
+                    messageHandler.accept(content);
+                }
+            } else {
+                byte b = bytes[i];
+                if (b == '\n') {
+                    // End of a header line
+                    String header = buffer.toString(StandardCharsets.US_ASCII).trim();
+                    buffer.reset();
+                    if (header.isEmpty()) {
+                        // End of the headers
+                        if (headerContentLength >= 0) {
+                            contentLength = headerContentLength;
+                            headerContentLength = -1;
+                            if (contentLength == 0) {
+                                contentLength = -1;
+                                messageHandler.accept(new byte[0]);
+                            }
+                        }
+                    } else if (header.toLowerCase().startsWith(CONTENT_LENGTH_HEADER)) {
+                        try {
+                            headerContentLength = Integer.parseInt(header.substring(CONTENT_LENGTH_HEADER.length()).trim());
+                        } catch (NumberFormatException e) {
+                            headerContentLength = -1;
+                        }
+                    }
+                } else {
+                    buffer.write(b);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.lsp4ij.server.recording;
+
+import com.intellij.openapi.diagnostic.Logger;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.*;
+import java.nio.file.Path;
+
+/**
+ * Records the raw JSON-RPC messages exchanged with a language server in a {@link LSPTrafficRecording} file.
+ * <p>
+ * The recorder wraps the streams of the language server connection: the messages are recorded as they are read from the
+ * server input stream and written in the server output stream, so the raw bytes of the messages are recorded exactly as
+ * they are sent.
+ */
+public class LSPTrafficRecorder implements Closeable {
+
+    private static final Logger LOGGER = Logger.getInstance(LSPTrafficRecorder.class);
+
+    private final @NotNull OutputStream recordingStream;
+    private final long start;
+    private boolean closed;
+
+    /**
+     * Creates a recorder which writes the messages in the given file.
+     *
+     * @param file the recording file (gzipped when the file name ends with {@code .gz}).
+     * @throws IOException if the file cannot be created.
+     */
+    public LSPTrafficRecorder(@NotNull Path file) throws IOException {
+        this(LSPTrafficRecording.openOutputStream(file));
+    }
+
+    LSPTrafficRecorder(@NotNull OutputStream recordingStream) {
+        this.recordingStream = recordingStream;
+        this.start = System.nanoTime();
+    }
+
+    /**
+     * Returns the given input stream of the language server connection which records the messages sent by the server.
+     *
+     * @param in the input stream which reads the messages sent by the language server.
+     * @return the input stream which records the messages sent by the language server.
+     */
+    public @NotNull InputStream wrapInput(@NotNull InputStream in) {
+        var parser = new LSPMessageFrameParser(message -> record(LSPTrafficRecording.Direction.SERVER_TO_CLIENT, message));
+        return new FilterInputStream(in) {
+
+            @Override
+            public int read() throws IOException {
+                int b = super.read();
+                if (b != -1) {
+                    parser.feed(new byte[]{(byte) b}, 0, 1);
+                }
+                return b;
+            }
+
+            @Override
+            public int read(byte @NotNull [] b, int off, int len) throws IOException {
+                int count = super.read(b, off, len);
+                if (count > 0) {
+                    parser.feed(b, off, count);
+                }
+                return count;
+            }
+        };
+    }
+
+    /**
+     * Returns the given output stream of the language server connection which records the messages sent by the client.
+     *
+     * @param out the output stream which writes the messages sent to the language server.
+     * @return the output stream which records the messages sent to the language server.
+     */
+    public @NotNull OutputStream wrapOutput(@NotNull OutputStream out) {
+        var parser = new LSPMessageFrameParser(message -> record(LSPTrafficRecording.Direction.CLIENT_TO_SERVER, message));
+        return new FilterOutputStream(out) {
+
+            @Override
+            public void write(int b) throws IOException {
+                out.write(b);
+                parser.feed(new byte[]{(byte) b}, 0, 1);
+            }
+
+            @Override
+            public void write(byte @NotNull [] b, int off, int len) throws IOException {
+                out.write(b, off, len);
+                parser.feed(b, off, len);
+            }
+        };
+    }
+
+    private synchronized void record(@NotNull LSPTrafficRecording.Direction direction, byte @NotNull [] content) {
+        if (closed) {
+            return;
+        }
+        long timestamp = (System.nanoTime() - start) / 1_000_000;
+        try {
+            LSPTrafficRecording.writeEntry(recordingStream, timestamp, direction, content);
+            recordingStream.flush();
+        } catch (IOException e) {
+            LOGGER.warn("Error while recording LSP message", e);
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            recordingStream.close();
+        }
+    }
+}
@@ -0,0 +1,219 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.lsp4ij.server.recording;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Recording of the JSON-RPC messages exchanged between LSP4IJ and a language server.
+ * <p>
+ * A recording file (gzipped when the file name ends with {@code .gz}) contains the recorded messages in one of the
+ * following forms:
+ *
+ * <pre>
+ * $timestamp $direction $length
+ * $content
+ * </pre>
+ * or, for a message written on one line (ex: a recording written by hand):
+ * <pre>
+ * $timestamp $direction $json
+ * </pre>
+ * where:
+ * <ul>
+ *     <li>$timestamp is the number of milliseconds since the start of the recording.</li>
+ *     <li>$direction is {@code C} for a message sent by the client (LSP4IJ) and {@code S} for a message sent by the
+ *     language server.</li>
+ *     <li>$length is the number of bytes of $content, the raw UTF-8 bytes of the JSON-RPC message as they are framed
+ *     by the LSP base protocol (line breaks included), followed by a line break.</li>
+ *     <li>$json is the JSON-RPC message.</li>
+ * </ul>
+ * Empty lines and lines which start with {@code #} are ignored.
+ */
+public class LSPTrafficRecording {
+
+    /**
+     * Direction of a recorded message.
+     */
+    public enum Direction {
+        /**
+         * Message sent by the client (LSP4IJ) to the language server.
+         */
+        CLIENT_TO_SERVER('C'),
+        /**
+         * Message sent by the language server to the client (LSP4IJ).
+         */
+        SERVER_TO_CLIENT('S');
+
+        private final char code;
+
+        Direction(char code) {
+            this.code = code;
+        }
+
+        public char getCode() {
+            return code;
+        }
+
+        static @NotNull Direction get(char code) {
+            for (var direction : values()) {
+                if (direction.code == code) {
+                    return direction;
+                }
+            }
+            throw new IllegalArgumentException("Unknown message direction '" + code + "'");
+        }
+    }
+
+    /**
+     * A recorded message.
+     *
+     * @param timestamp the number of milliseconds since the start of the recording.
+     * @param direction the direction of the message.
+     * @param message   the JSON-RPC message.
+     */
+    public record Entry(long timestamp, @NotNull Direction direction, @NotNull String message) {
+    }
+
+    private final @NotNull List<Entry> entries;
+
+    public LSPTrafficRecording(@NotNull List<Entry> entries) {
+        this.entries = Collections.unmodifiableList(entries);
+    }
+
+    /**
+     * Returns the recorded messages in the order of the recording.
+     *
+     * @return the recorded messages in the order of the recording.
+     */
+    public @NotNull List<Entry> getEntries() {
+        return entries;
+    }
+
+    /**
+     * Loads the recording from the given file.
+     *
+     * @param file the recording file.
+     * @return the recording.
+     * @throws IOException if the file cannot be read or is not a valid recording.
+     */
+    public static @NotNull LSPTrafficRecording load(@NotNull Path file) throws IOException {
+        try (var in = new BufferedInputStream(openInputStream(file))) {
+            return load(in);
+        }
+    }
+
+    /**
+     * Loads the recording from the given input stream.
+     *
+     * @param in the recording input stream.
+     * @return the recording.
+     * @throws IOException if the recording cannot be read or is not valid.
+     */
+    public static @NotNull LSPTrafficRecording load(@NotNull InputStream in) throws IOException {
+        List<Entry> entries = new ArrayList<>();
+        String line;
+        int lineNumber = 0;
+        while ((line = readLine(in)) != null) {
+            lineNumber++;
+            if (line.isBlank() || line.startsWith("#")) {
+                continue;
+            }
+            int timestampEnd = line.indexOf(' ');
+            if (timestampEnd == -1 || line.length() < timestampEnd + 4 || line.charAt(timestampEnd + 2) != ' ') {
+                throw new IOException("Invalid recorded message at line " + lineNumber + ": " + line);
+            }
+            try {
+                long timestamp = Long.parseLong(line.substring(0, timestampEnd));
+                Direction direction = Direction.get(line.charAt(timestampEnd + 1));
+                String message = line.substring(timestampEnd + 3);
+                if (isContentLength(message)) {
+                    // The raw content of the message is written after the line
+                    int length = Integer.parseInt(message);
+                    byte[] content = in.readNBytes(length);
+                    if (content.length != length || !isLineEnd(in.read())) {
+                        throw new IOException("Truncated recorded message at line " + lineNumber);
+                    }
+                    message = new String(content, StandardCharsets.UTF_8);
+                    lineNumber += (int) message.chars().filter(c -> c == '\n').count() + 1;
+                }
+                entries.add(new Entry(timestamp, direction, message));
+            } catch (IllegalArgumentException e) {
+                throw new IOException("Invalid recorded message at line " + lineNumber + ": " + line, e);
+            }
+        }
+        return new LSPTrafficRecording(entries);
+    }
+
+    /**
+     * Writes the given message in the recording output stream.
+     *
+     * @param out       the recording output stream.
+     * @param timestamp the number of milliseconds since the start of the recording.
+     * @param direction the direction of the message.
+     * @param content   the raw bytes of the JSON-RPC message.
+     * @throws IOException if the message cannot be written.
+     */
+    static void writeEntry(@NotNull OutputStream out, long timestamp, @NotNull Direction direction, byte @NotNull [] content) throws IOException {
+        out.write((timestamp + " " + direction.getCode() + " " + content.length + "\n").getBytes(StandardCharsets.US_ASCII));
+        out.write(content);
+        out.write('\n');
+    }
+
+    private static @Nullable String readLine(@NotNull InputStream in) throws IOException {
+        var line = new ByteArrayOutputStream();
+        int b;
+        while ((b = in.read()) != -1 && b != '\n') {
+            line.write(b);
+        }
+        if (b == -1 && line.size() == 0) {
+            return null;
+        }
+        String result = line.toString(StandardCharsets.UTF_8);
+        return result.endsWith("\r") ? result.substring(0, result.length() - 1) : result;
+    }
+
+    private static boolean isContentLength(@NotNull String message) {
+        return !message.isEmpty() && message.chars().allMatch(Character::isDigit);
+    }
+
+    private static boolean isLineEnd(int b) {
+        return b == '\n' || b == -1;
+    }
+
+    static @NotNull InputStream openInputStream(@NotNull Path file) throws IOException {
+        InputStream in = new BufferedInputStream(Files.newInputStream(file));
+        return isGzip(file) ? new GZIPInputStream(in) : in;
+    }
+
+    static @NotNull OutputStream openOutputStream(@NotNull Path file) throws IOException {
+        Path parent = file.getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        OutputStream out = new BufferedOutputStream(Files.newOutputStream(file));
+        return isGzip(file) ? new GZIPOutputStream(out, true) : out;
+    }
+
+    private static boolean isGzip(@NotNull Path file) {
+        return file.getFileName().toString().endsWith(".gz");
+    }
+}
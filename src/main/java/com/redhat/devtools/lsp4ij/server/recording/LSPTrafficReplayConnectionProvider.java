@@ -0,0 +1,303 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.lsp4ij.server.recording;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.intellij.openapi.diagnostic.Logger;
+import com.redhat.devtools.lsp4ij.server.CannotStartProcessException;
+import com.redhat.devtools.lsp4ij.server.StreamConnectionProvider;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.Pipe;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * {@link StreamConnectionProvider} implementation which plays a {@link LSPTrafficRecording} back as a fake language
+ * server, without network and without the real language server.
+ * <p>
+ * The recorded messages are replayed in the order of the recording:
+ * <ul>
+ *     <li>a message recorded as sent by the client is waited for: the replay waits until the client sends the same
+ *     occurrence of the same method (or the response with the same id for a response to a server request). If the client
+ *     doesn't send it after {@link #CLIENT_MESSAGE_TIMEOUT} ms, the replay continues.</li>
+ *     <li>a message recorded as sent by the server is sent with the recorded latency (the time elapsed since the previous
+ *     recorded message) multiplied by the latency scale. The id of a response is replaced with the id of the matching
+ *     client request, so the replay doesn't depend on the ids generated by the client.</li>
+ * </ul>
+ * A 'shutdown' request which has not been recorded is answered immediately, so that the language server can be stopped.
+ */
+public class LSPTrafficReplayConnectionProvider implements StreamConnectionProvider {
+
+    private static final Logger LOGGER = Logger.getInstance(LSPTrafficReplayConnectionProvider.class);
+
+    static final long CLIENT_MESSAGE_TIMEOUT = 5000L;
+
+    private static final String SHUTDOWN_METHOD = "shutdown";
+
+    private final @NotNull LSPTrafficRecording recording;
+    private final double latencyScale;
+    private final boolean shutdownRecorded;
+
+    private InputStream clientInputStream;
+    private OutputStream clientOutputStream;
+    private InputStream serverInputStream;
+    private OutputStream serverOutputStream;
+    private Thread clientMessagesReader;
+    private Thread replayer;
+    private volatile boolean stopped;
+
+    // Messages received from the client
+    private final Object lock = new Object();
+    private final Map<String, List<JsonObject>> receivedRequests = new HashMap<>();
+    private final Map<String, JsonObject> receivedResponses = new HashMap<>();
+
+    /**
+     * Creates a connection provider which replays the given recording.
+     *
+     * @param recording    the recording to replay.
+     * @param latencyScale the factor applied to the recorded latencies (1 replays the original latencies, 0 replays the
+     *                     messages without latency).
+     */
+    public LSPTrafficReplayConnectionProvider(@NotNull LSPTrafficRecording recording, double latencyScale) {
+        this.recording = recording;
+        this.latencyScale = Math.max(0, latencyScale);
+        this.shutdownRecorded = recording.getEntries()
+                .stream()
+                .filter(entry -> entry.direction() == LSPTrafficRecording.Direction.CLIENT_TO_SERVER)
+                .map(entry -> parse(entry.message()))
+                .anyMatch(message -> message != null && SHUTDOWN_METHOD.equals(getMethod(message)));
+    }
+
+    @Override
+    public void start() throws CannotStartProcessException {
+        Pipe serverOutputToClientInput = openPipe();
+        Pipe clientOutputToServerInput = openPipe();
+        serverInputStream = Channels.newInputStream(clientOutputToServerInput.source());
+        serverOutputStream = Channels.newOutputStream(serverOutputToClientInput.sink());
+        clientInputStream = Channels.newInputStream(serverOutputToClientInput.source());
+        clientOutputStream = Channels.newOutputStream(clientOutputToServerInput.sink());
+
+        clientMessagesReader = new Thread(this::readClientMessages, "LSP replay client messages reader");
+        clientMessagesReader.setDaemon(true);
+        clientMessagesReader.start();
+
+        replayer = new Thread(this::replay, "LSP replay");
+        replayer.setDaemon(true);
+        replayer.start();
+    }
+
+    private static Pipe openPipe() throws CannotStartProcessException {
+        try {
+            return Pipe.open();
+        } catch (IOException e) {
+            throw new CannotStartProcessException(e);
+        }
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        return clientInputStream;
+    }
+
+    @Override
+    public OutputStream getOutputStream() {
+        return clientOutputStream;
+    }
+
+    @Override
+    public boolean isAlive() {
+        return !stopped;
+    }
+
+    @Override
+    public void stop() {
+        stopped = true;
+        synchronized (lock) {
+            lock.notifyAll();
+        }
+        for (var stream : new Closeable[]{clientOutputStream, serverOutputStream, serverInputStream, clientInputStream}) {
+            if (stream != null) {
+                try {
+                    stream.close();
+                } catch (IOException e) {
+                    // Ignore the error
+                }
+            }
+        }
+        if (replayer != null) {
+            replayer.interrupt();
+        }
+    }
+
+    private void readClientMessages() {
+        var parser = new LSPMessageFrameParser(content -> onClientMessage(new String(content, StandardCharsets.UTF_8)));
+        byte[] buffer = new byte[8192];
+        try {
+            int count;
+            while (!stopped && (count = serverInputStream.read(buffer)) != -1) {
+                parser.feed(buffer, 0, count);
+            }
+        } catch (IOException e) {
+            // The connection is closed
+        }
+    }
+
+    private void onClientMessage(@NotNull String content) {
+        JsonObject message = parse(content);
+        if (message == null) {
+            return;
+        }
+        String method = getMethod(message);
+        if (method != null) {
+            if (SHUTDOWN_METHOD.equals(method) && !shutdownRecorded && message.has("id")) {
+                // Answer the 'shutdown' request to stop the language server
+                var response = new JsonObject();
+                response.addProperty("jsonrpc", "2.0");
+                response.add("id", message.get("id"));
+                response.add("result", JsonNull.INSTANCE);
+                send(response.toString());
+            }
+            synchronized (lock) {
+                receivedRequests.computeIfAbsent(method, k -> new ArrayList<>()).add(message);
+                lock.notifyAll();
+            }
+        } else if (message.has("id")) {
+            synchronized (lock) {
+                receivedResponses.put(message.get("id").toString(), message);
+                lock.notifyAll();
+            }
+        }
+    }
+
+    private void replay() {
+        // Number of the client messages waited for, per method
+        Map<String, Integer> occurrences = new HashMap<>();
+        // Ids of the requests sent by the client, indexed by the recorded ids
+        Map<String, JsonElement> requestIds = new HashMap<>();
+        long previousTimestamp = 0;
+        long previousTime = System.nanoTime();
+        for (var entry : recording.getEntries()) {
+            if (stopped) {
+                return;
+            }
+            JsonObject message = parse(entry.message());
+            if (message == null) {
+                continue;
+            }
+            if (entry.direction() == LSPTrafficRecording.Direction.CLIENT_TO_SERVER) {
+                String method = getMethod(message);
+                if (method != null) {
+                    int index = occurrences.merge(method, 1, Integer::sum) - 1;
+                    JsonObject actual = waitForClientMessage(() -> {
+                        var requests = receivedRequests.get(method);
+                        return requests != null && index < requests.size() ? requests.get(index) : null;
+                    });
+                    if (actual != null && message.has("id") && actual.has("id")) {
+                        requestIds.put(message.get("id").toString(), actual.get("id"));
+                    }
+                } else if (message.has("id")) {
+                    String id = message.get("id").toString();
+                    waitForClientMessage(() -> receivedResponses.get(id));
+                }
+            } else {
+                long delay = Math.round((entry.timestamp() - previousTimestamp) * latencyScale);
+                long elapsed = (System.nanoTime() - previousTime) / 1_000_000;
+                if (delay > elapsed) {
+                    try {
+                        Thread.sleep(delay - elapsed);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+                if (getMethod(message) == null && message.has("id")) {
+                    // Response to a client request
+                    JsonElement actualId = requestIds.get(message.get("id").toString());
+                    if (actualId != null) {
+                        message.add("id", actualId);
+                    }
+                }
+                send(message.toString());
+            }
+            previousTimestamp = entry.timestamp();
+            previousTime = System.nanoTime();
+        }
+    }
+
+    private @Nullable JsonObject waitForClientMessage(@NotNull Supplier<JsonObject> message) {
+        long deadline = System.currentTimeMillis() + CLIENT_MESSAGE_TIMEOUT;
+        synchronized (lock) {
+            while (!stopped) {
+                JsonObject result = message.get();
+                if (result != null) {
+                    return result;
+                }
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    return null;
+                }
+                try {
+                    lock.wait(remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return null;
+                }
+            }
+        }
+        return null;
+    }
+
+    private synchronized void send(@NotNull String message) {
+        if (stopped) {
+            return;
+        }
+        byte[] content = message.getBytes(StandardCharsets.UTF_8);
+        try {
+            serverOutputStream.write(("Content-Length: " + content.length + "\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+            serverOutputStream.write(content);
+            serverOutputStream.flush();
+        } catch (IOException e) {
+            if (!stopped) {
+                LOGGER.warn("Error while replaying LSP message", e);
+            }
+        }
+    }
+
+    private static @Nullable String getMethod(@NotNull JsonObject message) {
+        var method = message.get("method");
+        return method != null && method.isJsonPrimitive() ? method.getAsString() : null;
+    }
+
+    private static @Nullable JsonObject parse(@NotNull String content) {
+        try {
+            var message = JsonParser.parseString(content);
+            return message.isJsonObject() ? message.getAsJsonObject() : null;
+        } catch (JsonParseException e) {
+            LOGGER.warn("Invalid LSP message: " + content, e);
+            return null;
+        }
+    }
+}
@@ -274,8 +274,13 @@ public abstract class LanguageServerSettings implements PersistentStateComponent
 
     public static class LanguageServerDefinitionSettings {
 
+        private record ResolvedConfiguration(@NotNull String content, @Nullable Object configuration) {
+        }
+
         private String configurationContent;
         private volatile Object configuration;
+        // Last configuration parsed from a content with resolved magic variables
+        private volatile ResolvedConfiguration resolvedConfiguration;
         private boolean expandConfiguration = true;
         private String configurationSchemaContent;
 
@@ -297,6 +302,7 @@ public abstract class LanguageServerSettings implements PersistentStateComponent
         public void setConfigurationContent(String configurationContent) {
             this.configurationContent = configurationContent;
             this.configuration = null;
+            this.resolvedConfiguration = null;
         }
 
         public Object getLanguageServerConfiguration(@Nullable Project project) {
@@ -305,7 +311,15 @@ public abstract class LanguageServerSettings implements PersistentStateComponent
                     if (configurationContent.contains("$")) {
                         // Resolve magic variables like $PROJECT_DIR$
                         String projectConfigurationContent = CommandUtils.resolveCommandLine(configurationContent, project);
-                        return parseJson(projectConfigurationContent, isExpandConfiguration());
+                        // Parse the configuration only when the resolved content changes to return the same instance
+                        // (the language client indexes the configuration once per instance).
+                        var resolved = resolvedConfiguration;
+                        if (resolved == null || !resolved.content().equals(projectConfigurationContent)) {
+                            resolved = new ResolvedConfiguration(projectConfigurationContent,
+                                    parseJson(projectConfigurationContent, isExpandConfiguration()));
+                            resolvedConfiguration = resolved;
+                        }
+                        return resolved.configuration();
                     }
                     if (configuration == null) {
                         configuration = parseJson(configurationContent, isExpandConfiguration());
@@ -324,6 +338,7 @@ public abstract class LanguageServerSettings implements PersistentStateComponent
         public void setExpandConfiguration(boolean expandConfiguration) {
             this.expandConfiguration = expandConfiguration;
             configuration = null;
+            resolvedConfiguration = null;
         }
 
         public String getConfigurationSchemaContent() {
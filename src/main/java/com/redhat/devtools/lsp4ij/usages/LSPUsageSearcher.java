@@ -28,6 +28,8 @@ import com.intellij.util.Processor;
 import com.intellij.util.containers.ContainerUtil;
 import com.redhat.devtools.lsp4ij.LSPIJUtils;
 import com.redhat.devtools.lsp4ij.LanguageServiceAccessor;
+import com.redhat.devtools.lsp4ij.client.features.FileUriSupport;
+import org.eclipse.lsp4j.Location;
 import org.eclipse.lsp4j.Position;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -35,7 +37,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 import static com.redhat.devtools.lsp4ij.internal.CompletableFutures.waitUntilDone;
@@ -78,16 +83,19 @@ public class LSPUsageSearcher extends CustomUsageSearcher {
 
             if (element instanceof LSPUsageTriggeredPsiElement elt) {
                 if (elt.getLSPReferences() != null) {
+                    // Group the references by language server to resolve them file by file
+                    Map<FileUriSupport, List<Location>> locationsByServer = new LinkedHashMap<>();
                     elt.getLSPReferences()
-                            .forEach(ref -> {
-                                var psiElement = LSPUsagesManager.toPsiElement(ref.location(), ref.languageServer().getClientFeatures(), LSPUsagePsiElement.UsageKind.references, project);
-                                if (psiElement != null) {
-                                    VirtualFile psiElementFile = LSPIJUtils.getFile(psiElement);
-                                    if (psiElementFile != null) {
-                                        processor.process(new UsageInfo2UsageAdapter(new UsageInfo(psiElement)));
-                                    }
-                                }
-                            });
+                            .forEach(ref -> locationsByServer
+                                    .computeIfAbsent(ref.languageServer().getClientFeatures(), k -> new ArrayList<>())
+                                    .add(ref.location()));
+                    for (var entry : locationsByServer.entrySet()) {
+                        if (!LSPUsagesManager.processPsiElements(entry.getValue(), entry.getKey(), LSPUsagePsiElement.UsageKind.references, project,
+                                fileUsages -> ContainerUtil.and(fileUsages,
+                                        usage -> processor.process(new UsageInfo2UsageAdapter(new UsageInfo(usage)))))) {
+                            return;
+                        }
+                    }
                     return;
                 }
             }
@@ -108,30 +116,7 @@ public class LSPUsageSearcher extends CustomUsageSearcher {
                     // Show response of textDocument/definition, textDocument/references, etc as usage info.
                     List<LSPUsagePsiElement> usages = usagesFuture.getNow(null);
                     if (usages != null) {
-                        List<LSPUsagePsiElement> filteredUsages = new ArrayList<>(usages);
-                        filteredUsages.removeIf(usage -> ContainerUtil.exists(usages, otherUsage -> {
-                            VirtualFile usageFile = LSPIJUtils.getFile(usage);
-                            if ((usageFile == null) /*||*!searchScope.contains(usageFile)*/) {
-                                return true;
-                            }
-
-                            // Remove any usages that fully contain other usages, e.g., definitions when what's really
-                            // wanted is the contained declaration/name identifier
-                            if (usage != otherUsage) {
-                                TextRange textRange = usage.getTextRange();
-                                TextRange otherTextRange = otherUsage.getTextRange();
-                                return (textRange != null) &&
-                                       (otherTextRange != null) &&
-                                       textRange.contains(otherTextRange) &&
-                                       !textRange.equals(otherTextRange);
-                            }
-
-                            return false;
-                        }));
-
-                        for (LSPUsagePsiElement usage : filteredUsages) {
-                            processor.process(new UsageInfo2UsageAdapter(new UsageInfo(usage)));
-                        }
+                        processUsages(usages, processor);
                     }
                 }
             } catch (ProcessCanceledException pce) {
@@ -150,6 +135,86 @@ public class LSPUsageSearcher extends CustomUsageSearcher {
         });
     }
 
+    /**
+     * Processes the given usages file by file, removing the usages which fully contain other usages of the same file.
+     *
+     * @param usages    the usages.
+     * @param processor the usage processor.
+     * @return false if the processor has stopped the process and true otherwise.
+     */
+    private static boolean processUsages(@NotNull List<LSPUsagePsiElement> usages,
+                                         @NotNull Processor<? super Usage> processor) {
+        // Group usages by file
+        Map<VirtualFile, List<LSPUsagePsiElement>> usagesByFile = new LinkedHashMap<>();
+        for (var usage : usages) {
+            VirtualFile usageFile = LSPIJUtils.getFile(usage);
+            if (usageFile != null) {
+                usagesByFile.computeIfAbsent(usageFile, k -> new ArrayList<>()).add(usage);
+            }
+        }
+        for (var fileUsages : usagesByFile.values()) {
+            for (var usage : removeContainingUsages(fileUsages)) {
+                if (!processor.process(new UsageInfo2UsageAdapter(new UsageInfo(usage)))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Removes any usages that fully contain other usages, e.g., definitions when what's really
+     * wanted is the contained declaration/name identifier.
+     *
+     * @param fileUsages the usages of a given file.
+     * @return the usages which don't contain other usages, in the original order.
+     */
+    @NotNull
+    static List<LSPUsagePsiElement> removeContainingUsages(@NotNull List<LSPUsagePsiElement> fileUsages) {
+        if (fileUsages.size() < 2) {
+            return fileUsages;
+        }
+        int size = fileUsages.size();
+        TextRange[] textRanges = new TextRange[size];
+        List<Integer> sorted = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            textRanges[i] = fileUsages.get(i).getTextRange();
+            if (textRanges[i] != null) {
+                sorted.add(i);
+            }
+        }
+        // Sort usages by start offset, then by end offset descending: the usages which can be contained by a given usage
+        // are after it, so a single sweep from the end finds the containing usages.
+        sorted.sort(Comparator.<Integer>comparingInt(i -> textRanges[i].getStartOffset())
+                .thenComparing(i -> textRanges[i].getEndOffset(), Comparator.reverseOrder()));
+        boolean[] removed = new boolean[size];
+        int minEndOffset = Integer.MAX_VALUE;
+        int groupEnd = sorted.size();
+        while (groupEnd > 0) {
+            // Usages with the same text range don't contain each other
+            TextRange textRange = textRanges[sorted.get(groupEnd - 1)];
+            int groupStart = groupEnd - 1;
+            while (groupStart > 0 && textRange.equals(textRanges[sorted.get(groupStart - 1)])) {
+                groupStart--;
+            }
+            // A following usage starts after this usage, it is contained if it ends before this usage
+            if (minEndOffset <= textRange.getEndOffset()) {
+                for (int i = groupStart; i < groupEnd; i++) {
+                    removed[sorted.get(i)] = true;
+                }
+            }
+            minEndOffset = Math.min(minEndOffset, textRange.getEndOffset());
+            groupEnd = groupStart;
+        }
+        List<LSPUsagePsiElement> filteredUsages = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            if (!removed[i]) {
+                filteredUsages.add(fileUsages.get(i));
+            }
+        }
+        return filteredUsages;
+    }
+
     @Nullable
     private static Position getPosition(@NotNull PsiElement element, @NotNull PsiFile psiFile) {
         VirtualFile file = psiFile.getVirtualFile();
@@ -204,11 +204,8 @@ public class LSPUsageSupport extends AbstractLSPDocumentFeatureSupport<LSPUsageS
         if (locations == null || locations.isEmpty()) {
             return Collections.emptyList();
         }
-        return locations
-                .stream()
-                .map(location -> LSPUsagesManager.toPsiElement(location, fileUriSupport, usageKind, project))
-                .filter(Objects::nonNull)
-                .toList();
+        // Resolve the locations file by file
+        return LSPUsagesManager.toPsiElements(locations, fileUriSupport, usageKind, project);
     }
 
     private static List<LSPUsagePsiElement> createUsages(@Nullable Either<List<? extends Location>, List<? extends LocationLink>> locations,
@@ -231,11 +228,12 @@ public class LSPUsageSupport extends AbstractLSPDocumentFeatureSupport<LSPUsageS
         if (locations == null || locations.isEmpty()) {
             return Collections.emptyList();
         }
-        return locations
+        List<Location> targetLocations = locations
                 .stream()
-                .map(location -> LSPUsagesManager.toPsiElement(location, fileUriSupport, usageKind, project))
                 .filter(Objects::nonNull)
+                .map(location -> new Location(location.getTargetUri(), location.getTargetRange()))
                 .toList();
+        return createUsages(targetLocations, fileUriSupport, usageKind, project);
     }
 
     private static ReferenceParams createReferenceParams(@NotNull TextDocumentIdentifier textDocument, @NotNull Position position, @NotNull Project project) {
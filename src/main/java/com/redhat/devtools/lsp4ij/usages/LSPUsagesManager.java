@@ -20,6 +20,7 @@ import com.intellij.openapi.editor.Editor;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.ui.Messages;
 import com.intellij.ui.awt.RelativePoint;
+import com.intellij.util.Processor;
 import com.redhat.devtools.lsp4ij.LSPIJUtils;
 import com.redhat.devtools.lsp4ij.LanguageServerBundle;
 import com.redhat.devtools.lsp4ij.client.features.FileUriSupport;
@@ -110,6 +111,46 @@ public class LSPUsagesManager {
         return element;
     }
 
+    /**
+     * Returns the usage Psi elements of the given LSP locations, resolved file by file.
+     *
+     * @param locations      the LSP locations.
+     * @param fileUriSupport the file Uri support.
+     * @param kind           the usage kind.
+     * @param project        the project.
+     * @return the usage Psi elements of the given LSP locations.
+     */
+    @NotNull
+    public static List<LSPUsagePsiElement> toPsiElements(@NotNull List<? extends Location> locations,
+                                                         @Nullable FileUriSupport fileUriSupport,
+                                                         @NotNull LSPUsagePsiElement.UsageKind kind,
+                                                         @NotNull Project project) {
+        List<LSPUsagePsiElement> elements = LSPPsiElementFactory.toPsiElements(locations, fileUriSupport, project, USAGE_ELEMENT_FACTORY);
+        elements.forEach(element -> element.setKind(kind));
+        return elements;
+    }
+
+    /**
+     * Resolves the usage Psi elements of the given LSP locations file by file and processes them as soon as a file is resolved.
+     *
+     * @param locations      the LSP locations.
+     * @param fileUriSupport the file Uri support.
+     * @param kind           the usage kind.
+     * @param project        the project.
+     * @param processor      the processor called with the usage Psi elements of each file.
+     * @return false if the processor has stopped the process and true otherwise.
+     */
+    public static boolean processPsiElements(@NotNull List<? extends Location> locations,
+                                             @Nullable FileUriSupport fileUriSupport,
+                                             @NotNull LSPUsagePsiElement.UsageKind kind,
+                                             @NotNull Project project,
+                                             @NotNull Processor<? super List<LSPUsagePsiElement>> processor) {
+        return LSPPsiElementFactory.processPsiElements(locations, fileUriSupport, project, USAGE_ELEMENT_FACTORY, elements -> {
+            elements.forEach(element -> element.setKind(kind));
+            return processor.process(elements);
+        });
+    }
+
     @Nullable
     public static LSPUsageTriggeredPsiElement toUsageTriggeredPsiElement(@NotNull Location location,
                                                                          @Nullable FileUriSupport fileUriSupport,
@@ -0,0 +1,59 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.lsp4ij;
+
+import com.redhat.devtools.lsp4ij.fixtures.LSPCodeInsightFixtureTestCase;
+import com.redhat.devtools.lsp4ij.mock.MockLanguageServerDefinition;
+import com.redhat.devtools.lsp4ij.templates.ServerMappingSettings;
+
+import java.util.List;
+
+/**
+ * Tests for {@link LSPFileRelevance}.
+ */
+public class LSPFileRelevanceTest extends LSPCodeInsightFixtureTestCase {
+
+    public LSPFileRelevanceTest() {
+        super("*.relevant");
+    }
+
+    public void testRelevanceIsCached() {
+        var registry = LanguageServersRegistry.getInstance();
+        var relevantFile = myFixture.configureByText("test.relevant", "");
+        var relevance = registry.getFileRelevance(relevantFile);
+        assertTrue(relevance.isRelevant());
+        assertSame(relevance, registry.getFileRelevance(relevantFile));
+
+        var unrelatedFile = myFixture.configureByText("test.unrelated", "");
+        assertFalse(registry.getFileRelevance(unrelatedFile).isRelevant());
+        assertFalse(registry.isFileSupported(unrelatedFile));
+    }
+
+    public void testRelevanceIsUpdatedWhenAssociationsChange() {
+        var registry = LanguageServersRegistry.getInstance();
+        var relevantFile = myFixture.configureByText("test.relevant", "");
+        var unrelatedFile = myFixture.configureByText("test.unrelated", "");
+        assertFalse(registry.getFileRelevance(unrelatedFile).isRelevant());
+
+        var otherServerDefinition = new MockLanguageServerDefinition("test-file-relevance");
+        registry.addServerDefinition(myFixture.getProject(), otherServerDefinition,
+                List.of(ServerMappingSettings.createFileNamePatternsMappingSettings(List.of("*.unrelated"), null)));
+        try {
+            var relevance = registry.getFileRelevance(unrelatedFile);
+            assertTrue(relevance.isRelevant());
+            assertTrue(relevance.isRelevant(otherServerDefinition));
+            assertFalse(registry.getFileRelevance(relevantFile).isRelevant(otherServerDefinition));
+        } finally {
+            registry.removeServerDefinition(myFixture.getProject(), otherServerDefinition);
+        }
+        assertFalse(registry.getFileRelevance(unrelatedFile).isRelevant());
+    }
+}
@@ -0,0 +1,90 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.lsp4ij;
+
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.editor.impl.DocumentImpl;
+import com.intellij.testFramework.fixtures.BasePlatformTestCase;
+import com.redhat.devtools.lsp4ij.internal.BulkTextEditsApplier;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextEdit;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Tests for {@link LSPIJUtils#applyEdits(com.intellij.openapi.editor.Editor, Document, List)} with
+ * large text edit lists applied by {@link BulkTextEditsApplier}.
+ */
+public class LSPIJUtils_applyEdits_BulkTest extends BasePlatformTestCase {
+
+    public void testReindentWholeFile() {
+        int lineCount = 2000;
+        StringBuilder content = new StringBuilder();
+        StringBuilder expected = new StringBuilder();
+        List<TextEdit> edits = new ArrayList<>();
+        for (int i = 0; i < lineCount; i++) {
+            content.append("  foo(").append(i).append(");\n");
+            expected.append("\tfoo(").append(i).append(");\n");
+            edits.add(new TextEdit(new Range(new Position(i, 0), new Position(i, 2)), "\t"));
+        }
+        // Edits are not sorted by the language server
+        Collections.reverse(edits);
+        assertBulkApplyEdits(content.toString(), edits, expected.toString());
+    }
+
+    public void testInsertsAtSamePositionKeepOrder() {
+        List<TextEdit> edits = new ArrayList<>();
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < BulkTextEditsApplier.BULK_MODE_THRESHOLD; i++) {
+            edits.add(new TextEdit(new Range(new Position(0, 3), new Position(0, 3)), String.valueOf(i)));
+            expected.append(i);
+        }
+        assertBulkApplyEdits("foobar", edits, "foo" + expected + "bar");
+    }
+
+    public void testDeleteAndReplace() {
+        int lineCount = 500;
+        StringBuilder content = new StringBuilder();
+        StringBuilder expected = new StringBuilder();
+        List<TextEdit> edits = new ArrayList<>();
+        for (int i = 0; i < lineCount; i++) {
+            content.append("var x").append(i).append(" = 1;  \n");
+            expected.append("let x").append(i).append(" = 1;\n");
+            String varLine = "var x" + i + " = 1;";
+            edits.add(new TextEdit(new Range(new Position(i, 0), new Position(i, 3)), "let"));
+            edits.add(new TextEdit(new Range(new Position(i, varLine.length()), new Position(i, varLine.length() + 2)), ""));
+        }
+        assertBulkApplyEdits(content.toString(), edits, expected.toString());
+    }
+
+    public void testOverlappingEditsFallback() {
+        List<TextEdit> edits = new ArrayList<>();
+        for (int i = 0; i < BulkTextEditsApplier.BULK_MODE_THRESHOLD; i++) {
+            edits.add(new TextEdit(new Range(new Position(0, 0), new Position(0, 3)), "bar"));
+        }
+        Document document = new DocumentImpl("foo");
+        WriteCommandAction.runWriteCommandAction(getProject(), () ->
+                assertFalse(BulkTextEditsApplier.applyEdits(null, document, edits)));
+        assertEquals("foo", document.getText());
+    }
+
+    private void assertBulkApplyEdits(String content, List<TextEdit> edits, String expected) {
+        Document document = new DocumentImpl(content);
+        // Apply edits without updating the document to compare the result with the bulk mode
+        assertEquals(expected, LSPIJUtils.applyEdits(document, edits));
+        WriteCommandAction.runWriteCommandAction(getProject(), () -> LSPIJUtils.applyEdits(null, document, edits));
+        assertEquals(expected, document.getText());
+    }
+}
@@ -13,6 +13,8 @@ package com.redhat.devtools.lsp4ij;
 import com.intellij.openapi.editor.Document;
 import com.intellij.openapi.editor.impl.DocumentImpl;
 import com.intellij.testFramework.fixtures.BasePlatformTestCase;
+import com.redhat.devtools.lsp4ij.internal.PositionEncoding;
+import com.redhat.devtools.lsp4ij.internal.PositionMapper;
 import org.eclipse.lsp4j.Position;
 
 import static com.redhat.devtools.lsp4ij.LSP4IJAssert.assertOffset;
@@ -79,6 +81,54 @@ public class LSPIJUtils_toOffsetTest extends BasePlatformTestCase {
         assertOffset("foo\nbar", 1, Integer.MAX_VALUE, 7, null);
     }
     
+    public void testUtf8Encoding() {
+        // '\u00e9' is encoded with 2 bytes, '\uD83D\uDE42' (emoji) with 4 bytes (2 UTF-16 chars)
+        String content = "\u00e9=\uD83D\uDE42x";
+        assertOffset(content, 0, 0, 0, PositionEncoding.UTF8);
+        assertOffset(content, 0, 1, 0, PositionEncoding.UTF8); // middle of '\u00e9'
+        assertOffset(content, 0, 2, 1, PositionEncoding.UTF8);
+        assertOffset(content, 0, 3, 2, PositionEncoding.UTF8);
+        assertOffset(content, 0, 5, 2, PositionEncoding.UTF8); // middle of the emoji
+        assertOffset(content, 0, 7, 4, PositionEncoding.UTF8);
+        assertOffset(content, 0, 8, 5, PositionEncoding.UTF8);
+        assertOffset(content, 0, 999999, 5, PositionEncoding.UTF8);
+        assertOffset(content, 0, Integer.MAX_VALUE, 5, PositionEncoding.UTF8);
+    }
+
+    public void testUtf32Encoding() {
+        String content = "\u00e9=\uD83D\uDE42x";
+        assertOffset(content, 0, 0, 0, PositionEncoding.UTF32);
+        assertOffset(content, 0, 1, 1, PositionEncoding.UTF32);
+        assertOffset(content, 0, 2, 2, PositionEncoding.UTF32);
+        assertOffset(content, 0, 3, 4, PositionEncoding.UTF32);
+        assertOffset(content, 0, 4, 5, PositionEncoding.UTF32);
+        assertOffset(content, 0, 999999, 5, PositionEncoding.UTF32);
+    }
+
+    public void testEncodingWithMultipleLines() {
+        String content = "abc\n\u00e9\uD83D\uDE42\nxyz";
+        // ASCII lines are the same for all encodings
+        for (var encoding : PositionEncoding.values()) {
+            assertOffset(content, 0, 2, 2, encoding);
+            assertOffset(content, 2, 1, 9, encoding);
+            assertOffset(content, 999999, 0, 11, encoding);
+            assertOffset(content, -1, 0, 0, encoding);
+        }
+        assertOffset(content, 1, 2, 5, PositionEncoding.UTF8);
+        assertOffset(content, 1, 6, 7, PositionEncoding.UTF8);
+        assertOffset(content, 1, 999999, 7, PositionEncoding.UTF8);
+        assertOffset(content, 1, 1, 5, PositionEncoding.UTF32);
+        assertOffset(content, 1, 2, 7, PositionEncoding.UTF32);
+        assertOffset(content, 1, 2, 6, PositionEncoding.UTF16);
+    }
+
+    private static void assertOffset(String content, int line, int character, int expectedOffset, PositionEncoding encoding) {
+        Document document = new DocumentImpl(content);
+        Position position = new Position(line, character);
+        assertEquals(expectedOffset, toOffset(position, document, encoding));
+        assertEquals(expectedOffset, PositionMapper.getInstance(document).toOffset(position, encoding));
+    }
+
     public void test_vscode_EmptyContent() {
         // See https://github.com/microsoft/vscode-languageserver-node/blob/8e625564b531da607859b8cb982abb7cdb2fbe2e/textDocument/src/test/textdocument.test.ts#L18
         String str = "";
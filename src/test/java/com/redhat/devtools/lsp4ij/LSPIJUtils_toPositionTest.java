@@ -13,6 +13,8 @@ package com.redhat.devtools.lsp4ij;
 import com.intellij.openapi.editor.Document;
 import com.intellij.openapi.editor.impl.DocumentImpl;
 import com.intellij.testFramework.fixtures.BasePlatformTestCase;
+import com.redhat.devtools.lsp4ij.internal.PositionEncoding;
+import com.redhat.devtools.lsp4ij.internal.PositionMapper;
 import org.eclipse.lsp4j.Position;
 
 import static com.redhat.devtools.lsp4ij.LSPIJUtils.toPosition;
@@ -47,6 +49,47 @@ public class LSPIJUtils_toPositionTest extends BasePlatformTestCase {
         assertEquals(toPosition(str.length() + 3, document), new Position(0, str.length()));
     }
 
+    public void testUtf8Encoding() {
+        // '\u00e9' is encoded with 2 bytes, '\uD83D\uDE42' (emoji) with 4 bytes (2 UTF-16 chars)
+        assertPosition("|\u00e9=\uD83D\uDE42x", 0, 0, PositionEncoding.UTF8);
+        assertPosition("\u00e9|=\uD83D\uDE42x", 0, 2, PositionEncoding.UTF8);
+        assertPosition("\u00e9=|\uD83D\uDE42x", 0, 3, PositionEncoding.UTF8);
+        assertPosition("\u00e9=\uD83D\uDE42|x", 0, 7, PositionEncoding.UTF8);
+        assertPosition("\u00e9=\uD83D\uDE42x|", 0, 8, PositionEncoding.UTF8);
+        // middle of the emoji
+        assertPosition("\u00e9=\uD83D\uDE42x", 3, 0, 3, PositionEncoding.UTF8);
+    }
+
+    public void testUtf32Encoding() {
+        assertPosition("\u00e9|=\uD83D\uDE42x", 0, 1, PositionEncoding.UTF32);
+        assertPosition("\u00e9=|\uD83D\uDE42x", 0, 2, PositionEncoding.UTF32);
+        assertPosition("\u00e9=\uD83D\uDE42|x", 0, 3, PositionEncoding.UTF32);
+        assertPosition("\u00e9=\uD83D\uDE42x|", 0, 4, PositionEncoding.UTF32);
+    }
+
+    public void testEncodingWithMultipleLines() {
+        for (var encoding : PositionEncoding.values()) {
+            // ASCII lines are the same for all encodings
+            assertPosition("abc\n\u00e9\uD83D\uDE42\nx|yz", 2, 1, encoding);
+            assertPosition("ab|c\n\u00e9\uD83D\uDE42\nxyz", 0, 2, encoding);
+        }
+        assertPosition("abc\n\u00e9\uD83D\uDE42|\nxyz", 1, 6, PositionEncoding.UTF8);
+        assertPosition("abc\n\u00e9\uD83D\uDE42|\nxyz", 1, 2, PositionEncoding.UTF32);
+        assertPosition("abc\n\u00e9\uD83D\uDE42|\nxyz", 1, 3, PositionEncoding.UTF16);
+    }
+
+    private static void assertPosition(String contentWithOffset, int expectedLine, int expectedCharacter, PositionEncoding encoding) {
+        TextAndOffset textAndOffset = new TextAndOffset(contentWithOffset);
+        assertPosition(textAndOffset.getContent(), textAndOffset.getOffset(), expectedLine, expectedCharacter, encoding);
+    }
+
+    private static void assertPosition(String content, int offset, int expectedLine, int expectedCharacter, PositionEncoding encoding) {
+        Document document = new DocumentImpl(content);
+        Position expectedPosition = new Position(expectedLine, expectedCharacter);
+        assertEquals(expectedPosition, toPosition(offset, document, encoding));
+        assertEquals(expectedPosition, PositionMapper.getInstance(document).toPosition(offset, encoding));
+    }
+
     private static void assertPosition(String contentWithOffset, int expectedLine, int expectedCharacter) {
         TextAndOffset textAndOffset = new TextAndOffset(contentWithOffset);
         assertPosition(textAndOffset.getContent(), textAndOffset.getOffset(), expectedLine, expectedCharacter);
@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.lsp4ij;
+
+import com.intellij.openapi.util.Disposer;
+import com.intellij.testFramework.fixtures.BasePlatformTestCase;
+import com.redhat.devtools.lsp4ij.console.LSPConsoleToolWindowPanel;
+import com.redhat.devtools.lsp4ij.console.explorer.LanguageServerExplorer;
+import com.redhat.devtools.lsp4ij.console.explorer.LanguageServerExplorerLifecycleListener;
+import com.redhat.devtools.lsp4ij.console.explorer.LanguageServerTreeNode;
+import com.redhat.devtools.lsp4ij.mock.MockLanguageServerDefinition;
+import com.redhat.devtools.lsp4ij.server.definition.LanguageServerDefinition;
+import com.redhat.devtools.lsp4ij.settings.LanguageServerSettings;
+import com.redhat.devtools.lsp4ij.settings.ProjectLanguageServerSettings;
+import com.redhat.devtools.lsp4ij.settings.ServerTrace;
+import org.eclipse.lsp4j.jsonrpc.messages.NotificationMessage;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests for the cache of {@link LanguageServerWrapper#getServerTrace()} which is called for each LSP message.
+ */
+public class LanguageServerWrapper_serverTraceTest extends BasePlatformTestCase {
+
+    public void testServerTraceIsUpdatedWhenSettingsChange() {
+        var serverDefinition = new MockLanguageServerDefinition("trace-server-id");
+        var wrapper = new LanguageServerWrapper(getProject(), serverDefinition);
+        try {
+            assertEquals(ServerTrace.off, wrapper.getServerTrace());
+
+            updateServerTrace(serverDefinition.getId(), ServerTrace.verbose);
+            assertEquals(ServerTrace.verbose, wrapper.getServerTrace());
+        } finally {
+            Disposer.dispose(wrapper);
+        }
+    }
+
+    public void testServerTraceIsCached() {
+        var serverDefinition = new MockLanguageServerDefinition("trace-cached-server-id");
+        var wrapper = new LanguageServerWrapper(getProject(), serverDefinition);
+        try {
+            updateServerTrace(serverDefinition.getId(), ServerTrace.messages);
+            assertEquals(ServerTrace.messages, wrapper.getServerTrace());
+
+            // The settings are updated without settings changed event: the cached server trace is reused
+            var settings = ProjectLanguageServerSettings.getInstance(getProject()).getLanguageServerSettings(serverDefinition.getId());
+            assertNotNull(settings);
+            settings.setServerTrace(ServerTrace.verbose);
+            assertEquals(ServerTrace.messages, wrapper.getServerTrace());
+
+            // The settings of another language server are changed: the cached server trace is reused
+            updateServerTrace("other-trace-server-id", ServerTrace.verbose);
+            assertEquals(ServerTrace.messages, wrapper.getServerTrace());
+
+            // The server trace settings is changed: the cached server trace is invalidated
+            updateServerTrace(serverDefinition.getId(), ServerTrace.off);
+            assertEquals(ServerTrace.off, wrapper.getServerTrace());
+        } finally {
+            Disposer.dispose(wrapper);
+        }
+    }
+
+    public void testMessageHookWithTraceOffDoesNoLookup() {
+        var serverDefinition = new MockLanguageServerDefinition("trace-off-server-id");
+        var settingsLookups = new AtomicInteger();
+        var wrapper = new LanguageServerWrapper(getProject(), serverDefinition) {
+            @Override
+            @NotNull
+            ServerTrace loadServerTrace() {
+                settingsLookups.incrementAndGet();
+                return super.loadServerTrace();
+            }
+        };
+        var panel = new LSPConsoleToolWindowPanel(getProject());
+        var nodeLookups = new AtomicInteger();
+        var explorer = new LanguageServerExplorer(panel) {
+            @Override
+            public @Nullable LanguageServerTreeNode findNodeForServer(@NotNull LanguageServerDefinition serverDefinition) {
+                nodeLookups.incrementAndGet();
+                return super.findNodeForServer(serverDefinition);
+            }
+        };
+        try {
+            assertEquals(ServerTrace.off, wrapper.getServerTrace());
+            settingsLookups.set(0);
+            nodeLookups.set(0);
+
+            var listener = new LanguageServerExplorerLifecycleListener(explorer);
+            var message = new NotificationMessage();
+            message.setMethod("window/logMessage");
+            for (int i = 0; i < 100; i++) {
+                listener.handleLSPMessage(message, m -> {}, wrapper);
+            }
+            // With traces off, the message hook only reads the cached server trace
+            assertEquals(0, settingsLookups.get());
+            assertEquals(0, nodeLookups.get());
+        } finally {
+            Disposer.dispose(explorer);
+            Disposer.dispose(panel);
+            Disposer.dispose(wrapper);
+        }
+    }
+
+    private void updateServerTrace(String languageServerId, ServerTrace serverTrace) {
+        var settings = new LanguageServerSettings.LanguageServerDefinitionSettings();
+        settings.setServerTrace(serverTrace);
+        ProjectLanguageServerSettings.getInstance(getProject()).updateSettings(languageServerId, settings);
+    }
+}
@@ -23,7 +23,7 @@ import org.jetbrains.annotations.Nullable;
 import java.io.StringReader;
 
 /**
- * Tests for LSP {@link SettingsHelper#findSettings(String, JsonObject)}.
+ * Tests for LSP {@link SettingsHelper#findSettings(String, JsonObject)} and {@link SettingsIndex#findSettings(String)}.
  */
 public class SettingsHelper_findSettingsTest extends BasePlatformTestCase {
     // language=json
@@ -135,6 +135,33 @@ public class SettingsHelper_findSettingsTest extends BasePlatformTestCase {
         assertFindSettings(juliaConfig, "julia.inlayHints.static.enabled", "true");
     }
 
+    public void testIndexDetectsSettingsUpdatedInPlace() {
+        JsonObject settings = parseJsonObject(testJson);
+        SettingsIndex index = new SettingsIndex(settings, 0);
+        assertTrue(index.isIndexing(settings, 0));
+        assertFalse(index.isIndexing(parseJsonObject(testJson), 0));
+
+        // A language client can update and return the same settings instance, the settings version is changed
+        settings.getAsJsonObject("mylsp").addProperty("myscalarsetting", "new value");
+        assertFalse(index.isIndexing(settings, 1));
+        assertFindSettings(settings, "mylsp.myscalarsetting", "\"new value\"");
+    }
+
+    public void testSettingsSnapshot() {
+        JsonObject settings = parseJsonObject("{\"mylsp\": {\"value\": \"Aa\"}}");
+        SettingsSnapshot snapshot = SettingsSnapshot.of(settings);
+        assertTrue(snapshot.isSameAs(parseJsonObject("{\"mylsp\": {\"value\": \"Aa\"}}")));
+
+        // "Aa" and "BB" have the same hash code, the settings are compared by content
+        JsonObject collidingSettings = parseJsonObject("{\"mylsp\": {\"value\": \"BB\"}}");
+        assertEquals(settings.hashCode(), collidingSettings.hashCode());
+        assertFalse(snapshot.isSameAs(collidingSettings));
+
+        // The snapshot is a copy of the settings, which can be updated in place
+        settings.getAsJsonObject("mylsp").addProperty("value", "new value");
+        assertFalse(snapshot.isSameAs(settings));
+    }
+
     private static void assertFindSettings(@NotNull String json,
                                            @NotNull String section,
                                            @Nullable String expectedJsonText) {
@@ -150,6 +177,11 @@ public class SettingsHelper_findSettingsTest extends BasePlatformTestCase {
         JsonElement result = SettingsHelper.findSettings(section, jsonObject);
 
         assertEquals(result, expectedJson);
+
+        // The settings index must give the same result, also when the section is memoized
+        SettingsIndex index = new SettingsIndex(jsonObject, 0);
+        assertEquals(index.findSettings(section), expectedJson);
+        assertEquals(index.findSettings(section), expectedJson);
     }
 
     private static JsonObject parseJsonObject(@NotNull String json) {
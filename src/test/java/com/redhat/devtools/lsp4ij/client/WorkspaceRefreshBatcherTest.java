@@ -0,0 +1,82 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.lsp4ij.client;
+
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.testFramework.LightVirtualFile;
+import com.intellij.testFramework.fixtures.BasePlatformTestCase;
+import com.redhat.devtools.lsp4ij.client.WorkspaceRefreshBatcher.RefreshKind;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests for {@link WorkspaceRefreshBatcher}.
+ */
+public class WorkspaceRefreshBatcherTest extends BasePlatformTestCase {
+
+    private final VirtualFile visibleFile = new LightVirtualFile("visible.ts");
+    private final VirtualFile backgroundFile = new LightVirtualFile("background.ts");
+    private final List<String> refreshes = new ArrayList<>();
+
+    private WorkspaceRefreshBatcher createBatcher() {
+        return new WorkspaceRefreshBatcher(
+                () -> List.of(visibleFile, backgroundFile),
+                () -> List.of(visibleFile),
+                (files, kind) -> files.forEach(file -> refreshes.add(kind + " " + file.getName())));
+    }
+
+    public void testBurstIsCoalesced() {
+        var batcher = createBatcher();
+        for (int i = 0; i < 10; i++) {
+            batcher.scheduleRefresh(RefreshKind.CODE_LENS);
+            batcher.scheduleRefresh(RefreshKind.SEMANTIC_TOKENS);
+        }
+        batcher.refreshPendingKinds();
+        // Only the visible file is refreshed, one time per refresh kind
+        assertEquals(List.of("CODE_LENS visible.ts", "SEMANTIC_TOKENS visible.ts"), refreshes);
+
+        // The refreshes have been done
+        refreshes.clear();
+        batcher.refreshPendingKinds();
+        assertEmpty(refreshes);
+    }
+
+    public void testBackgroundFileIsRefreshedWhenSelected() {
+        var batcher = createBatcher();
+        batcher.scheduleRefresh(RefreshKind.INLAY_HINT);
+        batcher.scheduleRefresh(RefreshKind.INLAY_HINT);
+        batcher.refreshPendingKinds();
+        assertTrue(batcher.hasDeferredRefresh(backgroundFile));
+        assertFalse(batcher.hasDeferredRefresh(visibleFile));
+
+        refreshes.clear();
+        batcher.fileSelected(backgroundFile);
+        assertEquals(List.of("INLAY_HINT background.ts"), refreshes);
+        assertFalse(batcher.hasDeferredRefresh(backgroundFile));
+
+        // The deferred refreshes are done only one time
+        refreshes.clear();
+        batcher.fileSelected(backgroundFile);
+        assertEmpty(refreshes);
+    }
+
+    public void testClosedFileIsNotRefreshed() {
+        var batcher = createBatcher();
+        batcher.scheduleRefresh(RefreshKind.DIAGNOSTIC);
+        batcher.refreshPendingKinds();
+        batcher.fileClosed(backgroundFile);
+
+        refreshes.clear();
+        batcher.fileSelected(backgroundFile);
+        assertEmpty(refreshes);
+    }
+}
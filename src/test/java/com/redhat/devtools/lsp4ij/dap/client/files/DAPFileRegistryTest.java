@@ -0,0 +1,70 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.lsp4ij.dap.client.files;
+
+import org.eclipse.lsp4j.debug.Checksum;
+import org.eclipse.lsp4j.debug.ChecksumAlgorithm;
+import org.eclipse.lsp4j.debug.Source;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link DAPFileRegistry} source content cache tests.
+ */
+class DAPFileRegistryTest {
+
+    @Test
+    void testSourceWithoutChecksumIsNotCached() {
+        var source = new Source();
+        source.setSourceReference(1);
+        assertNull(DAPFileRegistry.SourceContentKey.of("node", source));
+    }
+
+    @Test
+    void testContentKeyDependsOnAdapterAndChecksums() {
+        var source = createSource(1, "abc");
+        var key = DAPFileRegistry.SourceContentKey.of("node", source);
+        assertNotNull(key);
+        assertEquals(key, DAPFileRegistry.SourceContentKey.of("node", createSource(1, "abc")));
+        assertNotEquals(key, DAPFileRegistry.SourceContentKey.of("python", createSource(1, "abc")));
+        assertNotEquals(key, DAPFileRegistry.SourceContentKey.of("node", createSource(1, "def")));
+        assertNull(DAPFileRegistry.SourceContentKey.of(null, source));
+    }
+
+    @Test
+    void testLeastRecentlyUsedContentsAreEvicted() {
+        var registry = new DAPFileRegistry();
+        var key1 = new DAPFileRegistry.SourceContentKey("node", 1, "MD5:1");
+        var key2 = new DAPFileRegistry.SourceContentKey("node", 2, "MD5:2");
+        var key3 = new DAPFileRegistry.SourceContentKey("node", 3, "MD5:3");
+        String content = "a".repeat(DAPFileRegistry.MAX_SOURCE_CONTENTS_SIZE / 2);
+        registry.putSourceContent(key1, content);
+        registry.putSourceContent(key2, content);
+        // key1 is now the most recently used content
+        assertEquals(content, registry.getSourceContent(key1));
+        registry.putSourceContent(key3, content);
+
+        assertNotNull(registry.getSourceContent(key1));
+        assertNull(registry.getSourceContent(key2));
+        assertNotNull(registry.getSourceContent(key3));
+    }
+
+    private static Source createSource(int sourceReference, String checksum) {
+        var source = new Source();
+        source.setSourceReference(sourceReference);
+        var sourceChecksum = new Checksum();
+        sourceChecksum.setAlgorithm(ChecksumAlgorithm.MD5);
+        sourceChecksum.setChecksum(checksum);
+        source.setChecksums(new Checksum[]{sourceChecksum});
+        return source;
+    }
+}
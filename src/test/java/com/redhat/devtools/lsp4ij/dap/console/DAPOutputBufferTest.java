@@ -0,0 +1,164 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.lsp4ij.dap.console;
+
+import com.intellij.execution.ui.ConsoleViewContentType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link DAPOutputBuffer} tests.
+ */
+class DAPOutputBufferTest {
+
+    private static final Pattern DROPPED_LINES_PATTERN = Pattern.compile("\\.\\.\\. (\\d+) lines dropped \\.\\.\\.");
+
+    @Test
+    void testConsecutiveTextWithSameTypeIsGrouped() {
+        List<List<DAPOutputBuffer.Chunk>> flushes = Collections.synchronizedList(new ArrayList<>());
+        var buffer = new DAPOutputBuffer(flushes::add, 0);
+        buffer.appendOutput("a\n", ConsoleViewContentType.NORMAL_OUTPUT);
+        buffer.appendOutput("b\n", ConsoleViewContentType.NORMAL_OUTPUT);
+        buffer.appendOutput("error\n", ConsoleViewContentType.ERROR_OUTPUT);
+        buffer.appendOutput("c\n", ConsoleViewContentType.NORMAL_OUTPUT);
+        buffer.flush();
+
+        assertEquals(1, flushes.size());
+        assertEquals(List.of(
+                        new DAPOutputBuffer.Chunk("a\nb\n", ConsoleViewContentType.NORMAL_OUTPUT),
+                        new DAPOutputBuffer.Chunk("error\n", ConsoleViewContentType.ERROR_OUTPUT),
+                        new DAPOutputBuffer.Chunk("c\n", ConsoleViewContentType.NORMAL_OUTPUT)),
+                flushes.get(0));
+    }
+
+    @Test
+    void testBufferIsFlushedAfterDelay() {
+        List<List<DAPOutputBuffer.Chunk>> flushes = Collections.synchronizedList(new ArrayList<>());
+        List<Runnable> delayedFlushes = new ArrayList<>();
+        var buffer = new DAPOutputBuffer(flushes::add, 0, delayedFlushes::add);
+        buffer.appendOutput("a\n", ConsoleViewContentType.NORMAL_OUTPUT);
+        buffer.appendOutput("b\n", ConsoleViewContentType.NORMAL_OUTPUT);
+        assertTrue(flushes.isEmpty());
+        // One delayed flush is scheduled for the text appended before the flush
+        assertEquals(1, delayedFlushes.size());
+
+        delayedFlushes.get(0).run();
+        assertEquals(List.of(List.of(new DAPOutputBuffer.Chunk("a\nb\n", ConsoleViewContentType.NORMAL_OUTPUT))), flushes);
+
+        // The text appended after the flush schedules another delayed flush
+        buffer.appendOutput("c\n", ConsoleViewContentType.NORMAL_OUTPUT);
+        assertEquals(2, delayedFlushes.size());
+    }
+
+    @Test
+    void testNothingIsPrintedAfterDispose() {
+        List<List<DAPOutputBuffer.Chunk>> flushes = Collections.synchronizedList(new ArrayList<>());
+        List<Runnable> delayedFlushes = new ArrayList<>();
+        var buffer = new DAPOutputBuffer(flushes::add, 0, delayedFlushes::add);
+        buffer.appendOutput("a\n", ConsoleViewContentType.NORMAL_OUTPUT);
+
+        // The buffered text is printed on dispose
+        buffer.dispose();
+        assertEquals(List.of(List.of(new DAPOutputBuffer.Chunk("a\n", ConsoleViewContentType.NORMAL_OUTPUT))), flushes);
+
+        // The pending delayed flush and the text appended after the dispose are ignored
+        delayedFlushes.get(0).run();
+        buffer.appendOutput("b\n", ConsoleViewContentType.NORMAL_OUTPUT);
+        buffer.flush();
+        assertEquals(1, delayedFlushes.size());
+        assertEquals(1, flushes.size());
+    }
+
+    @Test
+    void testSystemMessagesAreNeverDropped() {
+        List<List<DAPOutputBuffer.Chunk>> flushes = Collections.synchronizedList(new ArrayList<>());
+        var buffer = new DAPOutputBuffer(flushes::add, 1);
+        buffer.appendOutput("line1\nline2\nline3\n", ConsoleViewContentType.NORMAL_OUTPUT);
+        buffer.append("Disconnected\n", ConsoleViewContentType.SYSTEM_OUTPUT);
+        buffer.flush();
+
+        // The marker is printed where the lines have been dropped
+        String text = getText(flushes);
+        assertEquals("line1\n... 2 lines dropped ...\nDisconnected\n", text);
+    }
+
+    @Test
+    void testTrailingDroppedLinesAreReportedOnFlush() {
+        List<List<DAPOutputBuffer.Chunk>> flushes = Collections.synchronizedList(new ArrayList<>());
+        var buffer = new DAPOutputBuffer(flushes::add, 1);
+        buffer.appendOutput("line1\nline2\n", ConsoleViewContentType.NORMAL_OUTPUT);
+        buffer.appendOutput("line3\n", ConsoleViewContentType.NORMAL_OUTPUT);
+        buffer.flush();
+
+        // No text is printed after the dropped lines, the marker is printed on flush
+        assertEquals("line1\n... 2 lines dropped ...\n", getText(flushes));
+
+        // The marker is printed once
+        buffer.flush();
+        assertEquals(1, flushes.size());
+    }
+
+    @Test
+    void testStressWithStandInAdapter() throws InterruptedException {
+        int totalLines = 100_000;
+        int maxLinesPerSecond = 10_000;
+        List<List<DAPOutputBuffer.Chunk>> flushes = Collections.synchronizedList(new ArrayList<>());
+        var buffer = new DAPOutputBuffer(flushes::add, maxLinesPerSecond);
+
+        // Stand-in debug adapter which sends one 'output' event per line as fast as possible
+        Thread adapter = new Thread(() -> {
+            for (int i = 0; i < totalLines; i++) {
+                buffer.appendOutput("Line " + i + " of the debuggee output\n",
+                        i % 10 == 0 ? ConsoleViewContentType.ERROR_OUTPUT : ConsoleViewContentType.NORMAL_OUTPUT);
+            }
+        });
+        adapter.start();
+        adapter.join();
+        buffer.flush();
+
+        int printedLines = 0;
+        int droppedLines = 0;
+        synchronized (flushes) {
+            for (var chunks : flushes) {
+                for (var chunk : chunks) {
+                    if (chunk.type() == ConsoleViewContentType.SYSTEM_OUTPUT) {
+                        Matcher matcher = DROPPED_LINES_PATTERN.matcher(chunk.text());
+                        while (matcher.find()) {
+                            droppedLines += Integer.parseInt(matcher.group(1));
+                        }
+                    } else {
+                        printedLines += (int) chunk.text().chars().filter(c -> c == '\n').count();
+                    }
+                }
+            }
+        }
+        assertEquals(totalLines, printedLines + droppedLines, "Each line is printed or counted in a 'lines dropped' marker");
+        assertTrue(droppedLines > 0, "The output exceeds the max lines per second");
+        assertTrue(flushes.size() < totalLines / 100, "One flush (EDT dispatch) groups a lot of output events, flushes=" + flushes.size());
+    }
+
+    private static String getText(List<List<DAPOutputBuffer.Chunk>> flushes) {
+        StringBuilder text = new StringBuilder();
+        for (var chunks : flushes) {
+            for (var chunk : chunks) {
+                text.append(chunk.text());
+            }
+        }
+        return text.toString();
+    }
+}
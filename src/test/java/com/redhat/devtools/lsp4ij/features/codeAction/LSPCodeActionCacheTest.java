@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.lsp4ij.features.codeAction;
+
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.testFramework.fixtures.BasePlatformTestCase;
+import org.eclipse.lsp4j.CodeAction;
+import org.eclipse.lsp4j.CodeActionContext;
+import org.eclipse.lsp4j.CodeActionParams;
+import org.eclipse.lsp4j.Command;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextDocumentIdentifier;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Tests for {@link LSPCodeActionCache}.
+ */
+public class LSPCodeActionCacheTest extends BasePlatformTestCase {
+
+    private static final String SERVER_ID = "server";
+
+    private VirtualFile file;
+    private AtomicInteger requests;
+    private Function<CodeActionParams, CompletableFuture<List<Either<Command, CodeAction>>>> loader;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        file = myFixture.configureByText("test.txt", "foo bar").getVirtualFile();
+        LSPCodeActionCache.getCache(file).clear();
+        requests = new AtomicInteger();
+        loader = params -> {
+            requests.incrementAndGet();
+            return CompletableFuture.completedFuture(List.of(Either.forRight(new CodeAction("Fix " + params.getRange().getStart().getCharacter()))));
+        };
+    }
+
+    public void testCacheHit() {
+        var cache = LSPCodeActionCache.getCache(file);
+        assertSame(cache, LSPCodeActionCache.getCache(file));
+
+        var codeActions = cache.getCodeActions(createParams(0, 3), SERVER_ID, loader).join();
+        assertEquals(1, requests.get());
+        // Another instance of the same parameters reuses the cached response
+        assertSame(codeActions.get(0), cache.getCodeActions(createParams(0, 3), SERVER_ID, loader).join().get(0));
+        assertEquals(1, requests.get());
+    }
+
+    public void testCacheMiss() {
+        var cache = LSPCodeActionCache.getCache(file);
+        cache.getCodeActions(createParams(0, 3), SERVER_ID, loader).join();
+        assertEquals(1, requests.get());
+
+        // Other range
+        cache.getCodeActions(createParams(4, 7), SERVER_ID, loader).join();
+        assertEquals(2, requests.get());
+
+        // Other language server
+        cache.getCodeActions(createParams(0, 3), "other-server", loader).join();
+        assertEquals(3, requests.get());
+
+        // Other 'only' kinds
+        var params = createParams(0, 3);
+        params.getContext().setOnly(List.of("quickfix"));
+        cache.getCodeActions(params, SERVER_ID, loader).join();
+        assertEquals(4, requests.get());
+    }
+
+    public void testInvalidation() {
+        var cache = LSPCodeActionCache.getCache(file);
+        cache.getCodeActions(createParams(0, 3), SERVER_ID, loader).join();
+        assertEquals(1, requests.get());
+
+        // The document is modified, the cached code actions are obsolete
+        var document = myFixture.getEditor().getDocument();
+        WriteCommandAction.runWriteCommandAction(getProject(), () -> document.insertString(0, " "));
+        cache.getCodeActions(createParams(0, 3), SERVER_ID, loader).join();
+        assertEquals(2, requests.get());
+
+        cache.clear();
+        cache.getCodeActions(createParams(0, 3), SERVER_ID, loader).join();
+        assertEquals(3, requests.get());
+
+        // A failed request is not reused
+        cache.clear();
+        cache.getCodeActions(createParams(0, 3), SERVER_ID, p -> CompletableFuture.failedFuture(new RuntimeException())).handle((r, e) -> r).join();
+        cache.getCodeActions(createParams(0, 3), SERVER_ID, loader).join();
+        assertEquals(4, requests.get());
+    }
+
+    public void testEvict() {
+        var cache = LSPCodeActionCache.getCache(file);
+        cache.getCodeActions(createParams(0, 3), SERVER_ID, loader).join();
+        cache.getCodeActions(createParams(0, 3), "other-server", loader).join();
+        assertEquals(2, requests.get());
+
+        // The file is closed for the language server, only its code actions are evicted
+        LSPCodeActionCache.evict(file, SERVER_ID);
+        assertSame(cache, LSPCodeActionCache.getCache(file));
+        cache.getCodeActions(createParams(0, 3), "other-server", loader).join();
+        assertEquals(2, requests.get());
+        cache.getCodeActions(createParams(0, 3), SERVER_ID, loader).join();
+        assertEquals(3, requests.get());
+
+        // The file is closed for all language servers, the cache is removed from the file
+        LSPCodeActionCache.evict(file, SERVER_ID);
+        LSPCodeActionCache.evict(file, "other-server");
+        assertNotSame(cache, LSPCodeActionCache.getCache(file));
+    }
+
+    private static CodeActionParams createParams(int start, int end) {
+        var range = new Range(new Position(0, start), new Position(0, end));
+        return new CodeActionParams(new TextDocumentIdentifier("file:///test.txt"), range, new CodeActionContext(Collections.emptyList()));
+    }
+}
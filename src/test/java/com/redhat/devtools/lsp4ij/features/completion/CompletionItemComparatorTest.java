@@ -21,7 +21,9 @@ import org.jetbrains.annotations.Nullable;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -188,6 +190,22 @@ public class CompletionItemComparatorTest {
         assertSortOrder(mutableItems, toUpperCaseItem, toLocaleUpperCaseItem, toLocaleLowerCaseItem, toLowerCaseItem, toStringItem);
     }
 
+    @Test
+    public void compareStartMatchBeforeSortText() {
+        CompletionItem xfooBarItem = newItem("xfooBar", "a");
+        CompletionItem fooBarItem = newItem("fooBar", "b");
+
+        // 'fooBar' is a camel-hump start match of 'fB', 'xfooBar' is not: the start match wins over the sortText
+        List<CompletionItem> mutableItems = new ArrayList<>(List.of(xfooBarItem, fooBarItem));
+        LSPCompletionItemComparator comparator = new LSPCompletionItemComparator(createPrefixMatcher("fB", false), null, false);
+        mutableItems.sort(comparator);
+        assertSortOrder(mutableItems, fooBarItem, xfooBarItem);
+
+        List<CompletionItem> ranked = new ArrayList<>();
+        comparator.rank(List.of(xfooBarItem, fooBarItem), 1).forEachRemaining(ranked::add);
+        assertSortOrder(ranked, fooBarItem, xfooBarItem);
+    }
+
     // Current word tests
 
     @Test
@@ -242,6 +260,37 @@ public class CompletionItemComparatorTest {
         assertSortOrder(mutableItems, fooItem, foItem, bazItem, fiItem, feItem, fumItem, barItem);
     }
 
+    // Ranking tests
+
+    @Test
+    public void rankWithTopKGivesSameOrderAsSort() {
+        List<CompletionItem> largeItems = new ArrayList<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 1000; i++) {
+            String label = items.get(random.nextInt(items.size())).getLabel() + random.nextInt(100);
+            largeItems.add(newItem(label, random.nextBoolean() ? String.valueOf(random.nextInt(10)) : null));
+        }
+        PrefixMatcher prefixMatcher = createPrefixMatcher("f", false);
+        LSPCompletionItemComparator comparator = new LSPCompletionItemComparator(prefixMatcher, "fo", false);
+
+        List<CompletionItem> expected = new ArrayList<>(largeItems);
+        expected.sort(comparator);
+
+        List<CompletionItem> ranked = new ArrayList<>();
+        comparator.rank(largeItems, 50).forEachRemaining(ranked::add);
+        assertSortOrder(ranked, expected.toArray(new CompletionItem[0]));
+    }
+
+    @Test
+    public void rankIgnoresNullItems() {
+        List<CompletionItem> itemsWithNull = new ArrayList<>(List.of(three, one, two));
+        itemsWithNull.add(1, null);
+        List<CompletionItem> ranked = new ArrayList<>();
+        caseInsensitiveComparator.rank(itemsWithNull, 2).forEachRemaining(ranked::add);
+        assertSortOrder(ranked, one, two, three);
+        assertFalse(caseInsensitiveComparator.rank(Collections.emptyList(), 2).hasNext());
+    }
+
     // Test utilities
 
     private static CompletionItem newItem(@Nullable String label, @Nullable String sortText) {
@@ -0,0 +1,56 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.lsp4ij.features.completion;
+
+import com.redhat.devtools.lsp4ij.fixtures.LSPReplayFixtureTestCase;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Completion latency benchmark which replays a recorded language server traffic without latency, so the measured
+ * latency is the client-side latency of the completion (ex: the wake-up of the thread which waits for the
+ * 'textDocument/completion' response).
+ */
+public class CompletionLatencyReplayTest extends LSPReplayFixtureTestCase {
+
+    // The first completion starts the language server and is not measured
+    private static final int WARMUP_ITERATIONS = 1;
+
+    private static final int ITERATIONS = 20;
+
+    public CompletionLatencyReplayTest() {
+        super("/recordings/completion-latency.lsp", 0, "*.txt");
+    }
+
+    public void testCompletionLatencyBenchmark() {
+        for (int i = 0; i < WARMUP_ITERATIONS + ITERATIONS; i++) {
+            // A new file for each completion, so the completion is not taken from the cache of the previous one
+            myFixture.configureByText("test" + i + ".txt", "b<caret>");
+            if (i < WARMUP_ITERATIONS) {
+                myFixture.completeBasic();
+            } else {
+                measure("completion", () -> myFixture.completeBasic());
+            }
+            assertNotNull("Completion elements should be not null", myFixture.getLookupElements());
+            assertEquals(2, myFixture.getLookupElements().length);
+        }
+
+        long[] latencies = getMeasurements()
+                .stream()
+                .mapToLong(Measurement::durationNanos)
+                .sorted()
+                .toArray();
+        assertEquals(ITERATIONS, latencies.length);
+        long p50 = TimeUnit.NANOSECONDS.toMicros(latencies[ITERATIONS / 2]);
+        long p90 = TimeUnit.NANOSECONDS.toMicros(latencies[ITERATIONS * 9 / 10]);
+        System.out.println("Completion latency: p50=" + p50 + "us, p90=" + p90 + "us");
+    }
+}
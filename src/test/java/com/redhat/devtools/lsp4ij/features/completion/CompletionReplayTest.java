@@ -0,0 +1,44 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.lsp4ij.features.completion;
+
+import com.redhat.devtools.lsp4ij.client.features.LSPCompletionProposal;
+import com.redhat.devtools.lsp4ij.fixtures.LSPReplayFixtureTestCase;
+import org.eclipse.lsp4j.CompletionItem;
+import org.eclipse.lsp4j.CompletionItemKind;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Completion test which replays a recorded language server traffic.
+ */
+public class CompletionReplayTest extends LSPReplayFixtureTestCase {
+
+    public CompletionReplayTest() {
+        super("/recordings/completion.lsp", 0, "*.txt");
+    }
+
+    public void testCompletionWithRecordedServer() {
+        myFixture.configureByText("test.txt", "b<caret>");
+        var measurement = measure("completion", () -> myFixture.completeBasic());
+
+        assertNotNull("Completion elements should be not null", myFixture.getLookupElements());
+        // The completion items are the items of the recorded 'textDocument/completion' response
+        var actualItems = Stream.of(myFixture.getLookupElements())
+                .filter(element -> element.getObject() instanceof LSPCompletionProposal)
+                .map(element -> ((LSPCompletionProposal) element.getObject()).getItem())
+                .toList();
+        assertEquals(List.of("bar", "baz"), actualItems.stream().map(CompletionItem::getLabel).toList());
+        assertEquals(List.of(CompletionItemKind.Variable, CompletionItemKind.Variable), actualItems.stream().map(CompletionItem::getKind).toList());
+        assertTrue(measurement.durationNanos() > 0);
+    }
+}
@@ -0,0 +1,186 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.lsp4ij.features.completion;
+
+import com.intellij.codeInsight.lookup.Lookup;
+import com.intellij.codeInsight.lookup.LookupEvent;
+import com.intellij.codeInsight.lookup.impl.LookupImpl;
+import com.redhat.devtools.lsp4ij.LanguageServiceAccessor;
+import com.redhat.devtools.lsp4ij.fixtures.LSPCodeInsightFixtureTestCase;
+import com.redhat.devtools.lsp4ij.internal.LSPRequestScheduler;
+import com.redhat.devtools.lsp4ij.internal.LSPRequestScheduler.Priority;
+import com.redhat.devtools.lsp4ij.mock.MockLanguageServer;
+import com.redhat.devtools.lsp4ij.mock.MockTextDocumentService;
+import org.eclipse.lsp4j.CompletionItem;
+import org.eclipse.lsp4j.CompletionList;
+import org.eclipse.lsp4j.CompletionOptions;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Tests for the prefetch and the cancellation of 'completionItem/resolve'
+ * done by {@link LSPCompletionContributor.LSPLookupManagerListener.LSPLookupListener}.
+ */
+public class LSPLookupListenerTest extends LSPCodeInsightFixtureTestCase {
+
+    private static final long TIMEOUT = 5000;
+
+    // The pending 'completionItem/resolve' requests received by the language server, by item label
+    private final Map<String, CompletableFuture<CompletionItem>> resolveRequests = new ConcurrentHashMap<>();
+
+    // Requests which keep the request scheduler of the language server busy
+    private final List<CompletableFuture<Object>> blockingRequests = new ArrayList<>();
+
+    public LSPLookupListenerTest() {
+        super("*.resolve");
+    }
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        MockLanguageServer.reset(() -> {
+            var capabilities = MockLanguageServer.defaultServerCapabilities();
+            capabilities.setCompletionProvider(new CompletionOptions(true, null));
+            return capabilities;
+        });
+        MockLanguageServer.INSTANCE.setTextDocumentService(new MockTextDocumentService(MockLanguageServer.INSTANCE::buildMaybeDelayedFuture) {
+            @Override
+            public CompletableFuture<CompletionItem> resolveCompletionItem(CompletionItem unresolved) {
+                // The resolve is pending until the test completes it
+                var future = new CompletableFuture<CompletionItem>();
+                resolveRequests.put(unresolved.getLabel(), future);
+                return future;
+            }
+        });
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        try {
+            resolveRequests.values().forEach(future -> future.complete(null));
+            blockingRequests.forEach(future -> future.cancel(true));
+        } finally {
+            super.tearDown();
+        }
+    }
+
+    public void testSelectedItemResolveIsNotCancelled() throws Exception {
+        var lookup = completeBasic();
+        var selectedItem = lookup.getCurrentItem();
+        assertNotNull(selectedItem);
+        assertEquals("item1", selectedItem.getLookupString());
+
+        var listener = new LSPCompletionContributor.LSPLookupManagerListener.LSPLookupListener(lookup);
+        // The selected item and the next items are resolved in background
+        listener.currentItemChanged(new LookupEvent(lookup, selectedItem, Lookup.NORMAL_SELECT_CHAR));
+        waitUntil(() -> resolveRequests.keySet().containsAll(List.of("item1", "item2", "item3")));
+
+        // The selected item is applied: the prefetched resolve of the other items is cancelled,
+        // the resolve of the selected item is kept because it is used to apply the completion item
+        listener.itemSelected(new LookupEvent(lookup, selectedItem, Lookup.NORMAL_SELECT_CHAR));
+        waitUntil(() -> resolveRequests.get("item2").isCancelled() && resolveRequests.get("item3").isCancelled());
+        // '$/cancelRequest' notifications are processed in order, item1 would have been cancelled before item2
+        assertFalse(resolveRequests.get("item1").isCancelled());
+    }
+
+    public void testLookupCanceledCancelsAllResolves() throws Exception {
+        var lookup = completeBasic();
+        var selectedItem = lookup.getCurrentItem();
+        assertNotNull(selectedItem);
+
+        var listener = new LSPCompletionContributor.LSPLookupManagerListener.LSPLookupListener(lookup);
+        listener.currentItemChanged(new LookupEvent(lookup, selectedItem, Lookup.NORMAL_SELECT_CHAR));
+        waitUntil(() -> resolveRequests.keySet().containsAll(List.of("item1", "item2", "item3")));
+
+        listener.lookupCanceled(new LookupEvent(lookup, true));
+        waitUntil(() -> resolveRequests.values().stream().allMatch(CompletableFuture::isCancelled));
+    }
+
+    public void testSelectedPrefetchedItemIsResolvedBeforeQueuedRequests() throws Exception {
+        configure();
+        // Keep the request scheduler busy: the running requests are never completed and the next requests are queued
+        var requestScheduler = getRequestScheduler();
+        for (int i = 0; i < 8; i++) {
+            blockingRequests.add(requestScheduler.schedule(Priority.VISIBLE_EDITOR, CompletableFuture::new));
+            blockingRequests.add(requestScheduler.schedule(Priority.BACKGROUND, CompletableFuture::new));
+        }
+        int queuedRequests = requestScheduler.getQueuedRequests();
+        assertTrue(queuedRequests > 0);
+
+        var lookup = complete();
+        var selectedItem = lookup.getCurrentItem();
+        assertNotNull(selectedItem);
+        assertEquals("item1", selectedItem.getLookupString());
+        var listener = new LSPCompletionContributor.LSPLookupManagerListener.LSPLookupListener(lookup);
+        // The selected item is resolved immediately, the next items are queued
+        listener.currentItemChanged(new LookupEvent(lookup, selectedItem, Lookup.NORMAL_SELECT_CHAR));
+        waitUntil(() -> resolveRequests.containsKey("item1"));
+        assertEquals(queuedRequests + 2, requestScheduler.getQueuedRequests());
+
+        // The prefetched item2 is selected, its queued resolve is sent ahead of the queued requests
+        var item2 = lookup.getItems().get(1);
+        assertEquals("item2", item2.getLookupString());
+        lookup.setCurrentItem(item2);
+        listener.currentItemChanged(new LookupEvent(lookup, item2, Lookup.NORMAL_SELECT_CHAR));
+        waitUntil(() -> resolveRequests.containsKey("item2"));
+        assertFalse(resolveRequests.containsKey("item3"));
+        assertEquals(queuedRequests + 1, requestScheduler.getQueuedRequests());
+    }
+
+    private @NotNull LookupImpl completeBasic() {
+        configure();
+        return complete();
+    }
+
+    private void configure() {
+        MockLanguageServer.INSTANCE.setCompletionList(new CompletionList(false, List.of(
+                createCompletionItem("item1", "1"),
+                createCompletionItem("item2", "2"),
+                createCompletionItem("item3", "3"))));
+        myFixture.configureByText("test.resolve", "<caret>");
+    }
+
+    private @NotNull LookupImpl complete() {
+        myFixture.completeBasic();
+        var lookup = myFixture.getLookup();
+        assertInstanceOf(lookup, LookupImpl.class);
+        return (LookupImpl) lookup;
+    }
+
+    private @NotNull LSPRequestScheduler getRequestScheduler() throws Exception {
+        var languageServers = LanguageServiceAccessor.getInstance(getProject())
+                .getLanguageServers(myFixture.getFile(), null, null)
+                .get(TIMEOUT, TimeUnit.MILLISECONDS);
+        assertEquals(1, languageServers.size());
+        return languageServers.get(0).getServerWrapper().getRequestScheduler();
+    }
+
+    private static CompletionItem createCompletionItem(String label, String sortText) {
+        var item = new CompletionItem(label);
+        item.setSortText(sortText);
+        return item;
+    }
+
+    private static void waitUntil(@NotNull BooleanSupplier condition) throws InterruptedException {
+        long start = System.currentTimeMillis();
+        while (!condition.getAsBoolean()) {
+            assertTrue("Timeout while waiting for the 'completionItem/resolve' requests", System.currentTimeMillis() - start < TIMEOUT);
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.lsp4ij.features.diagnostics;
+
+import com.google.gson.JsonPrimitive;
+import org.eclipse.lsp4j.*;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link CompactDiagnostics}.
+ */
+public class CompactDiagnosticsTest {
+
+    private static final int WORKSPACE_DIAGNOSTICS = 50_000;
+
+    private static final String[] MESSAGES = {
+            "The import java.util.List is never used",
+            "The value of the local variable 'x' is not used",
+            "Missing semicolon"
+    };
+
+    @Test
+    public void testInflateIsLossless() {
+        var withData = createDiagnostic(0);
+        withData.setData(new JsonPrimitive("quickfix-data"));
+        withData.setTags(List.of(DiagnosticTag.Unnecessary));
+        var withIntCode = createDiagnostic(1);
+        withIntCode.setCode(42);
+        withIntCode.setSeverity(null);
+        var withRelatedInformation = createDiagnostic(2);
+        withRelatedInformation.setRelatedInformation(List.of(new DiagnosticRelatedInformation(
+                new Location("file:///a.java", new Range(new Position(1, 0), new Position(1, 1))), "related")));
+        var withSeveralTags = createDiagnostic(3);
+        withSeveralTags.setTags(List.of(DiagnosticTag.Deprecated, DiagnosticTag.Unnecessary));
+        List<Diagnostic> diagnostics = List.of(withData, withIntCode, withRelatedInformation, withSeveralTags);
+
+        var compact = CompactDiagnostics.of(diagnostics);
+        assertEquals(diagnostics, compact.inflate());
+        assertTrue(compact.hasErrors());
+        assertFalse(CompactDiagnostics.of(List.of(withIntCode)).hasErrors());
+    }
+
+    @Test
+    public void testStringsAreInterned() {
+        var compact = CompactDiagnostics.of(List.of(createDiagnostic(0), createDiagnostic(3)));
+        var diagnostics = compact.inflate();
+        assertSame(diagnostics.get(0).getMessage(), diagnostics.get(1).getMessage());
+        assertSame(diagnostics.get(0).getSource(), diagnostics.get(1).getSource());
+        assertSame(diagnostics.get(0).getCode().getLeft(), diagnostics.get(1).getCode().getLeft());
+    }
+
+    @Test
+    public void testCompactDiagnosticsDontRetainLsp4jDiagnostics() {
+        var diagnostic = createDiagnostic(0);
+        var withRelatedInformation = createDiagnostic(1);
+        withRelatedInformation.setRelatedInformation(List.of(new DiagnosticRelatedInformation(
+                new Location("file:///a.java", new Range(new Position(1, 0), new Position(1, 1))), "related")));
+        var compact = CompactDiagnostics.of(List.of(diagnostic, withRelatedInformation));
+
+        // The compacted diagnostic is created again on each inflate
+        var first = compact.inflate();
+        var second = compact.inflate();
+        assertEquals(diagnostic, first.get(0));
+        assertNotSame(diagnostic, first.get(0));
+        assertNotSame(first.get(0), second.get(0));
+        // The rare diagnostic is stored as is
+        assertSame(withRelatedInformation, first.get(1));
+        assertSame(withRelatedInformation, second.get(1));
+    }
+
+    @Test
+    public void testWorkspaceDiagnosticsShareStrings() {
+        List<CompactDiagnostics> files = new ArrayList<>();
+        for (int file = 0; file < WORKSPACE_DIAGNOSTICS / 50; file++) {
+            files.add(CompactDiagnostics.of(createFileDiagnostics()));
+        }
+        // The strings of the diagnostics of all files are shared, whatever the number of files
+        var firstFile = files.get(0).inflate();
+        var lastFile = files.get(files.size() - 1).inflate();
+        assertEquals(firstFile, lastFile);
+        for (int i = 0; i < firstFile.size(); i++) {
+            assertSame(firstFile.get(i).getMessage(), lastFile.get(i).getMessage());
+            assertSame(firstFile.get(i).getSource(), lastFile.get(i).getSource());
+            assertSame(firstFile.get(i).getCode().getLeft(), lastFile.get(i).getCode().getLeft());
+        }
+    }
+
+    @Test
+    public void testIsSameAs() {
+        var withData = createDiagnostic(0);
+        withData.setData(new JsonPrimitive("quickfix-data"));
+        var withRelatedInformation = createDiagnostic(1);
+        withRelatedInformation.setRelatedInformation(List.of(new DiagnosticRelatedInformation(
+                new Location("file:///a.java", new Range(new Position(1, 0), new Position(1, 1))), "related")));
+        var compact = CompactDiagnostics.of(List.of(createDiagnostic(2), withData, withRelatedInformation));
+
+        assertTrue(compact.isSameAs(compact.inflate()));
+        assertTrue(compact.isSameAs(List.of(createDiagnostic(2), withData, withRelatedInformation)));
+        assertTrue(CompactDiagnostics.EMPTY.isSameAs(List.of()));
+
+        // The diagnostics are compared regardless of their order
+        assertTrue(compact.isSameAs(List.of(withData, createDiagnostic(2), withRelatedInformation)));
+        assertTrue(compact.isSameAs(List.of(withRelatedInformation, withData, createDiagnostic(2))));
+        assertFalse(compact.isSameAs(List.of(createDiagnostic(2), withData)));
+
+        var otherMessage = createDiagnostic(2);
+        otherMessage.setMessage("Other message");
+        assertFalse(compact.isSameAs(List.of(otherMessage, withData, withRelatedInformation)));
+        var otherRange = createDiagnostic(2);
+        otherRange.getRange().getEnd().setCharacter(21);
+        assertFalse(compact.isSameAs(List.of(otherRange, withData, withRelatedInformation)));
+        var otherCode = createDiagnostic(2);
+        otherCode.setCode(42);
+        assertFalse(compact.isSameAs(List.of(otherCode, withData, withRelatedInformation)));
+        var otherData = createDiagnostic(0);
+        otherData.setData(new JsonPrimitive("other-data"));
+        assertFalse(compact.isSameAs(List.of(createDiagnostic(2), otherData, withRelatedInformation)));
+        var withTag = createDiagnostic(2);
+        withTag.setTags(List.of(DiagnosticTag.Unnecessary));
+        assertFalse(compact.isSameAs(List.of(withTag, withData, withRelatedInformation)));
+        assertFalse(compact.isSameAs(List.of(createDiagnostic(2), withData, createDiagnostic(1))));
+    }
+
+    @Test
+    public void testIsSameAsWithDuplicates() {
+        var compact = CompactDiagnostics.of(List.of(createDiagnostic(1), createDiagnostic(1), createDiagnostic(2)));
+
+        assertTrue(compact.isSameAs(List.of(createDiagnostic(2), createDiagnostic(1), createDiagnostic(1))));
+        assertTrue(compact.isSameAs(List.of(createDiagnostic(1), createDiagnostic(2), createDiagnostic(1))));
+        // The occurrences of the diagnostics are compared
+        assertFalse(compact.isSameAs(List.of(createDiagnostic(1), createDiagnostic(2), createDiagnostic(2))));
+        assertFalse(compact.isSameAs(List.of(createDiagnostic(2), createDiagnostic(2), createDiagnostic(1))));
+    }
+
+    private static List<Diagnostic> createFileDiagnostics() {
+        List<Diagnostic> diagnostics = new ArrayList<>(50);
+        for (int i = 0; i < 50; i++) {
+            diagnostics.add(createDiagnostic(i));
+        }
+        return diagnostics;
+    }
+
+    private static Diagnostic createDiagnostic(int line) {
+        // Create new string instances as the JSON deserialization does
+        return new Diagnostic(new Range(new Position(line, 4), new Position(line, 20)),
+                new String(MESSAGES[line % MESSAGES.length]),
+                line % 2 == 0 ? DiagnosticSeverity.Error : DiagnosticSeverity.Warning,
+                new String("Java"),
+                new String("268435844"));
+    }
+}
@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.lsp4ij.features.documentSymbol;
+
+import com.intellij.openapi.util.TextRange;
+import com.intellij.psi.PsiFile;
+import com.intellij.util.containers.ContainerUtil;
+import com.redhat.devtools.lsp4ij.LanguageServerItem;
+import com.redhat.devtools.lsp4ij.LanguageServiceAccessor;
+import com.redhat.devtools.lsp4ij.fixtures.LSPCodeInsightFixtureTestCase;
+import org.eclipse.lsp4j.DocumentSymbol;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.SymbolKind;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for {@link DocumentSymbolData#reconcile(List, List)}.
+ */
+public class DocumentSymbolDataTest extends LSPCodeInsightFixtureTestCase {
+
+    private PsiFile file;
+    private LanguageServerItem languageServer;
+
+    public DocumentSymbolDataTest() {
+        super("*.symbols");
+    }
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        file = myFixture.configureByText("test.symbols", "line\n".repeat(10));
+        List<LanguageServerItem> languageServers = new ArrayList<>();
+        ContainerUtil.addAllNotNull(languageServers, LanguageServiceAccessor.getInstance(file.getProject())
+                .getLanguageServers(file, null, null)
+                .get(5000, TimeUnit.MILLISECONDS));
+        languageServer = ContainerUtil.getFirstItem(languageServers);
+        assertNotNull(languageServer);
+    }
+
+    public void testRename() {
+        var a = createSymbol("A", 0);
+        var b = createSymbol("B", 1);
+        var result = DocumentSymbolData.reconcile(List.of(a, b), List.of(createSymbol("A", 0), createSymbol("C", 1)));
+        assertSame(a, result.get(0));
+        assertNotSame(b, result.get(1));
+        assertEquals("C", result.get(1).getDocumentSymbol().getName());
+    }
+
+    public void testMove() {
+        var a = createSymbol("A", 0);
+        var b = createSymbol("B", 1);
+        // Compute the text ranges before the reconcile
+        assertEquals(new TextRange(0, 4), a.getTextRange());
+        assertEquals(new TextRange(5, 9), b.getTextRange());
+
+        var result = DocumentSymbolData.reconcile(List.of(a, b), List.of(createSymbol("B", 3), createSymbol("A", 4)));
+        assertSame(b, result.get(0));
+        assertSame(a, result.get(1));
+        // The text ranges are updated with the new ranges
+        assertEquals(new TextRange(15, 19), b.getTextRange());
+        assertEquals(new TextRange(20, 24), a.getTextRange());
+    }
+
+    public void testInsertion() {
+        var a = createSymbol("A", 0);
+        var b = createSymbol("B", 1);
+        var x = createSymbol("X", 1);
+        var result = DocumentSymbolData.reconcile(List.of(a, b), List.of(createSymbol("A", 0), x, createSymbol("B", 2)));
+        assertSize(3, result);
+        assertSame(a, result.get(0));
+        assertSame(x, result.get(1));
+        assertSame(b, result.get(2));
+        assertEquals(2, b.getDocumentSymbol().getRange().getStart().getLine());
+    }
+
+    public void testDeletion() {
+        var a = createSymbol("A", 0);
+        var b = createSymbol("B", 1);
+        var c = createSymbol("C", 2);
+        var result = DocumentSymbolData.reconcile(List.of(a, b, c), List.of(createSymbol("A", 0), createSymbol("C", 1)));
+        assertSize(2, result);
+        assertSame(a, result.get(0));
+        assertSame(c, result.get(1));
+    }
+
+    public void testSiblingsWithSameName() {
+        var first = createSymbol("f", 0);
+        var second = createSymbol("f", 1);
+        var result = DocumentSymbolData.reconcile(List.of(first, second), List.of(createSymbol("f", 2), createSymbol("f", 3)));
+        assertSame(first, result.get(0));
+        assertSame(second, result.get(1));
+    }
+
+    public void testChildren() {
+        var a = createSymbol("A", 0, createDocumentSymbol("f1", 1), createDocumentSymbol("f2", 2));
+        var oldChildren = a.getChildren();
+        assertSize(2, oldChildren);
+
+        var result = DocumentSymbolData.reconcile(List.of(a), List.of(createSymbol("A", 0, createDocumentSymbol("f2", 1), createDocumentSymbol("f3", 2))));
+        assertSame(a, result.get(0));
+        var children = a.getChildren();
+        assertSize(2, children);
+        // f1 is deleted, f2 is reused, f3 is inserted
+        assertSame(oldChildren[1], children[0]);
+        assertEquals(new TextRange(5, 9), children[0].getTextRange());
+        assertNotSame(oldChildren[0], children[1]);
+        assertEquals("f3", children[1].getDocumentSymbol().getName());
+        assertSame(a, children[1].getParent());
+    }
+
+    private DocumentSymbolData createSymbol(String name, int line, DocumentSymbol... children) {
+        var documentSymbol = createDocumentSymbol(name, line);
+        if (children.length > 0) {
+            documentSymbol.setChildren(List.of(children));
+        }
+        return new DocumentSymbolData(documentSymbol, file, languageServer);
+    }
+
+    private static DocumentSymbol createDocumentSymbol(String name, int line) {
+        var range = new Range(new Position(line, 0), new Position(line, 4));
+        return new DocumentSymbol(name, SymbolKind.Method, range, range);
+    }
+}
@@ -272,6 +272,11 @@ public class MarkdownConverterTest extends LSPCodeInsightFixtureTestCase {
         assertEquals(html, toHtml(markdown, null, null, "test.ts"));
     }
 
+    public void testRenderedHtmlIsCached() {
+        String html = toHtml("Some **cached** documentation");
+        assertSame(html, toHtml(new String("Some **cached** documentation")));
+    }
+
     private String toHtml(String markdown) {
         return MarkdownConverter.getInstance(myFixture.getProject()).toHtml(markdown);
     }
@@ -0,0 +1,55 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.lsp4ij.features.documentation;
+
+import org.junit.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link MarkdownHtmlCache}.
+ */
+public class MarkdownHtmlCacheTest {
+
+    private static final String SCHEME = "Default";
+
+    @Test
+    public void testCacheHit() {
+        var cache = new MarkdownHtmlCache();
+        cache.put(MarkdownHtmlCache.Key.create("# Title", null, null, null, SCHEME), "<h1>Title</h1>");
+        // A key created with another instance of the same markdown content hits the cache
+        assertEquals("<h1>Title</h1>", cache.get(MarkdownHtmlCache.Key.create(new String("# Title"), null, null, null, SCHEME)));
+    }
+
+    @Test
+    public void testCacheMiss() {
+        var cache = new MarkdownHtmlCache();
+        cache.put(MarkdownHtmlCache.Key.create("# Title", null, "foo.ts", null, SCHEME), "<h1>Title</h1>");
+        assertNull(cache.get(MarkdownHtmlCache.Key.create("# Other", null, "foo.ts", null, SCHEME)));
+        assertNull(cache.get(MarkdownHtmlCache.Key.create("# Title", null, "foo.java", null, SCHEME)));
+        assertNull(cache.get(MarkdownHtmlCache.Key.create("# Title", null, "foo.ts", null, "Darcula")));
+    }
+
+    @Test
+    public void testEvictionAndClear() {
+        var cache = new MarkdownHtmlCache();
+        for (int i = 0; i <= MarkdownHtmlCache.MAX_ENTRIES; i++) {
+            cache.put(MarkdownHtmlCache.Key.create("item" + i, null, null, null, SCHEME), "html" + i);
+        }
+        // The eldest entry has been evicted
+        assertNull(cache.get(MarkdownHtmlCache.Key.create("item0", null, null, null, SCHEME)));
+        var lastKey = MarkdownHtmlCache.Key.create("item" + MarkdownHtmlCache.MAX_ENTRIES, null, null, null, SCHEME);
+        assertEquals("html" + MarkdownHtmlCache.MAX_ENTRIES, cache.get(lastKey));
+
+        cache.clear();
+        assertNull(cache.get(lastKey));
+    }
+}
@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.lsp4ij.features.inlayhint;
+
+import com.redhat.devtools.lsp4ij.LSPFileSupport;
+import com.redhat.devtools.lsp4ij.fixtures.LSPCodeInsightFixtureTestCase;
+import com.redhat.devtools.lsp4ij.mock.MockLanguageServer;
+import org.eclipse.lsp4j.InlayHint;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
+
+import java.util.List;
+
+import static com.redhat.devtools.lsp4ij.internal.CompletableFutures.waitUntilDone;
+
+/**
+ * Tests for the tiles and the refresh of {@link LSPInlayHintsSupport}.
+ */
+public class LSPInlayHintsSupportTest extends LSPCodeInsightFixtureTestCase {
+
+    private static final int LINE_COUNT = 1000;
+
+    public LSPInlayHintsSupportTest() {
+        super("*.inlay");
+    }
+
+    public void testVisibleTilesAreLoaded() throws Exception {
+        var requestedRanges = MockLanguageServer.INSTANCE.getTextDocumentService().inlayHintRanges;
+        // The mock language server ignores the range and returns all inlay hints
+        MockLanguageServer.INSTANCE.setInlayHints(List.of(createInlayHint(10), createInlayHint(250), createInlayHint(450)));
+        var inlayHintsSupport = configureInlayHintsSupport();
+        var document = myFixture.getEditor().getDocument();
+        requestedRanges.clear();
+
+        // Lines 0-50 are visible: only the first tile is loaded
+        waitUntilDone(inlayHintsSupport.getInlayHints(document, 0, 50));
+        assertSameElements(requestedRanges, createTileRange(0));
+        assertEquals(List.of(10), getLines(inlayHintsSupport.getLoadedInlayHints()));
+        assertFalse(inlayHintsSupport.hasTilesToLoad(document, 0, 50));
+        assertTrue(inlayHintsSupport.hasTilesToLoad(document, 300, 350));
+
+        // The editor is scrolled to lines 300-350: the tiles 1 and 2 (for the prefetch margin) are loaded
+        requestedRanges.clear();
+        waitUntilDone(inlayHintsSupport.getInlayHints(document, 300, 350));
+        assertSameElements(requestedRanges, createTileRange(1), createTileRange(2));
+        assertEquals(List.of(10, 250, 450), getLines(inlayHintsSupport.getLoadedInlayHints()));
+        assertFalse(inlayHintsSupport.hasTilesToLoad(document, 300, 350));
+
+        // The editor is scrolled back to lines 0-50: the tile is already loaded
+        requestedRanges.clear();
+        waitUntilDone(inlayHintsSupport.getInlayHints(document, 0, 50));
+        assertEmpty(requestedRanges);
+    }
+
+    public void testRefreshWhenScrolledTilesAreLoaded() throws Exception {
+        MockLanguageServer.INSTANCE.setInlayHints(List.of(createInlayHint(10), createInlayHint(250)));
+        var inlayHintsSupport = configureInlayHintsSupport();
+        var document = myFixture.getEditor().getDocument();
+
+        waitUntilDone(inlayHintsSupport.getInlayHints(document, 0, 50));
+        inlayHintsSupport.refreshEditorFeatureWhenReady();
+        var firstRefresh = inlayHintsSupport.getRefreshEditorFeatureFuture();
+        assertNotNull(firstRefresh);
+        waitUntilDone(firstRefresh);
+
+        MockLanguageServer.INSTANCE.setTimeToProceedQueries(500);
+        try {
+            // The editor is scrolled to lines 300-350 while the first refresh is done,
+            // the inlay hints must be refreshed again when the new tiles are loaded
+            var future = inlayHintsSupport.getInlayHints(document, 300, 350);
+            inlayHintsSupport.refreshEditorFeatureWhenReady();
+            var secondRefresh = inlayHintsSupport.getRefreshEditorFeatureFuture();
+            assertNotNull(secondRefresh);
+            assertNotSame(firstRefresh, secondRefresh);
+
+            // The second refresh is pending, it is not scheduled twice
+            inlayHintsSupport.refreshEditorFeatureWhenReady();
+            assertSame(secondRefresh, inlayHintsSupport.getRefreshEditorFeatureFuture());
+
+            waitUntilDone(future);
+            waitUntilDone(secondRefresh);
+        } finally {
+            MockLanguageServer.INSTANCE.setTimeToProceedQueries(0);
+        }
+    }
+
+    private LSPInlayHintsSupport configureInlayHintsSupport() {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < LINE_COUNT; i++) {
+            content.append("line ").append(i).append('\n');
+        }
+        myFixture.configureByText("test.inlay", content.toString());
+        return LSPFileSupport.getSupport(myFixture.getFile()).getInlayHintsSupport();
+    }
+
+    private static InlayHint createInlayHint(int line) {
+        return new InlayHint(new Position(line, 0), Either.forLeft("hint" + line));
+    }
+
+    private static Range createTileRange(int tile) {
+        int startLine = tile * LSPInlayHintsSupport.TILE_LINE_COUNT;
+        return new Range(new Position(startLine, 0), new Position(startLine + LSPInlayHintsSupport.TILE_LINE_COUNT, 0));
+    }
+
+    private static List<Integer> getLines(List<InlayHintData> inlayHints) {
+        return inlayHints
+                .stream()
+                .map(data -> data.inlayHint().getPosition().getLine())
+                .sorted()
+                .toList();
+    }
+}
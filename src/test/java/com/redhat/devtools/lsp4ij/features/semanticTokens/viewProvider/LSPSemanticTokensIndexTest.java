@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.lsp4ij.features.semanticTokens.viewProvider;
+
+import com.intellij.openapi.util.TextRange;
+import org.eclipse.lsp4j.SemanticTokenModifiers;
+import org.eclipse.lsp4j.SemanticTokenTypes;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link LSPSemanticTokensIndex}.
+ */
+public class LSPSemanticTokensIndexTest {
+
+    @Test
+    public void testEmpty() {
+        LSPSemanticTokensIndex index = new LSPSemanticTokensIndex.Builder().build();
+        assertTrue(index.isEmpty());
+        assertEquals(-1, index.findToken(0));
+    }
+
+    @Test
+    public void testSortedTokens() {
+        var builder = new LSPSemanticTokensIndex.Builder();
+        // const foo = "bar";
+        builder.addSemanticToken(0, 5, SemanticTokenTypes.Keyword, null);
+        builder.addSemanticToken(6, 9, SemanticTokenTypes.Variable, List.of(SemanticTokenModifiers.Declaration));
+        builder.addSemanticToken(12, 17, SemanticTokenTypes.String, List.of());
+        LSPSemanticTokensIndex index = builder.build();
+
+        assertEquals(0, index.findToken(0));
+        assertEquals(0, index.findToken(4));
+        assertEquals(-1, index.findToken(5));
+        assertEquals(1, index.findToken(6));
+        assertEquals(1, index.findToken(8));
+        assertEquals(-1, index.findToken(9));
+        assertEquals(-1, index.findToken(11));
+        assertEquals(2, index.findToken(12));
+        assertEquals(-1, index.findToken(17));
+        assertEquals(-1, index.findToken(-1));
+
+        assertEquals(LSPSemanticTokenElementType.KEYWORD, index.getElementType(0));
+        assertEquals(LSPSemanticTokenElementType.DECLARATION, index.getElementType(1));
+        assertEquals(LSPSemanticTokenElementType.STRING, index.getElementType(2));
+        assertEquals(new TextRange(6, 9), index.getTextRange(1));
+    }
+
+    @Test
+    public void testOverlappingTokensLastWins() {
+        var builder = new LSPSemanticTokensIndex.Builder();
+        builder.addSemanticToken(0, 10, SemanticTokenTypes.Comment, null);
+        builder.addSemanticToken(2, 4, SemanticTokenTypes.Type, null);
+        LSPSemanticTokensIndex index = builder.build();
+
+        assertEquals(0, index.findToken(1));
+        assertEquals(1, index.findToken(2));
+        assertEquals(1, index.findToken(3));
+        assertEquals(0, index.findToken(4));
+        assertEquals(0, index.findToken(9));
+        assertEquals(-1, index.findToken(10));
+        // The text range is the range of the token, not of the segment
+        assertEquals(new TextRange(0, 10), index.getTextRange(index.findToken(9)));
+    }
+
+    @Test
+    public void testWithSemanticToken() {
+        var builder = new LSPSemanticTokensIndex.Builder();
+        builder.addSemanticToken(0, 5, SemanticTokenTypes.Keyword, null);
+        builder.addSemanticToken(10, 15, SemanticTokenTypes.Keyword, null);
+        LSPSemanticTokensIndex index = builder.build()
+                .withSemanticToken(new TextRange(6, 9), SemanticTokenTypes.Type, null);
+
+        assertEquals(LSPSemanticTokenElementType.KEYWORD, index.getElementType(index.findToken(0)));
+        assertEquals(LSPSemanticTokenElementType.REFERENCE, index.getElementType(index.findToken(7)));
+        assertEquals(LSPSemanticTokenElementType.KEYWORD, index.getElementType(index.findToken(12)));
+        assertEquals(-1, index.findToken(9));
+    }
+
+    @Test
+    public void testAddedTokenIsKeptByNextHighlightingPass() {
+        var builder = new LSPSemanticTokensIndex.Builder();
+        builder.addSemanticToken(0, 5, SemanticTokenTypes.Keyword, null);
+        LSPSemanticTokensIndex previous = builder.build()
+                .withSemanticToken(new TextRange(6, 9), SemanticTokenTypes.Type, null)
+                .withSemanticToken(new TextRange(20, 25), SemanticTokenTypes.Type, null);
+
+        // The next highlighting pass covers the second added token
+        var nextBuilder = new LSPSemanticTokensIndex.Builder();
+        nextBuilder.addSemanticToken(0, 5, SemanticTokenTypes.Keyword, null);
+        nextBuilder.addSemanticToken(20, 25, SemanticTokenTypes.String, null);
+        LSPSemanticTokensIndex index = nextBuilder.build().withOverlayOf(previous);
+
+        // The token added outside the highlighting pass is kept
+        assertEquals(LSPSemanticTokenElementType.REFERENCE, index.getElementType(index.findToken(7)));
+        assertEquals(new TextRange(6, 9), index.getTextRange(index.findToken(7)));
+        // The token overlapped by the highlighting pass is replaced
+        assertEquals(LSPSemanticTokenElementType.STRING, index.getElementType(index.findToken(22)));
+        assertEquals(LSPSemanticTokenElementType.KEYWORD, index.getElementType(index.findToken(0)));
+    }
+
+    @Test
+    public void testIndexWithoutAddedTokenIsReused() {
+        var builder = new LSPSemanticTokensIndex.Builder();
+        builder.addSemanticToken(0, 5, SemanticTokenTypes.Keyword, null);
+        LSPSemanticTokensIndex index = builder.build();
+        assertSame(index, index.withOverlayOf(LSPSemanticTokensIndex.EMPTY));
+        assertFalse(LSPSemanticTokensIndex.EMPTY.withSemanticToken(new TextRange(0, 3), SemanticTokenTypes.Type, null).isEmpty());
+    }
+}
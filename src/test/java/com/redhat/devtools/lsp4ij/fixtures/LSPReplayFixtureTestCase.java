@@ -0,0 +1,170 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.lsp4ij.fixtures;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.testFramework.UsefulTestCase;
+import com.intellij.testFramework.fixtures.IdeaProjectTestFixture;
+import com.intellij.testFramework.fixtures.IdeaTestFixtureFactory;
+import com.intellij.testFramework.fixtures.TestFixtureBuilder;
+import com.redhat.devtools.lsp4ij.LanguageServersRegistry;
+import com.redhat.devtools.lsp4ij.server.StreamConnectionProvider;
+import com.redhat.devtools.lsp4ij.server.definition.LanguageServerDefinition;
+import com.redhat.devtools.lsp4ij.server.recording.LSPTrafficRecording;
+import com.redhat.devtools.lsp4ij.server.recording.LSPTrafficReplayConnectionProvider;
+import com.redhat.devtools.lsp4ij.templates.ServerMappingSettings;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.management.ManagementFactory;
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Base class test case to measure the client-side performance of LSP features by replaying a
+ * {@link LSPTrafficRecording} (recorded with {@link com.redhat.devtools.lsp4ij.client.features.LSPClientFeatures#getTrafficRecordingFile()})
+ * as a fake language server, without network and without the real language server.
+ */
+public abstract class LSPReplayFixtureTestCase extends UsefulTestCase {
+
+    private static final String SERVER_ID = "replay-server-id";
+
+    /**
+     * Measurement of an editor operation.
+     *
+     * @param operation      the operation name.
+     * @param durationNanos  the time spent by the operation, in nanoseconds.
+     * @param allocatedBytes the bytes allocated by the thread which executes the operation and -1 if the JVM doesn't
+     *                       support the allocation measurement.
+     */
+    public record Measurement(@NotNull String operation, long durationNanos, long allocatedBytes) {
+
+        public long durationMillis() {
+            return durationNanos / 1_000_000;
+        }
+    }
+
+    private final String recordingResource;
+    private final double latencyScale;
+    private final String[] fileNamePatterns;
+    private final List<Measurement> measurements = new ArrayList<>();
+
+    protected LSPCodeInsightTestFixture myFixture;
+    private LanguageServerDefinition serverDefinition;
+
+    /**
+     * Creates a test case which replays the given recording.
+     *
+     * @param recordingResource the classpath resource of the recording.
+     * @param latencyScale      the factor applied to the recorded latencies (1 replays the original latencies, 0 replays the
+     *                          messages without latency).
+     * @param fileNamePatterns  the file name patterns associated with the replayed language server.
+     */
+    public LSPReplayFixtureTestCase(@NotNull String recordingResource,
+                                    double latencyScale,
+                                    String... fileNamePatterns) {
+        this.recordingResource = recordingResource;
+        this.latencyScale = latencyScale;
+        this.fileNamePatterns = fileNamePatterns;
+    }
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        TestFixtureBuilder<IdeaProjectTestFixture> projectBuilder = IdeaTestFixtureFactory.getFixtureFactory().createFixtureBuilder(getName());
+        myFixture = LSPTestFixtureFactory.getFixtureFactory().createCodeInsightFixture(projectBuilder.getFixture());
+        myFixture.setUp();
+        registerServer();
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        unregisterServer();
+        try {
+            myFixture.tearDown();
+        } catch (Throwable e) {
+            addSuppressedException(e);
+        } finally {
+            myFixture = null;
+            super.tearDown();
+        }
+    }
+
+    private void registerServer() throws Exception {
+        URL resource = LSPReplayFixtureTestCase.class.getResource(recordingResource);
+        assertNotNull("Recording '" + recordingResource + "' not found", resource);
+        var recording = LSPTrafficRecording.load(Path.of(resource.toURI()));
+        serverDefinition = new ReplayLanguageServerDefinition(recording, latencyScale);
+        List<ServerMappingSettings> mappings = List.of(ServerMappingSettings.createFileNamePatternsMappingSettings(List.of(fileNamePatterns), null));
+        LanguageServersRegistry.getInstance().addServerDefinition(myFixture.getProject(), serverDefinition, mappings);
+    }
+
+    private void unregisterServer() {
+        LanguageServersRegistry.getInstance().removeServerDefinition(myFixture.getProject(), serverDefinition);
+    }
+
+    /**
+     * Executes the given editor operation and measures its latency and the bytes it allocates.
+     *
+     * @param operation the operation name.
+     * @param runnable  the editor operation (ex: myFixture.completeBasic()).
+     * @return the measurement of the operation.
+     */
+    protected @NotNull Measurement measure(@NotNull String operation, @NotNull Runnable runnable) {
+        long allocatedBefore = getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        runnable.run();
+        long duration = System.nanoTime() - start;
+        long allocatedAfter = getCurrentThreadAllocatedBytes();
+        var measurement = new Measurement(operation, duration, allocatedBefore != -1 ? allocatedAfter - allocatedBefore : -1);
+        measurements.add(measurement);
+        return measurement;
+    }
+
+    /**
+     * Returns the measurements of the test.
+     *
+     * @return the measurements of the test.
+     */
+    protected @NotNull List<Measurement> getMeasurements() {
+        return Collections.unmodifiableList(measurements);
+    }
+
+    private static long getCurrentThreadAllocatedBytes() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threadMXBean &&
+                threadMXBean.isThreadAllocatedMemorySupported() && threadMXBean.isThreadAllocatedMemoryEnabled()) {
+            return threadMXBean.getCurrentThreadAllocatedBytes();
+        }
+        return -1;
+    }
+
+    /**
+     * {@link LanguageServerDefinition} which replays a recording.
+     */
+    private static class ReplayLanguageServerDefinition extends LanguageServerDefinition {
+
+        private final @NotNull LSPTrafficRecording recording;
+        private final double latencyScale;
+
+        ReplayLanguageServerDefinition(@NotNull LSPTrafficRecording recording, double latencyScale) {
+            super(SERVER_ID, "replay", null, true, 5, true);
+            this.recording = recording;
+            this.latencyScale = latencyScale;
+        }
+
+        @Override
+        public @NotNull StreamConnectionProvider createConnectionProvider(@NotNull Project project) {
+            return new LSPTrafficReplayConnectionProvider(recording, latencyScale);
+        }
+    }
+}
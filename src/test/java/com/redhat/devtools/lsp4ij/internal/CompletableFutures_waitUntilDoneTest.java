@@ -0,0 +1,146 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.lsp4ij.internal;
+
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.progress.util.ProgressIndicatorBase;
+import com.intellij.openapi.util.Disposer;
+import com.intellij.testFramework.fixtures.BasePlatformTestCase;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Tests for {@link CompletableFutures#waitUntilDone(CompletableFuture, com.intellij.psi.PsiFile, Integer)}.
+ */
+public class CompletableFutures_waitUntilDoneTest extends BasePlatformTestCase {
+
+    private static final int ITERATIONS = 100;
+
+    // Delay of the completion / cancel events, greater than the former poll interval (25ms)
+    // and lower than the safety interval of the waiter when the cancellation is listened (200ms)
+    private static final long EVENT_DELAY = 100;
+
+    public void testWaitCompletedFuture() throws Exception {
+        CompletableFutures.waitUntilDone(CompletableFuture.completedFuture("foo"), null, null);
+    }
+
+    public void testWaitFailedFuture() {
+        var future = CompletableFuture.failedFuture(new IllegalStateException("foo"));
+        assertThrows(ExecutionException.class, () -> CompletableFutures.waitUntilDone(future, null, null));
+    }
+
+    public void testWaitTimeout() {
+        var future = new CompletableFuture<String>();
+        long start = System.currentTimeMillis();
+        assertThrows(TimeoutException.class, () -> CompletableFutures.waitUntilDone(future, null, 100));
+        assertTrue(System.currentTimeMillis() - start >= 100);
+    }
+
+    public void testWakeUpOnCompletion() throws Exception {
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+        try {
+            var future = new CompletableFuture<String>();
+            executor.schedule(() -> future.complete("foo"), 10, TimeUnit.MILLISECONDS);
+            CompletableFutures.waitUntilDone(future, null, null);
+            assertEquals("foo", future.getNow(null));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    public void testWakeUpOnCancel() throws Exception {
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+        try {
+            var indicator = new ProgressIndicatorBase();
+            var error = new AtomicReference<Throwable>();
+            executor.schedule(indicator::cancel, 10, TimeUnit.MILLISECONDS);
+            ProgressManager.getInstance().runProcess(() -> {
+                try {
+                    CompletableFutures.waitUntilDone(new CompletableFuture<String>(), null, null);
+                } catch (Throwable e) {
+                    error.set(e);
+                }
+            }, indicator);
+            assertInstanceOf(error.get(), ProcessCanceledException.class);
+            assertEquals(0, FutureWaiter.getRegisteredWaiters(indicator));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    public void testWaiterIsParkedOnceUntilCompletion() {
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+        try {
+            var future = new CompletableFuture<String>();
+            var parks = new AtomicInteger();
+            ProgressManager.getInstance().runProcess(() -> {
+                var waiter = new FutureWaiter(future, null);
+                try {
+                    executor.schedule(() -> future.complete("foo"), EVENT_DELAY, TimeUnit.MILLISECONDS);
+                    while (!future.isDone()) {
+                        waiter.await(-1);
+                        parks.incrementAndGet();
+                    }
+                } finally {
+                    Disposer.dispose(waiter);
+                }
+            }, new ProgressIndicatorBase());
+            // The thread is woken up by the completion of the future, it doesn't poll the future
+            assertEquals(1, parks.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    public void testWaiterIsParkedOnceUntilCancel() {
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+        try {
+            var indicator = new ProgressIndicatorBase();
+            var parks = new AtomicInteger();
+            ProgressManager.getInstance().runProcess(() -> {
+                var waiter = new FutureWaiter(new CompletableFuture<String>(), null);
+                try {
+                    executor.schedule(indicator::cancel, EVENT_DELAY, TimeUnit.MILLISECONDS);
+                    while (!indicator.isCanceled()) {
+                        waiter.await(-1);
+                        parks.incrementAndGet();
+                    }
+                } finally {
+                    Disposer.dispose(waiter);
+                }
+            }, indicator);
+            // The thread is woken up by the cancel of the progress indicator, it doesn't poll the indicator
+            assertEquals(1, parks.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    public void testWaitersAreUnregistered() {
+        var indicator = new ProgressIndicatorBase();
+        ProgressManager.getInstance().runProcess(() -> {
+            for (int i = 0; i < ITERATIONS; i++) {
+                var future = new CompletableFuture<String>();
+                CompletableFuture.delayedExecutor(1, TimeUnit.MILLISECONDS).execute(() -> future.complete("foo"));
+                try {
+                    CompletableFutures.waitUntilDone(future, null, null);
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+                // The waiter is unregistered when the wait is done
+                assertEquals(0, FutureWaiter.getRegisteredWaiters(indicator));
+            }
+        }, indicator);
+    }
+}
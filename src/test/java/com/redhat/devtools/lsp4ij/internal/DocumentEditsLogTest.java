@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.lsp4ij.internal;
+
+import com.intellij.openapi.util.TextRange;
+import org.junit.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link DocumentEditsLog}.
+ */
+public class DocumentEditsLogTest {
+
+    @Test
+    public void testEditBeforeRangeShiftsRange() {
+        var log = new DocumentEditsLog();
+        // Insert 3 characters at offset 2
+        log.addEdit(1, 2, 2, 0, 3);
+        // Delete 1 character at offset 0
+        log.addEdit(2, 3, 0, 1, 0);
+        assertEquals(new TextRange(12, 17), log.mapRange(1, 3, 10, 15));
+    }
+
+    @Test
+    public void testEditAfterRangeKeepsRange() {
+        var log = new DocumentEditsLog();
+        log.addEdit(1, 2, 20, 5, 0);
+        assertEquals(new TextRange(10, 15), log.mapRange(1, 2, 10, 15));
+    }
+
+    @Test
+    public void testEditInsideRangeInvalidatesRange() {
+        var log = new DocumentEditsLog();
+        log.addEdit(1, 2, 12, 0, 1);
+        assertNull(log.mapRange(1, 2, 10, 15));
+        // Replace the text which overlaps the start of the range
+        log = new DocumentEditsLog();
+        log.addEdit(1, 2, 8, 4, 1);
+        assertNull(log.mapRange(1, 2, 10, 15));
+    }
+
+    @Test
+    public void testUnknownVersionCannotBeMapped() {
+        var log = new DocumentEditsLog();
+        log.addEdit(2, 3, 0, 0, 1);
+        assertFalse(log.canMap(1, 3));
+        assertTrue(log.canMap(2, 3));
+        // The log doesn't reach the current document version
+        assertNull(log.mapRange(2, 4, 10, 15));
+    }
+
+    @Test
+    public void testOldestEditsAreEvicted() {
+        var log = new DocumentEditsLog();
+        for (int i = 0; i < DocumentEditsLog.MAX_EDITS + 1; i++) {
+            log.addEdit(i, i + 1, 0, 0, 1);
+        }
+        assertFalse(log.canMap(0, DocumentEditsLog.MAX_EDITS + 1));
+        assertEquals(new TextRange(10 + DocumentEditsLog.MAX_EDITS, 15 + DocumentEditsLog.MAX_EDITS),
+                log.mapRange(1, DocumentEditsLog.MAX_EDITS + 1, 10, 15));
+    }
+}
@@ -0,0 +1,142 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.lsp4ij.internal;
+
+import org.junit.Test;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link LSPFeatureCircuitBreaker}.
+ */
+public class LSPFeatureCircuitBreakerTest {
+
+    private static final String CODE_LENS = "textDocument/codeLens";
+    private static final String HOVER = "textDocument/hover";
+
+    @Test
+    public void testFeatureIsDisabledAfterFailuresInARow() {
+        var breaker = new LSPFeatureCircuitBreaker(new AtomicLong()::get);
+        var stateChanges = new AtomicInteger();
+        breaker.setStateChangedHandler(stateChanges::incrementAndGet);
+
+        breaker.recordFailure(CODE_LENS, 3);
+        breaker.recordFailure(CODE_LENS, 3);
+        // A success resets the number of failures
+        breaker.recordSuccess(CODE_LENS);
+        breaker.recordFailure(CODE_LENS, 3);
+        breaker.recordFailure(CODE_LENS, 3);
+        assertTrue(breaker.isRequestAllowed(CODE_LENS));
+        assertNull(breaker.getState());
+
+        breaker.recordFailure(CODE_LENS, 3);
+        assertFalse(breaker.isRequestAllowed(CODE_LENS));
+        assertTrue(breaker.isRequestAllowed(HOVER), "Other features are not disabled");
+        assertEquals("disabled: textDocument/codeLens", breaker.getState());
+        assertEquals(1, stateChanges.get());
+    }
+
+    @Test
+    public void testFeatureIsEnabledWhenTrialRequestSucceeds() {
+        var now = new AtomicLong();
+        var breaker = new LSPFeatureCircuitBreaker(now::get);
+        breaker.recordFailure(CODE_LENS, 1);
+        assertFalse(breaker.isRequestAllowed(CODE_LENS));
+
+        now.addAndGet(LSPFeatureCircuitBreaker.OPEN_DURATION);
+        // Only one request checks if the language server has recovered
+        assertTrue(breaker.isRequestAllowed(CODE_LENS));
+        assertFalse(breaker.isRequestAllowed(CODE_LENS));
+
+        breaker.recordSuccess(CODE_LENS);
+        assertTrue(breaker.isRequestAllowed(CODE_LENS));
+        assertNull(breaker.getState());
+    }
+
+    @Test
+    public void testFeatureIsDisabledAgainWhenTrialRequestFails() {
+        var now = new AtomicLong();
+        var breaker = new LSPFeatureCircuitBreaker(now::get);
+        breaker.recordFailure(CODE_LENS, 2);
+        breaker.recordFailure(CODE_LENS, 2);
+
+        now.addAndGet(LSPFeatureCircuitBreaker.OPEN_DURATION);
+        assertTrue(breaker.isRequestAllowed(CODE_LENS));
+        // The trial request is cancelled by the client, another request can check the language server
+        breaker.recordCancelled(CODE_LENS);
+        assertTrue(breaker.isRequestAllowed(CODE_LENS));
+
+        breaker.recordFailure(CODE_LENS, 2);
+        assertFalse(breaker.isRequestAllowed(CODE_LENS));
+        now.addAndGet(LSPFeatureCircuitBreaker.OPEN_DURATION - 1);
+        assertFalse(breaker.isRequestAllowed(CODE_LENS));
+    }
+
+    @Test
+    public void testNoThresholdNeverDisablesFeature() {
+        var breaker = new LSPFeatureCircuitBreaker(new AtomicLong()::get);
+        for (int i = 0; i < 10; i++) {
+            breaker.recordFailure(CODE_LENS, 0);
+        }
+        assertTrue(breaker.isRequestAllowed(CODE_LENS));
+    }
+
+    @Test
+    public void testDisabledMethodIsNotSent() {
+        var breaker = new LSPFeatureCircuitBreaker(new AtomicLong()::get);
+        var sentRequests = new AtomicInteger();
+        var failed = breaker.send(CODE_LENS, 0, 1, () -> {
+            sentRequests.incrementAndGet();
+            return CompletableFuture.failedFuture(new RuntimeException());
+        });
+        assertTrue(failed.isCompletedExceptionally());
+        assertEquals(1, sentRequests.get());
+
+        // The method is disabled: the request is not sent and the future is cancelled
+        var cancelled = breaker.send(CODE_LENS, 0, 1, () -> {
+            sentRequests.incrementAndGet();
+            return CompletableFuture.completedFuture("result");
+        });
+        assertEquals(1, sentRequests.get());
+        assertThrows(CancellationException.class, cancelled::join);
+
+        // Other methods are sent
+        assertEquals("result", breaker.send(HOVER, 0, 1, () -> CompletableFuture.completedFuture("result")).join());
+    }
+
+    @Test
+    public void testNoThresholdAlwaysSends() {
+        var breaker = new LSPFeatureCircuitBreaker(new AtomicLong()::get);
+        var sentRequests = new AtomicInteger();
+        for (int i = 0; i < 10; i++) {
+            breaker.send(CODE_LENS, 0, 0, () -> {
+                sentRequests.incrementAndGet();
+                return CompletableFuture.failedFuture(new RuntimeException());
+            });
+        }
+        assertEquals(10, sentRequests.get());
+        assertNull(breaker.getState());
+    }
+
+    @Test
+    public void testReset() {
+        var breaker = new LSPFeatureCircuitBreaker(new AtomicLong()::get);
+        breaker.recordFailure(CODE_LENS, 1);
+        breaker.reset();
+        assertTrue(breaker.isRequestAllowed(CODE_LENS));
+        assertNull(breaker.getState());
+    }
+}
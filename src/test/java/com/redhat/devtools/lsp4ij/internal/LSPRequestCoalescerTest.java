@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.lsp4ij.internal;
+
+import org.eclipse.lsp4j.HoverParams;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.TextDocumentIdentifier;
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link LSPRequestCoalescer}.
+ */
+public class LSPRequestCoalescerTest {
+
+    private static final String HOVER = "textDocument/hover";
+
+    @Test
+    public void testIdenticalRequestsShareOneRequest() {
+        var coalescer = new LSPRequestCoalescer();
+        var requests = new AtomicInteger();
+        var lspFuture = new CompletableFuture<String>();
+
+        var first = coalescer.execute(HOVER, hoverParams(1, 2), null, () -> {
+            requests.incrementAndGet();
+            return lspFuture;
+        });
+        var second = coalescer.execute(HOVER, hoverParams(1, 2), null, () -> {
+            requests.incrementAndGet();
+            return new CompletableFuture<>();
+        });
+        assertEquals(1, requests.get());
+
+        lspFuture.complete("hover");
+        assertEquals("hover", first.getNow(null));
+        assertEquals("hover", second.getNow(null));
+
+        // The request is no longer in flight, a new request is sent
+        coalescer.execute(HOVER, hoverParams(1, 2), null, () -> {
+            requests.incrementAndGet();
+            return new CompletableFuture<>();
+        });
+        assertEquals(2, requests.get());
+    }
+
+    @Test
+    public void testDifferentRequestsAreNotShared() {
+        var coalescer = new LSPRequestCoalescer();
+        var requests = new AtomicInteger();
+        coalescer.execute(HOVER, hoverParams(1, 2), null, () -> {
+            requests.incrementAndGet();
+            return new CompletableFuture<>();
+        });
+        coalescer.execute(HOVER, hoverParams(1, 3), null, () -> {
+            requests.incrementAndGet();
+            return new CompletableFuture<>();
+        });
+        coalescer.execute("textDocument/definition", hoverParams(1, 2), null, () -> {
+            requests.incrementAndGet();
+            return new CompletableFuture<>();
+        });
+        assertEquals(3, requests.get());
+    }
+
+    @Test
+    public void testRequestIsCancelledWhenAllConsumersAreCancelled() {
+        var coalescer = new LSPRequestCoalescer();
+        var lspFuture = new CompletableFuture<String>();
+
+        var first = coalescer.execute(HOVER, hoverParams(1, 2), null, () -> lspFuture);
+        var second = coalescer.execute(HOVER, hoverParams(1, 2), null, () -> new CompletableFuture<>());
+
+        first.cancel(true);
+        assertFalse(lspFuture.isCancelled(), "The LSP request is still used by the second consumer");
+        assertFalse(second.isDone());
+
+        second.cancel(true);
+        assertTrue(lspFuture.isCancelled(), "The LSP request is no longer used");
+    }
+
+    @Test
+    public void testErrorIsSharedWithAllConsumers() {
+        var coalescer = new LSPRequestCoalescer();
+        var lspFuture = new CompletableFuture<String>();
+
+        var first = coalescer.execute(HOVER, hoverParams(1, 2), null, () -> lspFuture);
+        var second = coalescer.execute(HOVER, hoverParams(1, 2), null, () -> new CompletableFuture<>());
+
+        lspFuture.completeExceptionally(new IllegalStateException("error"));
+        assertTrue(first.isCompletedExceptionally());
+        assertTrue(second.isCompletedExceptionally());
+    }
+
+    private static HoverParams hoverParams(int line, int character) {
+        return new HoverParams(new TextDocumentIdentifier("file:///test.txt"), new Position(line, character));
+    }
+}
@@ -0,0 +1,158 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.lsp4ij.internal;
+
+import com.redhat.devtools.lsp4ij.internal.LSPRequestScheduler.Priority;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link LSPRequestScheduler}.
+ */
+public class LSPRequestSchedulerTest {
+
+    @Test
+    public void testBackgroundRequestsAreCapped() {
+        var scheduler = new LSPRequestScheduler();
+        List<CompletableFuture<String>> sentRequests = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            scheduler.schedule(Priority.BACKGROUND, () -> send(sentRequests));
+        }
+        assertEquals(LSPRequestScheduler.MAX_CONCURRENT_BACKGROUND_REQUESTS, sentRequests.size());
+        assertEquals(5 - LSPRequestScheduler.MAX_CONCURRENT_BACKGROUND_REQUESTS, scheduler.getQueuedRequests());
+
+        // The completion of a background request sends the next queued request
+        sentRequests.get(0).complete("result");
+        assertEquals(LSPRequestScheduler.MAX_CONCURRENT_BACKGROUND_REQUESTS + 1, sentRequests.size());
+    }
+
+    @Test
+    public void testVisibleEditorRequestsAreSentBeforeBackgroundRequests() {
+        var scheduler = new LSPRequestScheduler();
+        List<String> sentRequests = new ArrayList<>();
+        List<CompletableFuture<String>> runningRequests = new ArrayList<>();
+        // Fill the running requests
+        for (int i = 0; i < LSPRequestScheduler.MAX_CONCURRENT_REQUESTS; i++) {
+            scheduler.schedule(Priority.VISIBLE_EDITOR, () -> send(runningRequests));
+        }
+        scheduler.schedule(Priority.BACKGROUND, () -> {
+            sentRequests.add("background");
+            return new CompletableFuture<>();
+        });
+        scheduler.schedule(Priority.VISIBLE_EDITOR, () -> {
+            sentRequests.add("visible");
+            return new CompletableFuture<>();
+        });
+        assertTrue(sentRequests.isEmpty());
+
+        runningRequests.get(0).complete("result");
+        assertEquals(List.of("visible"), sentRequests);
+    }
+
+    @Test
+    public void testInteractiveRequestsAreSentImmediately() {
+        var scheduler = new LSPRequestScheduler();
+        List<CompletableFuture<String>> runningRequests = new ArrayList<>();
+        for (int i = 0; i < LSPRequestScheduler.MAX_CONCURRENT_REQUESTS; i++) {
+            scheduler.schedule(Priority.VISIBLE_EDITOR, () -> send(runningRequests));
+        }
+        var interactive = new CompletableFuture<String>();
+        assertSame(interactive, scheduler.schedule(Priority.INTERACTIVE, () -> interactive));
+        assertEquals(LSPRequestScheduler.MAX_CONCURRENT_REQUESTS + 1, scheduler.getRunningRequests());
+    }
+
+    @Test
+    public void testCancelledQueuedRequestIsNeverSent() {
+        var scheduler = new LSPRequestScheduler();
+        List<CompletableFuture<String>> runningRequests = new ArrayList<>();
+        for (int i = 0; i < LSPRequestScheduler.MAX_CONCURRENT_REQUESTS; i++) {
+            scheduler.schedule(Priority.VISIBLE_EDITOR, () -> send(runningRequests));
+        }
+        List<String> sentRequests = new ArrayList<>();
+        var queued = scheduler.schedule(Priority.VISIBLE_EDITOR, () -> {
+            sentRequests.add("queued");
+            return new CompletableFuture<>();
+        });
+        assertEquals(1, scheduler.getQueuedRequests());
+
+        queued.cancel(true);
+        assertEquals(0, scheduler.getQueuedRequests());
+        runningRequests.get(0).complete("result");
+        assertTrue(sentRequests.isEmpty());
+    }
+
+    @Test
+    public void testCancelRunningRequestCancelsLSPRequest() {
+        var scheduler = new LSPRequestScheduler();
+        var lspFuture = new CompletableFuture<String>();
+        var future = scheduler.schedule(Priority.BACKGROUND, () -> lspFuture);
+        future.cancel(true);
+        assertTrue(lspFuture.isCancelled());
+        assertNull(scheduler.getQueueState());
+    }
+
+    @Test
+    public void testPromotedRequestIsSentBeforeQueuedRequests() {
+        var scheduler = new LSPRequestScheduler();
+        List<CompletableFuture<String>> runningRequests = new ArrayList<>();
+        for (int i = 0; i < LSPRequestScheduler.MAX_CONCURRENT_REQUESTS; i++) {
+            scheduler.schedule(Priority.VISIBLE_EDITOR, () -> send(runningRequests));
+        }
+        List<String> sentRequests = new ArrayList<>();
+        scheduler.schedule(Priority.BACKGROUND, () -> {
+            sentRequests.add("background");
+            return new CompletableFuture<>();
+        });
+        var lspFuture = new CompletableFuture<String>();
+        var prefetched = scheduler.schedule(Priority.VISIBLE_EDITOR, () -> {
+            sentRequests.add("prefetched");
+            return lspFuture;
+        });
+        assertEquals(2, scheduler.getQueuedRequests());
+
+        // The prefetched request is promoted to interactive, it is sent immediately
+        assertTrue(scheduler.promote(prefetched, Priority.INTERACTIVE));
+        assertEquals(List.of("prefetched"), sentRequests);
+        assertEquals(1, scheduler.getQueuedRequests());
+        lspFuture.complete("result");
+        assertEquals("result", prefetched.getNow(null));
+
+        // A request which is not queued cannot be promoted
+        assertFalse(scheduler.promote(prefetched, Priority.INTERACTIVE));
+    }
+
+    @Test
+    public void testCancelPromotedRequestCancelsLSPRequest() {
+        var scheduler = new LSPRequestScheduler();
+        List<CompletableFuture<String>> runningRequests = new ArrayList<>();
+        for (int i = 0; i < LSPRequestScheduler.MAX_CONCURRENT_REQUESTS; i++) {
+            scheduler.schedule(Priority.VISIBLE_EDITOR, () -> send(runningRequests));
+        }
+        var lspFuture = new CompletableFuture<String>();
+        var prefetched = scheduler.schedule(Priority.VISIBLE_EDITOR, () -> lspFuture);
+        assertTrue(scheduler.promote(prefetched, Priority.INTERACTIVE));
+
+        prefetched.cancel(true);
+        assertTrue(lspFuture.isCancelled());
+        assertEquals(LSPRequestScheduler.MAX_CONCURRENT_REQUESTS, scheduler.getRunningRequests());
+    }
+
+    private static CompletableFuture<String> send(List<CompletableFuture<String>> sentRequests) {
+        var future = new CompletableFuture<String>();
+        sentRequests.add(future);
+        return future;
+    }
+}
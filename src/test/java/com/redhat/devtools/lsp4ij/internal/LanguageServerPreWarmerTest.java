@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.lsp4ij.internal;
+
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.testFramework.UsefulTestCase;
+import com.intellij.testFramework.fixtures.IdeaProjectTestFixture;
+import com.intellij.testFramework.fixtures.IdeaTestFixtureFactory;
+import com.intellij.testFramework.fixtures.TestFixtureBuilder;
+import com.redhat.devtools.lsp4ij.LanguageServersRegistry;
+import com.redhat.devtools.lsp4ij.LanguageServiceAccessor;
+import com.redhat.devtools.lsp4ij.fixtures.LSPCodeInsightTestFixture;
+import com.redhat.devtools.lsp4ij.fixtures.LSPTestFixtureFactory;
+import com.redhat.devtools.lsp4ij.mock.MockLanguageServer;
+import com.redhat.devtools.lsp4ij.mock.MockLanguageServerDefinition;
+import com.redhat.devtools.lsp4ij.templates.ServerMappingSettings;
+
+import java.util.List;
+
+/**
+ * Test for {@link LanguageServerPreWarmer}.
+ */
+public class LanguageServerPreWarmerTest extends UsefulTestCase {
+
+    private LSPCodeInsightTestFixture myFixture;
+    private MockLanguageServerDefinition serverDefinition;
+
+    public void testHasMappedFiles() {
+        var project = myFixture.getProject();
+        assertFalse(ReadAction.compute(() -> LanguageServerPreWarmer.hasMappedFiles(serverDefinition, project)));
+
+        myFixture.addFileToProject("foo.prewarm", "");
+        assertTrue(ReadAction.compute(() -> LanguageServerPreWarmer.hasMappedFiles(serverDefinition, project)));
+    }
+
+    public void testExistingServerIsNotRestarted() {
+        var project = myFixture.getProject();
+        var accessor = LanguageServiceAccessor.getInstance(project);
+
+        // No language server wrapper exists, the pre-warm starts the language server
+        assertTrue(LanguageServerPreWarmer.startIfNeeded(serverDefinition, project));
+        var wrappers = accessor.getStartedServers()
+                .stream()
+                .filter(ls -> serverDefinition.equals(ls.getServerDefinition()))
+                .toList();
+        assertSize(1, wrappers);
+
+        // A language server wrapper exists (ex: the server is starting because a file has been opened),
+        // the pre-warm must not restart it
+        assertFalse(LanguageServerPreWarmer.startIfNeeded(serverDefinition, project));
+        assertEquals(wrappers, accessor.getStartedServers()
+                .stream()
+                .filter(ls -> serverDefinition.equals(ls.getServerDefinition()))
+                .toList());
+    }
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        TestFixtureBuilder<IdeaProjectTestFixture> projectBuilder = IdeaTestFixtureFactory.getFixtureFactory().createFixtureBuilder(getName());
+        myFixture = LSPTestFixtureFactory.getFixtureFactory().createCodeInsightFixture(projectBuilder.getFixture());
+        myFixture.setUp();
+        serverDefinition = new MockLanguageServerDefinition("test-pre-warm");
+        List<ServerMappingSettings> mappings = List.of(ServerMappingSettings.createFileNamePatternsMappingSettings(List.of("*.prewarm"), null));
+        LanguageServersRegistry.getInstance().addServerDefinition(myFixture.getProject(), serverDefinition, mappings);
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        MockLanguageServer.INSTANCE.waitBeforeTearDown();
+        LanguageServersRegistry.getInstance().removeServerDefinition(myFixture.getProject(), serverDefinition);
+        try {
+            myFixture.tearDown();
+        } catch (Throwable e) {
+            addSuppressedException(e);
+        } finally {
+            myFixture = null;
+            super.tearDown();
+        }
+    }
+}
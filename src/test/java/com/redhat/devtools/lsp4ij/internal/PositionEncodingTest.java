@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.lsp4ij.internal;
+
+import org.eclipse.lsp4j.PositionEncodingKind;
+import org.junit.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests for {@link PositionEncoding}.
+ */
+public class PositionEncodingTest {
+
+    // 'a' (1 byte), '\u00e9' (2 bytes), '\u20ac' (3 bytes), '\uD83D\uDE00' (4 bytes, surrogate pair), 'b' (1 byte)
+    private static final String LINE = "a\u00e9\u20ac\uD83D\uDE00b";
+
+    @Test
+    public void testGet() {
+        assertEquals(PositionEncoding.UTF8, PositionEncoding.get(PositionEncodingKind.UTF8));
+        assertEquals(PositionEncoding.UTF16, PositionEncoding.get(PositionEncodingKind.UTF16));
+        assertEquals(PositionEncoding.UTF32, PositionEncoding.get(PositionEncodingKind.UTF32));
+        assertEquals(PositionEncoding.UTF16, PositionEncoding.get(null));
+        assertEquals(PositionEncoding.UTF16, PositionEncoding.get("unknown"));
+    }
+
+    @Test
+    public void testUtf8ToOffset() {
+        var encoding = PositionEncoding.UTF8;
+        assertToOffset(encoding, 0, 0);
+        assertToOffset(encoding, 1, 1);
+        assertToOffset(encoding, 2, 1); // middle of the 2 bytes character
+        assertToOffset(encoding, 3, 2);
+        assertToOffset(encoding, 4, 2); // middle of the 3 bytes character
+        assertToOffset(encoding, 5, 2);
+        assertToOffset(encoding, 6, 3);
+        assertToOffset(encoding, 8, 3); // middle of the 4 bytes character
+        assertToOffset(encoding, 10, 5);
+        assertToOffset(encoding, 11, 6);
+        assertToOffset(encoding, 100, 6); // past the end of the line
+    }
+
+    @Test
+    public void testUtf32ToOffset() {
+        var encoding = PositionEncoding.UTF32;
+        assertToOffset(encoding, 0, 0);
+        assertToOffset(encoding, 1, 1);
+        assertToOffset(encoding, 2, 2);
+        assertToOffset(encoding, 3, 3);
+        assertToOffset(encoding, 4, 5); // the surrogate pair is one code point
+        assertToOffset(encoding, 5, 6);
+        assertToOffset(encoding, 100, 6); // past the end of the line
+    }
+
+    @Test
+    public void testUtf16ToOffset() {
+        var encoding = PositionEncoding.UTF16;
+        assertToOffset(encoding, 3, 3);
+        assertToOffset(encoding, 4, 4);
+        assertToOffset(encoding, 100, 6); // past the end of the line
+    }
+
+    @Test
+    public void testUtf8ToCharacter() {
+        var encoding = PositionEncoding.UTF8;
+        assertToCharacter(encoding, 0, 0);
+        assertToCharacter(encoding, 1, 1);
+        assertToCharacter(encoding, 2, 3);
+        assertToCharacter(encoding, 3, 6);
+        assertToCharacter(encoding, 4, 6); // middle of the surrogate pair
+        assertToCharacter(encoding, 5, 10);
+        assertToCharacter(encoding, 6, 11);
+    }
+
+    @Test
+    public void testUtf32ToCharacter() {
+        var encoding = PositionEncoding.UTF32;
+        assertToCharacter(encoding, 2, 2);
+        assertToCharacter(encoding, 3, 3);
+        assertToCharacter(encoding, 4, 3); // middle of the surrogate pair
+        assertToCharacter(encoding, 5, 4);
+        assertToCharacter(encoding, 6, 5);
+    }
+
+    @Test
+    public void testLineWhichDoesNotStartTheText() {
+        String text = "xy\n" + LINE + "\nz";
+        int lineStart = 3;
+        int lineEnd = lineStart + LINE.length();
+        assertEquals(lineStart + 3, PositionEncoding.UTF8.toOffset(text, lineStart, lineEnd, 6));
+        assertEquals(lineEnd, PositionEncoding.UTF8.toOffset(text, lineStart, lineEnd, 100));
+        assertEquals(6, PositionEncoding.UTF8.toCharacter(text, lineStart, lineStart + 3));
+        assertEquals(3, PositionEncoding.UTF32.toCharacter(text, lineStart, lineStart + 3));
+    }
+
+    @Test
+    public void testUnpairedSurrogate() {
+        // An unpaired surrogate is encoded as the replacement character (3 bytes)
+        String text = "\uD83Da";
+        assertEquals(3, PositionEncoding.UTF8.toCharacter(text, 0, 1));
+        assertEquals(1, PositionEncoding.UTF8.toOffset(text, 0, 2, 3));
+        assertEquals(1, PositionEncoding.UTF32.toCharacter(text, 0, 1));
+    }
+
+    private static void assertToOffset(PositionEncoding encoding, int character, int expectedOffset) {
+        assertEquals(expectedOffset, encoding.toOffset(LINE, 0, LINE.length(), character));
+    }
+
+    private static void assertToCharacter(PositionEncoding encoding, int offset, int expectedCharacter) {
+        assertEquals(expectedCharacter, encoding.toCharacter(LINE, 0, offset));
+    }
+}
@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.lsp4ij.internal;
+
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.editor.impl.DocumentImpl;
+import com.intellij.openapi.util.TextRange;
+import com.intellij.testFramework.fixtures.BasePlatformTestCase;
+import com.redhat.devtools.lsp4ij.LSPIJUtils;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+
+import java.util.List;
+
+/**
+ * Tests for {@link PositionMapper}.
+ */
+public class PositionMapperTest extends BasePlatformTestCase {
+
+    public void testSameResultsAsLSPIJUtils() {
+        assertSameResultsAsLSPIJUtils("");
+        assertSameResultsAsLSPIJUtils("foo");
+        assertSameResultsAsLSPIJUtils("foo\nbar");
+        assertSameResultsAsLSPIJUtils("foo\nbar\n");
+        assertSameResultsAsLSPIJUtils("\n\n\n");
+        assertSameResultsAsLSPIJUtils("a\n\nbc\n  def\n");
+    }
+
+    public void testToOffsets() {
+        Document document = new DocumentImpl("foo\nbar\nbaz");
+        PositionMapper mapper = PositionMapper.getInstance(document);
+        int[] offsets = mapper.toOffsets(List.of(
+                new Range(new Position(0, 1), new Position(0, 3)),
+                new Range(new Position(1, 0), new Position(2, 2))));
+        assertEquals(4, offsets.length);
+        assertEquals(1, offsets[0]);
+        assertEquals(3, offsets[1]);
+        assertEquals(4, offsets[2]);
+        assertEquals(10, offsets[3]);
+        assertEquals(new TextRange(4, 10), mapper.toTextRange(new Range(new Position(1, 0), new Position(2, 2))));
+        assertNull(mapper.toTextRange(new Range(new Position(2, 0), new Position(1, 0))));
+    }
+
+    public void testSnapshotIsUpdatedWhenDocumentChanges() {
+        Document document = new DocumentImpl("foo\nbar");
+        PositionMapper mapper = PositionMapper.getInstance(document);
+        assertSame(mapper, PositionMapper.getInstance(document));
+        assertEquals(4, mapper.toOffset(1, 0));
+
+        WriteCommandAction.runWriteCommandAction(getProject(), () -> document.insertString(0, "\n"));
+        PositionMapper newMapper = PositionMapper.getInstance(document);
+        assertNotSame(mapper, newMapper);
+        assertEquals(3, newMapper.getLineCount());
+        assertEquals(5, newMapper.toOffset(2, 0));
+    }
+
+    public void testNonAsciiLines() {
+        Document document = new DocumentImpl("abc\n\u00e9\u00e9\n\nx\uD83D\uDE00\nxyz\n\u20ac");
+        PositionMapper mapper = PositionMapper.getInstance(document);
+        assertFalse(mapper.isNonAsciiLine(0));
+        assertTrue(mapper.isNonAsciiLine(1));
+        assertFalse(mapper.isNonAsciiLine(2));
+        assertTrue(mapper.isNonAsciiLine(3));
+        assertFalse(mapper.isNonAsciiLine(4));
+        assertTrue(mapper.isNonAsciiLine(5));
+    }
+
+    public void testEncodingRoundTrip() {
+        // 2 bytes, 3 bytes and 4 bytes (surrogate pair) characters
+        String content = "abc\n\u00e9=\u20ac\uD83D\uDE00x\n\n\uD83D\uDE00\uD83D\uDE00\nxyz";
+        Document document = new DocumentImpl(content);
+        PositionMapper mapper = PositionMapper.getInstance(document);
+        for (var encoding : PositionEncoding.values()) {
+            for (int offset = 0; offset <= content.length(); offset++) {
+                if (offset > 0 && Character.isHighSurrogate(content.charAt(offset - 1))) {
+                    // Middle of a surrogate pair
+                    continue;
+                }
+                Position position = LSPIJUtils.toPosition(offset, document, encoding);
+                assertEquals(position, mapper.toPosition(offset, encoding));
+                assertEquals(encoding + " round trip of " + offset, offset, LSPIJUtils.toOffset(position, document, encoding));
+                assertEquals(offset, mapper.toOffset(position, encoding));
+            }
+            // Characters past the end of a line
+            assertEquals(document.getLineEndOffset(1), mapper.toOffset(new Position(1, 100), encoding));
+            assertEquals(document.getLineEndOffset(1), LSPIJUtils.toOffset(new Position(1, 100), document, encoding));
+        }
+    }
+
+    public void testCursor() {
+        String content = "abc\n\u00e9=\u20ac\uD83D\uDE00x\u00e9\nxyz";
+        Document document = new DocumentImpl(content);
+        PositionMapper mapper = PositionMapper.getInstance(document);
+        int[][] positions = {{0, 1}, {0, 3}, {1, 0}, {1, 2}, {1, 3}, {1, 6}, {1, 8}, {1, 10}, {1, 11}, {1, 4}, {1, 100}, {2, 1}, {5, 0}};
+        for (var encoding : PositionEncoding.values()) {
+            var cursor = mapper.newCursor(encoding);
+            for (int[] position : positions) {
+                assertEquals(encoding + " " + position[0] + ":" + position[1],
+                        mapper.toOffset(position[0], position[1], encoding), cursor.toOffset(position[0], position[1]));
+            }
+        }
+    }
+
+    private static void assertSameResultsAsLSPIJUtils(String content) {
+        Document document = new DocumentImpl(content);
+        PositionMapper mapper = PositionMapper.getInstance(document);
+        assertEquals(document.getLineCount(), mapper.getLineCount());
+        assertEquals(document.getTextLength(), mapper.getTextLength());
+        int lineCount = document.getLineCount();
+        for (int line = -1; line <= lineCount + 1; line++) {
+            for (int character = -1; character <= content.length() + 1; character++) {
+                assertEquals("toOffset(" + line + ", " + character + ") for '" + content + "'",
+                        LSPIJUtils.toOffset(line, character, document), mapper.toOffset(line, character));
+            }
+            assertEquals(LSPIJUtils.toOffset(line, Integer.MAX_VALUE, document), mapper.toOffset(line, Integer.MAX_VALUE));
+        }
+        for (int line = 0; line < lineCount; line++) {
+            assertEquals(document.getLineStartOffset(line), mapper.getLineStartOffset(line));
+            assertEquals(document.getLineEndOffset(line), mapper.getLineEndOffset(line));
+        }
+        for (int offset = -1; offset <= content.length() + 1; offset++) {
+            Position expected = LSPIJUtils.toPosition(offset, document);
+            assertEquals("toPosition(" + offset + ") for '" + content + "'", expected, mapper.toPosition(offset));
+            assertEquals(expected.getCharacter(), mapper.toCharacter(offset));
+        }
+    }
+}
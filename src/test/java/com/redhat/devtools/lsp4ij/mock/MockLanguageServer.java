@@ -139,6 +139,7 @@ public final class MockLanguageServer implements LanguageServer {
 		capabilities.setTypeHierarchyProvider(new TypeHierarchyRegistrationOptions());
 		capabilities.setFoldingRangeProvider(new FoldingRangeProviderOptions());
 		capabilities.setDiagnosticProvider(new DiagnosticRegistrationOptions());
+		capabilities.setInlayHintProvider(Boolean.TRUE);
 		return capabilities;
 	}
 
@@ -338,6 +339,10 @@ public final class MockLanguageServer implements LanguageServer {
 		this.textDocumentService.setFoldingRanges(foldingRanges);
 	}
 
+	public void setInlayHints(List<InlayHint> inlayHints) {
+		this.textDocumentService.setMockInlayHints(inlayHints);
+	}
+
     public void setWillRename(WorkspaceEdit willRename) {
         this.workspaceService.setWillRename(willRename);
     }
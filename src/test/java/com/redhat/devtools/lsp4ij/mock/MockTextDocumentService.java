@@ -28,6 +28,7 @@ import java.net.URI;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Function;
 
 /**
@@ -67,7 +68,9 @@ public class MockTextDocumentService implements TextDocumentService {
     private List<DocumentSymbol> documentSymbols;
     private SemanticTokens mockSemanticTokens;
     private List<FoldingRange> foldingRanges;
+    private List<InlayHint> mockInlayHints;
     public int codeActionRequests = 0;
+    public final List<Range> inlayHintRanges = new CopyOnWriteArrayList<>();
 
     public <U> MockTextDocumentService(Function<U, CompletableFuture<U>> futureFactory) {
         this._futureFactory = futureFactory;
@@ -482,4 +485,14 @@ public class MockTextDocumentService implements TextDocumentService {
         return CompletableFuture.completedFuture(this.foldingRanges);
     }
 
+    public void setMockInlayHints(List<InlayHint> inlayHints) {
+        this.mockInlayHints = inlayHints;
+    }
+
+    @Override
+    public CompletableFuture<List<InlayHint>> inlayHint(InlayHintParams params) {
+        inlayHintRanges.add(params.getRange());
+        return futureFactory(mockInlayHints != null ? mockInlayHints : Collections.emptyList());
+    }
+
 }
\ No newline at end of file
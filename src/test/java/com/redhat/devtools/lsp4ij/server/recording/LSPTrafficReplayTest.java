@@ -0,0 +1,181 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.lsp4ij.server.recording;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.junit.Test;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link LSPTrafficRecorder} and {@link LSPTrafficReplayConnectionProvider}.
+ */
+public class LSPTrafficReplayTest {
+
+    @Test
+    public void testRecordBothDirections() throws IOException {
+        var recordingStream = new ByteArrayOutputStream();
+        var recorder = new LSPTrafficRecorder(recordingStream);
+        var serverOutput = new ByteArrayOutputStream();
+        var clientOutput = recorder.wrapOutput(serverOutput);
+        var clientInput = recorder.wrapInput(new ByteArrayInputStream(frame("{\"jsonrpc\":\"2.0\",\"id\":\"1\",\r\n\"result\":null}")));
+
+        // The message is written in several parts
+        byte[] request = frame("{\"jsonrpc\":\"2.0\",\"id\":\"1\",\"method\":\"shutdown\"}");
+        clientOutput.write(request, 0, 10);
+        clientOutput.write(request, 10, request.length - 10);
+        clientInput.readAllBytes();
+        recorder.close();
+
+        assertArrayEquals(request, serverOutput.toByteArray());
+        var entries = LSPTrafficRecording.load(new ByteArrayInputStream(recordingStream.toByteArray())).getEntries();
+        assertEquals(2, entries.size());
+        assertEquals(LSPTrafficRecording.Direction.CLIENT_TO_SERVER, entries.get(0).direction());
+        assertEquals("{\"jsonrpc\":\"2.0\",\"id\":\"1\",\"method\":\"shutdown\"}", entries.get(0).message());
+        assertEquals(LSPTrafficRecording.Direction.SERVER_TO_CLIENT, entries.get(1).direction());
+        // The line breaks of the message are recorded as they are sent
+        assertEquals("{\"jsonrpc\":\"2.0\",\"id\":\"1\",\r\n\"result\":null}", entries.get(1).message());
+    }
+
+    @Test
+    public void testReplayUsesClientRequestIds() throws Exception {
+        var recording = load("""
+                0 C {"jsonrpc":"2.0","id":"1","method":"initialize","params":{}}
+                10 S {"jsonrpc":"2.0","id":"1","result":{"capabilities":{}}}
+                20 C {"jsonrpc":"2.0","id":"2","method":"textDocument/hover","params":{}}
+                30 S {"jsonrpc":"2.0","method":"window/logMessage","params":{"type":3,"message":"hover"}}
+                40 S {"jsonrpc":"2.0","id":"2","result":null}
+                """);
+        var provider = new LSPTrafficReplayConnectionProvider(recording, 0);
+        provider.start();
+        try {
+            var messages = new MessageReader(provider.getInputStream());
+            provider.getOutputStream().write(frame("{\"jsonrpc\":\"2.0\",\"id\":\"10\",\"method\":\"initialize\",\"params\":{}}"));
+            assertEquals("10", messages.next().get("id").getAsString());
+
+            provider.getOutputStream().write(frame("{\"jsonrpc\":\"2.0\",\"id\":\"11\",\"method\":\"textDocument/hover\",\"params\":{}}"));
+            assertEquals("window/logMessage", messages.next().get("method").getAsString());
+            assertEquals("11", messages.next().get("id").getAsString());
+
+            // The 'shutdown' request has not been recorded
+            provider.getOutputStream().write(frame("{\"jsonrpc\":\"2.0\",\"id\":\"12\",\"method\":\"shutdown\"}"));
+            assertEquals("12", messages.next().get("id").getAsString());
+        } finally {
+            provider.stop();
+        }
+    }
+
+    @Test
+    public void testReplayWithRecordedLatency() throws Exception {
+        var recording = load("""
+                0 C {"jsonrpc":"2.0","id":"1","method":"initialize","params":{}}
+                200 S {"jsonrpc":"2.0","id":"1","result":{"capabilities":{}}}
+                """);
+        var provider = new LSPTrafficReplayConnectionProvider(recording, 0.5);
+        provider.start();
+        try {
+            var messages = new MessageReader(provider.getInputStream());
+            long start = System.nanoTime();
+            provider.getOutputStream().write(frame("{\"jsonrpc\":\"2.0\",\"id\":\"1\",\"method\":\"initialize\",\"params\":{}}"));
+            messages.next();
+            long duration = (System.nanoTime() - start) / 1_000_000;
+            assertTrue(duration >= 100, "The response is sent after the scaled latency, duration=" + duration);
+        } finally {
+            provider.stop();
+        }
+    }
+
+    @Test
+    public void testLoadRawAndSingleLineMessages() throws IOException {
+        var recording = load("""
+                # A message written on one line
+                0 C {"jsonrpc":"2.0","id":"1","method":"shutdown"}
+                10 S 27
+                {"jsonrpc":"2.0",
+                "id":"1"}
+                20 C {"jsonrpc":"2.0","method":"exit"}
+                """);
+        var entries = recording.getEntries();
+        assertEquals(3, entries.size());
+        assertEquals("{\"jsonrpc\":\"2.0\",\"id\":\"1\",\"method\":\"shutdown\"}", entries.get(0).message());
+        assertEquals(LSPTrafficRecording.Direction.SERVER_TO_CLIENT, entries.get(1).direction());
+        assertEquals(10, entries.get(1).timestamp());
+        assertEquals("{\"jsonrpc\":\"2.0\",\n\"id\":\"1\"}", entries.get(1).message());
+        assertEquals("{\"jsonrpc\":\"2.0\",\"method\":\"exit\"}", entries.get(2).message());
+
+        // The raw content is shorter than the recorded length
+        assertThrows(IOException.class, () -> load("10 S 100\n{}\n"));
+    }
+
+    private static LSPTrafficRecording load(String recording) throws IOException {
+        return LSPTrafficRecording.load(new ByteArrayInputStream(recording.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static byte[] frame(String content) {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        byte[] header = ("Content-Length: " + bytes.length + "\r\n\r\n").getBytes(StandardCharsets.US_ASCII);
+        byte[] frame = new byte[header.length + bytes.length];
+        System.arraycopy(header, 0, frame, 0, header.length);
+        System.arraycopy(bytes, 0, frame, header.length, bytes.length);
+        return frame;
+    }
+
+    /**
+     * Reads the messages sent by the replayed server.
+     */
+    private static class MessageReader {
+
+        private final List<CompletableFuture<String>> messages = new ArrayList<>();
+        private int received;
+        private int read;
+
+        MessageReader(InputStream in) {
+            var parser = new LSPMessageFrameParser(content -> add(new String(content, StandardCharsets.UTF_8)));
+            var reader = new Thread(() -> {
+                byte[] buffer = new byte[1024];
+                try {
+                    int count;
+                    while ((count = in.read(buffer)) != -1) {
+                        parser.feed(buffer, 0, count);
+                    }
+                } catch (IOException e) {
+                    // The connection is closed
+                }
+            });
+            reader.setDaemon(true);
+            reader.start();
+        }
+
+        private synchronized CompletableFuture<String> get(int i) {
+            while (messages.size() <= i) {
+                messages.add(new CompletableFuture<>());
+            }
+            return messages.get(i);
+        }
+
+        private synchronized void add(String message) {
+            get(received++).complete(message);
+        }
+
+        JsonObject next() throws Exception {
+            String message = get(read++).get(5, TimeUnit.SECONDS);
+            return JsonParser.parseString(message).getAsJsonObject();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.lsp4ij.usages;
+
+import com.intellij.openapi.util.TextRange;
+import com.intellij.psi.PsiFile;
+import com.intellij.testFramework.fixtures.BasePlatformTestCase;
+
+import java.util.List;
+
+/**
+ * Tests for {@link LSPUsageSearcher#removeContainingUsages(List)}.
+ */
+public class LSPUsageSearcherTest extends BasePlatformTestCase {
+
+    private PsiFile file;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        file = myFixture.configureByText("test.txt", "0123456789".repeat(3));
+    }
+
+    public void testNestedUsages() {
+        var outer = createUsage(0, 20);
+        var middle = createUsage(5, 15);
+        var inner = createUsage(8, 10);
+        assertEquals(List.of(inner), LSPUsageSearcher.removeContainingUsages(List.of(outer, middle, inner)));
+        assertEquals(List.of(inner), LSPUsageSearcher.removeContainingUsages(List.of(inner, outer, middle)));
+    }
+
+    public void testUsagesWithSameStartOrEnd() {
+        var usage = createUsage(0, 10);
+        var sameStart = createUsage(0, 5);
+        var sameEnd = createUsage(5, 10);
+        assertEquals(List.of(sameStart), LSPUsageSearcher.removeContainingUsages(List.of(usage, sameStart)));
+        assertEquals(List.of(sameEnd), LSPUsageSearcher.removeContainingUsages(List.of(sameEnd, usage)));
+    }
+
+    public void testOverlappingUsages() {
+        var first = createUsage(0, 10);
+        var second = createUsage(5, 15);
+        var third = createUsage(12, 20);
+        assertEquals(List.of(first, second, third), LSPUsageSearcher.removeContainingUsages(List.of(first, second, third)));
+    }
+
+    public void testIdenticalUsages() {
+        var usage = createUsage(0, 10);
+        var identical = createUsage(0, 10);
+        assertEquals(List.of(usage, identical), LSPUsageSearcher.removeContainingUsages(List.of(usage, identical)));
+
+        // Identical usages which contain another usage are removed
+        var inner = createUsage(2, 4);
+        assertEquals(List.of(inner), LSPUsageSearcher.removeContainingUsages(List.of(usage, inner, identical)));
+    }
+
+    public void testDisjointUsagesKeepOriginalOrder() {
+        var first = createUsage(20, 25);
+        var second = createUsage(0, 5);
+        var third = createUsage(10, 15);
+        assertEquals(List.of(first, second, third), LSPUsageSearcher.removeContainingUsages(List.of(first, second, third)));
+    }
+
+    private LSPUsagePsiElement createUsage(int startOffset, int endOffset) {
+        return new LSPUsagePsiElement(file, new TextRange(startOffset, endOffset));
+    }
+}
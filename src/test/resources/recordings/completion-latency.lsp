@@ -0,0 +1,46 @@
+# Completions of 'b' in several files with a language server which provides 'bar' and 'baz'
+0 C {"jsonrpc":"2.0","id":"1","method":"initialize","params":{}}
+40 S {"jsonrpc":"2.0","id":"1","result":{"capabilities":{"textDocumentSync":1,"completionProvider":{}}}}
+42 C {"jsonrpc":"2.0","method":"initialized","params":{}}
+100 C {"jsonrpc":"2.0","id":"2","method":"textDocument/completion","params":{"textDocument":{"uri":"file:///test0.txt"},"position":{"line":0,"character":1}}}
+120 S {"jsonrpc":"2.0","id":"2","result":{"isIncomplete":false,"items":[{"label":"bar","kind":6},{"label":"baz","kind":6}]}}
+200 C {"jsonrpc":"2.0","id":"3","method":"textDocument/completion","params":{"textDocument":{"uri":"file:///test1.txt"},"position":{"line":0,"character":1}}}
+220 S {"jsonrpc":"2.0","id":"3","result":{"isIncomplete":false,"items":[{"label":"bar","kind":6},{"label":"baz","kind":6}]}}
+300 C {"jsonrpc":"2.0","id":"4","method":"textDocument/completion","params":{"textDocument":{"uri":"file:///test2.txt"},"position":{"line":0,"character":1}}}
+320 S {"jsonrpc":"2.0","id":"4","result":{"isIncomplete":false,"items":[{"label":"bar","kind":6},{"label":"baz","kind":6}]}}
+400 C {"jsonrpc":"2.0","id":"5","method":"textDocument/completion","params":{"textDocument":{"uri":"file:///test3.txt"},"position":{"line":0,"character":1}}}
+420 S {"jsonrpc":"2.0","id":"5","result":{"isIncomplete":false,"items":[{"label":"bar","kind":6},{"label":"baz","kind":6}]}}
+500 C {"jsonrpc":"2.0","id":"6","method":"textDocument/completion","params":{"textDocument":{"uri":"file:///test4.txt"},"position":{"line":0,"character":1}}}
+520 S {"jsonrpc":"2.0","id":"6","result":{"isIncomplete":false,"items":[{"label":"bar","kind":6},{"label":"baz","kind":6}]}}
+600 C {"jsonrpc":"2.0","id":"7","method":"textDocument/completion","params":{"textDocument":{"uri":"file:///test5.txt"},"position":{"line":0,"character":1}}}
+620 S {"jsonrpc":"2.0","id":"7","result":{"isIncomplete":false,"items":[{"label":"bar","kind":6},{"label":"baz","kind":6}]}}
+700 C {"jsonrpc":"2.0","id":"8","method":"textDocument/completion","params":{"textDocument":{"uri":"file:///test6.txt"},"position":{"line":0,"character":1}}}
+720 S {"jsonrpc":"2.0","id":"8","result":{"isIncomplete":false,"items":[{"label":"bar","kind":6},{"label":"baz","kind":6}]}}
+800 C {"jsonrpc":"2.0","id":"9","method":"textDocument/completion","params":{"textDocument":{"uri":"file:///test7.txt"},"position":{"line":0,"character":1}}}
+820 S {"jsonrpc":"2.0","id":"9","result":{"isIncomplete":false,"items":[{"label":"bar","kind":6},{"label":"baz","kind":6}]}}
+900 C {"jsonrpc":"2.0","id":"10","method":"textDocument/completion","params":{"textDocument":{"uri":"file:///test8.txt"},"position":{"line":0,"character":1}}}
+920 S {"jsonrpc":"2.0","id":"10","result":{"isIncomplete":false,"items":[{"label":"bar","kind":6},{"label":"baz","kind":6}]}}
+1000 C {"jsonrpc":"2.0","id":"11","method":"textDocument/completion","params":{"textDocument":{"uri":"file:///test9.txt"},"position":{"line":0,"character":1}}}
+1020 S {"jsonrpc":"2.0","id":"11","result":{"isIncomplete":false,"items":[{"label":"bar","kind":6},{"label":"baz","kind":6}]}}
+1100 C {"jsonrpc":"2.0","id":"12","method":"textDocument/completion","params":{"textDocument":{"uri":"file:///test10.txt"},"position":{"line":0,"character":1}}}
+1120 S {"jsonrpc":"2.0","id":"12","result":{"isIncomplete":false,"items":[{"label":"bar","kind":6},{"label":"baz","kind":6}]}}
+1200 C {"jsonrpc":"2.0","id":"13","method":"textDocument/completion","params":{"textDocument":{"uri":"file:///test11.txt"},"position":{"line":0,"character":1}}}
+1220 S {"jsonrpc":"2.0","id":"13","result":{"isIncomplete":false,"items":[{"label":"bar","kind":6},{"label":"baz","kind":6}]}}
+1300 C {"jsonrpc":"2.0","id":"14","method":"textDocument/completion","params":{"textDocument":{"uri":"file:///test12.txt"},"position":{"line":0,"character":1}}}
+1320 S {"jsonrpc":"2.0","id":"14","result":{"isIncomplete":false,"items":[{"label":"bar","kind":6},{"label":"baz","kind":6}]}}
+1400 C {"jsonrpc":"2.0","id":"15","method":"textDocument/completion","params":{"textDocument":{"uri":"file:///test13.txt"},"position":{"line":0,"character":1}}}
+1420 S {"jsonrpc":"2.0","id":"15","result":{"isIncomplete":false,"items":[{"label":"bar","kind":6},{"label":"baz","kind":6}]}}
+1500 C {"jsonrpc":"2.0","id":"16","method":"textDocument/completion","params":{"textDocument":{"uri":"file:///test14.txt"},"position":{"line":0,"character":1}}}
+1520 S {"jsonrpc":"2.0","id":"16","result":{"isIncomplete":false,"items":[{"label":"bar","kind":6},{"label":"baz","kind":6}]}}
+1600 C {"jsonrpc":"2.0","id":"17","method":"textDocument/completion","params":{"textDocument":{"uri":"file:///test15.txt"},"position":{"line":0,"character":1}}}
+1620 S {"jsonrpc":"2.0","id":"17","result":{"isIncomplete":false,"items":[{"label":"bar","kind":6},{"label":"baz","kind":6}]}}
+1700 C {"jsonrpc":"2.0","id":"18","method":"textDocument/completion","params":{"textDocument":{"uri":"file:///test16.txt"},"position":{"line":0,"character":1}}}
+1720 S {"jsonrpc":"2.0","id":"18","result":{"isIncomplete":false,"items":[{"label":"bar","kind":6},{"label":"baz","kind":6}]}}
+1800 C {"jsonrpc":"2.0","id":"19","method":"textDocument/completion","params":{"textDocument":{"uri":"file:///test17.txt"},"position":{"line":0,"character":1}}}
+1820 S {"jsonrpc":"2.0","id":"19","result":{"isIncomplete":false,"items":[{"label":"bar","kind":6},{"label":"baz","kind":6}]}}
+1900 C {"jsonrpc":"2.0","id":"20","method":"textDocument/completion","params":{"textDocument":{"uri":"file:///test18.txt"},"position":{"line":0,"character":1}}}
+1920 S {"jsonrpc":"2.0","id":"20","result":{"isIncomplete":false,"items":[{"label":"bar","kind":6},{"label":"baz","kind":6}]}}
+2000 C {"jsonrpc":"2.0","id":"21","method":"textDocument/completion","params":{"textDocument":{"uri":"file:///test19.txt"},"position":{"line":0,"character":1}}}
+2020 S {"jsonrpc":"2.0","id":"21","result":{"isIncomplete":false,"items":[{"label":"bar","kind":6},{"label":"baz","kind":6}]}}
+2100 C {"jsonrpc":"2.0","id":"22","method":"textDocument/completion","params":{"textDocument":{"uri":"file:///test20.txt"},"position":{"line":0,"character":1}}}
+2120 S {"jsonrpc":"2.0","id":"22","result":{"isIncomplete":false,"items":[{"label":"bar","kind":6},{"label":"baz","kind":6}]}}
@@ -0,0 +1,7 @@
+# Completion of 'b' in a file with a language server which provides 'bar' and 'baz'
+0 C {"jsonrpc":"2.0","id":"1","method":"initialize","params":{}}
+40 S {"jsonrpc":"2.0","id":"1","result":{"capabilities":{"textDocumentSync":1,"completionProvider":{}}}}
+42 C {"jsonrpc":"2.0","method":"initialized","params":{}}
+45 C {"jsonrpc":"2.0","method":"textDocument/didOpen","params":{"textDocument":{"uri":"file:///test.txt","languageId":"plaintext","version":0,"text":"b"}}}
+300 C {"jsonrpc":"2.0","id":"2","method":"textDocument/completion","params":{"textDocument":{"uri":"file:///test.txt"},"position":{"line":0,"character":1}}}
+420 S {"jsonrpc":"2.0","id":"2","result":{"isIncomplete":false,"items":[{"label":"bar","kind":6},{"label":"baz","kind":6}]}}